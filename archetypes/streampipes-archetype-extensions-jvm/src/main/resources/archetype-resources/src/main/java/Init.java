@@ -22,8 +22,12 @@
 package ${package};
 
 import org.apache.streampipes.dataformat.cbor.CborDataFormatFactory;
+import org.apache.streampipes.dataformat.compression.Lz4CompressionFactory;
+import org.apache.streampipes.dataformat.compression.SnappyCompressionFactory;
+import org.apache.streampipes.dataformat.compression.ZstdCompressionFactory;
 import org.apache.streampipes.dataformat.fst.FstDataFormatFactory;
 import org.apache.streampipes.dataformat.json.JsonDataFormatFactory;
+import org.apache.streampipes.dataformat.positional.PositionalDataFormatFactory;
 import org.apache.streampipes.dataformat.smile.SmileDataFormatFactory;
 import org.apache.streampipes.extensions.management.model.SpServiceDefinition;
 import org.apache.streampipes.extensions.management.model.SpServiceDefinitionBuilder;
@@ -60,7 +64,12 @@ public class Init extends ExtensionsModelSubmitter {
             new JsonDataFormatFactory(),
             new CborDataFormatFactory(),
             new SmileDataFormatFactory(),
-            new FstDataFormatFactory())
+            new FstDataFormatFactory(),
+            new PositionalDataFormatFactory())
+        .registerCompressionFormats(
+            new Lz4CompressionFactory(),
+            new ZstdCompressionFactory(),
+            new SnappyCompressionFactory())
         .registerMessagingProtocols(
             new SpKafkaProtocolFactory(),
             new SpJmsProtocolFactory(),
@@ -19,13 +19,18 @@ package org.apache.streampipes.client.api;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface CRUDApi<K, V> {
 
   Optional<V> get(K id);
 
+  CompletableFuture<Optional<V>> getAsync(K id);
+
   List<V> all();
 
+  CompletableFuture<List<V>> allAsync();
+
   void create(V element);
 
   void delete(K id);
@@ -32,6 +32,14 @@ public interface IAdminApi {
 
   void deregisterService(String serviceId);
 
+  /**
+   * Reports the liveness of an extensions service to the core.
+   *
+   * @param serviceId           the id of the service
+   * @param heartbeatIntervalMs the interval in which the service sends heartbeats
+   */
+  void sendHeartbeat(String serviceId, long heartbeatIntervalMs);
+
   void registerServiceConfiguration(SpServiceConfiguration serviceConfiguration);
 
   SpServiceConfiguration getServiceConfiguration(String serviceGroup);
@@ -23,6 +23,8 @@ import java.util.Map;
 public interface ICustomRequestApi {
   <T> void sendPost(String apiPath, T payload);
 
+  <T, V> V sendPost(String apiPath, T payload, Class<V> responseClass);
+
   <T> T sendGet(String apiPath, Class<T> responseClass);
 
   <T> T sendGet(String apiPath, Map<String, String> queryParameters, Class<T> responseClass);
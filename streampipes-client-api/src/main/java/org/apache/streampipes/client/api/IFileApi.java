@@ -18,10 +18,41 @@
 
 package org.apache.streampipes.client.api;
 
+import java.io.InputStream;
+import java.nio.file.Path;
+
 public interface IFileApi {
   byte[] getFileContent(String filename);
 
   String getFileContentAsString(String filename);
 
+  /**
+   * Returns a local copy of the file. Copies are cached by content hash, the file is only downloaded
+   * again if it was changed in the core.
+   *
+   * @param filename the name of the file
+   * @return the path of the local copy, which must not be modified
+   */
+  Path getFileAsPath(String filename);
+
+  /**
+   * Opens a stream on the file content without loading the whole file into memory.
+   *
+   * @param filename the name of the file
+   * @return the stream, which must be closed by the caller
+   */
+  InputStream getFileContentAsStream(String filename);
+
+  /**
+   * Opens a stream on a byte range of the file content. A cached copy of the file is revalidated first
+   * and the range is read from it, otherwise only the requested range is downloaded.
+   *
+   * @param filename the name of the file
+   * @param offset   the position of the first byte
+   * @param length   the maximum number of bytes to read
+   * @return the stream, which must be closed by the caller
+   */
+  InputStream getFileContentAsStream(String filename, long offset, long length);
+
   void writeToFile(String file, String fileLocation);
 }
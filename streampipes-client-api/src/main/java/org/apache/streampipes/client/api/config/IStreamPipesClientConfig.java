@@ -18,6 +18,7 @@
 
 package org.apache.streampipes.client.api.config;
 
+import org.apache.streampipes.dataformat.SpCompressionFactory;
 import org.apache.streampipes.dataformat.SpDataFormatFactory;
 import org.apache.streampipes.messaging.SpProtocolDefinitionFactory;
 
@@ -28,6 +29,8 @@ public interface IStreamPipesClientConfig {
 
   void addDataFormat(SpDataFormatFactory spDataFormatFactory);
 
+  void addCompression(SpCompressionFactory spCompressionFactory);
+
   void addTransportProtocol(SpProtocolDefinitionFactory<?> protocolDefinitionFactory);
 
   ClientConnectionUrlResolver getConnectionConfig();
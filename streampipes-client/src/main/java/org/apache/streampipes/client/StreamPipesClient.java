@@ -38,8 +38,12 @@ import org.apache.streampipes.client.model.StreamPipesClientConnectionConfig;
 import org.apache.streampipes.client.paths.ApiPath;
 import org.apache.streampipes.dataformat.SpDataFormatFactory;
 import org.apache.streampipes.dataformat.cbor.CborDataFormatFactory;
+import org.apache.streampipes.dataformat.compression.Lz4CompressionFactory;
+import org.apache.streampipes.dataformat.compression.SnappyCompressionFactory;
+import org.apache.streampipes.dataformat.compression.ZstdCompressionFactory;
 import org.apache.streampipes.dataformat.fst.FstDataFormatFactory;
 import org.apache.streampipes.dataformat.json.JsonDataFormatFactory;
+import org.apache.streampipes.dataformat.positional.PositionalDataFormatFactory;
 import org.apache.streampipes.messaging.SpProtocolDefinitionFactory;
 import org.apache.streampipes.model.mail.SpEmail;
 
@@ -55,6 +59,10 @@ public class StreamPipesClient implements
     this.registerDataFormat(new JsonDataFormatFactory());
     this.registerDataFormat(new FstDataFormatFactory());
     this.registerDataFormat(new CborDataFormatFactory());
+    this.registerDataFormat(new PositionalDataFormatFactory());
+    this.config.addCompression(new Lz4CompressionFactory());
+    this.config.addCompression(new ZstdCompressionFactory());
+    this.config.addCompression(new SnappyCompressionFactory());
   }
 
   private StreamPipesClient(String streamPipesHost,
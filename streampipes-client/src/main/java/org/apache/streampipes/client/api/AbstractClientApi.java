@@ -17,6 +17,7 @@
  */
 package org.apache.streampipes.client.api;
 
+import org.apache.streampipes.client.http.ClientHttpTransport;
 import org.apache.streampipes.client.http.DeleteRequest;
 import org.apache.streampipes.client.http.GetRequest;
 import org.apache.streampipes.client.http.PostRequestWithPayloadResponse;
@@ -31,6 +32,8 @@ import org.apache.streampipes.commons.exceptions.SpHttpErrorStatusCode;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 public class AbstractClientApi {
 
@@ -96,4 +99,14 @@ public class AbstractClientApi {
       }
     }
   }
+
+  /**
+   * Runs a blocking client call on the executor of the shared HTTP transport.
+   *
+   * @param request the client call to execute
+   * @return a future which completes with the result of the call
+   */
+  protected <T> CompletableFuture<T> supplyAsync(Supplier<T> request) {
+    return CompletableFuture.supplyAsync(request, ClientHttpTransport.INSTANCE.getAsyncExecutor());
+  }
 }
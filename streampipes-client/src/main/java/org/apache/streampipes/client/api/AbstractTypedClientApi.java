@@ -27,6 +27,7 @@ import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class AbstractTypedClientApi<T> extends AbstractClientApi {
 
@@ -55,5 +56,14 @@ public abstract class AbstractTypedClientApi<T> extends AbstractClientApi {
     }
   }
 
+  protected CompletableFuture<List<T>> getAllAsync(StreamPipesApiPath apiPath) {
+    ListSerializer<Void, T> serializer = new ListSerializer<>();
+    return new GetRequest<>(clientConfig, apiPath, targetClass, serializer).executeRequestAsync();
+  }
+
+  protected CompletableFuture<Optional<T>> getSingleAsync(StreamPipesApiPath apiPath) {
+    return supplyAsync(() -> getSingle(apiPath));
+  }
+
   protected abstract StreamPipesApiPath getBaseResourcePath();
 }
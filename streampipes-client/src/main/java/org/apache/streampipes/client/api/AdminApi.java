@@ -27,6 +27,7 @@ import org.apache.streampipes.model.function.FunctionDefinition;
 import org.apache.streampipes.model.message.SuccessMessage;
 
 import java.util.List;
+import java.util.Map;
 
 public class AdminApi extends AbstractClientApi implements IAdminApi {
 
@@ -44,6 +45,15 @@ public class AdminApi extends AbstractClientApi implements IAdminApi {
     post(getExtensionsServiceRegistrationPath().addToPath(serviceId));
   }
 
+  @Override
+  public void sendHeartbeat(String serviceId,
+                            long heartbeatIntervalMs) {
+    post(getExtensionsServiceRegistrationPath()
+        .addToPath(serviceId)
+        .addToPath("heartbeat")
+        .withQueryParameters(Map.of("intervalMs", String.valueOf(heartbeatIntervalMs))));
+  }
+
   @Override
   public void registerServiceConfiguration(SpServiceConfiguration serviceConfiguration) {
     post(getExtensionsServiceConfigurationPath(), serviceConfiguration);
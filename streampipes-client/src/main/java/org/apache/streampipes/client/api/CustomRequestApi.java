@@ -33,6 +33,11 @@ public class CustomRequestApi extends AbstractClientApi implements ICustomReques
     post(StreamPipesApiPath.fromStreamPipesBasePath(apiPath), payload);
   }
 
+  @Override
+  public <T, V> V sendPost(String apiPath, T payload, Class<V> responseClass) {
+    return post(StreamPipesApiPath.fromStreamPipesBasePath(apiPath), payload, responseClass);
+  }
+
   @Override
   public <T> T sendGet(String apiPath, Class<T> responseClass) {
     return getSingle(StreamPipesApiPath.fromStreamPipesBasePath(apiPath), responseClass);
@@ -24,6 +24,7 @@ import org.apache.streampipes.model.datalake.DataLakeMeasure;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class DataLakeMeasureApi extends AbstractTypedClientApi<DataLakeMeasure>
     implements IDataLakeMeasureApi {
@@ -37,11 +38,21 @@ public class DataLakeMeasureApi extends AbstractTypedClientApi<DataLakeMeasure>
     return getSingle(getBaseResourcePath().addToPath(id));
   }
 
+  @Override
+  public CompletableFuture<Optional<DataLakeMeasure>> getAsync(String id) {
+    return getSingleAsync(getBaseResourcePath().addToPath(id));
+  }
+
   @Override
   public List<DataLakeMeasure> all() {
     throw new IllegalArgumentException("Not yet implemented");
   }
 
+  @Override
+  public CompletableFuture<List<DataLakeMeasure>> allAsync() {
+    throw new IllegalArgumentException("Not yet implemented");
+  }
+
   @Override
   public void create(DataLakeMeasure element) {
     post(getBaseResourcePath(), element);
@@ -29,6 +29,7 @@ import org.apache.streampipes.model.graph.DataProcessorInvocation;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class DataProcessorApi extends AbstractTypedClientApi<DataProcessorInvocation>
     implements IDataProcessorApi {
@@ -47,11 +48,21 @@ public class DataProcessorApi extends AbstractTypedClientApi<DataProcessorInvoca
     return getSingle(getBaseResourcePath().addToPath(s));
   }
 
+  @Override
+  public CompletableFuture<Optional<DataProcessorInvocation>> getAsync(String s) {
+    return getSingleAsync(getBaseResourcePath().addToPath(s));
+  }
+
   @Override
   public List<DataProcessorInvocation> all() {
     return getAll(getBaseResourcePath());
   }
 
+  @Override
+  public CompletableFuture<List<DataProcessorInvocation>> allAsync() {
+    return getAllAsync(getBaseResourcePath());
+  }
+
   @Override
   @NotYetImplemented
   public void create(DataProcessorInvocation element) {
@@ -28,6 +28,7 @@ import org.apache.streampipes.model.graph.DataSinkInvocation;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class DataSinkApi extends AbstractTypedClientApi<DataSinkInvocation>
     implements IDataSinkApi {
@@ -41,11 +42,21 @@ public class DataSinkApi extends AbstractTypedClientApi<DataSinkInvocation>
     return getSingle(getBaseResourcePath().addToPath(s));
   }
 
+  @Override
+  public CompletableFuture<Optional<DataSinkInvocation>> getAsync(String s) {
+    return getSingleAsync(getBaseResourcePath().addToPath(s));
+  }
+
   @Override
   public List<DataSinkInvocation> all() {
     return getAll(getBaseResourcePath());
   }
 
+  @Override
+  public CompletableFuture<List<DataSinkInvocation>> allAsync() {
+    return getAllAsync(getBaseResourcePath());
+  }
+
   @Override
   @NotYetImplemented
   public void create(DataSinkInvocation element) {
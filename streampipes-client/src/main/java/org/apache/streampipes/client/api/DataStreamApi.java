@@ -31,6 +31,7 @@ import org.apache.streampipes.model.message.Message;
 import java.net.URLEncoder;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class DataStreamApi extends AbstractTypedClientApi<SpDataStream> implements IDataStreamApi {
 
@@ -44,6 +45,12 @@ public class DataStreamApi extends AbstractTypedClientApi<SpDataStream> implemen
         .addToPath("streams").addToPath(streamId));
   }
 
+  @Override
+  public CompletableFuture<Optional<SpDataStream>> getAsync(String streamId) {
+    return getSingleAsync(StreamPipesApiPath.fromBaseApiPath()
+        .addToPath("streams").addToPath(streamId));
+  }
+
   /**
    * Get all available data streams
    *
@@ -54,6 +61,11 @@ public class DataStreamApi extends AbstractTypedClientApi<SpDataStream> implemen
     return getAll(getBaseResourcePath());
   }
 
+  @Override
+  public CompletableFuture<List<SpDataStream>> allAsync() {
+    return getAllAsync(getBaseResourcePath());
+  }
+
   /**
    * Directly install a new data stream
    *
@@ -18,20 +18,47 @@
 
 package org.apache.streampipes.client.api;
 
-import org.apache.streampipes.client.http.BinaryGetRequest;
+import org.apache.streampipes.client.file.LocalFileCache;
+import org.apache.streampipes.client.http.BinaryRangeGetRequest;
+import org.apache.streampipes.client.http.CachedFileGetRequest;
 import org.apache.streampipes.client.model.StreamPipesClientConfig;
 import org.apache.streampipes.client.util.StreamPipesApiPath;
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 
+import org.apache.commons.io.input.BoundedInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 public class FileApi extends AbstractClientApi implements IFileApi {
 
+  private final LocalFileCache fileCache;
+
   public FileApi(StreamPipesClientConfig clientConfig) {
+    this(clientConfig, LocalFileCache.getDefault());
+  }
+
+  public FileApi(StreamPipesClientConfig clientConfig,
+                 LocalFileCache fileCache) {
     super(clientConfig);
+    this.fileCache = fileCache;
   }
 
   @Override
   public byte[] getFileContent(String filename) {
-    return new BinaryGetRequest(clientConfig, getBaseResourcePath(filename), null).executeRequest();
+    try {
+      return Files.readAllBytes(getFileAsPath(filename));
+    } catch (IOException e) {
+      throw new SpRuntimeException("Could not read file " + filename, e);
+    }
   }
 
   @Override
@@ -39,10 +66,52 @@ public class FileApi extends AbstractClientApi implements IFileApi {
     return new String(getFileContent(filename));
   }
 
+  @Override
+  public Path getFileAsPath(String filename) {
+    synchronized (fileCache.lockFor(filename)) {
+      String cachedHash = fileCache.findHash(filename).orElse(null);
+      return new CachedFileGetRequest(clientConfig, getBaseResourcePath(filename), fileCache, filename, cachedHash)
+          .executeRequest();
+    }
+  }
+
+  @Override
+  public InputStream getFileContentAsStream(String filename) {
+    try {
+      return Files.newInputStream(getFileAsPath(filename));
+    } catch (IOException e) {
+      throw new SpRuntimeException("Could not read file " + filename, e);
+    }
+  }
+
+  @Override
+  public InputStream getFileContentAsStream(String filename,
+                                            long offset,
+                                            long length) {
+    if (fileCache.findHash(filename).isPresent()) {
+      // revalidate the cached copy, which is only transferred again if the file has changed
+      Path path = getFileAsPath(filename);
+      try {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        channel.position(offset);
+        return new BoundedInputStream(Channels.newInputStream(channel), length);
+      } catch (IOException e) {
+        throw new SpRuntimeException("Could not read file " + filename, e);
+      }
+    } else {
+      byte[] range = new BinaryRangeGetRequest(clientConfig, getBaseResourcePath(filename), offset, length)
+          .executeRequest();
+      return new ByteArrayInputStream(range);
+    }
+  }
+
   @Override
   public void writeToFile(String file, String fileLocation) {
-    new BinaryGetRequest(clientConfig, getBaseResourcePath(file), null)
-        .writeToFile(fileLocation);
+    try {
+      Files.copy(getFileAsPath(file), Paths.get(fileLocation), StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new SpRuntimeException("Could not write file " + file + " to " + fileLocation, e);
+    }
   }
 
   protected StreamPipesApiPath getBaseResourcePath(String fileName) {
@@ -27,6 +27,7 @@ import org.apache.streampipes.model.pipeline.PipelineOperationStatus;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class PipelineApi extends AbstractTypedClientApi<Pipeline> implements IPipelineApi {
 
@@ -39,6 +40,11 @@ public class PipelineApi extends AbstractTypedClientApi<Pipeline> implements IPi
     return getSingle(getBaseResourcePath().addToPath(pipelineId));
   }
 
+  @Override
+  public CompletableFuture<Optional<Pipeline>> getAsync(String pipelineId) {
+    return getSingleAsync(getBaseResourcePath().addToPath(pipelineId));
+  }
+
   /**
    * Receives all pipelines owned by the current user
    *
@@ -49,6 +55,11 @@ public class PipelineApi extends AbstractTypedClientApi<Pipeline> implements IPi
     return getAll(getBaseResourcePath());
   }
 
+  @Override
+  public CompletableFuture<List<Pipeline>> allAsync() {
+    return getAllAsync(getBaseResourcePath());
+  }
+
 
   @Override
   public void create(Pipeline element) {
@@ -23,6 +23,7 @@ import org.apache.streampipes.model.template.PipelineElementTemplate;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class PipelineElementTemplateApi extends AbstractTypedClientApi<PipelineElementTemplate>
     implements IPipelineElementTemplateApi {
@@ -36,11 +37,21 @@ public class PipelineElementTemplateApi extends AbstractTypedClientApi<PipelineE
     return getSingle(getBaseResourcePath().addToPath(id));
   }
 
+  @Override
+  public CompletableFuture<Optional<PipelineElementTemplate>> getAsync(String id) {
+    return getSingleAsync(getBaseResourcePath().addToPath(id));
+  }
+
   @Override
   public List<PipelineElementTemplate> all() {
     return getAll(getBaseResourcePath());
   }
 
+  @Override
+  public CompletableFuture<List<PipelineElementTemplate>> allAsync() {
+    return getAllAsync(getBaseResourcePath());
+  }
+
   @Override
   public void create(PipelineElementTemplate element) {
     post(getBaseResourcePath(), element);
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.client.file;
+
+import org.apache.streampipes.commons.environment.Environments;
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed cache of files downloaded from the StreamPipes core.
+ * File contents are stored once per sha256 digest, the name of each downloaded file points to the
+ * digest of its last known content, which is sent as entity tag so that unchanged files are not transferred again.
+ * Content which is no longer referenced by any file name after an update is evicted.
+ */
+public class LocalFileCache {
+
+  private static final String CONTENT_DIR = "content";
+  private static final String NAMES_DIR = "names";
+
+  private static volatile LocalFileCache defaultCache;
+
+  private final Path contentDir;
+  private final Path namesDir;
+  private final Map<String, Object> locks;
+
+  public LocalFileCache(Path baseDir) {
+    this.contentDir = baseDir.resolve(CONTENT_DIR);
+    this.namesDir = baseDir.resolve(NAMES_DIR);
+    this.locks = new ConcurrentHashMap<>();
+  }
+
+  public static LocalFileCache getDefault() {
+    if (defaultCache == null) {
+      synchronized (LocalFileCache.class) {
+        if (defaultCache == null) {
+          String dir = Environments.getEnvironment().getFileCacheDir().getValueOrDefault();
+          defaultCache = new LocalFileCache(Paths.get(dir));
+        }
+      }
+    }
+    return defaultCache;
+  }
+
+  /**
+   * Lock which serializes concurrent downloads of the same file within this service.
+   *
+   * @param filename the name of the file
+   * @return the lock object for this file
+   */
+  public Object lockFor(String filename) {
+    return locks.computeIfAbsent(filename, f -> new Object());
+  }
+
+  /**
+   * Returns the digest of the cached content of a file, if the content is still present.
+   *
+   * @param filename the name of the file
+   * @return the sha256 hex digest of the cached content
+   */
+  public Optional<String> findHash(String filename) {
+    return readHash(toNamePath(filename)).filter(hash -> Files.exists(getPath(hash)));
+  }
+
+  public Path getPath(String hash) {
+    return contentDir.resolve(hash);
+  }
+
+  /**
+   * Stores the content of a file, the content is streamed to disk and hashed while being written.
+   *
+   * @param filename the name of the file
+   * @param content  the content to store, which is not closed by this method
+   * @return the path of the cached content
+   */
+  public Path store(String filename,
+                    InputStream content) throws IOException {
+    Files.createDirectories(contentDir);
+    Files.createDirectories(namesDir);
+
+    Path namePath = toNamePath(filename);
+    Optional<String> previousHash = readHash(namePath);
+    Path tmp = Files.createTempFile(contentDir, "download", ".tmp");
+    try {
+      DigestInputStream in = new DigestInputStream(content, sha256());
+      Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+      String hash = HexFormat.of().formatHex(in.getMessageDigest().digest());
+      Path target = getPath(hash);
+      if (Files.exists(target)) {
+        Files.delete(tmp);
+      } else {
+        try {
+          Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+          // another service stored the same content concurrently
+          Files.deleteIfExists(tmp);
+        }
+      }
+      Files.writeString(namePath, hash, StandardCharsets.UTF_8);
+      previousHash.filter(previous -> !previous.equals(hash)).ifPresent(this::evictIfUnreferenced);
+      return target;
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  private Optional<String> readHash(Path namePath) {
+    if (!Files.exists(namePath)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(Files.readString(namePath, StandardCharsets.UTF_8).trim());
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Deletes superseded content, unless another file name still points to it.
+   * Readers which already opened the content keep reading it, later lookups download the file again.
+   */
+  private void evictIfUnreferenced(String hash) {
+    try (Stream<Path> names = Files.list(namesDir)) {
+      boolean referenced = names.anyMatch(namePath -> readHash(namePath).filter(hash::equals).isPresent());
+      if (!referenced) {
+        Files.deleteIfExists(getPath(hash));
+      }
+    } catch (IOException e) {
+      // the content is evicted again with the next update of a file pointing to it
+    }
+  }
+
+  private Path toNamePath(String filename) {
+    Path namePath = namesDir.resolve(filename).normalize();
+    if (!namePath.getParent().equals(namesDir.normalize())) {
+      throw new IllegalArgumentException("Invalid file name: " + filename);
+    }
+    return namePath;
+  }
+
+  private MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new SpRuntimeException("SHA-256 is not supported", e);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.client.http;
+
+import org.apache.streampipes.client.model.StreamPipesClientConfig;
+import org.apache.streampipes.client.serializer.Serializer;
+import org.apache.streampipes.client.util.StreamPipesApiPath;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.fluent.Request;
+
+public class BinaryRangeGetRequest extends BinaryGetRequest {
+
+  private final long offset;
+  private final long length;
+
+  public BinaryRangeGetRequest(StreamPipesClientConfig clientConfig,
+                               StreamPipesApiPath apiPath,
+                               long offset,
+                               long length) {
+    super(clientConfig, apiPath, null);
+    this.offset = offset;
+    this.length = length;
+  }
+
+  @Override
+  protected Request makeRequest(Serializer<Void, byte[], byte[]> serializer) {
+    return super
+        .makeRequest(serializer)
+        .addHeader(HttpHeaders.RANGE, "bytes=" + offset + "-" + (offset + length - 1));
+  }
+}
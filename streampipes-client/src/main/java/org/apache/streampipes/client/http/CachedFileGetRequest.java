@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.client.http;
+
+import org.apache.streampipes.client.file.LocalFileCache;
+import org.apache.streampipes.client.model.StreamPipesClientConfig;
+import org.apache.streampipes.client.serializer.Serializer;
+import org.apache.streampipes.client.util.StreamPipesApiPath;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.StatusLine;
+import org.apache.http.client.fluent.Request;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Downloads a file into the {@link LocalFileCache}. The digest of a cached copy is sent as entity tag,
+ * so the file is only transferred if its content has changed. The response body is streamed to disk
+ * and never held in memory.
+ */
+public class CachedFileGetRequest extends HttpRequest<Void, Path, Path> {
+
+  private final LocalFileCache fileCache;
+  private final String filename;
+  private final String cachedHash;
+
+  public CachedFileGetRequest(StreamPipesClientConfig clientConfig,
+                              StreamPipesApiPath apiPath,
+                              LocalFileCache fileCache,
+                              String filename,
+                              String cachedHash) {
+    super(clientConfig, apiPath, null);
+    this.fileCache = fileCache;
+    this.filename = filename;
+    this.cachedHash = cachedHash;
+  }
+
+  @Override
+  protected Path handleResponse(HttpResponse response) throws IOException {
+    StatusLine status = response.getStatusLine();
+    if (status.getStatusCode() == HttpStatus.SC_NOT_MODIFIED && cachedHash != null) {
+      return fileCache.getPath(cachedHash);
+    } else if (status.getStatusCode() == HttpStatus.SC_OK) {
+      return afterRequest(null, response.getEntity());
+    } else {
+      throw makeErrorStatusException(status);
+    }
+  }
+
+  @Override
+  protected Request makeRequest(Serializer<Void, Path, Path> serializer) {
+    Request request = Request
+        .Get(makeUrl())
+        .setHeaders(standardHeaders());
+    if (cachedHash != null) {
+      request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + cachedHash + "\"");
+    }
+    return request;
+  }
+
+  @Override
+  protected Path afterRequest(Serializer<Void, Path, Path> serializer, HttpEntity entity) throws IOException {
+    try (InputStream content = entity.getContent()) {
+      return fileCache.store(filename, content);
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.client.http;
+
+import org.apache.streampipes.commons.environment.Environment;
+import org.apache.streampipes.commons.environment.Environments;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.entity.GzipCompressingEntity;
+import org.apache.http.client.fluent.Executor;
+import org.apache.http.client.fluent.Request;
+import org.apache.http.client.fluent.Response;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared HTTP transport of all StreamPipes clients within a JVM. Requests are executed on a pooled
+ * connection manager with keep-alive, so that consecutive calls to the core reuse their connections.
+ * Responses are transparently decompressed. Larger request bodies are sent gzip-compressed if
+ * SP_CLIENT_HTTP_COMPRESS_REQUESTS is enabled, which requires a core that accepts compressed requests.
+ */
+public enum ClientHttpTransport {
+
+  INSTANCE;
+
+  private static final long DEFAULT_KEEP_ALIVE_MS = 30000;
+  private static final long MAX_IDLE_TIME_MS = 60000;
+  private static final int VALIDATE_AFTER_INACTIVITY_MS = 2000;
+  private static final int MIN_COMPRESSED_BODY_LENGTH = 8192;
+
+  private final Executor executor;
+  private final ExecutorService asyncExecutor;
+  private final boolean compressRequests;
+
+  ClientHttpTransport() {
+    Environment env = Environments.getEnvironment();
+    int maxConnections = env.getClientHttpMaxConnections().getValueOrDefault();
+    this.compressRequests = env.getClientHttpCompressRequests().getValueOrDefault();
+
+    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(maxConnections);
+    connectionManager.setDefaultMaxPerRoute(maxConnections);
+    connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MS);
+
+    CloseableHttpClient httpClient = HttpClientBuilder.create()
+        .setConnectionManager(connectionManager)
+        .setKeepAliveStrategy(this::getKeepAliveDuration)
+        .evictExpiredConnections()
+        .evictIdleConnections(MAX_IDLE_TIME_MS, TimeUnit.MILLISECONDS)
+        .build();
+    this.executor = Executor.newInstance(httpClient);
+
+    AtomicInteger threadCount = new AtomicInteger();
+    this.asyncExecutor = Executors.newFixedThreadPool(maxConnections, r -> {
+      Thread thread = new Thread(r, "sp-client-http-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public Response execute(Request request) throws IOException {
+    return executor.execute(request);
+  }
+
+  /**
+   * Executor for asynchronous requests, bounded by the size of the connection pool.
+   *
+   * @return the executor service used by {@link HttpRequest#executeRequestAsync()}
+   */
+  public ExecutorService getAsyncExecutor() {
+    return asyncExecutor;
+  }
+
+  /**
+   * Creates the entity of a JSON request body, which is gzip-compressed if it exceeds a few kilobytes
+   * and request compression is enabled.
+   *
+   * @param body the serialized JSON body
+   * @return the request entity
+   */
+  public HttpEntity makeJsonEntity(String body) {
+    return makeJsonEntity(body, compressRequests);
+  }
+
+  static HttpEntity makeJsonEntity(String body,
+                                   boolean compressRequests) {
+    HttpEntity entity = new StringEntity(body, ContentType.APPLICATION_JSON);
+    if (compressRequests && body.length() >= MIN_COMPRESSED_BODY_LENGTH) {
+      return new GzipCompressingEntity(entity);
+    }
+    return entity;
+  }
+
+  private long getKeepAliveDuration(HttpResponse response,
+                                    HttpContext context) {
+    long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+    return keepAlive > 0 ? keepAlive : DEFAULT_KEEP_ALIVE_MS;
+  }
+}
@@ -23,7 +23,6 @@ import org.apache.streampipes.client.util.StreamPipesApiPath;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.client.fluent.Request;
-import org.apache.http.entity.ContentType;
 
 import java.io.IOException;
 
@@ -57,7 +56,7 @@ public class DeleteRequest<K, V, T> extends HttpRequest<K, V, T> {
         .setHeaders(standardJsonHeaders());
 
     if (this.body != null) {
-      req.bodyString(serializer.serialize(body), ContentType.APPLICATION_JSON);
+      req.body(makeJsonEntity(serializer.serialize(body)));
     }
 
     return req;
@@ -65,6 +64,6 @@ public class DeleteRequest<K, V, T> extends HttpRequest<K, V, T> {
 
   @Override
   protected T afterRequest(Serializer<K, V, T> serializer, HttpEntity entity) throws IOException {
-    return serializer.deserialize(entityAsString(entity), responseClass);
+    return serializer.deserialize(entity.getContent(), responseClass);
   }
 }
@@ -47,6 +47,6 @@ public class GetRequest<K, V> extends HttpRequest<Void, K, V> {
 
   @Override
   protected V afterRequest(Serializer<Void, K, V> serializer, HttpEntity entity) throws IOException {
-    return serializer.deserialize(entityAsString(entity), targetClass);
+    return serializer.deserialize(entity.getContent(), targetClass);
   }
 }
@@ -41,9 +41,8 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class HttpRequest<K, V, T> {
 
@@ -64,20 +63,22 @@ public abstract class HttpRequest<K, V, T> {
   }
 
   protected Header[] standardJsonHeaders() {
-    List<Header> headers = new ArrayList<>(connectionConfig.getCredentials().makeHeaders());
-    headers.add(Headers.acceptJson());
-    return headers.toArray(new Header[0]);
+    return makeHeaders(Headers.acceptJson());
   }
 
   protected Header[] standardHeaders() {
-    List<Header> headers = new ArrayList<>(connectionConfig.getCredentials().makeHeaders());
-    return headers.toArray(new Header[0]);
+    return makeHeaders();
   }
 
   protected Header[] standardPostHeaders() {
-    List<Header> headers = new ArrayList<>(Arrays.asList(standardJsonHeaders()));
-    headers.add(Headers.contentTypeJson());
-    return headers.toArray(new Header[0]);
+    return makeHeaders(Headers.acceptJson(), Headers.contentTypeJson());
+  }
+
+  private Header[] makeHeaders(Header... additionalHeaders) {
+    List<Header> credentials = connectionConfig.getCredentials().makeHeaders();
+    Header[] headers = credentials.toArray(new Header[credentials.size() + additionalHeaders.length]);
+    System.arraycopy(additionalHeaders, 0, headers, credentials.size(), additionalHeaders.length);
+    return headers;
   }
 
   protected String makeUrl() throws SpRuntimeException {
@@ -96,27 +97,53 @@ public abstract class HttpRequest<K, V, T> {
   public T executeRequest() {
     Request request = makeRequest(serializer);
     try {
-      HttpResponse response = request.execute().returnResponse();
-      StatusLine status = response.getStatusLine();
-      if (status.getStatusCode() == HttpStatus.SC_OK || status.getStatusCode() == HttpStatus.SC_CREATED) {
-        return afterRequest(serializer, response.getEntity());
-      } else {
-        switch (status.getStatusCode()) {
-          case HttpStatus.SC_UNAUTHORIZED -> throw new SpHttpErrorStatusCode(
-              " 401 - Access to this resource is forbidden - did you provide a poper API key or client secret?",
-              401);
-          case HttpStatus.SC_NOT_FOUND ->
-              throw new SpHttpErrorStatusCode(" 404 - The requested resource could not be found.", 404);
-          default -> throw new SpHttpErrorStatusCode(status.getStatusCode() + " - " + status.getReasonPhrase(),
-              status.getStatusCode());
-        }
-      }
+      return ClientHttpTransport.INSTANCE.execute(request).handleResponse(this::handleResponse);
     } catch (IOException e) {
-      throw new SpRuntimeException(
-          "Could not connect to the StreamPipes API - please check that StreamPipes is available", e);
+      throw makeConnectionException(e);
+    }
+  }
+
+  /**
+   * Executes the request on the executor of the shared {@link ClientHttpTransport}.
+   *
+   * @return a future which completes with the response, or exceptionally with the error of the request
+   */
+  public CompletableFuture<T> executeRequestAsync() {
+    return CompletableFuture.supplyAsync(this::executeRequest, ClientHttpTransport.INSTANCE.getAsyncExecutor());
+  }
+
+  /**
+   * Handles the response while the connection is still open, so that the entity can be consumed as a stream.
+   * The entity is released by the caller afterwards.
+   */
+  protected T handleResponse(HttpResponse response) throws IOException {
+    StatusLine status = response.getStatusLine();
+    if (status.getStatusCode() == HttpStatus.SC_OK
+        || status.getStatusCode() == HttpStatus.SC_CREATED
+        || status.getStatusCode() == HttpStatus.SC_PARTIAL_CONTENT) {
+      return afterRequest(serializer, response.getEntity());
+    } else {
+      throw makeErrorStatusException(status);
     }
   }
 
+  protected SpHttpErrorStatusCode makeErrorStatusException(StatusLine status) {
+    return switch (status.getStatusCode()) {
+      case HttpStatus.SC_UNAUTHORIZED -> new SpHttpErrorStatusCode(
+          " 401 - Access to this resource is forbidden - did you provide a poper API key or client secret?",
+          401);
+      case HttpStatus.SC_NOT_FOUND ->
+          new SpHttpErrorStatusCode(" 404 - The requested resource could not be found.", 404);
+      default -> new SpHttpErrorStatusCode(status.getStatusCode() + " - " + status.getReasonPhrase(),
+          status.getStatusCode());
+    };
+  }
+
+  protected SpRuntimeException makeConnectionException(IOException e) {
+    return new SpRuntimeException(
+        "Could not connect to the StreamPipes API - please check that StreamPipes is available", e);
+  }
+
   public void writeToFile(String fileLocation) throws SpRuntimeException {
 
     String urlString = makeUrl();
@@ -155,6 +182,10 @@ public abstract class HttpRequest<K, V, T> {
     return EntityUtils.toByteArray(entity);
   }
 
+  protected HttpEntity makeJsonEntity(String body) {
+    return ClientHttpTransport.INSTANCE.makeJsonEntity(body);
+  }
+
   protected abstract Request makeRequest(Serializer<K, V, T> serializer);
 
   protected abstract T afterRequest(Serializer<K, V, T> serializer, HttpEntity entity) throws IOException;
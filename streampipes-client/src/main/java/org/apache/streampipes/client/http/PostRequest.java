@@ -22,7 +22,6 @@ import org.apache.streampipes.client.serializer.Serializer;
 import org.apache.streampipes.client.util.StreamPipesApiPath;
 
 import org.apache.http.client.fluent.Request;
-import org.apache.http.entity.ContentType;
 
 public abstract class PostRequest<K, V, T> extends HttpRequest<K, V, T> {
 
@@ -59,7 +58,7 @@ public abstract class PostRequest<K, V, T> extends HttpRequest<K, V, T> {
   }
 
   protected void addBody(Request request, Serializer<K, V, T> serializer) {
-    request.bodyString(serializer.serialize(body), ContentType.APPLICATION_JSON);
+    request.body(makeJsonEntity(serializer.serialize(body)));
   }
 
 }
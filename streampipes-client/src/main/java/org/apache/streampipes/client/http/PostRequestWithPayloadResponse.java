@@ -48,6 +48,6 @@ public class PostRequestWithPayloadResponse<K, V, T> extends PostRequest<K, V, T
 
   @Override
   protected T afterRequest(Serializer<K, V, T> serializer, HttpEntity entity) throws IOException {
-    return serializer.deserialize(entityAsString(entity), responseClass);
+    return serializer.deserialize(entity.getContent(), responseClass);
   }
 }
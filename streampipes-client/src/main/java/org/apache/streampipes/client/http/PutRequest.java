@@ -24,7 +24,6 @@ import org.apache.streampipes.client.util.StreamPipesApiPath;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.client.fluent.Request;
-import org.apache.http.entity.ContentType;
 
 import java.io.IOException;
 
@@ -46,7 +45,7 @@ public class PutRequest<T> extends HttpRequest<T, Void, Void> {
         .Put(makeUrl())
         .setHeaders(standardPostHeaders());
 
-    request.bodyString(serializer.serialize(body), ContentType.APPLICATION_JSON);
+    request.body(makeJsonEntity(serializer.serialize(body)));
 
     return request;
   }
@@ -19,6 +19,7 @@ package org.apache.streampipes.client.model;
 
 import org.apache.streampipes.client.api.config.ClientConnectionUrlResolver;
 import org.apache.streampipes.client.api.config.IStreamPipesClientConfig;
+import org.apache.streampipes.dataformat.SpCompressionFactory;
 import org.apache.streampipes.dataformat.SpDataFormatFactory;
 import org.apache.streampipes.dataformat.SpDataFormatManager;
 import org.apache.streampipes.messaging.SpProtocolDefinitionFactory;
@@ -47,6 +48,11 @@ public class StreamPipesClientConfig implements IStreamPipesClientConfig {
     SpDataFormatManager.INSTANCE.register(spDataFormatFactory);
   }
 
+  @Override
+  public void addCompression(SpCompressionFactory spCompressionFactory) {
+    SpDataFormatManager.INSTANCE.registerCompression(spCompressionFactory);
+  }
+
   @Override
   public void addTransportProtocol(SpProtocolDefinitionFactory<?> protocolDefinitionFactory) {
     SpProtocolManager.INSTANCE.register(protocolDefinitionFactory);
@@ -22,18 +22,31 @@ import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.type.CollectionType;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 public class ListSerializer<K, V> extends Serializer<K, V, List<V>> {
 
   @Override
   public List<V> deserialize(String response, Class<V> targetClass) {
-    CollectionType listType = objectMapper.getTypeFactory()
-        .constructCollectionType(List.class, targetClass);
     try {
-      return objectMapper.readValue(response, listType);
+      return objectMapper.readValue(response, makeListType(targetClass));
     } catch (JsonProcessingException e) {
       throw new SpRuntimeException(e.getCause());
     }
   }
+
+  @Override
+  public List<V> deserialize(InputStream response, Class<V> targetClass) throws IOException {
+    try {
+      return objectMapper.readValue(response, makeListType(targetClass));
+    } catch (JsonProcessingException e) {
+      throw new SpRuntimeException(e);
+    }
+  }
+
+  private CollectionType makeListType(Class<V> targetClass) {
+    return objectMapper.getTypeFactory().constructCollectionType(List.class, targetClass);
+  }
 }
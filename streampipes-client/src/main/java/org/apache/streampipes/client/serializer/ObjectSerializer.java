@@ -21,6 +21,9 @@ import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 public class ObjectSerializer<K, V> extends Serializer<K, V, V> {
 
   @Override
@@ -32,4 +35,13 @@ public class ObjectSerializer<K, V> extends Serializer<K, V, V> {
       throw new SpRuntimeException(e.fillInStackTrace());
     }
   }
+
+  @Override
+  public V deserialize(InputStream response, Class<V> targetClass) throws IOException {
+    try {
+      return objectMapper.readValue(response, targetClass);
+    } catch (JsonProcessingException e) {
+      throw new SpRuntimeException(e);
+    }
+  }
 }
@@ -23,6 +23,9 @@ import org.apache.streampipes.serializers.json.JacksonSerializer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 public abstract class Serializer<K, V, T> {
 
   protected ObjectMapper objectMapper;
@@ -40,4 +43,10 @@ public abstract class Serializer<K, V, T> {
   }
 
   public abstract T deserialize(String response, Class<V> targetClass);
+
+  /**
+   * Deserializes the response directly from the stream of the response entity, without buffering
+   * the complete response as a string.
+   */
+  public abstract T deserialize(InputStream response, Class<V> targetClass) throws IOException;
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.client.file;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LocalFileCacheTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testStoreIsAddressedByContentHash() throws IOException {
+    LocalFileCache cache = new LocalFileCache(folder.getRoot().toPath());
+    byte[] content = "a;b\n1;2".getBytes(StandardCharsets.UTF_8);
+
+    Path first = cache.store("first.csv", new ByteArrayInputStream(content));
+    Path second = cache.store("second.csv", new ByteArrayInputStream(content));
+
+    assertEquals(first, second);
+    assertEquals(DigestUtils.sha256Hex(content), first.getFileName().toString());
+    assertArrayEquals(content, Files.readAllBytes(first));
+    assertEquals(Optional.of(DigestUtils.sha256Hex(content)), cache.findHash("second.csv"));
+  }
+
+  @Test
+  public void testSupersededContentIsEvicted() throws IOException {
+    LocalFileCache cache = new LocalFileCache(folder.getRoot().toPath());
+
+    Path first = cache.store("data.csv", new ByteArrayInputStream("a;b\n1;2".getBytes(StandardCharsets.UTF_8)));
+    Path second = cache.store("data.csv", new ByteArrayInputStream("a;b\n3;4".getBytes(StandardCharsets.UTF_8)));
+
+    assertFalse(Files.exists(first));
+    assertTrue(Files.exists(second));
+    assertEquals(Optional.of(second.getFileName().toString()), cache.findHash("data.csv"));
+  }
+
+  @Test
+  public void testSharedContentIsNotEvicted() throws IOException {
+    LocalFileCache cache = new LocalFileCache(folder.getRoot().toPath());
+    byte[] content = "a;b\n1;2".getBytes(StandardCharsets.UTF_8);
+
+    Path shared = cache.store("first.csv", new ByteArrayInputStream(content));
+    cache.store("second.csv", new ByteArrayInputStream(content));
+    cache.store("first.csv", new ByteArrayInputStream("a;b\n3;4".getBytes(StandardCharsets.UTF_8)));
+
+    assertTrue(Files.exists(shared));
+    assertEquals(Optional.of(shared.getFileName().toString()), cache.findHash("second.csv"));
+  }
+
+  @Test
+  public void testUnchangedContentIsKept() throws IOException {
+    LocalFileCache cache = new LocalFileCache(folder.getRoot().toPath());
+    byte[] content = "a;b\n1;2".getBytes(StandardCharsets.UTF_8);
+
+    cache.store("data.csv", new ByteArrayInputStream(content));
+    Path path = cache.store("data.csv", new ByteArrayInputStream(content));
+
+    assertTrue(Files.exists(path));
+  }
+
+  @Test
+  public void testUnknownFileHasNoHash() {
+    LocalFileCache cache = new LocalFileCache(folder.getRoot().toPath());
+
+    assertFalse(cache.findHash("unknown.csv").isPresent());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFilenameMustNotLeaveCache() throws IOException {
+    LocalFileCache cache = new LocalFileCache(folder.getRoot().toPath());
+
+    cache.store("../outside.csv", new ByteArrayInputStream(new byte[0]));
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.streampipes.client.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.fluent.Request;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ClientHttpTransportTest {
+
+  private HttpServer server;
+  private final AtomicReference<String> receivedEncoding = new AtomicReference<>();
+  private final AtomicReference<String> receivedBody = new AtomicReference<>();
+
+  @Before
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/echo", exchange -> {
+      String encoding = exchange.getRequestHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+      receivedEncoding.set(encoding);
+      try (InputStream body = "gzip".equals(encoding)
+          ? new GZIPInputStream(exchange.getRequestBody())
+          : exchange.getRequestBody()) {
+        receivedBody.set(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+      }
+      exchange.sendResponseHeaders(204, -1);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @After
+  public void stopServer() {
+    server.stop(0);
+  }
+
+  @Test
+  public void testLargeBodyIsSentCompressed() throws IOException {
+    String body = makeJson(10000);
+
+    HttpEntity entity = ClientHttpTransport.makeJsonEntity(body, true);
+    post(entity);
+
+    assertEquals("gzip", entity.getContentEncoding().getValue());
+    assertEquals("gzip", receivedEncoding.get());
+    assertEquals(body, receivedBody.get());
+  }
+
+  @Test
+  public void testSmallBodyIsSentUncompressed() throws IOException {
+    String body = makeJson(100);
+
+    post(ClientHttpTransport.makeJsonEntity(body, true));
+
+    assertNull(receivedEncoding.get());
+    assertEquals(body, receivedBody.get());
+  }
+
+  @Test
+  public void testCompressionCanBeDisabled() throws IOException {
+    String body = makeJson(10000);
+
+    HttpEntity entity = ClientHttpTransport.makeJsonEntity(body, false);
+    post(entity);
+
+    assertNull(entity.getContentEncoding());
+    assertNull(receivedEncoding.get());
+    assertEquals(body, receivedBody.get());
+  }
+
+  @Test
+  public void testCompressionIsDisabledByDefault() {
+    HttpEntity entity = ClientHttpTransport.INSTANCE.makeJsonEntity(makeJson(10000));
+
+    assertNull(entity.getContentEncoding());
+  }
+
+  private void post(HttpEntity entity) throws IOException {
+    Request request = Request
+        .Post("http://localhost:" + server.getAddress().getPort() + "/echo")
+        .body(entity);
+    ClientHttpTransport.INSTANCE.execute(request).discardContent();
+  }
+
+  private String makeJson(int length) {
+    StringBuilder json = new StringBuilder("{\"values\":\"");
+    for (int i = 0; json.length() < length; i++) {
+      json.append(i % 10);
+    }
+    return json.append("\"}").toString();
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.commons.blob;
+
+import org.apache.streampipes.commons.environment.Environments;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * Defines how binary attachments are written into outgoing events.
+ */
+public enum BinaryAttachmentMode {
+
+  /**
+   * Base64-encoded string, compatible with all consumers and data formats.
+   */
+  BASE64("base64"),
+
+  /**
+   * Raw byte array, encoded natively by binary formats (CBOR, Smile) and as Base64 by JSON.
+   */
+  BINARY("binary"),
+
+  /**
+   * Reference into the {@link LocalBlobStore}, for consumers which can access the same blob store.
+   * Only available if the deployment declares the blob store as shared (SP_BLOB_STORE_SHARED).
+   */
+  REFERENCE("reference");
+
+  private static final Logger LOG = LoggerFactory.getLogger(BinaryAttachmentMode.class);
+
+  private final String value;
+
+  BinaryAttachmentMode(String value) {
+    this.value = value;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public static BinaryAttachmentMode fromValue(String value) {
+    return Arrays.stream(values())
+        .filter(mode -> mode.value.equalsIgnoreCase(value))
+        .findFirst()
+        .orElse(BASE64);
+  }
+
+  /**
+   * Resolves the mode of this deployment. References are only used if all services of the deployment
+   * share the blob store, otherwise attachments are transported inline as Base64.
+   */
+  public static BinaryAttachmentMode fromEnvironment() {
+    var env = Environments.getEnvironment();
+    var mode = fromValue(env.getBinaryAttachmentMode().getValueOrDefault());
+    if (mode == REFERENCE && !env.getBlobStoreShared().getValueOrDefault()) {
+      LOG.warn("Binary attachment mode {} requires a shared blob store (SP_BLOB_STORE_SHARED), using {} instead",
+          REFERENCE.value, BASE64.value);
+      return BASE64;
+    }
+    return mode;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.commons.blob;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+public class BinaryAttachments {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BinaryAttachments.class);
+
+  private final LocalBlobStore blobStore;
+  private final BinaryAttachmentMode mode;
+
+  public BinaryAttachments(LocalBlobStore blobStore,
+                           BinaryAttachmentMode mode) {
+    this.blobStore = blobStore;
+    this.mode = mode;
+  }
+
+  public static BinaryAttachments fromEnvironment() {
+    return new BinaryAttachments(LocalBlobStore.getDefault(), BinaryAttachmentMode.fromEnvironment());
+  }
+
+  public BinaryAttachmentMode getMode() {
+    return mode;
+  }
+
+  /**
+   * Converts binary content into the value which is added to an outgoing event.
+   *
+   * @param content the binary content
+   * @return a Base64 string, the raw bytes or a blob reference, depending on the configured mode.
+   *     If the content cannot be stored in the blob store, it is returned inline as Base64 string.
+   */
+  public Object toFieldValue(byte[] content) {
+    switch (mode) {
+      case BINARY:
+        return content;
+      case REFERENCE:
+        try {
+          return blobStore.put(content).toString();
+        } catch (SpRuntimeException e) {
+          LOG.warn("Could not store binary attachment, sending it inline", e);
+          return Base64.getEncoder().encodeToString(content);
+        }
+      default:
+        return Base64.getEncoder().encodeToString(content);
+    }
+  }
+
+  /**
+   * Resolves the value of an incoming event field to its binary content, regardless of whether
+   * it was transported as raw bytes, blob reference or Base64 string.
+   *
+   * @param value the raw field value
+   * @return the binary content
+   */
+  public byte[] toBytes(Object value) {
+    if (value instanceof byte[]) {
+      return (byte[]) value;
+    } else if (value instanceof ByteBuffer) {
+      ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+      byte[] content = new byte[buffer.remaining()];
+      buffer.get(content);
+      return content;
+    } else if (BlobReference.isReference(value)) {
+      BlobReference reference = BlobReference.parse((String) value);
+      if (!blobStore.contains(reference)) {
+        throw new SpRuntimeException("Binary attachment " + reference + " is not available in the local blob store, "
+            + "references require a blob store shared by all services (SP_BLOB_STORE_SHARED)");
+      }
+      return blobStore.getBytes(reference);
+    } else if (value instanceof String) {
+      return Base64.getMimeDecoder().decode((String) value);
+    } else {
+      throw new IllegalArgumentException("Unsupported binary attachment value: "
+          + (value == null ? "null" : value.getClass().getName()));
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.commons.blob;
+
+import java.util.Objects;
+
+/**
+ * A claim-check pointing to a binary attachment in a {@link LocalBlobStore}.
+ * The string form (e.g. sp-blob:sha256:ab12...) is what is transported inside an event.
+ */
+public final class BlobReference {
+
+  public static final String PREFIX = "sp-blob:sha256:";
+
+  private static final int HASH_LENGTH = 64;
+
+  private final String hash;
+
+  private BlobReference(String hash) {
+    this.hash = hash;
+  }
+
+  public static BlobReference fromHash(String hash) {
+    if (!isValidHash(hash)) {
+      throw new IllegalArgumentException("Not a valid sha256 hex digest: " + hash);
+    }
+    return new BlobReference(hash);
+  }
+
+  public static BlobReference parse(String value) {
+    if (!isReference(value)) {
+      throw new IllegalArgumentException("Not a blob reference: " + value);
+    }
+    return fromHash(value.substring(PREFIX.length()));
+  }
+
+  public static boolean isReference(Object value) {
+    if (value instanceof String) {
+      String str = (String) value;
+      return str.startsWith(PREFIX) && isValidHash(str.substring(PREFIX.length()));
+    }
+    return false;
+  }
+
+  private static boolean isValidHash(String hash) {
+    if (hash == null || hash.length() != HASH_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < hash.length(); i++) {
+      char c = hash.charAt(i);
+      if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public String getHash() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return hash.equals(((BlobReference) o).hash);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(hash);
+  }
+
+  @Override
+  public String toString() {
+    return PREFIX + hash;
+  }
+}
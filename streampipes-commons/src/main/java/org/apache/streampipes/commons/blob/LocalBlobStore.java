@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.commons.blob;
+
+import org.apache.streampipes.commons.environment.Environments;
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed store for binary attachments (e.g., images) on the local file system.
+ * Blobs are stored once per sha256 digest, so processors running on the same host can pass
+ * a {@link BlobReference} instead of the payload itself.
+ * Blobs which have not been written for longer than the configured TTL are evicted.
+ */
+public class LocalBlobStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LocalBlobStore.class);
+
+  private static final long MIN_EVICTION_INTERVAL_MS = 60000;
+
+  private static volatile LocalBlobStore defaultStore;
+
+  private final Path baseDir;
+
+  public LocalBlobStore(Path baseDir) {
+    this.baseDir = baseDir;
+  }
+
+  public static LocalBlobStore getDefault() {
+    if (defaultStore == null) {
+      synchronized (LocalBlobStore.class) {
+        if (defaultStore == null) {
+          var env = Environments.getEnvironment();
+          var store = new LocalBlobStore(Paths.get(env.getBlobStoreDir().getValueOrDefault()));
+          store.scheduleEviction(env.getBlobStoreTtlMs().getValueOrDefault());
+          defaultStore = store;
+        }
+      }
+    }
+    return defaultStore;
+  }
+
+  public BlobReference put(byte[] content) {
+    BlobReference reference = BlobReference.fromHash(DigestUtils.sha256Hex(content));
+    Path target = toPath(reference);
+
+    if (Files.exists(target)) {
+      touch(target);
+      return reference;
+    }
+
+    try {
+      Files.createDirectories(target.getParent());
+      Path tmp = Files.createTempFile(target.getParent(), reference.getHash(), ".tmp");
+      Files.write(tmp, content);
+      try {
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+      } catch (FileAlreadyExistsException e) {
+        // another writer stored the same content concurrently
+        Files.deleteIfExists(tmp);
+      }
+      return reference;
+    } catch (IOException e) {
+      throw new SpRuntimeException("Could not store blob " + reference, e);
+    }
+  }
+
+  public boolean contains(BlobReference reference) {
+    return Files.exists(toPath(reference));
+  }
+
+  public byte[] getBytes(BlobReference reference) {
+    try {
+      return Files.readAllBytes(toPath(reference));
+    } catch (IOException e) {
+      throw new SpRuntimeException("Could not read blob " + reference, e);
+    }
+  }
+
+  /**
+   * Maps the blob into memory without copying it to the heap.
+   *
+   * @param reference the blob to map
+   * @return a read-only buffer backed by the blob file
+   */
+  public ByteBuffer map(BlobReference reference) {
+    try (FileChannel channel = FileChannel.open(toPath(reference), StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (IOException e) {
+      throw new SpRuntimeException("Could not map blob " + reference, e);
+    }
+  }
+
+  public void delete(BlobReference reference) {
+    try {
+      Files.deleteIfExists(toPath(reference));
+    } catch (IOException e) {
+      throw new SpRuntimeException("Could not delete blob " + reference, e);
+    }
+  }
+
+  /**
+   * Deletes all blobs which have not been written within the given time.
+   *
+   * @param maxAgeMs the maximum age of a blob in milliseconds
+   * @return the number of deleted blobs
+   */
+  public int evictOlderThan(long maxAgeMs) {
+    if (!Files.isDirectory(baseDir)) {
+      return 0;
+    }
+    FileTime threshold = FileTime.fromMillis(System.currentTimeMillis() - maxAgeMs);
+    try (Stream<Path> files = Files.walk(baseDir, 2)) {
+      return (int) files
+          .filter(Files::isRegularFile)
+          .filter(file -> isOlderThan(file, threshold))
+          .filter(this::deleteQuietly)
+          .count();
+    } catch (IOException | UncheckedIOException e) {
+      LOG.warn("Could not evict blobs from {}", baseDir, e);
+      return 0;
+    }
+  }
+
+  private void scheduleEviction(long ttlMs) {
+    if (ttlMs <= 0) {
+      return;
+    }
+    long intervalMs = Math.max(ttlMs / 4, MIN_EVICTION_INTERVAL_MS);
+    var scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "sp-blob-eviction");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(() -> evictOlderThan(ttlMs), intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  private boolean isOlderThan(Path file,
+                              FileTime threshold) {
+    try {
+      return Files.getLastModifiedTime(file).compareTo(threshold) < 0;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private boolean deleteQuietly(Path file) {
+    try {
+      return Files.deleteIfExists(file);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private void touch(Path file) {
+    try {
+      Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (IOException e) {
+      // the blob is still valid, it only might be evicted earlier
+    }
+  }
+
+  private Path toPath(BlobReference reference) {
+    String hash = reference.getHash();
+    return baseDir.resolve(hash.substring(0, 2)).resolve(hash);
+  }
+}
@@ -35,4 +35,21 @@ public class DefaultEnvValues {
   public static final String SP_KAFKA_RETENTION_MS_DEFAULT = "600000";
 
   public static final String LOCALHOST = "localhost";
+
+  public static final String BLOB_STORE_DIR_DEFAULT = "/tmp/streampipes/blobs";
+  public static final String BINARY_ATTACHMENT_MODE_DEFAULT = "base64";
+  public static final String BLOB_STORE_SHARED_DEFAULT = "false";
+  public static final String BLOB_STORE_TTL_MS_DEFAULT = "3600000";
+
+  public static final String FILE_CACHE_DIR_DEFAULT = "/tmp/streampipes/files";
+
+  public static final String STATE_STORE_DIR_DEFAULT = "/tmp/streampipes/state";
+  public static final String STATE_SNAPSHOT_INTERVAL_MS_DEFAULT = "10000";
+
+  public static final String CLIENT_HTTP_MAX_CONNECTIONS_DEFAULT = "32";
+  public static final String CLIENT_HTTP_COMPRESS_REQUESTS_DEFAULT = "false";
+
+  public static final String MONITORING_PUSH_INTERVAL_MS_DEFAULT = "5000";
+
+  public static final String HEARTBEAT_INTERVAL_MS_DEFAULT = "2000";
 }
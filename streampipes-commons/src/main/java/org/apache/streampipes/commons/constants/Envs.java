@@ -40,6 +40,7 @@ public enum Envs {
   SP_CONSUL_PORT("SP_CONSUL_PORT", DefaultEnvValues.CONSUL_PORT_DEFAULT),
   SP_KAFKA_RETENTION_MS("SP_KAFKA_RETENTION_MS", DefaultEnvValues.SP_KAFKA_RETENTION_MS_DEFAULT),
   SP_PRIORITIZED_PROTOCOL("SP_PRIORITIZED_PROTOCOL", "kafka"),
+  SP_TRANSPORT_COMPRESSION("SP_TRANSPORT_COMPRESSION", "none"),
   SP_JWT_SECRET("SP_JWT_SECRET"),
   SP_JWT_SIGNING_MODE("SP_JWT_SIGNING_MODE"),
   SP_JWT_PRIVATE_KEY_LOC("SP_JWT_PRIVATE_KEY_LOC"),
@@ -62,6 +63,7 @@ public enum Envs {
   SP_COUCHDB_PORT("SP_COUCHDB_PORT", "5984"),
   SP_COUCHDB_USER("SP_COUCHDB_USER", "admin"),
   SP_COUCHDB_PASSWORD("SP_COUCHDB_PASSWORD", "admin"),
+  SP_COUCHDB_CACHE_ENABLED("SP_COUCHDB_CACHE_ENABLED", "true"),
 
 
   // Time Series Storage
@@ -85,7 +87,33 @@ public enum Envs {
 
   SP_PROMETHEUS_ENDPOINT_INCLUDE("SP_PROMETHEUS_ENDPOINT_INCLUDE", "health,prometheus"),
 
-  SP_SETUP_PROMETHEUS_ENDPOINT("SP_SETUP_PROMETHEUS_ENDPOINT", "false");
+  SP_SETUP_PROMETHEUS_ENDPOINT("SP_SETUP_PROMETHEUS_ENDPOINT", "false"),
+
+  // Binary attachments
+  SP_BLOB_STORE_DIR("SP_BLOB_STORE_DIR", DefaultEnvValues.BLOB_STORE_DIR_DEFAULT),
+  SP_BINARY_ATTACHMENT_MODE("SP_BINARY_ATTACHMENT_MODE", DefaultEnvValues.BINARY_ATTACHMENT_MODE_DEFAULT),
+  SP_BLOB_STORE_SHARED("SP_BLOB_STORE_SHARED", DefaultEnvValues.BLOB_STORE_SHARED_DEFAULT),
+  SP_BLOB_STORE_TTL_MS("SP_BLOB_STORE_TTL_MS", DefaultEnvValues.BLOB_STORE_TTL_MS_DEFAULT),
+
+  // Local cache of files downloaded from the core
+  SP_FILE_CACHE_DIR("SP_FILE_CACHE_DIR", DefaultEnvValues.FILE_CACHE_DIR_DEFAULT),
+
+  // State store of standalone pipeline elements
+  SP_STATE_STORE_DIR("SP_STATE_STORE_DIR", DefaultEnvValues.STATE_STORE_DIR_DEFAULT),
+  SP_STATE_SNAPSHOT_INTERVAL_MS("SP_STATE_SNAPSHOT_INTERVAL_MS", DefaultEnvValues.STATE_SNAPSHOT_INTERVAL_MS_DEFAULT),
+
+  // HTTP transport of the StreamPipes client
+  SP_CLIENT_HTTP_MAX_CONNECTIONS("SP_CLIENT_HTTP_MAX_CONNECTIONS",
+      DefaultEnvValues.CLIENT_HTTP_MAX_CONNECTIONS_DEFAULT),
+  SP_CLIENT_HTTP_COMPRESS_REQUESTS("SP_CLIENT_HTTP_COMPRESS_REQUESTS",
+      DefaultEnvValues.CLIENT_HTTP_COMPRESS_REQUESTS_DEFAULT),
+
+  // Monitoring data pushed from extensions services to the core, 0 disables pushing
+  SP_MONITORING_PUSH_INTERVAL_MS("SP_MONITORING_PUSH_INTERVAL_MS",
+      DefaultEnvValues.MONITORING_PUSH_INTERVAL_MS_DEFAULT),
+
+  // Liveness heartbeats sent from extensions services to the core, 0 disables heartbeats
+  SP_HEARTBEAT_INTERVAL_MS("SP_HEARTBEAT_INTERVAL_MS", DefaultEnvValues.HEARTBEAT_INTERVAL_MS_DEFAULT);
 
   private final String envVariableName;
   private String defaultValue;
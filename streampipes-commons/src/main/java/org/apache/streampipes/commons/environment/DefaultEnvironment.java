@@ -119,6 +119,11 @@ public class DefaultEnvironment implements Environment {
     return new StringEnvironmentVariable(Envs.SP_COUCHDB_PASSWORD);
   }
 
+  @Override
+  public BooleanEnvironmentVariable getCouchDbCacheEnabled() {
+    return new BooleanEnvironmentVariable(Envs.SP_COUCHDB_CACHE_ENABLED);
+  }
+
   @Override
   public StringEnvironmentVariable getClientUser() {
     return new StringEnvironmentVariable(Envs.SP_CLIENT_USER);
@@ -169,6 +174,11 @@ public class DefaultEnvironment implements Environment {
     return new StringEnvironmentVariable(Envs.SP_PRIORITIZED_PROTOCOL);
   }
 
+  @Override
+  public StringEnvironmentVariable getTransportCompression() {
+    return new StringEnvironmentVariable(Envs.SP_TRANSPORT_COMPRESSION);
+  }
+
   @Override
   public BooleanEnvironmentVariable getSetupInstallPipelineElements() {
     return new BooleanEnvironmentVariable(Envs.SP_SETUP_INSTALL_PIPELINE_ELEMENTS);
@@ -228,4 +238,59 @@ public class DefaultEnvironment implements Environment {
   public StringEnvironmentVariable getConsulLocation() {
     return new StringEnvironmentVariable(Envs.SP_CONSUL_LOCATION);
   }
+
+  @Override
+  public StringEnvironmentVariable getBlobStoreDir() {
+    return new StringEnvironmentVariable(Envs.SP_BLOB_STORE_DIR);
+  }
+
+  @Override
+  public StringEnvironmentVariable getBinaryAttachmentMode() {
+    return new StringEnvironmentVariable(Envs.SP_BINARY_ATTACHMENT_MODE);
+  }
+
+  @Override
+  public BooleanEnvironmentVariable getBlobStoreShared() {
+    return new BooleanEnvironmentVariable(Envs.SP_BLOB_STORE_SHARED);
+  }
+
+  @Override
+  public IntEnvironmentVariable getBlobStoreTtlMs() {
+    return new IntEnvironmentVariable(Envs.SP_BLOB_STORE_TTL_MS);
+  }
+
+  @Override
+  public StringEnvironmentVariable getFileCacheDir() {
+    return new StringEnvironmentVariable(Envs.SP_FILE_CACHE_DIR);
+  }
+
+  @Override
+  public StringEnvironmentVariable getStateStoreDir() {
+    return new StringEnvironmentVariable(Envs.SP_STATE_STORE_DIR);
+  }
+
+  @Override
+  public IntEnvironmentVariable getStateSnapshotIntervalMs() {
+    return new IntEnvironmentVariable(Envs.SP_STATE_SNAPSHOT_INTERVAL_MS);
+  }
+
+  @Override
+  public IntEnvironmentVariable getClientHttpMaxConnections() {
+    return new IntEnvironmentVariable(Envs.SP_CLIENT_HTTP_MAX_CONNECTIONS);
+  }
+
+  @Override
+  public BooleanEnvironmentVariable getClientHttpCompressRequests() {
+    return new BooleanEnvironmentVariable(Envs.SP_CLIENT_HTTP_COMPRESS_REQUESTS);
+  }
+
+  @Override
+  public IntEnvironmentVariable getMonitoringPushIntervalMs() {
+    return new IntEnvironmentVariable(Envs.SP_MONITORING_PUSH_INTERVAL_MS);
+  }
+
+  @Override
+  public IntEnvironmentVariable getHeartbeatIntervalMs() {
+    return new IntEnvironmentVariable(Envs.SP_HEARTBEAT_INTERVAL_MS);
+  }
 }
@@ -70,6 +70,8 @@ public interface Environment {
 
   StringEnvironmentVariable getCouchDbPassword();
 
+  BooleanEnvironmentVariable getCouchDbCacheEnabled();
+
 
   // JWT & Authentication
 
@@ -94,6 +96,8 @@ public interface Environment {
 
   StringEnvironmentVariable getPrioritizedProtocol();
 
+  StringEnvironmentVariable getTransportCompression();
+
 
   // Setup
   BooleanEnvironmentVariable getSetupInstallPipelineElements();
@@ -119,4 +123,31 @@ public interface Environment {
   StringEnvironmentVariable getPrometheusEndpointInclude();
 
   BooleanEnvironmentVariable getSetupPrometheusEndpoint();
+
+  // Binary attachments
+  StringEnvironmentVariable getBlobStoreDir();
+
+  StringEnvironmentVariable getBinaryAttachmentMode();
+
+  BooleanEnvironmentVariable getBlobStoreShared();
+
+  IntEnvironmentVariable getBlobStoreTtlMs();
+
+  // File cache
+  StringEnvironmentVariable getFileCacheDir();
+
+  // State store
+  StringEnvironmentVariable getStateStoreDir();
+
+  IntEnvironmentVariable getStateSnapshotIntervalMs();
+
+  // Client HTTP transport
+  IntEnvironmentVariable getClientHttpMaxConnections();
+
+  BooleanEnvironmentVariable getClientHttpCompressRequests();
+
+  // Monitoring
+  IntEnvironmentVariable getMonitoringPushIntervalMs();
+
+  IntEnvironmentVariable getHeartbeatIntervalMs();
 }
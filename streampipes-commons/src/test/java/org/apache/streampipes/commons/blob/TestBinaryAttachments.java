@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.commons.blob;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestBinaryAttachments {
+
+  private static final byte[] CONTENT = "streampipes-image".getBytes(StandardCharsets.UTF_8);
+
+  private Path baseDir;
+  private LocalBlobStore blobStore;
+
+  @Before
+  public void setup() throws IOException {
+    this.baseDir = Files.createTempDirectory("sp-blobs");
+    this.blobStore = new LocalBlobStore(baseDir);
+  }
+
+  @Test
+  public void testBase64RoundTrip() {
+    BinaryAttachments attachments = new BinaryAttachments(blobStore, BinaryAttachmentMode.BASE64);
+    Object value = attachments.toFieldValue(CONTENT);
+
+    assertTrue(value instanceof String);
+    assertArrayEquals(CONTENT, attachments.toBytes(value));
+  }
+
+  @Test
+  public void testBinaryRoundTrip() {
+    BinaryAttachments attachments = new BinaryAttachments(blobStore, BinaryAttachmentMode.BINARY);
+    Object value = attachments.toFieldValue(CONTENT);
+
+    assertArrayEquals(CONTENT, (byte[]) value);
+    assertArrayEquals(CONTENT, attachments.toBytes(ByteBuffer.wrap(CONTENT)));
+  }
+
+  @Test
+  public void testReferenceRoundTrip() {
+    BinaryAttachments attachments = new BinaryAttachments(blobStore, BinaryAttachmentMode.REFERENCE);
+    Object value = attachments.toFieldValue(CONTENT);
+
+    assertTrue(BlobReference.isReference(value));
+    assertEquals(value, attachments.toFieldValue(CONTENT));
+    assertArrayEquals(CONTENT, attachments.toBytes(value));
+
+    BlobReference reference = BlobReference.parse((String) value);
+    assertEquals(CONTENT.length, blobStore.map(reference).remaining());
+
+    blobStore.delete(reference);
+    assertFalse(blobStore.contains(reference));
+  }
+
+  @Test
+  public void testEvictOlderThan() throws IOException {
+    BlobReference stale = blobStore.put(CONTENT);
+    BlobReference recent = blobStore.put("recent".getBytes(StandardCharsets.UTF_8));
+    Path stalePath = Files.walk(baseDir)
+        .filter(path -> path.getFileName().toString().equals(stale.getHash()))
+        .findFirst()
+        .orElseThrow();
+    Files.setLastModifiedTime(stalePath, FileTime.fromMillis(System.currentTimeMillis() - 120000));
+
+    assertEquals(1, blobStore.evictOlderThan(60000));
+    assertFalse(blobStore.contains(stale));
+    assertTrue(blobStore.contains(recent));
+  }
+
+  @Test(expected = SpRuntimeException.class)
+  public void testMissingReferenceFails() throws IOException {
+    BinaryAttachments attachments = new BinaryAttachments(blobStore, BinaryAttachmentMode.REFERENCE);
+    Object value = attachments.toFieldValue(CONTENT);
+
+    LocalBlobStore otherHostStore = new LocalBlobStore(Files.createTempDirectory("sp-blobs-other"));
+    new BinaryAttachments(otherHostStore, BinaryAttachmentMode.REFERENCE).toBytes(value);
+  }
+
+  @Test
+  public void testReferenceFallsBackToInline() throws IOException {
+    Path file = Files.createTempFile("sp-blobs", ".file");
+    BinaryAttachments attachments = new BinaryAttachments(new LocalBlobStore(file), BinaryAttachmentMode.REFERENCE);
+    Object value = attachments.toFieldValue(CONTENT);
+
+    assertFalse(BlobReference.isReference(value));
+    assertArrayEquals(CONTENT, attachments.toBytes(value));
+  }
+
+  @Test
+  public void testPlainStringIsNoReference() {
+    assertFalse(BlobReference.isReference(BlobReference.PREFIX + "abc"));
+    assertFalse(BlobReference.isReference(CONTENT));
+  }
+}
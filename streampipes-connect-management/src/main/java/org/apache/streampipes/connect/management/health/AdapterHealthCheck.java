@@ -20,8 +20,6 @@ package org.apache.streampipes.connect.management.health;
 
 import org.apache.streampipes.commons.exceptions.connect.AdapterException;
 import org.apache.streampipes.connect.management.management.AdapterMasterManagement;
-import org.apache.streampipes.connect.management.management.WorkerRestClient;
-import org.apache.streampipes.connect.management.util.WorkerPaths;
 import org.apache.streampipes.model.connect.adapter.AdapterDescription;
 import org.apache.streampipes.storage.api.IAdapterStorage;
 import org.apache.streampipes.storage.couchdb.CouchDbStorageManager;
@@ -33,31 +31,88 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-public class AdapterHealthCheck {
+public class AdapterHealthCheck implements Runnable {
 
   private static final Logger LOG = LoggerFactory.getLogger(AdapterHealthCheck.class);
 
+  private static final long PROBE_TIMEOUT_MS = 8000;
+  private static final long RECOVERY_TIMEOUT_MS = 60000;
+  static final int MAX_CONSECUTIVE_PROBE_FAILURES = 3;
+
   private final IAdapterStorage adapterStorage;
   private final AdapterMasterManagement adapterMasterManagement;
+  private final WorkerProbe workerProbe;
+  private final WorkerStateCache workerStateCache;
+  private final AdapterRecoveryTracker recoveryTracker;
+  private final AdapterHealthMetrics metrics;
+  private final ScheduledExecutorService executor;
 
   public AdapterHealthCheck() {
-    this.adapterStorage = CouchDbStorageManager.INSTANCE.getAdapterInstanceStorage();
-    this.adapterMasterManagement = new AdapterMasterManagement();
+    this(CouchDbStorageManager.INSTANCE.getAdapterInstanceStorage(), new AdapterMasterManagement());
   }
 
   public AdapterHealthCheck(IAdapterStorage adapterStorage,
                             AdapterMasterManagement adapterMasterManagement) {
+    this(adapterStorage,
+        adapterMasterManagement,
+        new HttpWorkerProbe(),
+        AdapterHealthRegistry.INSTANCE.getWorkerStateCache(),
+        AdapterHealthRegistry.INSTANCE.getRecoveryTracker(),
+        AdapterHealthRegistry.INSTANCE.getMetrics(),
+        AdapterHealthRegistry.INSTANCE.getExecutor());
+  }
+
+  public AdapterHealthCheck(IAdapterStorage adapterStorage,
+                            AdapterMasterManagement adapterMasterManagement,
+                            WorkerProbe workerProbe,
+                            WorkerStateCache workerStateCache,
+                            AdapterRecoveryTracker recoveryTracker,
+                            AdapterHealthMetrics metrics,
+                            ScheduledExecutorService executor) {
     this.adapterStorage = adapterStorage;
     this.adapterMasterManagement = adapterMasterManagement;
+    this.workerProbe = workerProbe;
+    this.workerStateCache = workerStateCache;
+    this.recoveryTracker = recoveryTracker;
+    this.metrics = metrics;
+    this.executor = executor;
+  }
+
+  /**
+   * Periodic health check, which is skipped while another adapter operation is in progress.
+   */
+  @Override
+  public void run() {
+    if (!AdapterOperationLock.INSTANCE.tryLock()) {
+      LOG.info("Adapter operation in progress, skipping adapter health check");
+      return;
+    }
+    try {
+      checkAndRestoreAdapters();
+    } catch (RuntimeException e) {
+      LOG.error("Adapter health check failed", e);
+    } finally {
+      AdapterOperationLock.INSTANCE.unlock();
+    }
   }
 
   /**
    * In this method it is checked which adapters are currently running.
-   * Then it calls all workers to validate if the adapter instance is
+   * Then it calls all workers in parallel to validate if the adapter instance is
    * still running as expected. If the adapter is not running anymore a new worker instance is invoked.
    */
   public void checkAndRestoreAdapters() {
+    metrics.recordHealthCheck();
+
     // Get all adapters
     Map<String, AdapterDescription> allRunningInstancesAdapterDescriptions =
         this.getAllRunningInstancesAdapterDescriptions();
@@ -73,7 +128,6 @@ public class AdapterHealthCheck {
     // Recover Adapters
     this.recoverAdapters(allAdaptersToRecover);
   }
-
   public Map<String, AdapterDescription> getAllRunningInstancesAdapterDescriptions() {
     Map<String, AdapterDescription> result = new HashMap<>();
     List<AdapterDescription> allRunningInstancesAdapterDescription = this.adapterStorage.getAllAdapters();
@@ -106,34 +160,136 @@ public class AdapterHealthCheck {
   public Map<String, AdapterDescription> getAdaptersToRecover(
       Map<String, List<AdapterDescription>> groupByWorker,
       Map<String, AdapterDescription> allRunningInstancesAdapterDescription) {
-    groupByWorker.keySet().forEach(adapterEndpointUrl -> {
+    Map<String, CompletableFuture<Set<String>>> probes = new HashMap<>();
+    groupByWorker.keySet().forEach(workerUrl ->
+        probes.put(workerUrl, CompletableFuture
+            .supplyAsync(() -> probeWorker(workerUrl), executor)
+            .orTimeout(PROBE_TIMEOUT_MS, TimeUnit.MILLISECONDS)));
+
+    probes.forEach((workerUrl, probe) -> {
       try {
-        List<AdapterDescription> allRunningInstancesOfOneWorker =
-            WorkerRestClient.getAllRunningAdapterInstanceDescriptions(
-                adapterEndpointUrl + WorkerPaths.getRunningAdaptersPath());
-        allRunningInstancesOfOneWorker.forEach(adapterDescription ->
-            allRunningInstancesAdapterDescription.remove(adapterDescription.getElementId()));
-      } catch (AdapterException e) {
-        e.printStackTrace();
+        Set<String> runningAdapterIds = probe.join();
+        runningAdapterIds.forEach(adapterId -> {
+          allRunningInstancesAdapterDescription.remove(adapterId);
+          recoveryTracker.markRunning(adapterId);
+        });
+      } catch (RuntimeException e) {
+        metrics.recordWorkerProbe(false, false);
+        int failures = workerStateCache.onProbeFailed(workerUrl);
+        if (failures < MAX_CONSECUTIVE_PROBE_FAILURES) {
+          // a single failed probe might be a timeout of a worker that still runs its adapters
+          LOG.warn("Could not fetch running adapters of worker {} ({}/{}): {}", workerUrl, failures,
+              MAX_CONSECUTIVE_PROBE_FAILURES, rootMessage(e));
+          groupByWorker.get(workerUrl).forEach(adapter ->
+              allRunningInstancesAdapterDescription.remove(adapter.getElementId()));
+        } else {
+          // adapters of unreachable workers are recovered on another worker
+          LOG.warn("Could not fetch running adapters of worker {} after {} attempts, recovering its adapters: {}",
+              workerUrl, failures, rootMessage(e));
+        }
       }
     });
 
     return allRunningInstancesAdapterDescription;
   }
 
-
+  /**
+   * Recovers the given adapters in parallel. Recoveries which did not start within the recovery timeout
+   * are postponed to the next health check, while recoveries which already started are awaited, so that
+   * the operation lock is not released while an adapter is being started.
+   */
   public void recoverAdapters(Map<String, AdapterDescription> adaptersToRecover) {
+    long now = System.currentTimeMillis();
+    List<Recovery> recoveries = new ArrayList<>();
     for (AdapterDescription adapterDescription : adaptersToRecover.values()) {
       // Invoke all adapters that were running when the adapter container was stopped
+      if (adapterDescription.isRunning()) {
+        String adapterId = adapterDescription.getElementId();
+        recoveryTracker.markMissing(adapterId, now);
+        if (recoveryTracker.isDue(adapterId, now)) {
+          Recovery recovery = new Recovery();
+          recovery.future = executor.schedule(
+              () -> {
+                if (recovery.started.compareAndSet(false, true)) {
+                  recoverAdapter(adapterDescription);
+                }
+              },
+              recoveryTracker.nextJitterMs(),
+              TimeUnit.MILLISECONDS);
+          recoveries.add(recovery);
+        } else {
+          LOG.debug("Postponing recovery of adapter {} after {} failed attempts",
+              adapterDescription.getName(), recoveryTracker.getAttempts(adapterId));
+        }
+      }
+    }
+
+    long deadline = System.currentTimeMillis() + RECOVERY_TIMEOUT_MS;
+    int postponed = 0;
+    for (Recovery recovery : recoveries) {
       try {
-        if (adapterDescription.isRunning()) {
-          this.adapterMasterManagement.startStreamAdapter(adapterDescription.getElementId());
+        try {
+          recovery.future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+          if (recovery.started.compareAndSet(false, true)) {
+            recovery.future.cancel(false);
+            postponed++;
+          } else {
+            recovery.future.get();
+          }
         }
-      } catch (AdapterException e) {
-        LOG.warn("Could not start adapter {}", adapterDescription.getName(), e);
+      } catch (ExecutionException e) {
+        LOG.error("Adapter recovery failed", e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
       }
     }
+    if (postponed > 0) {
+      LOG.warn("Adapter recovery did not finish within {} ms, postponing {} recoveries to the next health check",
+          RECOVERY_TIMEOUT_MS, postponed);
+    }
+  }
 
+  private Set<String> probeWorker(String workerUrl) {
+    try {
+      String response = workerProbe.fetchRunningAdapters(workerUrl);
+      boolean unchanged = workerStateCache.isUnchanged(workerUrl, response);
+      Set<String> runningAdapterIds = workerStateCache.getRunningAdapterIds(workerUrl, response);
+      workerStateCache.onProbeSucceeded(workerUrl);
+      metrics.recordWorkerProbe(true, unchanged);
+      return runningAdapterIds;
+    } catch (AdapterException e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
   }
 
+  private void recoverAdapter(AdapterDescription adapterDescription) {
+    String adapterId = adapterDescription.getElementId();
+    try {
+      this.adapterMasterManagement.startStreamAdapter(adapterId);
+      long recoveryTime = recoveryTracker.onRecovered(adapterId, System.currentTimeMillis());
+      metrics.recordRecovery(recoveryTime);
+      LOG.info("Recovered adapter {} {} ms after it was detected as stopped", adapterDescription.getName(),
+          recoveryTime);
+    } catch (AdapterException | RuntimeException e) {
+      recoveryTracker.onFailure(adapterId, System.currentTimeMillis());
+      metrics.recordFailedRecovery();
+      LOG.warn("Could not start adapter {}", adapterDescription.getName(), e);
+    }
+  }
+
+  private static class Recovery {
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private ScheduledFuture<?> future;
+  }
+
+  private String rootMessage(Throwable e) {
+    Throwable cause = e;
+    while (cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+  }
 }
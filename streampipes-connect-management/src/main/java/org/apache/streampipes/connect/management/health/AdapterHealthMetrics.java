@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.connect.management.health;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the adapter health check, including the time between detecting a stopped adapter
+ * and its successful recovery.
+ */
+public class AdapterHealthMetrics {
+
+  private final AtomicLong healthChecks = new AtomicLong();
+  private final AtomicLong workerProbes = new AtomicLong();
+  private final AtomicLong failedWorkerProbes = new AtomicLong();
+  private final AtomicLong unchangedWorkerResponses = new AtomicLong();
+  private final AtomicLong recoveries = new AtomicLong();
+  private final AtomicLong failedRecoveries = new AtomicLong();
+  private final AtomicLong totalRecoveryTimeMs = new AtomicLong();
+  private final AtomicLong maxRecoveryTimeMs = new AtomicLong();
+  private final AtomicLong lastRecoveryTimeMs = new AtomicLong();
+
+  void recordHealthCheck() {
+    healthChecks.incrementAndGet();
+  }
+
+  void recordWorkerProbe(boolean success, boolean unchanged) {
+    workerProbes.incrementAndGet();
+    if (!success) {
+      failedWorkerProbes.incrementAndGet();
+    } else if (unchanged) {
+      unchangedWorkerResponses.incrementAndGet();
+    }
+  }
+
+  void recordRecovery(long detectionToRecoveryMs) {
+    recoveries.incrementAndGet();
+    if (detectionToRecoveryMs >= 0) {
+      totalRecoveryTimeMs.addAndGet(detectionToRecoveryMs);
+      maxRecoveryTimeMs.accumulateAndGet(detectionToRecoveryMs, Math::max);
+      lastRecoveryTimeMs.set(detectionToRecoveryMs);
+    }
+  }
+
+  void recordFailedRecovery() {
+    failedRecoveries.incrementAndGet();
+  }
+
+  public long getHealthChecks() {
+    return healthChecks.get();
+  }
+
+  public long getWorkerProbes() {
+    return workerProbes.get();
+  }
+
+  public long getFailedWorkerProbes() {
+    return failedWorkerProbes.get();
+  }
+
+  public long getUnchangedWorkerResponses() {
+    return unchangedWorkerResponses.get();
+  }
+
+  public long getRecoveries() {
+    return recoveries.get();
+  }
+
+  public long getFailedRecoveries() {
+    return failedRecoveries.get();
+  }
+
+  public long getMaxRecoveryTimeMs() {
+    return maxRecoveryTimeMs.get();
+  }
+
+  public long getLastRecoveryTimeMs() {
+    return lastRecoveryTimeMs.get();
+  }
+
+  public double getAverageRecoveryTimeMs() {
+    long count = recoveries.get();
+    return count > 0 ? (double) totalRecoveryTimeMs.get() / count : 0;
+  }
+}
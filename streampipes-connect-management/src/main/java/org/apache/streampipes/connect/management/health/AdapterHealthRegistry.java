@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.connect.management.health;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * State of the adapter health check which is shared between subsequent checks.
+ */
+public enum AdapterHealthRegistry {
+
+  INSTANCE;
+
+  private static final int MAX_PARALLELISM = 8;
+
+  private final WorkerStateCache workerStateCache;
+  private final AdapterRecoveryTracker recoveryTracker;
+  private final AdapterHealthMetrics metrics;
+  private final ScheduledExecutorService executor;
+
+  AdapterHealthRegistry() {
+    this.workerStateCache = new WorkerStateCache();
+    this.recoveryTracker = new AdapterRecoveryTracker();
+    this.metrics = new AdapterHealthMetrics();
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = Executors.newScheduledThreadPool(MAX_PARALLELISM, r -> {
+      Thread thread = new Thread(r, "sp-adapter-health-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public WorkerStateCache getWorkerStateCache() {
+    return workerStateCache;
+  }
+
+  public AdapterRecoveryTracker getRecoveryTracker() {
+    return recoveryTracker;
+  }
+
+  public AdapterHealthMetrics getMetrics() {
+    return metrics;
+  }
+
+  public ScheduledExecutorService getExecutor() {
+    return executor;
+  }
+}
@@ -15,24 +15,78 @@
  * limitations under the License.
  *
  */
-
 package org.apache.streampipes.connect.management.health;
 
+import org.apache.streampipes.commons.exceptions.connect.AdapterException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Coordinates adapter operations: the health check and the restore on worker registration hold the
+ * lock exclusively, while user-initiated starts and stops share it with each other.
+ */
 public enum AdapterOperationLock {
 
   INSTANCE;
 
-  private boolean locked;
+  private static final long USER_OPERATION_TIMEOUT_MS = 90000;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
 
-  public void lock() {
-    this.locked = true;
+  /**
+   * Acquires the exclusive lock if no other adapter operation is in progress.
+   *
+   * @return true if the lock was acquired
+   */
+  public boolean tryLock() {
+    return lock.writeLock().tryLock();
   }
 
+  /**
+   * Acquires the exclusive lock, waiting at most the given time for running adapter operations.
+   *
+   * @return true if the lock was acquired
+   */
+  public boolean tryLock(long timeout, TimeUnit unit) throws InterruptedException {
+    return lock.writeLock().tryLock(timeout, unit);
+  }
+
+  /**
+   * Releases the exclusive lock, must be called by the thread that acquired it.
+   */
   public void unlock() {
-    this.locked = false;
+    lock.writeLock().unlock();
   }
 
   public boolean isLocked() {
-    return locked;
+    return lock.isWriteLocked() || lock.getReadLockCount() > 0;
+  }
+
+  /**
+   * Runs a user-initiated adapter operation, waiting for a running health check to finish first.
+   *
+   * @param operation the operation to run
+   * @throws AdapterException if the operation fails or the lock could not be acquired in time
+   */
+  public void runUserOperation(AdapterOperation operation) throws AdapterException {
+    try {
+      if (!lock.readLock().tryLock(USER_OPERATION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        throw new AdapterException("Adapter health check still in progress, please try again later");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AdapterException("Interrupted while waiting for the adapter health check", e);
+    }
+    try {
+      operation.run();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @FunctionalInterface
+  public interface AdapterOperation {
+    void run() throws AdapterException;
   }
 }
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.connect.management.health;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tracks adapters which were detected as not running, including when they were detected and
+ * when the next recovery attempt is due. Failed attempts are retried with an exponential,
+ * capped backoff, and all attempts are spread by a random jitter, so that recovering many adapters
+ * at once does not overload the workers.
+ */
+public class AdapterRecoveryTracker {
+
+  static final long INITIAL_BACKOFF_MS = 5000;
+  static final long MAX_BACKOFF_MS = 5 * 60 * 1000;
+  static final long MAX_JITTER_MS = 1000;
+
+  private final Map<String, RecoveryState> recoveryStates = new ConcurrentHashMap<>();
+
+  /**
+   * Registers an adapter as missing, unless it is already known to be missing.
+   */
+  public void markMissing(String adapterId, long now) {
+    recoveryStates.putIfAbsent(adapterId, new RecoveryState(now));
+  }
+
+  /**
+   * Removes an adapter which is running again.
+   */
+  public void markRunning(String adapterId) {
+    recoveryStates.remove(adapterId);
+  }
+
+  public boolean isDue(String adapterId, long now) {
+    RecoveryState state = recoveryStates.get(adapterId);
+    return state != null && state.nextAttemptAt <= now;
+  }
+
+  /**
+   * Marks an adapter as recovered.
+   *
+   * @return the time in milliseconds between detection and recovery, or -1 if the adapter was not tracked
+   */
+  public long onRecovered(String adapterId, long now) {
+    RecoveryState state = recoveryStates.remove(adapterId);
+    return state != null ? now - state.detectedAt : -1;
+  }
+
+  public void onFailure(String adapterId, long now) {
+    RecoveryState state = recoveryStates.get(adapterId);
+    if (state != null) {
+      state.attempts++;
+      long backoff = Math.min(INITIAL_BACKOFF_MS << Math.min(state.attempts - 1, 16), MAX_BACKOFF_MS);
+      state.nextAttemptAt = now + backoff + nextJitterMs();
+    }
+  }
+
+  public int getAttempts(String adapterId) {
+    RecoveryState state = recoveryStates.get(adapterId);
+    return state != null ? state.attempts : 0;
+  }
+
+  public int getPendingCount() {
+    return recoveryStates.size();
+  }
+
+  public long nextJitterMs() {
+    return ThreadLocalRandom.current().nextLong(MAX_JITTER_MS + 1);
+  }
+
+  private static class RecoveryState {
+
+    private final long detectedAt;
+    private volatile long nextAttemptAt;
+    private volatile int attempts;
+
+    RecoveryState(long detectedAt) {
+      this.detectedAt = detectedAt;
+      this.nextAttemptAt = detectedAt;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.connect.management.health;
+
+import org.apache.streampipes.commons.exceptions.connect.AdapterException;
+import org.apache.streampipes.connect.management.util.WorkerPaths;
+import org.apache.streampipes.manager.execution.ExtensionServiceExecutions;
+
+import java.io.IOException;
+
+public class HttpWorkerProbe implements WorkerProbe {
+
+  private static final int CONNECT_TIMEOUT_MS = 2000;
+  private static final int SOCKET_TIMEOUT_MS = 5000;
+
+  @Override
+  public String fetchRunningAdapters(String workerUrl) throws AdapterException {
+    String url = workerUrl + WorkerPaths.getRunningAdaptersPath();
+    try {
+      return ExtensionServiceExecutions
+          .extServiceGetRequest(url)
+          .connectTimeout(CONNECT_TIMEOUT_MS)
+          .socketTimeout(SOCKET_TIMEOUT_MS)
+          .execute()
+          .returnContent()
+          .asString();
+    } catch (IOException e) {
+      throw new AdapterException("List of running adapters could not be fetched from: " + url, e);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.connect.management.health;
+
+import org.apache.streampipes.commons.exceptions.connect.AdapterException;
+
+/**
+ * Fetches the adapter instances which are currently running on a worker.
+ */
+@FunctionalInterface
+public interface WorkerProbe {
+
+  /**
+   * @param workerUrl the base URL of the worker
+   * @return the serialized list of running adapter instances, as returned by the worker
+   * @throws AdapterException if the worker could not be reached
+   */
+  String fetchRunningAdapters(String workerUrl) throws AdapterException;
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.connect.management.health;
+
+import org.apache.streampipes.commons.exceptions.connect.AdapterException;
+import org.apache.streampipes.serializers.json.JacksonSerializer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the last response of each worker, so that the running adapters of a worker whose
+ * state did not change since the previous health check do not need to be parsed again.
+ * Also counts consecutive failed probes per worker, so that a single timeout does not cause
+ * the adapters of a worker to be recovered elsewhere while they are still running.
+ */
+public class WorkerStateCache {
+
+  private final Map<String, CachedWorkerState> workerStates = new ConcurrentHashMap<>();
+  private final Map<String, Integer> probeFailures = new ConcurrentHashMap<>();
+
+  public boolean isUnchanged(String workerUrl, String response) {
+    CachedWorkerState cached = workerStates.get(workerUrl);
+    return cached != null && cached.response.equals(response);
+  }
+
+  /**
+   * Returns the element ids of the adapters contained in a worker response.
+   *
+   * @param workerUrl the base URL of the worker
+   * @param response the response of the worker
+   * @return the element ids of all running adapters
+   * @throws AdapterException if the response could not be parsed
+   */
+  public Set<String> getRunningAdapterIds(String workerUrl, String response) throws AdapterException {
+    CachedWorkerState cached = workerStates.get(workerUrl);
+    if (cached != null && cached.response.equals(response)) {
+      return cached.runningAdapterIds;
+    }
+    Set<String> runningAdapterIds = parseRunningAdapterIds(response);
+    workerStates.put(workerUrl, new CachedWorkerState(response, runningAdapterIds));
+    return runningAdapterIds;
+  }
+
+  public void invalidate(String workerUrl) {
+    workerStates.remove(workerUrl);
+  }
+
+  public void onProbeSucceeded(String workerUrl) {
+    probeFailures.remove(workerUrl);
+  }
+
+  /**
+   * Invalidates the cached state of a worker which could not be probed.
+   *
+   * @param workerUrl the base URL of the worker
+   * @return the number of consecutive failed probes of this worker
+   */
+  public int onProbeFailed(String workerUrl) {
+    invalidate(workerUrl);
+    return probeFailures.merge(workerUrl, 1, Integer::sum);
+  }
+
+  private Set<String> parseRunningAdapterIds(String response) throws AdapterException {
+    try {
+      Set<String> ids = new HashSet<>();
+      JsonNode adapters = JacksonSerializer.getObjectMapper().readTree(response);
+      adapters.forEach(adapter -> {
+        JsonNode elementId = adapter.get("elementId");
+        if (elementId != null && elementId.isTextual()) {
+          ids.add(elementId.asText());
+        }
+      });
+      return Collections.unmodifiableSet(ids);
+    } catch (JsonProcessingException e) {
+      throw new AdapterException("Could not parse list of running adapters", e);
+    }
+  }
+
+  private static class CachedWorkerState {
+
+    private final String response;
+    private final Set<String> runningAdapterIds;
+
+    CachedWorkerState(String response, Set<String> runningAdapterIds) {
+      this.response = response;
+      this.runningAdapterIds = runningAdapterIds;
+    }
+  }
+}
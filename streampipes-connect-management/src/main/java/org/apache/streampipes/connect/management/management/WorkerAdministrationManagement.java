@@ -33,7 +33,7 @@ import java.util.concurrent.TimeUnit;
 public class WorkerAdministrationManagement {
 
   private static final Logger LOG = LoggerFactory.getLogger(AdapterMasterManagement.class);
-  private static final int MAX_RETRIES = 7;
+  private static final long LOCK_TIMEOUT_MS = 30000;
 
   private final IAdapterStorage adapterDescriptionStorage;
 
@@ -57,29 +57,22 @@ public class WorkerAdministrationManagement {
       }
     });
 
-    int retryCount = 0;
-    checkAndRestore(retryCount);
+    checkAndRestore();
   }
 
-  private void checkAndRestore(int retryCount) {
-    if (AdapterOperationLock.INSTANCE.isLocked()) {
-      LOG.info("Adapter operation already in progress, {}/{}", (retryCount + 1), MAX_RETRIES);
-      if (retryCount <= MAX_RETRIES) {
-        try {
-          TimeUnit.MILLISECONDS.sleep(3000);
-          retryCount++;
-          checkAndRestore(retryCount);
-        } catch (InterruptedException e) {
-          e.printStackTrace();
-        }
-      } else {
-        LOG.info("Max retries for running adapter operations reached, will do unlock which might cause conflicts...");
-        AdapterOperationLock.INSTANCE.unlock();
-        this.adapterHealthCheck.checkAndRestoreAdapters();
+  private void checkAndRestore() {
+    try {
+      if (!AdapterOperationLock.INSTANCE.tryLock(LOCK_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        LOG.info("Adapter operation still in progress, leaving the restore to the next adapter health check");
+        return;
       }
-    } else {
-      AdapterOperationLock.INSTANCE.lock();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    try {
       this.adapterHealthCheck.checkAndRestoreAdapters();
+    } finally {
       AdapterOperationLock.INSTANCE.unlock();
     }
   }
@@ -18,6 +18,7 @@
 
 package org.apache.streampipes.connect.management.util;
 
+import org.apache.streampipes.model.configuration.SpCompression;
 import org.apache.streampipes.model.configuration.SpProtocol;
 import org.apache.streampipes.model.grounding.EventGrounding;
 import org.apache.streampipes.model.grounding.JmsTransportProtocol;
@@ -60,6 +61,7 @@ public class GroundingUtils {
           makeKafkaTransportProtocol(
               messagingSettings.getKafkaHost(),
               messagingSettings.getKafkaPort(),
+              messagingSettings.getCompression(),
               topicDefinition));
     } else if (isPrioritized(prioritizedProtocol, MqttTransportProtocol.class)) {
       eventGrounding.setTransportProtocol(
@@ -116,10 +118,18 @@ public class GroundingUtils {
     return tp;
   }
 
+  /**
+   * Adapter streams can be consumed by any client, so compression is only applied for Kafka, where
+   * record batches are decompressed transparently by the consumer.
+   */
   private static KafkaTransportProtocol makeKafkaTransportProtocol(String hostname, Integer port,
+                                                                   SpCompression compression,
                                                                    TopicDefinition topicDefinition) {
     KafkaTransportProtocol transportProtocol = new KafkaTransportProtocol();
     transportProtocol.setKafkaPort(port);
+    if (compression != null && compression != SpCompression.NONE) {
+      transportProtocol.setCompressionType(compression.getKafkaCompressionType());
+    }
     fillTransportProtocol(transportProtocol, hostname, topicDefinition);
 
     return transportProtocol;
@@ -43,6 +43,7 @@ public class TransportFormatGenerator {
     return Arrays.asList(SupportedFormats.cborFormat(),
         SupportedFormats.jsonFormat(),
         SupportedFormats.fstFormat(),
-        SupportedFormats.smileFormat());
+        SupportedFormats.smileFormat(),
+        SupportedFormats.positionalFormat());
   }
 }
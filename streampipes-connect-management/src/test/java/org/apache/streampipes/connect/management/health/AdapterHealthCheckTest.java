@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.connect.management.health;
+
+import org.apache.streampipes.commons.exceptions.connect.AdapterException;
+import org.apache.streampipes.connect.management.management.AdapterMasterManagement;
+import org.apache.streampipes.model.connect.adapter.AdapterDescription;
+import org.apache.streampipes.storage.couchdb.impl.AdapterInstanceStorageImpl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AdapterHealthCheckTest {
+
+  private static final String WORKER_1 = "http://worker-1:8090";
+  private static final String WORKER_2 = "http://worker-2:8090";
+
+  private AdapterInstanceStorageImpl adapterStorage;
+  private AdapterMasterManagement adapterMasterManagement;
+  private AdapterRecoveryTracker recoveryTracker;
+  private AdapterHealthMetrics metrics;
+  private ScheduledExecutorService executor;
+
+  @Before
+  public void setUp() {
+    adapterStorage = mock(AdapterInstanceStorageImpl.class);
+    adapterMasterManagement = mock(AdapterMasterManagement.class);
+    recoveryTracker = new AdapterRecoveryTracker();
+    metrics = new AdapterHealthMetrics();
+    executor = Executors.newScheduledThreadPool(2);
+    when(adapterStorage.getAllAdapters()).thenReturn(List.of(
+        makeAdapter("a1", WORKER_1),
+        makeAdapter("a2", WORKER_1),
+        makeAdapter("a3", WORKER_2)));
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void getAdaptersToRecoverRemovesRunningAdapters() {
+    AdapterHealthCheck healthCheck = makeHealthCheck(workerUrl -> WORKER_1.equals(workerUrl)
+        ? "[{\"elementId\":\"a1\"}]"
+        : "[{\"elementId\":\"a3\"}]");
+
+    Map<String, AdapterDescription> adapters = healthCheck.getAllRunningInstancesAdapterDescriptions();
+    Map<String, AdapterDescription> result =
+        healthCheck.getAdaptersToRecover(healthCheck.getAllWorkersWithAdapters(adapters), adapters);
+
+    assertEquals(1, result.size());
+    assertTrue(result.containsKey("a2"));
+    assertEquals(2, metrics.getWorkerProbes());
+    assertEquals(0, metrics.getFailedWorkerProbes());
+  }
+
+  @Test
+  public void checkAndRestoreAdaptersRecoversAdaptersOfFailedWorker() throws AdapterException {
+    AdapterHealthCheck healthCheck = makeHealthCheck(workerUrl -> {
+      if (WORKER_2.equals(workerUrl)) {
+        throw new AdapterException("Connection refused");
+      }
+      return "[{\"elementId\":\"a1\"},{\"elementId\":\"a2\"}]";
+    });
+
+    for (int i = 0; i < AdapterHealthCheck.MAX_CONSECUTIVE_PROBE_FAILURES; i++) {
+      healthCheck.checkAndRestoreAdapters();
+    }
+
+    verify(adapterMasterManagement, times(1)).startStreamAdapter("a3");
+    verify(adapterMasterManagement, never()).startStreamAdapter("a1");
+    assertEquals(AdapterHealthCheck.MAX_CONSECUTIVE_PROBE_FAILURES, metrics.getFailedWorkerProbes());
+    assertEquals(1, metrics.getRecoveries());
+    assertEquals(0, recoveryTracker.getPendingCount());
+  }
+
+  @Test
+  public void checkAndRestoreAdaptersIgnoresIntermittentProbeFailures() throws AdapterException {
+    AtomicInteger probesOfWorker2 = new AtomicInteger();
+    AdapterHealthCheck healthCheck = makeHealthCheck(workerUrl -> {
+      if (WORKER_2.equals(workerUrl)) {
+        // every third probe succeeds, so the worker never fails often enough in a row
+        if (probesOfWorker2.incrementAndGet() % AdapterHealthCheck.MAX_CONSECUTIVE_PROBE_FAILURES != 0) {
+          throw new AdapterException("Read timed out");
+        }
+        return "[{\"elementId\":\"a3\"}]";
+      }
+      return "[{\"elementId\":\"a1\"},{\"elementId\":\"a2\"}]";
+    });
+
+    for (int i = 0; i < 2 * AdapterHealthCheck.MAX_CONSECUTIVE_PROBE_FAILURES; i++) {
+      healthCheck.checkAndRestoreAdapters();
+    }
+
+    verify(adapterMasterManagement, never()).startStreamAdapter("a3");
+    assertEquals(4, metrics.getFailedWorkerProbes());
+    assertEquals(0, recoveryTracker.getPendingCount());
+  }
+
+  @Test
+  public void runIsSkippedWhileUserOperationIsInProgress() throws Exception {
+    AdapterHealthCheck healthCheck = makeHealthCheck(workerUrl -> "[]");
+    CountDownLatch operationStarted = new CountDownLatch(1);
+    CountDownLatch healthCheckDone = new CountDownLatch(1);
+    Thread userOperation = new Thread(() -> {
+      try {
+        AdapterOperationLock.INSTANCE.runUserOperation(() -> {
+          operationStarted.countDown();
+          awaitQuietly(healthCheckDone);
+        });
+      } catch (AdapterException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    userOperation.start();
+    assertTrue(operationStarted.await(5, TimeUnit.SECONDS));
+
+    healthCheck.run();
+    healthCheckDone.countDown();
+    userOperation.join();
+
+    assertEquals(0, metrics.getHealthChecks());
+    verify(adapterMasterManagement, never()).startStreamAdapter("a1");
+    assertFalse(AdapterOperationLock.INSTANCE.isLocked());
+  }
+
+  @Test
+  public void recoverAdaptersWaitsForStartedRecoveries() throws Exception {
+    CountDownLatch recoveryStarted = new CountDownLatch(1);
+    AtomicBoolean recoveryFinished = new AtomicBoolean();
+    doAnswer(invocation -> {
+      recoveryStarted.countDown();
+      Thread.sleep(200);
+      recoveryFinished.set(true);
+      return null;
+    }).when(adapterMasterManagement).startStreamAdapter("a3");
+    AdapterHealthCheck healthCheck = makeHealthCheck(workerUrl -> "[]");
+
+    healthCheck.recoverAdapters(Map.of("a3", makeAdapter("a3", WORKER_2)));
+
+    assertTrue(recoveryStarted.await(0, TimeUnit.MILLISECONDS));
+    assertTrue(recoveryFinished.get());
+    assertEquals(1, metrics.getRecoveries());
+  }
+
+  @Test
+  public void checkAndRestoreAdaptersBacksOffAfterFailedRecovery() throws AdapterException {
+    doThrow(new AdapterException("Worker not available"))
+        .when(adapterMasterManagement).startStreamAdapter("a3");
+    AdapterHealthCheck healthCheck = makeHealthCheck(workerUrl -> WORKER_1.equals(workerUrl)
+        ? "[{\"elementId\":\"a1\"},{\"elementId\":\"a2\"}]"
+        : "[]");
+
+    healthCheck.checkAndRestoreAdapters();
+    healthCheck.checkAndRestoreAdapters();
+
+    verify(adapterMasterManagement, times(1)).startStreamAdapter("a3");
+    assertEquals(1, metrics.getFailedRecoveries());
+    assertEquals(1, recoveryTracker.getAttempts("a3"));
+    assertEquals(2, metrics.getUnchangedWorkerResponses());
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private AdapterHealthCheck makeHealthCheck(WorkerProbe workerProbe) {
+    return new AdapterHealthCheck(
+        adapterStorage,
+        adapterMasterManagement,
+        workerProbe,
+        new WorkerStateCache(),
+        recoveryTracker,
+        metrics,
+        executor);
+  }
+
+  private AdapterDescription makeAdapter(String elementId,
+                                         String workerUrl) {
+    AdapterDescription adapterDescription = new AdapterDescription();
+    adapterDescription.setElementId(elementId);
+    adapterDescription.setName(elementId);
+    adapterDescription.setSelectedEndpointUrl(workerUrl);
+    adapterDescription.setRunning(true);
+    return adapterDescription;
+  }
+}
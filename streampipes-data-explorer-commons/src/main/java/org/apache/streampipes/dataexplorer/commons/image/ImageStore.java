@@ -18,13 +18,13 @@
 
 package org.apache.streampipes.dataexplorer.commons.image;
 
+import org.apache.streampipes.commons.blob.BinaryAttachments;
 import org.apache.streampipes.commons.environment.Environment;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.model.datalake.DataLakeMeasure;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.model.schema.EventProperty;
 
-import org.apache.commons.codec.binary.Base64;
 import org.lightcouch.CouchDbClient;
 import org.lightcouch.CouchDbProperties;
 import org.slf4j.Logger;
@@ -42,11 +42,13 @@ public class ImageStore {
 
   private List<EventProperty> imageProperties;
   private CouchDbClient couchDbClient;
+  private BinaryAttachments attachments;
 
   public ImageStore(DataLakeMeasure measure,
                     Environment environment) {
     this.couchDbClient = new CouchDbClient(from(environment));
     this.imageProperties = ImageStoreUtils.getImageProperties(measure);
+    this.attachments = BinaryAttachments.fromEnvironment();
   }
 
   private static CouchDbProperties from(Environment env) {
@@ -63,9 +65,9 @@ public class ImageStore {
   public void onEvent(Event event) throws SpRuntimeException {
     this.imageProperties.forEach(eventProperty -> {
       String imageDocId = UUID.randomUUID().toString();
-      String image = event.getFieldByRuntimeName(eventProperty.getRuntimeName()).getAsPrimitive().getAsString();
+      Object image = event.getFieldByRuntimeName(eventProperty.getRuntimeName()).getAsPrimitive().getRawValue();
 
-      byte[] data = Base64.decodeBase64(image);
+      byte[] data = attachments.toBytes(image);
       storeImage(data, imageDocId);
       event.updateFieldBySelector("s0::" + eventProperty.getRuntimeName(), imageDocId);
     });
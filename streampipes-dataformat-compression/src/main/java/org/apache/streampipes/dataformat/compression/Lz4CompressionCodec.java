@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat.compression;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.dataformat.SpCompressionCodec;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * LZ4 block compression. As LZ4 blocks do not contain the size of the original payload, the
+ * uncompressed length is written as a 4-byte prefix.
+ */
+public class Lz4CompressionCodec implements SpCompressionCodec {
+
+  private static final int LENGTH_PREFIX_BYTES = 4;
+
+  // LZ4 cannot expand a block by more than this factor
+  private static final int MAX_COMPRESSION_RATIO = 255;
+
+  private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+  private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+  @Override
+  public byte[] compress(byte[] payload) throws SpRuntimeException {
+    byte[] compressed = new byte[LENGTH_PREFIX_BYTES + COMPRESSOR.maxCompressedLength(payload.length)];
+    ByteBuffer.wrap(compressed).putInt(payload.length);
+    int compressedLength = COMPRESSOR.compress(payload, 0, payload.length, compressed, LENGTH_PREFIX_BYTES);
+    return Arrays.copyOf(compressed, LENGTH_PREFIX_BYTES + compressedLength);
+  }
+
+  @Override
+  public byte[] decompress(byte[] payload) throws SpRuntimeException {
+    try {
+      int length = ByteBuffer.wrap(payload).getInt();
+      if (length < 0 || (long) length > (long) (payload.length - LENGTH_PREFIX_BYTES) * MAX_COMPRESSION_RATIO) {
+        throw new SpRuntimeException("Invalid LZ4 payload length: " + length);
+      }
+      byte[] decompressed = new byte[length];
+      DECOMPRESSOR.decompress(payload, LENGTH_PREFIX_BYTES, decompressed, 0, length);
+      return decompressed;
+    } catch (LZ4Exception | IndexOutOfBoundsException | BufferUnderflowException e) {
+      throw new SpRuntimeException("Could not decompress LZ4 payload", e);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat.compression;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.dataformat.SpCompressionCodec;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdException;
+
+public class ZstdCompressionCodec implements SpCompressionCodec {
+
+  private static final int COMPRESSION_LEVEL = 3;
+
+  @Override
+  public byte[] compress(byte[] payload) throws SpRuntimeException {
+    try {
+      return Zstd.compress(payload, COMPRESSION_LEVEL);
+    } catch (ZstdException e) {
+      throw new SpRuntimeException("Could not compress payload with zstd", e);
+    }
+  }
+
+  @Override
+  public byte[] decompress(byte[] payload) throws SpRuntimeException {
+    try {
+      long length = Zstd.decompressedSize(payload);
+      if (length < 0 || length > Integer.MAX_VALUE) {
+        throw new SpRuntimeException("Invalid zstd frame size: " + length);
+      }
+      return Zstd.decompress(payload, (int) length);
+    } catch (ZstdException | IndexOutOfBoundsException e) {
+      throw new SpRuntimeException("Could not decompress zstd payload", e);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat.compression;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.dataformat.SpCompressionCodec;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+public class CompressionCodecTest {
+
+  @Parameterized.Parameters(name = "{0}")
+  public static Iterable<Object[]> data() {
+    return Arrays.asList(new Object[][]{
+        {"lz4", new Lz4CompressionCodec()},
+        {"zstd", new ZstdCompressionCodec()},
+        {"snappy", new SnappyCompressionCodec()},
+    });
+  }
+
+  @Parameterized.Parameter
+  public String name;
+
+  @Parameterized.Parameter(1)
+  public SpCompressionCodec codec;
+
+  @Test
+  public void testRoundTripOfEmptyPayload() {
+    assertArrayEquals(new byte[0], codec.decompress(codec.compress(new byte[0])));
+  }
+
+  @Test
+  public void testRoundTripOfEvent() {
+    byte[] payload = "{\"timestamp\":1700000000000,\"temperature\":20.5,\"sensorId\":\"sensor01\"}"
+        .getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(payload, codec.decompress(codec.compress(payload)));
+  }
+
+  @Test
+  public void testRoundTripOfLargePayload() {
+    byte[] payload = makeEvents(20000);
+
+    byte[] compressed = codec.compress(payload);
+
+    assertTrue(compressed.length < payload.length);
+    assertArrayEquals(payload, codec.decompress(compressed));
+  }
+
+  @Test
+  public void testRoundTripOfIncompressiblePayload() {
+    byte[] payload = new byte[1 << 20];
+    new Random(42).nextBytes(payload);
+    assertArrayEquals(payload, codec.decompress(codec.compress(payload)));
+  }
+
+  @Test
+  public void testTruncatedPayloadIsRejected() {
+    byte[] compressed = codec.compress(makeEvents(1000));
+    byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+    assertThrows(SpRuntimeException.class, () -> codec.decompress(truncated));
+  }
+
+  @Test
+  public void testUncompressedPayloadIsRejected() {
+    byte[] payload = "not compressed at all".getBytes(StandardCharsets.UTF_8);
+    assertThrows(SpRuntimeException.class, () -> codec.decompress(payload));
+  }
+
+  @Test
+  public void testEmptyInputIsRejected() {
+    assertThrows(SpRuntimeException.class, () -> codec.decompress(new byte[0]));
+  }
+
+  private byte[] makeEvents(int count) {
+    StringBuilder events = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      events.append("{\"timestamp\":").append(1700000000000L + i)
+          .append(",\"temperature\":").append(20 + (i % 10))
+          .append(",\"sensorId\":\"sensor").append(i % 5).append("\"}\n");
+    }
+    return events.toString().getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat.positional;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.dataformat.SpDataFormatDefinition;
+import org.apache.streampipes.model.schema.EventSchema;
+
+import java.util.Map;
+
+/**
+ * Binary data format which writes the values of an event by their position in a {@link PositionalLayout}
+ * instead of repeating the field names in every event. If the event schema is known, the layout is derived
+ * from the schema, otherwise it is inferred from the events.
+ */
+public class PositionalDataFormatDefinition implements SpDataFormatDefinition {
+
+  private final PositionalLayout declaredLayout;
+  private transient volatile PositionalLayout inferredLayout;
+  private transient volatile boolean declaredLayoutRegistered;
+  private transient volatile boolean inferredLayoutRegistered;
+
+  public PositionalDataFormatDefinition() {
+    this.declaredLayout = null;
+  }
+
+  public PositionalDataFormatDefinition(EventSchema eventSchema) {
+    this.declaredLayout = PositionalLayout.from(eventSchema);
+  }
+
+  @Override
+  public Map<String, Object> toMap(byte[] event) throws SpRuntimeException {
+    return new PositionalEventReader(event, PositionalSchemaRegistry.INSTANCE).read();
+  }
+
+  @Override
+  public byte[] fromMap(Map<String, Object> event) throws SpRuntimeException {
+    return new PositionalEventWriter(getLayout(event)).write(event);
+  }
+
+  private PositionalLayout getLayout(Map<String, Object> event) {
+    if (declaredLayout != null) {
+      if (!declaredLayoutRegistered) {
+        declaredLayoutRegistered = PositionalSchemaRegistry.INSTANCE.register(declaredLayout);
+      }
+      return declaredLayout;
+    }
+
+    PositionalLayout layout = inferredLayout;
+    if (layout == null || !layout.matches(event)) {
+      layout = PositionalLayout.infer(event);
+      inferredLayout = layout;
+      inferredLayoutRegistered = false;
+    }
+    if (!inferredLayoutRegistered) {
+      inferredLayoutRegistered = PositionalSchemaRegistry.INSTANCE.register(layout);
+    }
+    return layout;
+  }
+}
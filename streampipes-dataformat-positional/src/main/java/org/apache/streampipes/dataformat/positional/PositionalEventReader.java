@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat.positional;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.LIST_TYPED;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.MAGIC;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_BYTES;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_DOUBLE;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_FALSE;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_FLOAT;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_INT;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_LIST;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_LONG;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_MAP;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_NULL;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_STRING;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_TRUE;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.VERSION;
+
+/**
+ * Decodes a single event written by {@link PositionalEventWriter}. The layout is resolved from the
+ * fingerprint in the message header via the {@link PositionalSchemaRegistry}.
+ */
+class PositionalEventReader {
+
+  private final PositionalInput in;
+  private final PositionalSchemaRegistry registry;
+  private long previousTimestamp;
+
+  PositionalEventReader(byte[] event,
+                        PositionalSchemaRegistry registry) {
+    this.in = new PositionalInput(event);
+    this.registry = registry;
+    this.previousTimestamp = 0;
+  }
+
+  Map<String, Object> read() {
+    if (in.readByte() != MAGIC) {
+      throw new SpRuntimeException("Event is not encoded in positional format");
+    }
+    int version = in.readByte();
+    if (version != VERSION) {
+      throw new SpRuntimeException("Unsupported positional format version " + version);
+    }
+    long fingerprint = in.readFixedLong();
+    PositionalLayout layout = registry.find(fingerprint).orElseThrow(() ->
+        new SpRuntimeException("Unknown positional schema fingerprint " + PositionalLayout.toHex(fingerprint)));
+    return readRecord(layout);
+  }
+
+  private Map<String, Object> readRecord(PositionalLayout layout) {
+    List<PositionalField> fields = layout.getFields();
+    int bitmapOffset = in.readBitmap(fields.size());
+    Map<String, Object> record = new HashMap<>(capacityFor(fields.size()));
+    for (int i = 0; i < fields.size(); i++) {
+      if (in.isSet(bitmapOffset, i)) {
+        PositionalField field = fields.get(i);
+        record.put(field.getName(), readValue(field));
+      }
+    }
+
+    int extras = in.readCount();
+    for (int i = 0; i < extras; i++) {
+      String name = in.readString();
+      record.put(name, readDynamic());
+    }
+    return record;
+  }
+
+  private Object readValue(PositionalField field) {
+    return switch (field.getType()) {
+      case BOOLEAN -> in.readByte() != 0;
+      case INTEGER -> (int) in.readZigZag();
+      case LONG -> in.readZigZag();
+      case FLOAT -> in.readFloat();
+      case DOUBLE -> in.readDouble();
+      case STRING -> in.readString();
+      case TIMESTAMP -> {
+        previousTimestamp += in.readZigZag();
+        yield previousTimestamp;
+      }
+      case NESTED -> readRecord(field.getNestedLayout());
+      case LIST -> readList(field.getElementField());
+      default -> readDynamic();
+    };
+  }
+
+  private List<Object> readList(PositionalField elementField) {
+    int size = in.readCount();
+    List<Object> list = new ArrayList<>(size);
+    if (in.readByte() == LIST_TYPED) {
+      int bitmapOffset = in.readBitmap(size);
+      for (int i = 0; i < size; i++) {
+        list.add(in.isSet(bitmapOffset, i) ? readValue(elementField) : null);
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        list.add(readDynamic());
+      }
+    }
+    return list;
+  }
+
+  private Object readDynamic() {
+    int tag = in.readByte();
+    switch (tag) {
+      case TAG_NULL:
+        return null;
+      case TAG_TRUE:
+        return true;
+      case TAG_FALSE:
+        return false;
+      case TAG_INT:
+        return (int) in.readZigZag();
+      case TAG_LONG:
+        return in.readZigZag();
+      case TAG_FLOAT:
+        return in.readFloat();
+      case TAG_DOUBLE:
+        return in.readDouble();
+      case TAG_STRING:
+        return in.readString();
+      case TAG_BYTES:
+        return in.readBytes(in.readLength());
+      case TAG_MAP: {
+        int size = in.readCount();
+        Map<String, Object> map = new HashMap<>(capacityFor(size));
+        for (int i = 0; i < size; i++) {
+          String key = in.readString();
+          map.put(key, readDynamic());
+        }
+        return map;
+      }
+      case TAG_LIST: {
+        int size = in.readCount();
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          list.add(readDynamic());
+        }
+        return list;
+      }
+      default:
+        throw new SpRuntimeException("Unknown value tag " + tag + " in positional event");
+    }
+  }
+
+  private int capacityFor(int size) {
+    return (int) (size / 0.75f) + 1;
+  }
+}
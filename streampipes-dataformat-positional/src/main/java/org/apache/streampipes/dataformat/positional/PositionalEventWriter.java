@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat.positional;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.LIST_DYNAMIC;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.LIST_TYPED;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.MAGIC;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_BYTES;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_DOUBLE;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_FALSE;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_FLOAT;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_INT;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_LIST;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_LONG;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_MAP;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_NULL;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_STRING;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.TAG_TRUE;
+import static org.apache.streampipes.dataformat.positional.PositionalWireFormat.VERSION;
+
+/**
+ * Encodes a single event against a {@link PositionalLayout}. Not thread-safe, a writer is created per event.
+ */
+class PositionalEventWriter {
+
+  private final PositionalLayout layout;
+  private final PositionalOutput out;
+  private long previousTimestamp;
+
+  PositionalEventWriter(PositionalLayout layout) {
+    this.layout = layout;
+    this.out = new PositionalOutput();
+    this.previousTimestamp = 0;
+  }
+
+  byte[] write(Map<String, Object> event) {
+    out.writeByte(MAGIC);
+    out.writeByte(VERSION);
+    out.writeFixedLong(layout.getFingerprint());
+    writeRecord(layout, event);
+    return out.toByteArray();
+  }
+
+  private void writeRecord(PositionalLayout recordLayout,
+                           Map<String, Object> record) {
+    List<PositionalField> fields = recordLayout.getFields();
+    int bitmapOffset = out.reserveBitmap(fields.size());
+    int present = 0;
+    for (int i = 0; i < fields.size(); i++) {
+      PositionalField field = fields.get(i);
+      Object value = record.get(field.getName());
+      if (field.accepts(value)) {
+        out.setBit(bitmapOffset, i);
+        writeValue(field, value);
+        present++;
+      }
+    }
+
+    out.writeVarLong(record.size() - present);
+    if (present < record.size()) {
+      for (Map.Entry<String, Object> entry : record.entrySet()) {
+        if (isExtra(recordLayout, entry)) {
+          out.writeString(entry.getKey());
+          writeDynamic(entry.getValue());
+        }
+      }
+    }
+  }
+
+  private boolean isExtra(PositionalLayout recordLayout,
+                          Map.Entry<String, Object> entry) {
+    int position = recordLayout.positionOf(entry.getKey());
+    return position == -1 || !recordLayout.getFields().get(position).accepts(entry.getValue());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void writeValue(PositionalField field,
+                          Object value) {
+    switch (field.getType()) {
+      case BOOLEAN -> out.writeByte((Boolean) value ? 1 : 0);
+      case INTEGER, LONG -> out.writeZigZag(((Number) value).longValue());
+      case FLOAT -> out.writeFloat((Float) value);
+      case DOUBLE -> out.writeDouble(((Number) value).doubleValue());
+      case STRING -> out.writeString((String) value);
+      case TIMESTAMP -> {
+        long timestamp = ((Number) value).longValue();
+        out.writeZigZag(timestamp - previousTimestamp);
+        previousTimestamp = timestamp;
+      }
+      case NESTED -> writeRecord(field.getNestedLayout(), (Map<String, Object>) value);
+      case LIST -> writeList(field.getElementField(), (List<Object>) value);
+      default -> writeDynamic(value);
+    }
+  }
+
+  private void writeList(PositionalField elementField,
+                         List<Object> list) {
+    out.writeVarLong(list.size());
+    if (list.stream().allMatch(element -> element == null || elementField.accepts(element))) {
+      out.writeByte(LIST_TYPED);
+      int bitmapOffset = out.reserveBitmap(list.size());
+      for (int i = 0; i < list.size(); i++) {
+        Object element = list.get(i);
+        if (element != null) {
+          out.setBit(bitmapOffset, i);
+          writeValue(elementField, element);
+        }
+      }
+    } else {
+      out.writeByte(LIST_DYNAMIC);
+      list.forEach(this::writeDynamic);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void writeDynamic(Object value) {
+    if (value == null) {
+      out.writeByte(TAG_NULL);
+    } else if (value instanceof Boolean) {
+      out.writeByte((Boolean) value ? TAG_TRUE : TAG_FALSE);
+    } else if (PositionalFieldType.INTEGER.accepts(value)) {
+      out.writeByte(TAG_INT);
+      out.writeZigZag(((Number) value).longValue());
+    } else if (value instanceof Long) {
+      out.writeByte(TAG_LONG);
+      out.writeZigZag((Long) value);
+    } else if (value instanceof Float) {
+      out.writeByte(TAG_FLOAT);
+      out.writeFloat((Float) value);
+    } else if (value instanceof Number) {
+      out.writeByte(TAG_DOUBLE);
+      out.writeDouble(((Number) value).doubleValue());
+    } else if (value instanceof String) {
+      out.writeByte(TAG_STRING);
+      out.writeString((String) value);
+    } else if (value instanceof byte[]) {
+      out.writeByte(TAG_BYTES);
+      out.writeVarLong(((byte[]) value).length);
+      out.writeBytes((byte[]) value);
+    } else if (value instanceof ByteBuffer) {
+      ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+      byte[] content = new byte[buffer.remaining()];
+      buffer.get(content);
+      writeDynamic(content);
+    } else if (value instanceof Map) {
+      out.writeByte(TAG_MAP);
+      Map<Object, Object> map = (Map<Object, Object>) value;
+      out.writeVarLong(map.size());
+      map.forEach((key, entryValue) -> {
+        out.writeString(String.valueOf(key));
+        writeDynamic(entryValue);
+      });
+    } else if (value instanceof Collection) {
+      out.writeByte(TAG_LIST);
+      out.writeVarLong(((Collection<?>) value).size());
+      ((Collection<?>) value).forEach(this::writeDynamic);
+    } else {
+      throw new SpRuntimeException("Unsupported value type in positional format: " + value.getClass().getName());
+    }
+  }
+}
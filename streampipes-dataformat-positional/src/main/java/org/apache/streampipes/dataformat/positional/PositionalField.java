@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat.positional;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * A field of a {@link PositionalLayout}. Nested fields carry the layout of the nested record, list fields
+ * the field describing their elements.
+ */
+public class PositionalField implements Serializable {
+
+  private final String name;
+  private final PositionalFieldType type;
+  private final PositionalLayout nestedLayout;
+  private final PositionalField elementField;
+
+  private PositionalField(String name,
+                          PositionalFieldType type,
+                          PositionalLayout nestedLayout,
+                          PositionalField elementField) {
+    this.name = name;
+    this.type = type;
+    this.nestedLayout = nestedLayout;
+    this.elementField = elementField;
+  }
+
+  public static PositionalField primitive(String name, PositionalFieldType type) {
+    return new PositionalField(name, type, null, null);
+  }
+
+  public static PositionalField nested(String name, PositionalLayout nestedLayout) {
+    return new PositionalField(name, PositionalFieldType.NESTED, nestedLayout, null);
+  }
+
+  public static PositionalField list(String name, PositionalField elementField) {
+    return new PositionalField(name, PositionalFieldType.LIST, null, elementField);
+  }
+
+  public PositionalField withName(String name) {
+    return new PositionalField(name, type, nestedLayout, elementField);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public PositionalFieldType getType() {
+    return type;
+  }
+
+  public PositionalLayout getNestedLayout() {
+    return nestedLayout;
+  }
+
+  public PositionalField getElementField() {
+    return elementField;
+  }
+
+  public boolean accepts(Object value) {
+    return type.accepts(value);
+  }
+
+  /**
+   * Checks whether a value has exactly the shape of this field, i.e., whether it can be encoded without
+   * falling back to dynamic values.
+   */
+  @SuppressWarnings("unchecked")
+  public boolean matches(Object value) {
+    if (value == null) {
+      return true;
+    } else if (type == PositionalFieldType.NESTED) {
+      return value instanceof Map && nestedLayout.matches((Map<String, Object>) value);
+    } else {
+      return accepts(value);
+    }
+  }
+
+  String toDescriptor() {
+    if (type == PositionalFieldType.NESTED) {
+      return type.getToken() + nestedLayout.getDescriptor();
+    } else if (type == PositionalFieldType.LIST) {
+      return type.getToken() + "<" + elementField.toDescriptor() + ">";
+    } else {
+      return type.getToken();
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat.positional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Value types of the positional format. Values matching the declared type of a field are written
+ * without any type information; all other values are written as tagged dynamic values.
+ */
+public enum PositionalFieldType {
+
+  BOOLEAN("boolean"),
+  INTEGER("int"),
+  LONG("long"),
+  FLOAT("float"),
+  DOUBLE("double"),
+  STRING("string"),
+  TIMESTAMP("timestamp"),
+  NESTED("nested"),
+  LIST("list"),
+  ANY("any");
+
+  private final String token;
+
+  PositionalFieldType(String token) {
+    this.token = token;
+  }
+
+  public String getToken() {
+    return token;
+  }
+
+  public boolean accepts(Object value) {
+    return switch (this) {
+      case BOOLEAN -> value instanceof Boolean;
+      case INTEGER -> value instanceof Integer || value instanceof Short || value instanceof Byte;
+      case LONG, TIMESTAMP -> value instanceof Long || value instanceof Integer
+          || value instanceof Short || value instanceof Byte;
+      case FLOAT -> value instanceof Float;
+      case DOUBLE -> value instanceof Double || value instanceof Float;
+      case STRING -> value instanceof String;
+      case NESTED -> value instanceof Map;
+      case LIST -> value instanceof List;
+      case ANY -> value != null;
+    };
+  }
+
+  public static PositionalFieldType fromToken(String token) {
+    return Arrays.stream(values())
+        .filter(type -> type.token.equals(token))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown positional field type: " + token));
+  }
+
+  public static PositionalFieldType fromValue(Object value) {
+    if (value instanceof Boolean) {
+      return BOOLEAN;
+    } else if (INTEGER.accepts(value)) {
+      return INTEGER;
+    } else if (value instanceof Long) {
+      return LONG;
+    } else if (value instanceof Float) {
+      return FLOAT;
+    } else if (value instanceof Double) {
+      return DOUBLE;
+    } else if (value instanceof String) {
+      return STRING;
+    } else if (value instanceof Map) {
+      return NESTED;
+    } else if (value instanceof List) {
+      return LIST;
+    } else {
+      return ANY;
+    }
+  }
+}
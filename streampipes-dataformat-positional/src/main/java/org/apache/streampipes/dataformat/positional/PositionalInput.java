@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat.positional;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads the primitive encodings written by {@link PositionalOutput}.
+ */
+class PositionalInput {
+
+  private final byte[] buffer;
+  private int pos;
+
+  PositionalInput(byte[] buffer) {
+    this.buffer = buffer;
+    this.pos = 0;
+  }
+
+  int readByte() {
+    require(1);
+    return buffer[pos++] & 0xFF;
+  }
+
+  byte[] readBytes(int length) {
+    require(length);
+    byte[] value = Arrays.copyOfRange(buffer, pos, pos + length);
+    pos += length;
+    return value;
+  }
+
+  long readFixedLong() {
+    require(8);
+    long value = 0;
+    for (int i = 0; i < 8; i++) {
+      value = (value << 8) | (buffer[pos++] & 0xFF);
+    }
+    return value;
+  }
+
+  int readFixedInt() {
+    require(4);
+    int value = 0;
+    for (int i = 0; i < 4; i++) {
+      value = (value << 8) | (buffer[pos++] & 0xFF);
+    }
+    return value;
+  }
+
+  long readVarLong() {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new SpRuntimeException("Malformed varint in positional event");
+  }
+
+  int readLength() {
+    long length = readVarLong();
+    if (length < 0 || length > buffer.length - pos) {
+      throw new SpRuntimeException("Invalid length " + length + " in positional event");
+    }
+    return (int) length;
+  }
+
+  /**
+   * Reads the number of elements of a list, map or record extras. Each element occupies at least one bit
+   * of the remaining message, which bounds the count of a well-formed message.
+   */
+  int readCount() {
+    long count = readVarLong();
+    if (count < 0 || count > (buffer.length - pos) * 8L) {
+      throw new SpRuntimeException("Invalid element count " + count + " in positional event");
+    }
+    return (int) count;
+  }
+
+  long readZigZag() {
+    long value = readVarLong();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  float readFloat() {
+    return Float.intBitsToFloat(readFixedInt());
+  }
+
+  double readDouble() {
+    return Double.longBitsToDouble(readFixedLong());
+  }
+
+  String readString() {
+    int length = readLength();
+    String value = new String(buffer, pos, length, StandardCharsets.UTF_8);
+    pos += length;
+    return value;
+  }
+
+  /**
+   * @return the offset of the bitmap in the buffer, to be queried with {@link #isSet(int, int)}
+   */
+  int readBitmap(int bits) {
+    int length = (bits + 7) / 8;
+    require(length);
+    int offset = pos;
+    pos += length;
+    return offset;
+  }
+
+  boolean isSet(int bitmapOffset, int bit) {
+    return (buffer[bitmapOffset + (bit >>> 3)] & (1 << (bit & 7))) != 0;
+  }
+
+  private void require(int length) {
+    if (pos + length > buffer.length) {
+      throw new SpRuntimeException("Unexpected end of positional event");
+    }
+  }
+}
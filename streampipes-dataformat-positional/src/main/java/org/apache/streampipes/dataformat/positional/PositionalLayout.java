@@ -0,0 +1,319 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat.positional;
+
+import org.apache.streampipes.model.schema.EventProperty;
+import org.apache.streampipes.model.schema.EventPropertyList;
+import org.apache.streampipes.model.schema.EventPropertyNested;
+import org.apache.streampipes.model.schema.EventPropertyPrimitive;
+import org.apache.streampipes.model.schema.EventSchema;
+import org.apache.streampipes.vocabulary.SO;
+import org.apache.streampipes.vocabulary.XSD;
+
+import java.io.Serializable;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The ordered list of fields which is shared by producers and consumers of the positional format, so that
+ * events can be encoded by position instead of by field name.
+ *
+ * <p>Fields are ordered by their runtime name. A layout is identified by its fingerprint, a 64-bit FNV-1a
+ * hash of its canonical descriptor, e.g. {@code {temperature:double,timestamp:timestamp}}.</p>
+ */
+public class PositionalLayout implements Serializable {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final List<PositionalField> fields;
+  private final Map<String, Integer> positions;
+  private final String descriptor;
+  private final long fingerprint;
+
+  private PositionalLayout(List<PositionalField> fields) {
+    List<PositionalField> sortedFields = new ArrayList<>(fields);
+    sortedFields.sort(Comparator.comparing(PositionalField::getName));
+    this.fields = Collections.unmodifiableList(sortedFields);
+    this.positions = new HashMap<>();
+    for (int i = 0; i < sortedFields.size(); i++) {
+      positions.putIfAbsent(sortedFields.get(i).getName(), i);
+    }
+    this.descriptor = makeDescriptor(sortedFields);
+    this.fingerprint = fingerprint(descriptor);
+  }
+
+  /**
+   * Derives the layout of events described by an event schema.
+   */
+  public static PositionalLayout from(EventSchema eventSchema) {
+    return from(eventSchema.getEventProperties());
+  }
+
+  /**
+   * Derives the layout from the keys and value types of a single event, used if no schema is known.
+   */
+  public static PositionalLayout infer(Map<String, Object> event) {
+    List<PositionalField> fields = new ArrayList<>(event.size());
+    event.forEach((key, value) -> fields.add(inferField(key, value)));
+    return new PositionalLayout(fields);
+  }
+
+  /**
+   * Restores a layout from its descriptor, e.g., after it was fetched from the schema registry.
+   */
+  public static PositionalLayout parse(String descriptor) {
+    var parser = new DescriptorParser(descriptor);
+    PositionalLayout layout = parser.parseLayout();
+    if (!parser.isComplete()) {
+      throw new IllegalArgumentException("Unexpected content in layout descriptor: " + descriptor);
+    }
+    return layout;
+  }
+
+  public static String toHex(long fingerprint) {
+    return String.format("%016x", fingerprint);
+  }
+
+  public static long fromHex(String fingerprint) {
+    return Long.parseUnsignedLong(fingerprint, 16);
+  }
+
+  public List<PositionalField> getFields() {
+    return fields;
+  }
+
+  public int size() {
+    return fields.size();
+  }
+
+  /**
+   * @return the position of the field with the given name or -1 if the layout does not contain the field
+   */
+  public int positionOf(String fieldName) {
+    Integer position = positions.get(fieldName);
+    return position != null ? position : -1;
+  }
+
+  public String getDescriptor() {
+    return descriptor;
+  }
+
+  public long getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * Checks whether an event has exactly the fields of this layout with values of the declared types.
+   */
+  public boolean matches(Map<String, Object> event) {
+    if (event.size() != fields.size()) {
+      return false;
+    }
+    for (Map.Entry<String, Object> entry : event.entrySet()) {
+      int position = positionOf(entry.getKey());
+      if (position == -1 || !fields.get(position).matches(entry.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static PositionalLayout from(List<EventProperty> eventProperties) {
+    List<PositionalField> fields = new ArrayList<>();
+    for (EventProperty property : eventProperties) {
+      if (property.getRuntimeName() != null
+          && fields.stream().noneMatch(f -> f.getName().equals(property.getRuntimeName()))) {
+        fields.add(toField(property).withName(property.getRuntimeName()));
+      }
+    }
+    return new PositionalLayout(fields);
+  }
+
+  private static PositionalField toField(EventProperty property) {
+    if (property instanceof EventPropertyNested) {
+      return PositionalField.nested(null, from(((EventPropertyNested) property).getEventProperties()));
+    } else if (property instanceof EventPropertyList) {
+      EventProperty listProperty = ((EventPropertyList) property).getEventProperty();
+      return PositionalField.list(null, listProperty != null
+          ? toField(listProperty)
+          : PositionalField.primitive(null, PositionalFieldType.ANY));
+    } else if (property instanceof EventPropertyPrimitive) {
+      return PositionalField.primitive(null, toPrimitiveType((EventPropertyPrimitive) property));
+    } else {
+      return PositionalField.primitive(null, PositionalFieldType.ANY);
+    }
+  }
+
+  private static PositionalFieldType toPrimitiveType(EventPropertyPrimitive property) {
+    String runtimeType = property.getRuntimeType();
+    if (runtimeType == null) {
+      return PositionalFieldType.ANY;
+    } else if (XSD.BOOLEAN.toString().equals(runtimeType)) {
+      return PositionalFieldType.BOOLEAN;
+    } else if (XSD.INTEGER.toString().equals(runtimeType) || XSD.INT.toString().equals(runtimeType)) {
+      return PositionalFieldType.INTEGER;
+    } else if (XSD.LONG.toString().equals(runtimeType)) {
+      return isTimestamp(property) ? PositionalFieldType.TIMESTAMP : PositionalFieldType.LONG;
+    } else if (XSD.FLOAT.toString().equals(runtimeType)) {
+      return PositionalFieldType.FLOAT;
+    } else if (XSD.DOUBLE.toString().equals(runtimeType)) {
+      return PositionalFieldType.DOUBLE;
+    } else if (XSD.STRING.toString().equals(runtimeType)) {
+      return PositionalFieldType.STRING;
+    } else {
+      return PositionalFieldType.ANY;
+    }
+  }
+
+  private static boolean isTimestamp(EventProperty property) {
+    return property.getDomainProperties() != null
+        && property.getDomainProperties().stream().anyMatch(dp -> SO.DATE_TIME.equals(dp.toString()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static PositionalField inferField(String name, Object value) {
+    PositionalFieldType type = PositionalFieldType.fromValue(value);
+    if (type == PositionalFieldType.NESTED) {
+      return PositionalField.nested(name, infer((Map<String, Object>) value));
+    } else if (type == PositionalFieldType.LIST) {
+      Object element = ((List<Object>) value).stream().filter(Objects::nonNull).findFirst().orElse(null);
+      return PositionalField.list(name, inferField(null, element));
+    } else {
+      return PositionalField.primitive(name, type);
+    }
+  }
+
+  private static String makeDescriptor(List<PositionalField> fields) {
+    StringBuilder sb = new StringBuilder("{");
+    for (int i = 0; i < fields.size(); i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append(URLEncoder.encode(fields.get(i).getName(), StandardCharsets.UTF_8))
+          .append(':')
+          .append(fields.get(i).toDescriptor());
+    }
+    return sb.append('}').toString();
+  }
+
+  private static long fingerprint(String descriptor) {
+    long hash = FNV_OFFSET_BASIS;
+    for (byte b : descriptor.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= (b & 0xff);
+      hash *= FNV_PRIME;
+    }
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return descriptor.equals(((PositionalLayout) o).descriptor);
+  }
+
+  @Override
+  public int hashCode() {
+    return descriptor.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return descriptor;
+  }
+
+  private static class DescriptorParser {
+
+    private final String descriptor;
+    private int pos;
+
+    DescriptorParser(String descriptor) {
+      this.descriptor = descriptor;
+      this.pos = 0;
+    }
+
+    boolean isComplete() {
+      return pos == descriptor.length();
+    }
+
+    PositionalLayout parseLayout() {
+      expect('{');
+      List<PositionalField> fields = new ArrayList<>();
+      if (!consume('}')) {
+        do {
+          int end = descriptor.indexOf(':', pos);
+          if (end == -1) {
+            throw new IllegalArgumentException("Missing field type in layout descriptor: " + descriptor);
+          }
+          String name = URLDecoder.decode(descriptor.substring(pos, end), StandardCharsets.UTF_8);
+          pos = end + 1;
+          fields.add(parseField(name));
+        } while (consume(','));
+        expect('}');
+      }
+      return new PositionalLayout(fields);
+    }
+
+    private PositionalField parseField(String name) {
+      int start = pos;
+      while (pos < descriptor.length() && Character.isLetter(descriptor.charAt(pos))) {
+        pos++;
+      }
+      PositionalFieldType type = PositionalFieldType.fromToken(descriptor.substring(start, pos));
+      if (type == PositionalFieldType.NESTED) {
+        return PositionalField.nested(name, parseLayout());
+      } else if (type == PositionalFieldType.LIST) {
+        expect('<');
+        PositionalField elementField = parseField(null);
+        expect('>');
+        return PositionalField.list(name, elementField);
+      } else {
+        return PositionalField.primitive(name, type);
+      }
+    }
+
+    private boolean consume(char c) {
+      if (pos < descriptor.length() && descriptor.charAt(pos) == c) {
+        pos++;
+        return true;
+      }
+      return false;
+    }
+
+    private void expect(char c) {
+      if (!consume(c)) {
+        throw new IllegalArgumentException("Expected '" + c + "' at position " + pos
+            + " of layout descriptor: " + descriptor);
+      }
+    }
+  }
+}
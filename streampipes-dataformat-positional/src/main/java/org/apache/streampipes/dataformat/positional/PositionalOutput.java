@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat.positional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer with the primitive encodings of the positional format. Integral values are written
+ * as zigzag varints, floating point values in IEEE 754 big-endian byte order.
+ */
+class PositionalOutput {
+
+  private static final int INITIAL_CAPACITY = 128;
+
+  private byte[] buffer;
+  private int size;
+
+  PositionalOutput() {
+    this.buffer = new byte[INITIAL_CAPACITY];
+    this.size = 0;
+  }
+
+  void writeByte(int value) {
+    ensureCapacity(1);
+    buffer[size++] = (byte) value;
+  }
+
+  void writeBytes(byte[] value) {
+    ensureCapacity(value.length);
+    System.arraycopy(value, 0, buffer, size, value.length);
+    size += value.length;
+  }
+
+  void writeFixedLong(long value) {
+    ensureCapacity(8);
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      buffer[size++] = (byte) (value >>> shift);
+    }
+  }
+
+  void writeFixedInt(int value) {
+    ensureCapacity(4);
+    for (int shift = 24; shift >= 0; shift -= 8) {
+      buffer[size++] = (byte) (value >>> shift);
+    }
+  }
+
+  void writeVarLong(long value) {
+    ensureCapacity(10);
+    while ((value & ~0x7FL) != 0) {
+      buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[size++] = (byte) value;
+  }
+
+  void writeZigZag(long value) {
+    writeVarLong((value << 1) ^ (value >> 63));
+  }
+
+  void writeFloat(float value) {
+    writeFixedInt(Float.floatToIntBits(value));
+  }
+
+  void writeDouble(double value) {
+    writeFixedLong(Double.doubleToLongBits(value));
+  }
+
+  void writeString(String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarLong(bytes.length);
+    writeBytes(bytes);
+  }
+
+  /**
+   * Reserves a bitmap of the given number of bits which can be filled in after the values have been written.
+   *
+   * @return the offset of the bitmap in the buffer
+   */
+  int reserveBitmap(int bits) {
+    int length = (bits + 7) / 8;
+    ensureCapacity(length);
+    int offset = size;
+    Arrays.fill(buffer, offset, offset + length, (byte) 0);
+    size += length;
+    return offset;
+  }
+
+  void setBit(int bitmapOffset, int bit) {
+    buffer[bitmapOffset + (bit >>> 3)] |= (byte) (1 << (bit & 7));
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(buffer, size);
+  }
+
+  private void ensureCapacity(int additional) {
+    if (size + additional > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat.positional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the layouts of positional events by their fingerprint. Layouts are kept locally and published
+ * to the configured {@link PositionalSchemaStore}, unknown fingerprints are looked up in the store.
+ * A layout only counts as published once the store has accepted it, so failed publications are retried.
+ */
+public enum PositionalSchemaRegistry {
+
+  INSTANCE;
+
+  private static final Logger LOG = LoggerFactory.getLogger(PositionalSchemaRegistry.class);
+
+  private static final long MISSING_FINGERPRINT_RETRY_MILLIS = 10000;
+  static final long PUBLISH_RETRY_MILLIS = 1000;
+
+  private final Map<Long, PositionalLayout> layouts;
+  private final Map<Long, Long> missingFingerprints;
+  private final Set<Long> publishedFingerprints;
+  private final Map<Long, Long> failedPublications;
+  private volatile PositionalSchemaStore schemaStore;
+
+  PositionalSchemaRegistry() {
+    this.layouts = new ConcurrentHashMap<>();
+    this.missingFingerprints = new ConcurrentHashMap<>();
+    this.publishedFingerprints = ConcurrentHashMap.newKeySet();
+    this.failedPublications = new ConcurrentHashMap<>();
+  }
+
+  public void setSchemaStore(PositionalSchemaStore schemaStore) {
+    this.schemaStore = schemaStore;
+    this.publishedFingerprints.clear();
+    this.failedPublications.clear();
+  }
+
+  /**
+   * Registers a layout and publishes it to the schema store unless it has already been published.
+   * If the publication fails, it is retried by the next call, at most once per {@link #PUBLISH_RETRY_MILLIS}.
+   *
+   * @return true if the layout is published or no schema store is configured, false if it should be registered again
+   */
+  public boolean register(PositionalLayout layout) {
+    long fingerprint = layout.getFingerprint();
+    if (layouts.putIfAbsent(fingerprint, layout) == null) {
+      missingFingerprints.remove(fingerprint);
+    }
+
+    PositionalSchemaStore store = schemaStore;
+    if (store == null || publishedFingerprints.contains(fingerprint)) {
+      return true;
+    }
+    Long lastFailure = failedPublications.get(fingerprint);
+    if (lastFailure != null && System.currentTimeMillis() - lastFailure < PUBLISH_RETRY_MILLIS) {
+      return false;
+    }
+
+    try {
+      store.store(fingerprint, layout.getDescriptor());
+      publishedFingerprints.add(fingerprint);
+      failedPublications.remove(fingerprint);
+      return true;
+    } catch (RuntimeException e) {
+      LOG.warn("Could not publish positional layout {}, retrying with the next event",
+          PositionalLayout.toHex(fingerprint), e);
+      failedPublications.put(fingerprint, System.currentTimeMillis());
+      return false;
+    }
+  }
+
+  public Optional<PositionalLayout> find(long fingerprint) {
+    PositionalLayout layout = layouts.get(fingerprint);
+    if (layout != null) {
+      return Optional.of(layout);
+    }
+    return findInStore(fingerprint);
+  }
+
+  private Optional<PositionalLayout> findInStore(long fingerprint) {
+    PositionalSchemaStore store = schemaStore;
+    Long lastMiss = missingFingerprints.get(fingerprint);
+    if (store == null
+        || (lastMiss != null && System.currentTimeMillis() - lastMiss < MISSING_FINGERPRINT_RETRY_MILLIS)) {
+      return Optional.empty();
+    }
+
+    try {
+      Optional<PositionalLayout> layout = store.find(fingerprint)
+          .map(PositionalLayout::parse)
+          .filter(l -> l.getFingerprint() == fingerprint);
+      if (layout.isPresent()) {
+        layouts.putIfAbsent(fingerprint, layout.get());
+        publishedFingerprints.add(fingerprint);
+        missingFingerprints.remove(fingerprint);
+        return layout;
+      }
+    } catch (RuntimeException e) {
+      LOG.warn("Could not fetch positional layout {}", PositionalLayout.toHex(fingerprint), e);
+    }
+    missingFingerprints.put(fingerprint, System.currentTimeMillis());
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat.positional;
+
+/**
+ * Constants of the positional wire format.
+ *
+ * <p>A message starts with a magic byte, the format version and the fingerprint of the layout (8 bytes).
+ * A record consists of a presence bitmap with one bit per layout field, the values of all present fields
+ * in layout order and a varint-prefixed list of extra (name, dynamic value) entries holding unknown keys,
+ * null values and values not matching the declared type. Timestamps are written as the zigzag-encoded
+ * delta to the previous timestamp of the message.</p>
+ */
+final class PositionalWireFormat {
+
+  static final int MAGIC = 0x53;
+  static final int VERSION = 1;
+
+  static final int LIST_TYPED = 0;
+  static final int LIST_DYNAMIC = 1;
+
+  static final int TAG_NULL = 0;
+  static final int TAG_TRUE = 1;
+  static final int TAG_FALSE = 2;
+  static final int TAG_INT = 3;
+  static final int TAG_LONG = 4;
+  static final int TAG_FLOAT = 5;
+  static final int TAG_DOUBLE = 6;
+  static final int TAG_STRING = 7;
+  static final int TAG_BYTES = 8;
+  static final int TAG_MAP = 9;
+  static final int TAG_LIST = 10;
+
+  private PositionalWireFormat() {
+
+  }
+}
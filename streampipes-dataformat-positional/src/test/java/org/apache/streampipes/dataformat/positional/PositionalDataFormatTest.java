@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.streampipes.dataformat.positional;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.model.schema.EventProperty;
+import org.apache.streampipes.model.schema.EventPropertyPrimitive;
+import org.apache.streampipes.model.schema.EventSchema;
+import org.apache.streampipes.vocabulary.SO;
+import org.apache.streampipes.vocabulary.XSD;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class PositionalDataFormatTest {
+
+  private MapSchemaStore schemaStore;
+
+  @Before
+  public void setUp() {
+    schemaStore = new MapSchemaStore();
+    PositionalSchemaRegistry.INSTANCE.setSchemaStore(schemaStore);
+  }
+
+  @After
+  public void tearDown() {
+    PositionalSchemaRegistry.INSTANCE.setSchemaStore(null);
+  }
+
+  @Test
+  public void testInferredLayoutRoundTrip() {
+    Map<String, Object> event = new HashMap<>();
+    event.put("flag", true);
+    event.put("count", 42);
+    event.put("total", 1234567890123L);
+    event.put("ratio", 0.25f);
+    event.put("value", 3.5);
+    event.put("name", "sensor-1");
+
+    assertEquals(event, roundTrip(new PositionalDataFormatDefinition(), event));
+  }
+
+  @Test
+  public void testNegativeNumbersRoundTrip() {
+    Map<String, Object> event = new HashMap<>();
+    event.put("int", -1);
+    event.put("minInt", Integer.MIN_VALUE);
+    event.put("minLong", Long.MIN_VALUE);
+    event.put("double", -0.5);
+    event.put("float", -1.5f);
+
+    assertEquals(event, roundTrip(new PositionalDataFormatDefinition(), event));
+  }
+
+  @Test
+  public void testNullValuesRoundTrip() {
+    Map<String, Object> event = new HashMap<>();
+    event.put("missing", null);
+    event.put("value", 1.0);
+    event.put("values", Arrays.asList(1, null, 3));
+
+    Map<String, Object> result = roundTrip(new PositionalDataFormatDefinition(), event);
+
+    assertEquals(event, result);
+    assertTrue(result.containsKey("missing"));
+    assertNull(result.get("missing"));
+  }
+
+  @Test
+  public void testNestedPropertiesRoundTrip() {
+    Map<String, Object> position = new HashMap<>();
+    position.put("lat", 49.0);
+    position.put("lng", 8.4);
+    position.put("tags", List.of("a", "b"));
+    Map<String, Object> event = new HashMap<>();
+    event.put("position", position);
+    event.put("readings", List.of(Map.of("value", 1), Map.of("value", 2)));
+
+    assertEquals(event, roundTrip(new PositionalDataFormatDefinition(), event));
+  }
+
+  @Test
+  public void testDynamicValuesRoundTrip() {
+    Map<String, Object> event = new HashMap<>();
+    event.put("mixed", new ArrayList<>(Arrays.asList(1, "two", 3.0, null, true)));
+    event.put("bytes", new byte[] {1, 2, 3});
+
+    Map<String, Object> result = roundTrip(new PositionalDataFormatDefinition(), event);
+
+    assertEquals(event.get("mixed"), result.get("mixed"));
+    assertArrayEquals((byte[]) event.get("bytes"), (byte[]) result.get("bytes"));
+  }
+
+  @Test
+  public void testTimestampsAreDeltaEncoded() {
+    PositionalDataFormatDefinition format = new PositionalDataFormatDefinition(new EventSchema(Arrays.asList(
+        primitive("end", XSD.LONG.toString(), SO.DATE_TIME),
+        primitive("start", XSD.LONG.toString(), SO.DATE_TIME))));
+    long start = 1700000000000L;
+
+    Map<String, Object> close = Map.of("start", start, "end", start + 5);
+    Map<String, Object> far = Map.of("start", 5L, "end", start + 5);
+    byte[] closeBytes = format.fromMap(close);
+
+    assertEquals(close, format.toMap(closeBytes));
+    assertEquals(far, roundTrip(format, far));
+    assertTrue(closeBytes.length < format.fromMap(far).length);
+  }
+
+  @Test
+  public void testDeclaredLayoutKeepsUndeclaredAndMismatchingValues() {
+    PositionalDataFormatDefinition format = new PositionalDataFormatDefinition(new EventSchema(Arrays.asList(
+        primitive("temperature", XSD.DOUBLE.toString(), null),
+        primitive("sensorId", XSD.STRING.toString(), null))));
+
+    Map<String, Object> withExtraField = Map.of("temperature", 21.5, "sensorId", "s1", "humidity", 40);
+    Map<String, Object> withMissingField = Map.of("temperature", 21.5);
+    Map<String, Object> withMismatchingType = Map.of("temperature", "n/a", "sensorId", "s1");
+
+    assertEquals(withExtraField, roundTrip(format, withExtraField));
+    assertEquals(withMissingField, roundTrip(format, withMissingField));
+    assertEquals(withMismatchingType, roundTrip(format, withMismatchingType));
+  }
+
+  @Test
+  public void testEventsOfEvolvedSchemaAreDecodedByFingerprint() {
+    PositionalDataFormatDefinition v1 = new PositionalDataFormatDefinition(new EventSchema(List.of(
+        primitive("evolvedTemperature", XSD.DOUBLE.toString(), null))));
+    PositionalDataFormatDefinition v2 = new PositionalDataFormatDefinition(new EventSchema(Arrays.asList(
+        primitive("evolvedTemperature", XSD.DOUBLE.toString(), null),
+        primitive("evolvedPressure", XSD.FLOAT.toString(), null))));
+    Map<String, Object> oldEvent = Map.of("evolvedTemperature", 20.0);
+    Map<String, Object> newEvent = Map.of("evolvedTemperature", 20.0, "evolvedPressure", 1013.25f);
+
+    byte[] oldBytes = v1.fromMap(oldEvent);
+    byte[] newBytes = v2.fromMap(newEvent);
+
+    assertEquals(oldEvent, v2.toMap(oldBytes));
+    assertEquals(newEvent, v1.toMap(newBytes));
+    assertEquals(2, schemaStore.descriptors.size());
+  }
+
+  @Test
+  public void testUnknownLayoutIsFetchedFromSchemaStore() {
+    Map<String, Object> event = Map.of("remoteValue", 1.0, "remoteName", "remote");
+    PositionalLayout layout = PositionalLayout.infer(event);
+    // written by another service, which published the layout to the shared store only
+    byte[] bytes = new PositionalEventWriter(layout).write(event);
+    schemaStore.store(layout.getFingerprint(), layout.getDescriptor());
+
+    assertEquals(event, new PositionalDataFormatDefinition().toMap(bytes));
+    assertEquals(Optional.of(layout), PositionalSchemaRegistry.INSTANCE.find(layout.getFingerprint()));
+  }
+
+  @Test
+  public void testLayoutWithMismatchingFingerprintIsRejected() {
+    Map<String, Object> event = Map.of("mismatchValue", 1.0);
+    PositionalLayout layout = PositionalLayout.infer(event);
+    byte[] bytes = new PositionalEventWriter(layout).write(event);
+    schemaStore.store(layout.getFingerprint(), PositionalLayout.infer(Map.of("mismatchValue", 1)).getDescriptor());
+
+    assertEquals(Optional.empty(), PositionalSchemaRegistry.INSTANCE.find(layout.getFingerprint()));
+    assertThrows(SpRuntimeException.class, () -> new PositionalDataFormatDefinition().toMap(bytes));
+  }
+
+  @Test
+  public void testLayoutIsPublishedOnce() {
+    PositionalDataFormatDefinition format = new PositionalDataFormatDefinition();
+
+    format.fromMap(Map.of("publishedValue", 1));
+    format.fromMap(Map.of("publishedValue", 2));
+    format.fromMap(Map.of("publishedValue", "changed"));
+
+    assertEquals(2, schemaStore.storeCount);
+  }
+
+  @Test
+  public void testFailedPublicationIsRetried() throws InterruptedException {
+    PositionalDataFormatDefinition format = new PositionalDataFormatDefinition();
+    schemaStore.failuresToSimulate = 1;
+
+    format.fromMap(Map.of("retriedValue", 1));
+    format.fromMap(Map.of("retriedValue", 2));
+    assertEquals(1, schemaStore.storeCount);
+    assertTrue(schemaStore.descriptors.isEmpty());
+
+    Thread.sleep(PositionalSchemaRegistry.PUBLISH_RETRY_MILLIS + 100);
+    format.fromMap(Map.of("retriedValue", 3));
+    format.fromMap(Map.of("retriedValue", 4));
+
+    assertEquals(2, schemaStore.storeCount);
+    assertEquals(1, schemaStore.descriptors.size());
+  }
+
+  @Test
+  public void testInvalidMessageIsRejected() {
+    assertThrows(SpRuntimeException.class, () -> new PositionalDataFormatDefinition().toMap(new byte[] {1, 2}));
+  }
+
+  private static Map<String, Object> roundTrip(PositionalDataFormatDefinition format,
+                                               Map<String, Object> event) {
+    return format.toMap(format.fromMap(event));
+  }
+
+  private static EventProperty primitive(String runtimeName,
+                                         String runtimeType,
+                                         String domainProperty) {
+    return new EventPropertyPrimitive(runtimeType, runtimeName, null,
+        domainProperty != null ? List.of(URI.create(domainProperty)) : List.of());
+  }
+
+  private static class MapSchemaStore implements PositionalSchemaStore {
+
+    private final Map<Long, String> descriptors = new ConcurrentHashMap<>();
+    private int storeCount;
+    private int failuresToSimulate;
+
+    @Override
+    public void store(long fingerprint, String layoutDescriptor) {
+      storeCount++;
+      if (failuresToSimulate > 0) {
+        failuresToSimulate--;
+        throw new IllegalStateException("Schema store not reachable");
+      }
+      descriptors.put(fingerprint, layoutDescriptor);
+    }
+
+    @Override
+    public Optional<String> find(long fingerprint) {
+      return Optional.ofNullable(descriptors.get(fingerprint));
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.streampipes.dataformat.positional;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class PositionalEncodingTest {
+
+  @Test
+  public void testVarintLength() {
+    assertEquals(1, varint(0).length);
+    assertEquals(1, varint(127).length);
+    assertEquals(2, varint(128).length);
+    assertEquals(2, varint(16383).length);
+    assertEquals(3, varint(16384).length);
+    assertEquals(10, varint(-1).length);
+    assertArrayEquals(new byte[] {(byte) 0xAC, 0x02}, varint(300));
+  }
+
+  @Test
+  public void testVarintRoundTrip() {
+    long[] values = {0, 1, 127, 128, 300, Integer.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE};
+    for (long value : values) {
+      assertEquals(value, new PositionalInput(varint(value)).readVarLong());
+    }
+  }
+
+  @Test
+  public void testZigZagKeepsSmallNegativeNumbersShort() {
+    assertArrayEquals(new byte[] {0x00}, zigzag(0));
+    assertArrayEquals(new byte[] {0x01}, zigzag(-1));
+    assertArrayEquals(new byte[] {0x02}, zigzag(1));
+    assertArrayEquals(new byte[] {0x03}, zigzag(-2));
+    assertEquals(1, zigzag(-64).length);
+    assertEquals(2, zigzag(-65).length);
+  }
+
+  @Test
+  public void testZigZagRoundTrip() {
+    long[] values = {0, 1, -1, 63, -64, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+    for (long value : values) {
+      assertEquals(value, new PositionalInput(zigzag(value)).readZigZag());
+    }
+  }
+
+  @Test
+  public void testBitmapSpansBytes() {
+    PositionalOutput out = new PositionalOutput();
+    int offset = out.reserveBitmap(10);
+    out.setBit(offset, 0);
+    out.setBit(offset, 9);
+    byte[] bytes = out.toByteArray();
+
+    assertArrayEquals(new byte[] {0x01, 0x02}, bytes);
+    PositionalInput in = new PositionalInput(bytes);
+    int readOffset = in.readBitmap(10);
+    assertTrue(in.isSet(readOffset, 0));
+    assertFalse(in.isSet(readOffset, 1));
+    assertTrue(in.isSet(readOffset, 9));
+  }
+
+  @Test
+  public void testFixedWidthValuesRoundTrip() {
+    PositionalOutput out = new PositionalOutput();
+    out.writeFloat(-1.25f);
+    out.writeDouble(-Double.MAX_VALUE);
+    out.writeFixedLong(Long.MIN_VALUE);
+    out.writeString("größe");
+
+    PositionalInput in = new PositionalInput(out.toByteArray());
+    assertEquals(-1.25f, in.readFloat(), 0.0f);
+    assertEquals(-Double.MAX_VALUE, in.readDouble(), 0.0);
+    assertEquals(Long.MIN_VALUE, in.readFixedLong());
+    assertEquals("größe", in.readString());
+  }
+
+  @Test
+  public void testTruncatedInputIsRejected() {
+    byte[] truncated = {(byte) 0x80};
+    assertThrows(SpRuntimeException.class, () -> new PositionalInput(truncated).readVarLong());
+
+    PositionalOutput out = new PositionalOutput();
+    out.writeVarLong(100);
+    assertThrows(SpRuntimeException.class, () -> new PositionalInput(out.toByteArray()).readString());
+    assertThrows(SpRuntimeException.class, () -> new PositionalInput(out.toByteArray()).readCount());
+  }
+
+  private static byte[] varint(long value) {
+    PositionalOutput out = new PositionalOutput();
+    out.writeVarLong(value);
+    return out.toByteArray();
+  }
+
+  private static byte[] zigzag(long value) {
+    PositionalOutput out = new PositionalOutput();
+    out.writeZigZag(value);
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.streampipes.dataformat.positional;
+
+import org.apache.streampipes.model.schema.EventProperty;
+import org.apache.streampipes.model.schema.EventPropertyList;
+import org.apache.streampipes.model.schema.EventPropertyNested;
+import org.apache.streampipes.model.schema.EventPropertyPrimitive;
+import org.apache.streampipes.model.schema.EventSchema;
+import org.apache.streampipes.vocabulary.SO;
+import org.apache.streampipes.vocabulary.XSD;
+
+import org.junit.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class PositionalLayoutTest {
+
+  @Test
+  public void testFingerprintIsFnv1aOfDescriptor() {
+    PositionalLayout layout = PositionalLayout.infer(Map.of("temperature", 1.5, "sensor", "s1"));
+
+    assertEquals("{sensor:string,temperature:double}", layout.getDescriptor());
+    assertEquals(fnv1a(layout.getDescriptor()), layout.getFingerprint());
+    assertEquals(0xcbf29ce484222325L, fnv1a(""));
+  }
+
+  @Test
+  public void testFingerprintDoesNotDependOnFieldOrder() {
+    Map<String, Object> first = new LinkedHashMap<>();
+    first.put("a", 1);
+    first.put("b", "x");
+    Map<String, Object> second = new LinkedHashMap<>();
+    second.put("b", "y");
+    second.put("a", 2);
+
+    assertEquals(PositionalLayout.infer(first).getFingerprint(), PositionalLayout.infer(second).getFingerprint());
+    assertEquals(0, PositionalLayout.infer(first).positionOf("a"));
+    assertEquals(-1, PositionalLayout.infer(first).positionOf("c"));
+  }
+
+  @Test
+  public void testFingerprintDependsOnFieldTypes() {
+    long intLayout = PositionalLayout.infer(Map.of("value", 1)).getFingerprint();
+    long longLayout = PositionalLayout.infer(Map.of("value", 1L)).getFingerprint();
+    long nestedLayout = PositionalLayout.infer(Map.of("value", Map.of("inner", 1))).getFingerprint();
+
+    assertNotEquals(intLayout, longLayout);
+    assertNotEquals(intLayout, nestedLayout);
+  }
+
+  @Test
+  public void testSchemaLayoutMatchesInferredLayout() {
+    EventSchema schema = new EventSchema(Arrays.asList(
+        primitive("timestamp", XSD.LONG.toString(), SO.DATE_TIME),
+        primitive("count", XSD.INTEGER.toString(), null),
+        new EventPropertyNested("position", Arrays.asList(
+            primitive("lat", XSD.DOUBLE.toString(), null),
+            primitive("lng", XSD.DOUBLE.toString(), null))),
+        new EventPropertyList("tags", primitive(null, XSD.STRING.toString(), null))));
+
+    PositionalLayout layout = PositionalLayout.from(schema);
+
+    assertEquals("{count:int,position:nested{lat:double,lng:double},tags:list<string>,timestamp:timestamp}",
+        layout.getDescriptor());
+    assertTrue(layout.matches(Map.of(
+        "timestamp", 1L,
+        "count", 2,
+        "position", Map.of("lat", 1.0, "lng", 2.0),
+        "tags", List.of("a"))));
+    assertFalse(layout.matches(Map.of("count", 2)));
+  }
+
+  @Test
+  public void testDescriptorRoundTrip() {
+    Map<String, Object> event = new LinkedHashMap<>();
+    event.put("name with:special,chars{}", "value");
+    event.put("nested", Map.of("values", List.of(1L, 2L)));
+    event.put("flag", true);
+    PositionalLayout layout = PositionalLayout.infer(event);
+
+    PositionalLayout parsed = PositionalLayout.parse(layout.getDescriptor());
+
+    assertEquals(layout, parsed);
+    assertEquals(layout.getFingerprint(), parsed.getFingerprint());
+    assertEquals(0, parsed.positionOf("flag"));
+    assertTrue(parsed.positionOf("name with:special,chars{}") >= 0);
+  }
+
+  @Test
+  public void testInvalidDescriptorIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> PositionalLayout.parse("{value:double"));
+    assertThrows(IllegalArgumentException.class, () -> PositionalLayout.parse("{value:unknown}"));
+    assertThrows(IllegalArgumentException.class, () -> PositionalLayout.parse("{value:double}x"));
+  }
+
+  @Test
+  public void testHexRoundTrip() {
+    long fingerprint = 0xcbf29ce484222325L;
+
+    assertEquals("cbf29ce484222325", PositionalLayout.toHex(fingerprint));
+    assertEquals(fingerprint, PositionalLayout.fromHex(PositionalLayout.toHex(fingerprint)));
+    assertEquals(1L, PositionalLayout.fromHex(PositionalLayout.toHex(1L)));
+  }
+
+  private static EventProperty primitive(String runtimeName,
+                                         String runtimeType,
+                                         String domainProperty) {
+    return new EventPropertyPrimitive(runtimeType, runtimeName, null,
+        domainProperty != null ? List.of(URI.create(domainProperty)) : List.of());
+  }
+
+  private static long fnv1a(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= (b & 0xff);
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import java.util.Map;
+
+/**
+ * Compresses the serialized form of a data format, so that producers and consumers which resolve the
+ * transport format via {@link SpDataFormatManager} transparently exchange compressed payloads.
+ */
+public class CompressedDataFormatDefinition implements SpDataFormatDefinition {
+
+  private final SpDataFormatDefinition dataFormatDefinition;
+  private final SpCompressionCodec compressionCodec;
+
+  public CompressedDataFormatDefinition(SpDataFormatDefinition dataFormatDefinition,
+                                        SpCompressionCodec compressionCodec) {
+    this.dataFormatDefinition = dataFormatDefinition;
+    this.compressionCodec = compressionCodec;
+  }
+
+  @Override
+  public Map<String, Object> toMap(byte[] event) throws SpRuntimeException {
+    return dataFormatDefinition.toMap(compressionCodec.decompress(event));
+  }
+
+  @Override
+  public byte[] fromMap(Map<String, Object> event) throws SpRuntimeException {
+    return compressionCodec.compress(dataFormatDefinition.fromMap(event));
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat;
+
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.field.AbstractField;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Determines the size of an event, either exactly by encoding it with a data format or
+ * approximately by walking the field tree of the event without serializing it.
+ */
+public class EventSizeEstimator {
+
+  private static final int NUMBER_32_BIT_SIZE = 4;
+  private static final int NUMBER_64_BIT_SIZE = 8;
+  private static final int DEFAULT_VALUE_SIZE = 8;
+
+  private final SpDataFormatDefinition dataFormatDefinition;
+
+  private EventSizeEstimator(SpDataFormatDefinition dataFormatDefinition) {
+    this.dataFormatDefinition = dataFormatDefinition;
+  }
+
+  /**
+   * Measures the exact size of an event encoded with the given data format.
+   */
+  public static EventSizeEstimator exact(SpDataFormatDefinition dataFormatDefinition) {
+    return new EventSizeEstimator(dataFormatDefinition);
+  }
+
+  /**
+   * Estimates the payload size of an event from its field names and value types: numbers are counted
+   * with their binary width, strings and binary values with their length. Encoding overhead is ignored.
+   */
+  public static EventSizeEstimator estimate() {
+    return new EventSizeEstimator(null);
+  }
+
+  public boolean isExact() {
+    return dataFormatDefinition != null;
+  }
+
+  public long sizeOf(Event event) {
+    if (dataFormatDefinition != null) {
+      return dataFormatDefinition.fromMap(event.getRaw()).length;
+    } else {
+      return sizeOfFields(event.getFields().values());
+    }
+  }
+
+  private long sizeOfFields(Collection<AbstractField> fields) {
+    long size = 0;
+    for (AbstractField field : fields) {
+      String name = field.getFieldNameOut();
+      size += (name != null ? name.length() : 0) + sizeOfField(field);
+    }
+    return size;
+  }
+
+  @SuppressWarnings("unchecked")
+  private long sizeOfField(AbstractField field) {
+    if (field.isPrimitive()) {
+      return sizeOfValue(field.getRawValue());
+    } else if (field.isList()) {
+      long size = 0;
+      for (AbstractField item : (List<AbstractField>) field.getRawValue()) {
+        size += sizeOfField(item);
+      }
+      return size;
+    } else {
+      return sizeOfFields(((Map<String, AbstractField>) field.getRawValue()).values());
+    }
+  }
+
+  private long sizeOfValue(Object value) {
+    if (value == null) {
+      return 0;
+    } else if (value instanceof String) {
+      return ((String) value).length();
+    } else if (value instanceof Integer || value instanceof Float) {
+      return NUMBER_32_BIT_SIZE;
+    } else if (value instanceof Long || value instanceof Double) {
+      return NUMBER_64_BIT_SIZE;
+    } else if (value instanceof Short) {
+      return 2;
+    } else if (value instanceof Boolean || value instanceof Byte) {
+      return 1;
+    } else if (value instanceof byte[]) {
+      return ((byte[]) value).length;
+    } else if (value instanceof ByteBuffer) {
+      return ((ByteBuffer) value).remaining();
+    } else if (value instanceof Collection) {
+      long size = 0;
+      for (Object item : (Collection<?>) value) {
+        size += sizeOfValue(item);
+      }
+      return size;
+    } else if (value instanceof Map) {
+      long size = 0;
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        size += String.valueOf(entry.getKey()).length() + sizeOfValue(entry.getValue());
+      }
+      return size;
+    } else {
+      return DEFAULT_VALUE_SIZE;
+    }
+  }
+}
@@ -19,6 +19,7 @@
 package org.apache.streampipes.dataformat;
 
 import org.apache.streampipes.model.grounding.TransportFormat;
+import org.apache.streampipes.model.schema.EventSchema;
 
 public abstract class SpDataFormatFactory {
 
@@ -29,4 +30,14 @@ public abstract class SpDataFormatFactory {
   public abstract String getTransportFormatRdfUri();
 
   public abstract SpDataFormatDefinition createInstance();
+
+  /**
+   * Creates a data format definition for events of a known schema. Formats which do not make use of the
+   * schema return the same definition as {@link #createInstance()}.
+   *
+   * @param eventSchema the schema of the events, might be null if unknown
+   */
+  public SpDataFormatDefinition createInstance(EventSchema eventSchema) {
+    return createInstance();
+  }
 }
@@ -18,7 +18,9 @@
 
 package org.apache.streampipes.dataformat;
 
+import org.apache.streampipes.model.configuration.SpCompression;
 import org.apache.streampipes.model.grounding.TransportFormat;
+import org.apache.streampipes.model.schema.EventSchema;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,20 +31,45 @@ public enum SpDataFormatManager {
   INSTANCE;
 
   private List<SpDataFormatFactory> availableDataFormats;
+  private List<SpCompressionFactory> availableCompressions;
 
   SpDataFormatManager() {
     this.availableDataFormats = new ArrayList<>();
+    this.availableCompressions = new ArrayList<>();
   }
 
   public void register(SpDataFormatFactory dataFormatDefinition) {
     availableDataFormats.add(dataFormatDefinition);
   }
 
+  public void registerCompression(SpCompressionFactory compressionFactory) {
+    availableCompressions.add(compressionFactory);
+  }
+
   public List<SpDataFormatFactory> getAvailableDataFormats() {
     return availableDataFormats;
   }
 
+  public List<SpCompressionFactory> getAvailableCompressions() {
+    return availableCompressions;
+  }
+
+  /**
+   * Creates the data format definition for a transport format. If the rdf types of the transport format
+   * additionally contain a compression, the returned definition compresses the serialized events. No
+   * definition is returned if the requested compression has not been registered.
+   */
   public Optional<SpDataFormatDefinition> findDefinition(TransportFormat transportFormat) {
+    return findDefinition(transportFormat, null);
+  }
+
+  /**
+   * Creates the data format definition for a transport format and events of the given schema.
+   *
+   * @see #findDefinition(TransportFormat)
+   */
+  public Optional<SpDataFormatDefinition> findDefinition(TransportFormat transportFormat,
+                                                         EventSchema eventSchema) {
     // TODO why is transportFormat.getRdfType a list?
     return this.availableDataFormats
         .stream()
@@ -52,9 +79,36 @@ public enum SpDataFormatManager {
                 .stream()
                 .anyMatch(tf -> tf.toString().equals(adf
                     .getTransportFormatRdfUri())))
-        .map(SpDataFormatFactory::createInstance)
+        .map(adf -> adf.createInstance(eventSchema))
+        .findFirst()
+        .flatMap(definition -> withCompression(definition, transportFormat));
+
+  }
+
+  private Optional<SpDataFormatDefinition> withCompression(SpDataFormatDefinition definition,
+                                                           TransportFormat transportFormat) {
+    var compressionFactory = this.availableCompressions
+        .stream()
+        .filter(ac -> transportFormat
+            .getRdfType()
+            .stream()
+            .anyMatch(tf -> tf.toString().equals(ac.getCompressionRdfUri())))
         .findFirst();
 
+    if (compressionFactory.isPresent()) {
+      return Optional.of(new CompressedDataFormatDefinition(definition, compressionFactory.get().createInstance()));
+    } else if (requiresCompression(transportFormat)) {
+      return Optional.empty();
+    } else {
+      return Optional.of(definition);
+    }
+  }
+
+  private boolean requiresCompression(TransportFormat transportFormat) {
+    return transportFormat
+        .getRdfType()
+        .stream()
+        .anyMatch(tf -> SpCompression.isCompressionFormat(tf.toString()));
   }
 
 }
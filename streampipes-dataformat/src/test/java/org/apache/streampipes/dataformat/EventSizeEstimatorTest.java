@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.dataformat;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.EventFactory;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EventSizeEstimatorTest {
+
+  private final EventSizeEstimator estimator = EventSizeEstimator.estimate();
+
+  @Test
+  public void testPrimitiveFields() {
+    Map<String, Object> event = new HashMap<>();
+    event.put("temperature", 20.5);
+    event.put("count", 3);
+    event.put("id", "abc");
+    event.put("ok", true);
+    event.put("ts", 5L);
+
+    // field names: 11 + 5 + 2 + 2 + 2, values: 8 + 4 + 3 + 1 + 8
+    assertEquals(46, estimator.sizeOf(makeEvent(event)));
+    assertFalse(estimator.isExact());
+  }
+
+  @Test
+  public void testNullValueCountsFieldNameOnly() {
+    Map<String, Object> event = new HashMap<>();
+    event.put("value", null);
+
+    assertEquals(5, estimator.sizeOf(makeEvent(event)));
+  }
+
+  @Test
+  public void testNestedFields() {
+    Map<String, Object> event = Map.of("location", Map.of("lat", 49.5, "lng", 8.25));
+
+    // 8 + (3 + 8) + (3 + 8)
+    assertEquals(30, estimator.sizeOf(makeEvent(event)));
+  }
+
+  @Test
+  public void testListOfPrimitives() {
+    Map<String, Object> event = Map.of("values", List.of(1.0, 2.0, 3.0));
+
+    // list items have no field names of their own
+    assertEquals(6 + 3 * 8, estimator.sizeOf(makeEvent(event)));
+  }
+
+  @Test
+  public void testListOfNestedFields() {
+    Map<String, Object> event = Map.of("readings", List.of(Map.of("v", 1), Map.of("v", 2)));
+
+    assertEquals(8 + 2 * (1 + 4), estimator.sizeOf(makeEvent(event)));
+  }
+
+  @Test
+  public void testExactSizeUsesDataFormat() {
+    byte[] encoded = "encoded-event".getBytes(StandardCharsets.UTF_8);
+    EventSizeEstimator exactEstimator = EventSizeEstimator.exact(new SpDataFormatDefinition() {
+      @Override
+      public Map<String, Object> toMap(byte[] event) throws SpRuntimeException {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public byte[] fromMap(Map<String, Object> event) throws SpRuntimeException {
+        return encoded;
+      }
+    });
+
+    assertTrue(exactEstimator.isExact());
+    assertEquals(encoded.length, exactEstimator.sizeOf(makeEvent(Map.of("temperature", 20.5))));
+  }
+
+  private Event makeEvent(Map<String, Object> event) {
+    return EventFactory.fromMap(event);
+  }
+}
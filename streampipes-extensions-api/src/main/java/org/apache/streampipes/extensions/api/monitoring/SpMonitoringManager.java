@@ -18,13 +18,18 @@
 
 package org.apache.streampipes.extensions.api.monitoring;
 
+import org.apache.streampipes.model.monitoring.SpEndpointMonitoringDelta;
 import org.apache.streampipes.model.monitoring.SpEndpointMonitoringInfo;
 import org.apache.streampipes.model.monitoring.SpLogEntry;
 import org.apache.streampipes.model.monitoring.SpMetricsEntry;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public enum SpMonitoringManager {
 
@@ -33,33 +38,71 @@ public enum SpMonitoringManager {
   private final Map<String, FixedSizeList<SpLogEntry>> logInfos;
   private final Map<String, SpMetricsEntry> metricsInfos;
 
+  // state of the last delta acknowledged by the core
+  private Map<String, SpMetricsEntry> pushedMetricsInfos;
+  private Map<String, Set<SpLogEntry>> pushedLogInfos;
+  private long pushedSequence;
+
+  // state of the delta which is currently sent to the core
+  private Map<String, SpMetricsEntry> inFlightMetricsInfos;
+  private Map<String, Set<SpLogEntry>> inFlightLogInfos;
+
   SpMonitoringManager() {
-    this.logInfos = new HashMap<>();
-    this.metricsInfos = new HashMap<>();
+    this.logInfos = new ConcurrentHashMap<>();
+    this.metricsInfos = new ConcurrentHashMap<>();
+    this.pushedMetricsInfos = new HashMap<>();
+    this.pushedLogInfos = new HashMap<>();
+    this.inFlightMetricsInfos = new HashMap<>();
+    this.inFlightLogInfos = new HashMap<>();
   }
 
   public void addErrorMessage(String resourceId,
                               SpLogEntry errorMessageEntry) {
-    if (!logInfos.containsKey(resourceId)) {
-      logInfos.put(resourceId, new FixedSizeList<>(100));
+    var logs = logInfos.computeIfAbsent(resourceId, key -> new FixedSizeList<>(100));
+    synchronized (logs) {
+      logs.add(errorMessageEntry);
     }
-    this.logInfos.get(resourceId).add(errorMessageEntry);
   }
 
   public void increaseInCounter(String resourceId,
                                 String sourceInfo,
                                 long timestamp) {
     var currentEntry = getMetricsEntry(resourceId, timestamp);
-    currentEntry.addInMetrics(sourceInfo, timestamp);
-    this.metricsInfos.put(resourceId, currentEntry);
+    synchronized (currentEntry) {
+      currentEntry.addInMetrics(sourceInfo, timestamp);
+    }
   }
 
+  /**
+   * Adds the payload size of an incoming event as received from the broker.
+   */
+  public void increaseInBytes(String resourceId,
+                              String sourceInfo,
+                              long bytes) {
+    var currentEntry = metricsInfos.computeIfAbsent(resourceId, key -> new SpMetricsEntry());
+    synchronized (currentEntry) {
+      currentEntry.addInBytes(sourceInfo, bytes);
+    }
+  }
 
   public void increaseOutCounter(String resourceId,
                                  long timestamp) {
     var currentEntry = getMetricsEntry(resourceId, timestamp);
-    currentEntry.addOutMetrics(timestamp);
-    this.metricsInfos.put(resourceId, currentEntry);
+    synchronized (currentEntry) {
+      currentEntry.addOutMetrics(timestamp);
+    }
+  }
+
+  /**
+   * Increases the counter of outgoing events and adds the payload size of the published event.
+   */
+  public void increaseOutCounter(String resourceId,
+                                 long timestamp,
+                                 long bytes) {
+    var currentEntry = getMetricsEntry(resourceId, timestamp);
+    synchronized (currentEntry) {
+      currentEntry.addOutMetrics(timestamp, bytes);
+    }
   }
 
   public void resetCounter(String resourceId) {
@@ -67,8 +110,11 @@ public enum SpMonitoringManager {
   }
 
   public void resetLogs(String resourceId) {
-    if (this.logInfos.containsKey(resourceId)) {
-      this.logInfos.get(resourceId).clear();
+    var logs = this.logInfos.get(resourceId);
+    if (logs != null) {
+      synchronized (logs) {
+        logs.clear();
+      }
     }
   }
 
@@ -79,43 +125,136 @@ public enum SpMonitoringManager {
 
   public SpMetricsEntry getMetricsEntry(String resourceId,
                                         long timestamp) {
-    checkAndPrepareMetrics(resourceId);
-    var currentEntry = this.metricsInfos.get(resourceId);
-    currentEntry.setLastTimestamp(timestamp);
+    var currentEntry = metricsInfos.computeIfAbsent(resourceId, key -> new SpMetricsEntry());
+    synchronized (currentEntry) {
+      currentEntry.setLastTimestamp(timestamp);
+    }
 
     return currentEntry;
   }
 
   public SpEndpointMonitoringInfo getMonitoringInfo() {
     var logInfos = makeLogInfos();
-    return new SpEndpointMonitoringInfo(logInfos, metricsInfos);
+    return new SpEndpointMonitoringInfo(logInfos, copyMetricsInfos());
   }
 
   public void clearAllLogs() {
-    this.logInfos.forEach((key, value) -> value.clear());
+    this.logInfos.forEach((key, value) -> {
+      synchronized (value) {
+        value.clear();
+      }
+    });
   }
 
-  private Map<String, List<SpLogEntry>> makeLogInfos() {
-    var logEntries = new HashMap<String, List<SpLogEntry>>();
-    this.logInfos.forEach((key, value) ->
-        logEntries.put(key, cloneList(value.getAllItems())));
+  /**
+   * Creates the delta which is pushed to the core. The metrics contain the counter increments since the
+   * last acknowledged delta, the logs contain all entries which have not yet been acknowledged.
+   * A full snapshot is created if requested or if counters have been reset since the last acknowledged delta.
+   * It contains all retained logs, including acknowledged ones, as the core de-duplicates log entries.
+   * Must be followed by {@link #acknowledgeDelta(SpEndpointMonitoringDelta)} once the core accepted the delta.
+   *
+   * @param serviceId    the id of the extensions service
+   * @param fullSnapshot true if the core requested a full snapshot
+   * @return the delta to push
+   */
+  public synchronized SpEndpointMonitoringDelta makeDelta(String serviceId,
+                                                          boolean fullSnapshot) {
+    var currentMetrics = copyMetricsInfos();
+    boolean full = fullSnapshot || currentMetrics.entrySet().stream()
+        .anyMatch(entry -> pushedMetricsInfos.containsKey(entry.getKey())
+            && entry.getValue().isResetSince(pushedMetricsInfos.get(entry.getKey())));
 
-    return logEntries;
+    var metricsDelta = new HashMap<String, SpMetricsEntry>();
+    currentMetrics.forEach((key, value) -> {
+      if (full) {
+        metricsDelta.put(key, value);
+      } else {
+        var increment = value.incrementSince(pushedMetricsInfos.getOrDefault(key, new SpMetricsEntry()));
+        if (increment.hasMessages()) {
+          metricsDelta.put(key, increment);
+        }
+      }
+    });
+
+    var logDelta = new HashMap<String, List<SpLogEntry>>();
+    this.inFlightLogInfos = new HashMap<>();
+    this.logInfos.forEach((key, value) -> {
+      List<SpLogEntry> entries;
+      synchronized (value) {
+        entries = List.copyOf(value.getAllItems());
+      }
+      if (!full) {
+        var pushed = pushedLogInfos.getOrDefault(key, Set.of());
+        entries = entries.stream().filter(entry -> !pushed.contains(entry)).toList();
+      }
+      if (!entries.isEmpty()) {
+        Set<SpLogEntry> sent = Collections.newSetFromMap(new IdentityHashMap<>());
+        sent.addAll(entries);
+        this.inFlightLogInfos.put(key, sent);
+        logDelta.put(key, cloneList(entries));
+      }
+    });
+
+    this.inFlightMetricsInfos = currentMetrics;
+    return new SpEndpointMonitoringDelta(
+        serviceId,
+        pushedSequence + 1,
+        System.currentTimeMillis(),
+        full,
+        logDelta,
+        metricsDelta);
   }
 
-  private List<SpLogEntry> cloneList(List<SpLogEntry> allItems) {
-    return allItems.stream().map(SpLogEntry::new).toList();
+  /**
+   * Marks the delta created by the last call of {@link #makeDelta(String, boolean)} as received by the core.
+   * Acknowledged logs are kept, so that the monitoring endpoint and later full snapshots still return them,
+   * but they are not contained in further increments.
+   */
+  public synchronized void acknowledgeDelta(SpEndpointMonitoringDelta delta) {
+    this.pushedSequence = delta.getSequence();
+    this.pushedMetricsInfos = this.inFlightMetricsInfos;
+    var pushed = new HashMap<String, Set<SpLogEntry>>();
+    this.logInfos.forEach((key, value) -> {
+      var previouslyPushed = pushedLogInfos.getOrDefault(key, Set.of());
+      var sent = inFlightLogInfos.getOrDefault(key, Set.of());
+      // only entries which are still retained need to be remembered
+      Set<SpLogEntry> retained = Collections.newSetFromMap(new IdentityHashMap<>());
+      synchronized (value) {
+        value.getAllItems().stream()
+            .filter(entry -> previouslyPushed.contains(entry) || sent.contains(entry))
+            .forEach(retained::add);
+      }
+      if (!retained.isEmpty()) {
+        pushed.put(key, retained);
+      }
+    });
+    this.pushedLogInfos = pushed;
+    this.inFlightLogInfos = new HashMap<>();
   }
 
+  private Map<String, List<SpLogEntry>> makeLogInfos() {
+    var logEntries = new HashMap<String, List<SpLogEntry>>();
+    this.logInfos.forEach((key, value) -> {
+      synchronized (value) {
+        logEntries.put(key, cloneList(value.getAllItems()));
+      }
+    });
+
+    return logEntries;
+  }
 
-  private void checkAndPrepareMetrics(String resourceId) {
-    if (!metricsInfos.containsKey(resourceId)) {
-      addMetricsObject(resourceId);
-    }
+  private Map<String, SpMetricsEntry> copyMetricsInfos() {
+    var metrics = new HashMap<String, SpMetricsEntry>();
+    this.metricsInfos.forEach((key, value) -> {
+      synchronized (value) {
+        metrics.put(key, new SpMetricsEntry(value));
+      }
+    });
+    return metrics;
   }
 
-  private void addMetricsObject(String resourceId) {
-    this.metricsInfos.put(resourceId, new SpMetricsEntry());
+  private List<SpLogEntry> cloneList(List<SpLogEntry> allItems) {
+    return allItems.stream().map(SpLogEntry::new).toList();
   }
 
 }
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.management.client;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.dataformat.positional.PositionalLayout;
+import org.apache.streampipes.dataformat.positional.PositionalSchemaStore;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Publishes and resolves the layouts of the positional data format via the schema registry of the core.
+ */
+public class CorePositionalSchemaStore implements PositionalSchemaStore {
+
+  private static final String SCHEMA_PATH = "api/v2/positional-schemas";
+  private static final String FINGERPRINT = "fingerprint";
+  private static final String DESCRIPTOR = "descriptor";
+
+  @Override
+  public void store(long fingerprint, String layoutDescriptor) {
+    var client = new StreamPipesClientResolver().makeStreamPipesClientInstance();
+    client.customRequest().sendPost(SCHEMA_PATH, Map.of(
+        FINGERPRINT, PositionalLayout.toHex(fingerprint),
+        DESCRIPTOR, layoutDescriptor));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Optional<String> find(long fingerprint) {
+    var client = new StreamPipesClientResolver().makeStreamPipesClientInstance();
+    try {
+      Map<String, Object> layout = client.customRequest()
+          .sendGet(SCHEMA_PATH + "/" + PositionalLayout.toHex(fingerprint), Map.class);
+      return Optional.ofNullable(layout).map(l -> (String) l.get(DESCRIPTOR));
+    } catch (SpRuntimeException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -58,7 +58,7 @@ public abstract class SendToBrokerAdapterSink<T extends TransportProtocol> imple
         .get(0);
 
     this.dataFormatDefinition =
-        new TransportFormatSelector(transportFormat).getDataFormatDefinition();
+        new TransportFormatSelector(transportFormat, adapterDescription.getEventSchema()).getDataFormatDefinition();
 
     try {
       producer.connect();
@@ -71,10 +71,12 @@ public abstract class SendToBrokerAdapterSink<T extends TransportProtocol> imple
   public Map<String, Object> process(Map<String, Object> event) {
     try {
       if (event != null) {
-        sendToBroker(dataFormatDefinition.fromMap(event));
+        byte[] payload = dataFormatDefinition.fromMap(event);
+        sendToBroker(payload);
         SpMonitoringManager.INSTANCE.increaseOutCounter(
             adapterDescription.getElementId(),
-            System.currentTimeMillis());
+            System.currentTimeMillis(),
+            payload.length);
       }
     } catch (RuntimeException e) {
       new ExtensionsLogger(adapterDescription.getElementId()).error(e);
@@ -21,16 +21,25 @@ import org.apache.streampipes.dataformat.SpDataFormatDefinition;
 import org.apache.streampipes.dataformat.cbor.CborDataFormatDefinition;
 import org.apache.streampipes.dataformat.fst.FstDataFormatDefinition;
 import org.apache.streampipes.dataformat.json.JsonDataFormatDefinition;
+import org.apache.streampipes.dataformat.positional.PositionalDataFormatDefinition;
 import org.apache.streampipes.dataformat.smile.SmileDataFormatDefinition;
 import org.apache.streampipes.model.grounding.TransportFormat;
+import org.apache.streampipes.model.schema.EventSchema;
 import org.apache.streampipes.vocabulary.MessageFormat;
 
 public class TransportFormatSelector {
 
   private TransportFormat transportFormat;
+  private EventSchema eventSchema;
 
   public TransportFormatSelector(TransportFormat format) {
+    this(format, null);
+  }
+
+  public TransportFormatSelector(TransportFormat format,
+                                 EventSchema eventSchema) {
     this.transportFormat = format;
+    this.eventSchema = eventSchema;
   }
 
   public SpDataFormatDefinition getDataFormatDefinition() {
@@ -42,11 +51,19 @@ public class TransportFormatSelector {
       return new FstDataFormatDefinition();
     } else if (isSmileFormat(transportFormat)) {
       return new SmileDataFormatDefinition();
+    } else if (isPositionalFormat(transportFormat)) {
+      return eventSchema != null
+          ? new PositionalDataFormatDefinition(eventSchema)
+          : new PositionalDataFormatDefinition();
     } else {
       throw new IllegalArgumentException("Wrong transport format: " + makeError(transportFormat));
     }
   }
 
+  private boolean isPositionalFormat(TransportFormat transportFormat) {
+    return isFormat(MessageFormat.POSITIONAL, transportFormat);
+  }
+
   private boolean isSmileFormat(TransportFormat transportFormat) {
     return isFormat(MessageFormat.SMILE, transportFormat);
   }
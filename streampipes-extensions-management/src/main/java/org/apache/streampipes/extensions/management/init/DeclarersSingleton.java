@@ -18,8 +18,10 @@
 
 package org.apache.streampipes.extensions.management.init;
 
+import org.apache.streampipes.dataformat.SpCompressionFactory;
 import org.apache.streampipes.dataformat.SpDataFormatFactory;
 import org.apache.streampipes.dataformat.SpDataFormatManager;
+import org.apache.streampipes.dataformat.positional.PositionalSchemaRegistry;
 import org.apache.streampipes.extensions.api.connect.StreamPipesAdapter;
 import org.apache.streampipes.extensions.api.declarer.IStreamPipesFunctionDeclarer;
 import org.apache.streampipes.extensions.api.pe.IStreamPipesDataProcessor;
@@ -27,6 +29,7 @@ import org.apache.streampipes.extensions.api.pe.IStreamPipesDataSink;
 import org.apache.streampipes.extensions.api.pe.IStreamPipesDataStream;
 import org.apache.streampipes.extensions.api.pe.IStreamPipesPipelineElement;
 import org.apache.streampipes.extensions.api.pe.runtime.IStreamPipesRuntimeProvider;
+import org.apache.streampipes.extensions.management.client.CorePositionalSchemaStore;
 import org.apache.streampipes.extensions.management.model.SpServiceDefinition;
 import org.apache.streampipes.messaging.SpProtocolDefinitionFactory;
 import org.apache.streampipes.messaging.SpProtocolManager;
@@ -104,6 +107,8 @@ public class DeclarersSingleton implements IDeclarersSingleton {
     this.serviceGroup = serviceDef.getServiceGroup();
     this.registerProtocols(serviceDef.getProtocolDefinitionFactories());
     this.registerDataFormats(serviceDef.getDataFormatFactories());
+    this.registerCompressionFormats(serviceDef.getCompressionFactories());
+    PositionalSchemaRegistry.INSTANCE.setSchemaStore(new CorePositionalSchemaStore());
     this.runtimeProviders = serviceDef.getRuntimeProviders();
     serviceDef.getAdapters().forEach(a -> this.adapters.put(a.declareConfig().getAdapterDescription().getAppId(), a));
     serviceDef.getFunctions().forEach(f -> this.functions.put(f.getFunctionConfig().getFunctionId().getId(), f));
@@ -162,6 +167,16 @@ public class DeclarersSingleton implements IDeclarersSingleton {
     dataFormatDefinitions.forEach(this::registerDataFormat);
   }
 
+  public void registerCompressionFormat(SpCompressionFactory compressionFactory) {
+    SpDataFormatManager.INSTANCE.registerCompression(compressionFactory);
+    this.supportedFormats.put(compressionFactory.getCompressionRdfUri(),
+        compressionFactory.getTransportFormat());
+  }
+
+  public void registerCompressionFormats(List<SpCompressionFactory> compressionFactories) {
+    compressionFactories.forEach(this::registerCompressionFormat);
+  }
+
   private void addDataProcessor(IStreamPipesDataProcessor dataProcessor) {
     dataProcessors.put(dataProcessor.declareConfig().getDescription().getAppId(), dataProcessor);
   }
@@ -17,6 +17,7 @@
  */
 package org.apache.streampipes.extensions.management.model;
 
+import org.apache.streampipes.dataformat.SpCompressionFactory;
 import org.apache.streampipes.dataformat.SpDataFormatFactory;
 import org.apache.streampipes.extensions.api.connect.StreamPipesAdapter;
 import org.apache.streampipes.extensions.api.declarer.IStreamPipesFunctionDeclarer;
@@ -39,6 +40,7 @@ public class SpServiceDefinition {
 
   private List<IStreamPipesPipelineElement<?>> pipelineElements;
   private List<SpDataFormatFactory> dataFormatFactories;
+  private List<SpCompressionFactory> compressionFactories;
   private List<SpProtocolDefinitionFactory<?>> protocolDefinitionFactories;
   private List<IStreamPipesFunctionDeclarer> functions;
 
@@ -52,6 +54,7 @@ public class SpServiceDefinition {
     this.serviceId = UUID.randomUUID().toString();
     this.pipelineElements = new ArrayList<>();
     this.dataFormatFactories = new ArrayList<>();
+    this.compressionFactories = new ArrayList<>();
     this.protocolDefinitionFactories = new ArrayList<>();
     this.kvConfigs = new ArrayList<>();
     this.functions = new ArrayList<>();
@@ -123,6 +126,10 @@ public class SpServiceDefinition {
     this.dataFormatFactories.addAll(factories);
   }
 
+  public void addCompressionFactories(List<SpCompressionFactory> factories) {
+    this.compressionFactories.addAll(factories);
+  }
+
   public void addConfig(ConfigItem configItem) {
     this.kvConfigs.add(configItem);
   }
@@ -143,6 +150,14 @@ public class SpServiceDefinition {
     this.dataFormatFactories = dataFormatFactories;
   }
 
+  public List<SpCompressionFactory> getCompressionFactories() {
+    return compressionFactories;
+  }
+
+  public void setCompressionFactories(List<SpCompressionFactory> compressionFactories) {
+    this.compressionFactories = compressionFactories;
+  }
+
   public void addProtocolDefinitionFactory(SpProtocolDefinitionFactory<?> factory) {
     this.protocolDefinitionFactories.add(factory);
   }
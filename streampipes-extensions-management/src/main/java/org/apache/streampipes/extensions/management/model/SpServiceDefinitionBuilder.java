@@ -17,6 +17,7 @@
  */
 package org.apache.streampipes.extensions.management.model;
 
+import org.apache.streampipes.dataformat.SpCompressionFactory;
 import org.apache.streampipes.dataformat.SpDataFormatFactory;
 import org.apache.streampipes.extensions.api.connect.StreamPipesAdapter;
 import org.apache.streampipes.extensions.api.declarer.IStreamPipesFunctionDeclarer;
@@ -113,6 +114,15 @@ public class SpServiceDefinitionBuilder {
     return this;
   }
 
+  /**
+   * Registers payload compressions which can be selected by the pipeline manager for connections
+   * between pipeline elements of this service and other services supporting the same compression.
+   */
+  public SpServiceDefinitionBuilder registerCompressionFormats(SpCompressionFactory... compressionFactories) {
+    this.serviceDefinition.addCompressionFactories(Arrays.asList(compressionFactories));
+    return this;
+  }
+
   public SpServiceDefinitionBuilder registerMessagingProtocol(SpProtocolDefinitionFactory<?> protocol) {
     this.serviceDefinition.addProtocolDefinitionFactory(protocol);
     return this;
@@ -19,54 +19,25 @@
 package org.apache.streampipes.connect.iiot.utils;
 
 import org.apache.streampipes.client.StreamPipesClient;
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.commons.exceptions.connect.ParseException;
 import org.apache.streampipes.extensions.management.client.StreamPipesClientResolver;
 
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.IOException;
 import java.io.InputStream;
 
 public class FileProtocolUtils {
 
+  /**
+   * Opens the selected file from the local file cache, the file is only downloaded from the core
+   * if it is not cached yet or its content has changed.
+   */
   public static InputStream getFileInputStream(String selectedFilename) throws FileNotFoundException {
-    if (!isFilePresent(selectedFilename)) {
-      try {
-        storeFileLocally(selectedFilename);
-      } catch (IOException e) {
-        throw new ParseException("Could not receive file");
-      }
+    try {
+      StreamPipesClient client = new StreamPipesClientResolver().makeStreamPipesClientInstance();
+      return client.fileApi().getFileContentAsStream(selectedFilename);
+    } catch (SpRuntimeException e) {
+      throw new ParseException("Could not receive file", e);
     }
-
-    return new FileInputStream(makeFileLoc(selectedFilename));
-  }
-
-  private static boolean isFilePresent(String selectedFilename) {
-    File file = new File(makeFileLoc(selectedFilename));
-    return file.exists();
-  }
-
-  private static void storeFileLocally(String selectedFilename) throws IOException {
-    File storageDir = new File(makeServiceStorageDir());
-    if (!storageDir.exists()) {
-      storageDir.mkdirs();
-    }
-    StreamPipesClient client = new StreamPipesClientResolver().makeStreamPipesClientInstance();
-
-    client.fileApi().writeToFile(selectedFilename, makeFileLoc(selectedFilename));
-  }
-
-  private static String makeServiceStorageDir() {
-    return System.getProperty("user.home")
-        + File.separator
-        + ".streampipes"
-        + File.separator
-        + "service";
   }
-
-  private static String makeFileLoc(String filename) {
-    return makeServiceStorageDir() + File.separator + filename;
-  }
-
 }
@@ -22,7 +22,6 @@ import org.apache.streampipes.client.StreamPipesClient;
 import org.apache.streampipes.extensions.management.client.StreamPipesClientResolver;
 
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -42,15 +41,15 @@ public class ZipFileImageIterator {
   private boolean infinite;
 
   public ZipFileImageIterator(String zipFileUrl, boolean infinite) throws IOException {
-    ZipInputStream inputStream = fetchZipInputStream(zipFileUrl);
     this.infinite = infinite;
-
-    ZipEntry entry;
     this.allImages = new ArrayList<>();
 
-    while ((entry = inputStream.getNextEntry()) != null) {
-      if (isImage(entry.getName())) {
-        allImages.add(extractFile(inputStream));
+    try (ZipInputStream inputStream = fetchZipInputStream(zipFileUrl)) {
+      ZipEntry entry;
+      while ((entry = inputStream.getNextEntry()) != null) {
+        if (isImage(entry.getName())) {
+          allImages.add(extractFile(inputStream));
+        }
       }
     }
     this.current = 0;
@@ -87,8 +86,7 @@ public class ZipFileImageIterator {
 
   private ZipInputStream fetchZipInputStream(String filename) {
     StreamPipesClient client = new StreamPipesClientResolver().makeStreamPipesClientInstance();
-    byte[] result = client.fileApi().getFileContent(filename);
-    return new ZipInputStream(new ByteArrayInputStream(result));
+    return new ZipInputStream(client.fileApi().getFileContentAsStream(filename));
   }
 
   private byte[] extractFile(ZipInputStream zipIn) throws IOException {
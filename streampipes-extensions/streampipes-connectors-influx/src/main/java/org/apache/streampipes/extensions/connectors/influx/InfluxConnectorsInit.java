@@ -19,8 +19,12 @@
 package org.apache.streampipes.extensions.connectors.influx;
 
 import org.apache.streampipes.dataformat.cbor.CborDataFormatFactory;
+import org.apache.streampipes.dataformat.compression.Lz4CompressionFactory;
+import org.apache.streampipes.dataformat.compression.SnappyCompressionFactory;
+import org.apache.streampipes.dataformat.compression.ZstdCompressionFactory;
 import org.apache.streampipes.dataformat.fst.FstDataFormatFactory;
 import org.apache.streampipes.dataformat.json.JsonDataFormatFactory;
+import org.apache.streampipes.dataformat.positional.PositionalDataFormatFactory;
 import org.apache.streampipes.dataformat.smile.SmileDataFormatFactory;
 import org.apache.streampipes.extensions.connectors.influx.adapter.InfluxDbStreamAdapter;
 import org.apache.streampipes.extensions.connectors.influx.sink.InfluxDbSink;
@@ -51,7 +55,12 @@ public class InfluxConnectorsInit extends ExtensionsModelSubmitter {
             new JsonDataFormatFactory(),
             new CborDataFormatFactory(),
             new SmileDataFormatFactory(),
-            new FstDataFormatFactory())
+            new FstDataFormatFactory(),
+            new PositionalDataFormatFactory())
+        .registerCompressionFormats(
+            new Lz4CompressionFactory(),
+            new ZstdCompressionFactory(),
+            new SnappyCompressionFactory())
         .registerMessagingProtocols(
             new SpKafkaProtocolFactory(),
             new SpJmsProtocolFactory(),
@@ -29,6 +29,7 @@ import org.apache.streampipes.extensions.api.connect.context.IAdapterRuntimeCont
 import org.apache.streampipes.extensions.api.extractor.IAdapterParameterExtractor;
 import org.apache.streampipes.extensions.api.extractor.IStaticPropertyExtractor;
 import org.apache.streampipes.extensions.api.runtime.SupportsRuntimeConfig;
+import org.apache.streampipes.extensions.connectors.opcua.client.OpcUaSubscriptionBatch;
 import org.apache.streampipes.extensions.connectors.opcua.client.SpOpcUaClient;
 import org.apache.streampipes.extensions.connectors.opcua.config.OpcUaAdapterConfig;
 import org.apache.streampipes.extensions.connectors.opcua.config.SharedUserConfiguration;
@@ -40,6 +41,7 @@ import org.apache.streampipes.extensions.management.connect.adapter.util.Polling
 import org.apache.streampipes.model.AdapterType;
 import org.apache.streampipes.model.connect.guess.GuessSchema;
 import org.apache.streampipes.model.connect.rules.schema.DeleteRuleDescription;
+import org.apache.streampipes.model.staticproperty.FreeTextStaticProperty;
 import org.apache.streampipes.model.staticproperty.StaticProperty;
 import org.apache.streampipes.sdk.StaticProperties;
 import org.apache.streampipes.sdk.builder.adapter.AdapterConfigurationBuilder;
@@ -48,7 +50,6 @@ import org.apache.streampipes.sdk.helpers.Labels;
 import org.apache.streampipes.sdk.helpers.Locales;
 import org.apache.streampipes.sdk.utils.Assets;
 
-import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaMonitoredItem;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
@@ -68,7 +69,10 @@ import java.util.stream.Collectors;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.ADAPTER_TYPE;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.PULLING_INTERVAL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.PULL_MODE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.QUEUE_SIZE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.SAMPLING_INTERVAL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.SUBSCRIPTION_MODE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.SUBSCRIPTION_SETTINGS;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaUtil.getSchema;
 
 public class OpcUaAdapter implements StreamPipesAdapter, IPullAdapter, SupportsRuntimeConfig {
@@ -80,22 +84,15 @@ public class OpcUaAdapter implements StreamPipesAdapter, IPullAdapter, SupportsR
   private SpOpcUaClient<OpcUaAdapterConfig> spOpcUaClient;
   private List<OpcNode> allNodes;
   private List<NodeId> allNodeIds;
-  private int numberProperties;
   private final Map<String, Object> event;
 
   private IEventCollector collector;
   private PullAdapterScheduler pullAdapterScheduler;
-
-  /**
-   * This variable is used to map the node ids during the subscription to the labels of the nodes
-   */
-  private final Map<String, String> nodeIdToLabelMapping;
+  private OpcUaSubscriptionBatch subscriptionBatch;
 
   public OpcUaAdapter() {
     super();
-    this.numberProperties = 0;
     this.event = new HashMap<>();
-    this.nodeIdToLabelMapping = new HashMap<>();
   }
 
   private void prepareAdapter(IAdapterParameterExtractor extractor) throws AdapterException {
@@ -110,7 +107,7 @@ public class OpcUaAdapter implements StreamPipesAdapter, IPullAdapter, SupportsR
         .collect(Collectors.toList());
 
     try {
-      this.spOpcUaClient.connect();
+      this.spOpcUaClient.connectShared();
       OpcUaNodeBrowser browserClient =
           new OpcUaNodeBrowser(this.spOpcUaClient.getClient(), this.spOpcUaClient.getSpOpcConfig());
       this.allNodes = browserClient.findNodes(deleteKeys);
@@ -120,17 +117,19 @@ public class OpcUaAdapter implements StreamPipesAdapter, IPullAdapter, SupportsR
         this.allNodeIds.add(node.getNodeId());
       }
 
-      if (spOpcUaClient.getSpOpcConfig().inPullMode()) {
-        this.pullingIntervalMilliSeconds = spOpcUaClient.getSpOpcConfig().getPullIntervalMilliSeconds();
+      OpcUaAdapterConfig config = spOpcUaClient.getSpOpcConfig();
+      if (config.inPullMode()) {
+        this.pullingIntervalMilliSeconds = config.getPullIntervalMilliSeconds();
       } else {
-        this.numberProperties = this.allNodeIds.size();
-        this.spOpcUaClient.createListSubscription(this.allNodeIds, this);
+        this.subscriptionBatch = new OpcUaSubscriptionBatch(
+            this.allNodes,
+            config.getSamplingIntervalMilliSeconds(),
+            config.getQueueSize(),
+            collector::collect);
+        this.spOpcUaClient.subscribe(this.subscriptionBatch);
       }
-
-      this.allNodes.forEach(node -> this.nodeIdToLabelMapping.put(node.getNodeId().toString(), node.getLabel()));
-
-
     } catch (Exception e) {
+      this.spOpcUaClient.disconnect();
       throw new AdapterException("The Connection to the OPC UA server could not be established.", e.getCause());
     }
   }
@@ -165,33 +164,6 @@ public class OpcUaAdapter implements StreamPipesAdapter, IPullAdapter, SupportsR
     }
   }
 
-  public void onSubscriptionValue(UaMonitoredItem item,
-                                  DataValue value) {
-
-    String key = this.nodeIdToLabelMapping.get(item.getReadValueId().getNodeId().toString());
-
-    OpcNode currNode = this.allNodes.stream()
-        .filter(node -> key.equals(node.getLabel()))
-        .findFirst()
-        .orElse(null);
-
-    if (currNode != null) {
-      event.put(currNode.getLabel(), value.getValue().getValue());
-
-      // ensure that event is complete and all opc ua subscriptions transmitted at least one value
-      if (event.keySet().size() >= this.numberProperties) {
-        Map<String, Object> newEvent = new HashMap<>();
-        // deep copy of event to prevent preprocessor error
-        for (String k : event.keySet()) {
-          newEvent.put(k, event.get(k));
-        }
-        collector.collect(newEvent);
-      }
-    } else {
-      LOG.error("No event is produced, because subscription item {} could not be found within all nodes", item);
-    }
-  }
-
   @Override
   public PollingSettings getPollingInterval() {
     return PollingSettings.from(TimeUnit.MILLISECONDS, this.pullingIntervalMilliSeconds);
@@ -216,10 +188,16 @@ public class OpcUaAdapter implements StreamPipesAdapter, IPullAdapter, SupportsR
   @Override
   public void onAdapterStopped(IAdapterParameterExtractor extractor,
                                IAdapterRuntimeContext adapterRuntimeContext) throws AdapterException {
-    this.spOpcUaClient.disconnect();
-
-    if (this.spOpcUaClient.getSpOpcConfig().inPullMode()) {
-      this.pullAdapterScheduler.shutdown();
+    try {
+      if (this.spOpcUaClient.getSpOpcConfig().inPullMode()) {
+        this.pullAdapterScheduler.shutdown();
+      } else {
+        this.spOpcUaClient.unsubscribe(this.subscriptionBatch);
+      }
+    } catch (ExecutionException | InterruptedException e) {
+      LOG.warn("Could not delete the monitored items of the subscription", e);
+    } finally {
+      this.spOpcUaClient.disconnect();
     }
   }
 
@@ -239,11 +217,21 @@ public class OpcUaAdapter implements StreamPipesAdapter, IPullAdapter, SupportsR
             Alternatives.from(Labels.withId(PULL_MODE),
                 StaticProperties.integerFreeTextProperty(
                     Labels.withId(PULLING_INTERVAL))),
-            Alternatives.from(Labels.withId(SUBSCRIPTION_MODE)));
+            Alternatives.from(Labels.withId(SUBSCRIPTION_MODE), makeSubscriptionSettings()));
     SharedUserConfiguration.appendSharedOpcUaConfig(builder, true);
     return builder.buildConfiguration();
   }
 
+  private StaticProperty makeSubscriptionSettings() {
+    FreeTextStaticProperty samplingInterval = StaticProperties.integerFreeTextProperty(
+        Labels.withId(SAMPLING_INTERVAL));
+    samplingInterval.setValue(String.valueOf(OpcUaAdapterConfig.DEFAULT_SAMPLING_INTERVAL_MS));
+    FreeTextStaticProperty queueSize = StaticProperties.integerFreeTextProperty(Labels.withId(QUEUE_SIZE));
+    queueSize.setValue(String.valueOf(OpcUaAdapterConfig.DEFAULT_QUEUE_SIZE));
+
+    return StaticProperties.group(Labels.withId(SUBSCRIPTION_SETTINGS), samplingInterval, queueSize);
+  }
+
 
   @Override
   public GuessSchema onSchemaRequested(IAdapterParameterExtractor extractor,
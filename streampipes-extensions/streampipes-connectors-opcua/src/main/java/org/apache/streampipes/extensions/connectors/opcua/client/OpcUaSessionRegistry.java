@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.connectors.opcua.client;
+
+import org.apache.streampipes.commons.exceptions.SpConfigurationException;
+import org.apache.streampipes.extensions.connectors.opcua.config.MiloOpcUaConfigurationProvider;
+import org.apache.streampipes.extensions.connectors.opcua.config.OpcUaConfig;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.stack.core.UaException;
+
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Reference-counted registry of OPC UA sessions, so that adapters connecting to the same server share a
+ * single session. The session is closed as soon as the last adapter releases it.
+ */
+public enum OpcUaSessionRegistry {
+
+  INSTANCE;
+
+  private final Map<SessionKey, SharedOpcUaSession> sessions = new HashMap<>();
+
+  public synchronized SharedOpcUaSession acquire(OpcUaConfig config)
+      throws UaException, ExecutionException, InterruptedException, SpConfigurationException, URISyntaxException {
+    SessionKey key = SessionKey.from(config);
+    SharedOpcUaSession session = sessions.get(key);
+    if (session == null) {
+      OpcUaClient client = OpcUaClient.create(new MiloOpcUaConfigurationProvider().makeClientConfig(config));
+      try {
+        client.connect().get();
+      } catch (ExecutionException | InterruptedException | RuntimeException e) {
+        client.disconnect();
+        throw e;
+      }
+      session = new SharedOpcUaSession(client);
+      sessions.put(key, session);
+    }
+    session.retain();
+    return session;
+  }
+
+  public synchronized void release(SharedOpcUaSession session) {
+    if (session.release()) {
+      sessions.values().remove(session);
+      session.close();
+    }
+  }
+
+  private record SessionKey(String serverUrl,
+                            boolean unauthenticated,
+                            String username,
+                            String password) {
+
+    static SessionKey from(OpcUaConfig config) {
+      return new SessionKey(
+          config.getOpcServerURL(),
+          config.isUnauthenticated(),
+          config.getUsername(),
+          config.getPassword()
+      );
+    }
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.connectors.opcua.client;
+
+import org.apache.streampipes.extensions.connectors.opcua.model.OpcNode;
+
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaMonitoredItem;
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscription;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemCreateRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoringParameters;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Monitored items of a single adapter within a (possibly shared) subscription.
+ * Each batch reserves a contiguous range of client handles, so that the value of a notification is written to its
+ * slot by index. All values of a publish response are collected first and emitted as a single event, as soon as
+ * every node has reported at least one value. If the server queued several values of a node (queue size > 1), one
+ * event is emitted per queued value, each containing the latest preceding values of the other nodes.
+ *
+ * <p>Sampling interval and queue size apply to all nodes of the batch, i.e. they are configured per adapter.</p>
+ */
+public class OpcUaSubscriptionBatch implements UaSubscription.NotificationListener {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OpcUaSubscriptionBatch.class);
+
+  private static final AtomicLong CLIENT_HANDLES = new AtomicLong(1L);
+
+  private final List<OpcNode> nodes;
+  private final String[] labels;
+  private final Object[] values;
+  private final boolean[] received;
+  private final boolean[] updated;
+  private final int samplingIntervalMilliSeconds;
+  private final int queueSize;
+  private final Consumer<Map<String, Object>> eventConsumer;
+
+  private long firstClientHandle;
+  private int receivedCount;
+  private List<UaMonitoredItem> monitoredItems = List.of();
+
+  public OpcUaSubscriptionBatch(List<OpcNode> nodes,
+                                int samplingIntervalMilliSeconds,
+                                int queueSize,
+                                Consumer<Map<String, Object>> eventConsumer) {
+    this.nodes = nodes;
+    this.labels = nodes.stream().map(OpcNode::getLabel).toArray(String[]::new);
+    this.values = new Object[nodes.size()];
+    this.received = new boolean[nodes.size()];
+    this.updated = new boolean[nodes.size()];
+    this.samplingIntervalMilliSeconds = samplingIntervalMilliSeconds;
+    this.queueSize = queueSize;
+    this.eventConsumer = eventConsumer;
+    this.firstClientHandle = -1;
+  }
+
+  public int getSamplingIntervalMilliSeconds() {
+    return samplingIntervalMilliSeconds;
+  }
+
+  /**
+   * Creates the monitored items of this batch in the given subscription and starts listening to its notifications.
+   */
+  void register(UaSubscription subscription) throws ExecutionException, InterruptedException {
+    long handleOffset = CLIENT_HANDLES.getAndAdd(nodes.size());
+    List<MonitoredItemCreateRequest> requests = new ArrayList<>(nodes.size());
+
+    for (int i = 0; i < nodes.size(); i++) {
+      ReadValueId readValue =
+          new ReadValueId(nodes.get(i).getNodeId(), AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE);
+      MonitoringParameters parameters = new MonitoringParameters(
+          uint(handleOffset + i),
+          (double) samplingIntervalMilliSeconds,
+          null,      // filter, null means use default
+          uint(queueSize),
+          true         // discard oldest
+      );
+      requests.add(new MonitoredItemCreateRequest(readValue, MonitoringMode.Reporting, parameters));
+    }
+
+    synchronized (this) {
+      this.firstClientHandle = handleOffset;
+    }
+    subscription.addNotificationListener(this);
+    this.monitoredItems = subscription.createMonitoredItems(TimestampsToReturn.Both, requests).get();
+
+    for (UaMonitoredItem item : monitoredItems) {
+      if (item.getStatusCode().isGood()) {
+        LOG.info("item created for nodeId={}", item.getReadValueId().getNodeId());
+      } else {
+        LOG.error("failed to create item for {} {}", item.getReadValueId().getNodeId(), item.getStatusCode());
+      }
+    }
+  }
+
+  /**
+   * Stops listening to the given subscription and deletes the monitored items of this batch.
+   */
+  void unregister(UaSubscription subscription) throws ExecutionException, InterruptedException {
+    subscription.removeNotificationListener(this);
+    if (!monitoredItems.isEmpty()) {
+      subscription.deleteMonitoredItems(monitoredItems).get();
+    }
+    this.monitoredItems = List.of();
+  }
+
+  @Override
+  public synchronized void onDataChangeNotification(UaSubscription subscription,
+                                                    List<UaMonitoredItem> items,
+                                                    List<DataValue> dataValues,
+                                                    DateTime publishTime) {
+    boolean changed = false;
+    for (int i = 0; i < items.size(); i++) {
+      long slot = items.get(i).getClientHandle().longValue() - firstClientHandle;
+      if (firstClientHandle >= 0 && slot >= 0 && slot < values.length) {
+        int index = (int) slot;
+        // a further queued value of the same node starts the next event
+        if (updated[index]) {
+          emitEvent();
+        }
+        values[index] = dataValues.get(i).getValue().getValue();
+        updated[index] = true;
+        if (!received[index]) {
+          received[index] = true;
+          receivedCount++;
+        }
+        changed = true;
+      }
+    }
+
+    if (changed) {
+      emitEvent();
+    }
+  }
+
+  private void emitEvent() {
+    Arrays.fill(updated, false);
+    // ensure that all opc ua subscriptions transmitted at least one value
+    if (receivedCount == values.length) {
+      Map<String, Object> event = new HashMap<>((int) (values.length / 0.75f) + 1);
+      for (int i = 0; i < values.length; i++) {
+        event.put(labels[i], values[i]);
+      }
+      eventConsumer.accept(event);
+    }
+  }
+}
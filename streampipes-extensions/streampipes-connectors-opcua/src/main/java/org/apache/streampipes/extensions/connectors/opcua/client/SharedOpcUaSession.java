@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.connectors.opcua.client;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscription;
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscriptionManager;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * An OPC UA session which is shared by all adapters connecting to the same server with the same credentials.
+ * Adapters using the same sampling interval share one subscription, in which each adapter owns an
+ * {@link OpcUaSubscriptionBatch} of monitored items.
+ */
+public class SharedOpcUaSession {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SharedOpcUaSession.class);
+
+  private final OpcUaClient client;
+  private final Map<Integer, UaSubscription> subscriptions;
+  private final Map<Integer, List<OpcUaSubscriptionBatch>> batches;
+  private int references;
+
+  SharedOpcUaSession(OpcUaClient client) {
+    this.client = client;
+    this.subscriptions = new HashMap<>();
+    this.batches = new HashMap<>();
+    this.client.getSubscriptionManager().addSubscriptionListener(new UaSubscriptionManager.SubscriptionListener() {
+      @Override
+      public void onSubscriptionTransferFailed(UaSubscription subscription, StatusCode statusCode) {
+        LOG.warn("Transfer for subscriptionId={} failed: {}", subscription.getSubscriptionId(), statusCode);
+        recreateSubscription(subscription);
+      }
+    });
+  }
+
+  public OpcUaClient getClient() {
+    return client;
+  }
+
+  public synchronized void subscribe(OpcUaSubscriptionBatch batch) throws ExecutionException, InterruptedException {
+    int interval = batch.getSamplingIntervalMilliSeconds();
+    UaSubscription subscription = getOrCreateSubscription(interval);
+    try {
+      batch.register(subscription);
+    } catch (ExecutionException | InterruptedException | RuntimeException e) {
+      discard(batch, subscription);
+      throw e;
+    }
+    batches.computeIfAbsent(interval, key -> new ArrayList<>()).add(batch);
+  }
+
+  public synchronized void unsubscribe(OpcUaSubscriptionBatch batch) throws ExecutionException, InterruptedException {
+    int interval = batch.getSamplingIntervalMilliSeconds();
+    List<OpcUaSubscriptionBatch> intervalBatches = batches.getOrDefault(interval, List.of());
+    UaSubscription subscription = subscriptions.get(interval);
+    if (!intervalBatches.remove(batch) || subscription == null) {
+      return;
+    }
+    batch.unregister(subscription);
+
+    if (intervalBatches.isEmpty()) {
+      batches.remove(interval);
+      subscriptions.remove(interval);
+      client.getSubscriptionManager().deleteSubscription(subscription.getSubscriptionId()).get();
+    }
+  }
+
+  /**
+   * Removes a batch whose registration failed, and the subscription if no other batch uses it.
+   */
+  private void discard(OpcUaSubscriptionBatch batch,
+                       UaSubscription subscription) {
+    int interval = batch.getSamplingIntervalMilliSeconds();
+    try {
+      batch.unregister(subscription);
+    } catch (ExecutionException | InterruptedException | RuntimeException e) {
+      LOG.warn("Could not delete the monitored items of a failed subscription", e);
+    }
+    if (batches.getOrDefault(interval, List.of()).isEmpty()) {
+      batches.remove(interval);
+      subscriptions.remove(interval);
+      client.getSubscriptionManager().deleteSubscription(subscription.getSubscriptionId());
+    }
+  }
+
+  synchronized void retain() {
+    references++;
+  }
+
+  synchronized boolean release() {
+    return --references == 0;
+  }
+
+  void close() {
+    client.disconnect();
+  }
+
+  private UaSubscription getOrCreateSubscription(int interval) throws ExecutionException, InterruptedException {
+    UaSubscription subscription = subscriptions.get(interval);
+    if (subscription == null) {
+      subscription = client.getSubscriptionManager().createSubscription(interval).get();
+      subscriptions.put(interval, subscription);
+    }
+    return subscription;
+  }
+
+  private synchronized void recreateSubscription(UaSubscription failed) {
+    subscriptions.entrySet().stream()
+        .filter(entry -> entry.getValue() == failed)
+        .map(Map.Entry::getKey)
+        .findFirst()
+        .ifPresent(interval -> {
+          subscriptions.remove(interval);
+          try {
+            UaSubscription subscription = getOrCreateSubscription(interval);
+            for (OpcUaSubscriptionBatch batch : batches.getOrDefault(interval, List.of())) {
+              batch.register(subscription);
+            }
+          } catch (ExecutionException | InterruptedException e) {
+            LOG.error("Re-creating the subscription failed", e);
+          }
+        });
+  }
+}
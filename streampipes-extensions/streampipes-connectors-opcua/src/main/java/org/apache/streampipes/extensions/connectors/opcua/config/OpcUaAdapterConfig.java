@@ -20,7 +20,12 @@ package org.apache.streampipes.extensions.connectors.opcua.config;
 
 public class OpcUaAdapterConfig extends OpcUaConfig {
 
+  public static final int DEFAULT_SAMPLING_INTERVAL_MS = 1000;
+  public static final int DEFAULT_QUEUE_SIZE = 10;
+
   private Integer pullIntervalMilliSeconds;
+  private int samplingIntervalMilliSeconds = DEFAULT_SAMPLING_INTERVAL_MS;
+  private int queueSize = DEFAULT_QUEUE_SIZE;
 
   public Integer getPullIntervalMilliSeconds() {
     return pullIntervalMilliSeconds;
@@ -30,6 +35,22 @@ public class OpcUaAdapterConfig extends OpcUaConfig {
     this.pullIntervalMilliSeconds = pullIntervalMilliSeconds;
   }
 
+  public int getSamplingIntervalMilliSeconds() {
+    return samplingIntervalMilliSeconds;
+  }
+
+  public void setSamplingIntervalMilliSeconds(int samplingIntervalMilliSeconds) {
+    this.samplingIntervalMilliSeconds = samplingIntervalMilliSeconds;
+  }
+
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  public void setQueueSize(int queueSize) {
+    this.queueSize = queueSize;
+  }
+
   public boolean inPullMode() {
     return pullIntervalMilliSeconds != null;
   }
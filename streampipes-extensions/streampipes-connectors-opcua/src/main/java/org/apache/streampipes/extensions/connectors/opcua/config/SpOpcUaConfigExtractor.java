@@ -35,6 +35,8 @@ import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabe
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.OPC_URL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.PULLING_INTERVAL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.PULL_MODE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.QUEUE_SIZE;
+import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.SAMPLING_INTERVAL;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.UNAUTHENTICATED;
 import static org.apache.streampipes.extensions.connectors.opcua.utils.OpcUaLabels.USERNAME;
 
@@ -57,6 +59,11 @@ public class SpOpcUaConfigExtractor {
           extractor.singleValueParameter(PULLING_INTERVAL.name(), Integer.class);
 
       config.setPullIntervalMilliSeconds(pullIntervalSeconds);
+    } else if (extractor.getStaticPropertyByName(SAMPLING_INTERVAL.name()) != null) {
+      // adapters created before the subscription settings were introduced keep the defaults
+      config.setSamplingIntervalMilliSeconds(
+          extractor.singleValueParameter(SAMPLING_INTERVAL.name(), Integer.class));
+      config.setQueueSize(extractor.singleValueParameter(QUEUE_SIZE.name(), Integer.class));
     }
 
     return config;
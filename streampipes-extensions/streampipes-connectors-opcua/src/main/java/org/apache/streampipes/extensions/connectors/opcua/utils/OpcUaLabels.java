@@ -41,5 +41,8 @@ public enum OpcUaLabels {
   ADAPTER_TYPE,
   PULL_MODE,
   SUBSCRIPTION_MODE,
+  SUBSCRIPTION_SETTINGS,
+  SAMPLING_INTERVAL,
+  QUEUE_SIZE,
   MAPPING_PROPERY;
 }
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.connectors.opcua.client;
+
+import org.apache.streampipes.extensions.connectors.opcua.model.OpcNode;
+import org.apache.streampipes.sdk.utils.Datatypes;
+
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaMonitoredItem;
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscription;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemCreateRequest;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OpcUaSubscriptionBatchTest {
+
+  private final List<Map<String, Object>> events = new ArrayList<>();
+  private UaSubscription subscription;
+  private List<UInteger> clientHandles;
+
+  @Before
+  public void setUp() throws Exception {
+    var nodes = List.of(
+        new OpcNode("temperature", Datatypes.Double, new NodeId(2, "temperature")),
+        new OpcNode("pressure", Datatypes.Double, new NodeId(2, "pressure"))
+    );
+    var batch = new OpcUaSubscriptionBatch(nodes, 500, 5, events::add);
+
+    subscription = mock(UaSubscription.class);
+    when(subscription.createMonitoredItems(any(), anyList())).thenReturn(CompletableFuture.completedFuture(List.of()));
+    batch.register(subscription);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<MonitoredItemCreateRequest>> requests = ArgumentCaptor.forClass(List.class);
+    verify(subscription).createMonitoredItems(any(), requests.capture());
+    clientHandles = requests.getValue()
+        .stream()
+        .map(request -> request.getRequestedParameters().getClientHandle())
+        .toList();
+    verify(subscription).addNotificationListener(batch);
+
+    assertEquals(500.0, requests.getValue().get(0).getRequestedParameters().getSamplingInterval(), 0.0);
+    assertEquals(uint(5), requests.getValue().get(0).getRequestedParameters().getQueueSize());
+  }
+
+  @Test
+  public void testEventIsEmittedOncePerPublishResponse() {
+    var batch = listener();
+    batch.onDataChangeNotification(subscription,
+        List.of(item(clientHandles.get(0)), item(clientHandles.get(1))),
+        List.of(value(20.0), value(1.0)),
+        null);
+
+    assertEquals(1, events.size());
+    assertEquals(20.0, events.get(0).get("temperature"));
+    assertEquals(1.0, events.get(0).get("pressure"));
+  }
+
+  @Test
+  public void testQueuedValuesAreEmittedAsSeparateEvents() {
+    var batch = listener();
+    batch.onDataChangeNotification(subscription,
+        List.of(item(clientHandles.get(0)), item(clientHandles.get(1)), item(clientHandles.get(0)),
+            item(clientHandles.get(0))),
+        List.of(value(20.0), value(1.0), value(21.0), value(22.0)),
+        null);
+
+    assertEquals(3, events.size());
+    assertEquals(20.0, events.get(0).get("temperature"));
+    assertEquals(21.0, events.get(1).get("temperature"));
+    assertEquals(22.0, events.get(2).get("temperature"));
+    assertEquals(1.0, events.get(2).get("pressure"));
+  }
+
+  @Test
+  public void testEventRequiresValueOfEachNode() {
+    var batch = listener();
+    batch.onDataChangeNotification(subscription, List.of(item(clientHandles.get(0))), List.of(value(20.0)), null);
+    assertTrue(events.isEmpty());
+
+    batch.onDataChangeNotification(subscription, List.of(item(clientHandles.get(1))), List.of(value(1.0)), null);
+    assertEquals(1, events.size());
+    assertEquals(20.0, events.get(0).get("temperature"));
+  }
+
+  @Test
+  public void testItemsOfOtherBatchesAreIgnored() {
+    var batch = listener();
+    batch.onDataChangeNotification(subscription,
+        List.of(item(clientHandles.get(0)), item(clientHandles.get(1))),
+        List.of(value(20.0), value(1.0)),
+        null);
+    batch.onDataChangeNotification(subscription,
+        List.of(item(uint(clientHandles.get(1).longValue() + 1))),
+        List.of(value(99.0)),
+        null);
+
+    assertEquals(1, events.size());
+  }
+
+  private UaSubscription.NotificationListener listener() {
+    ArgumentCaptor<UaSubscription.NotificationListener> listener =
+        ArgumentCaptor.forClass(UaSubscription.NotificationListener.class);
+    verify(subscription).addNotificationListener(listener.capture());
+    return listener.getValue();
+  }
+
+  private UaMonitoredItem item(UInteger clientHandle) {
+    var item = mock(UaMonitoredItem.class);
+    when(item.getClientHandle()).thenReturn(clientHandle);
+    return item;
+  }
+
+  private DataValue value(double value) {
+    return new DataValue(new Variant(value));
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.extensions.connectors.opcua.client;
+
+import org.apache.streampipes.extensions.connectors.opcua.model.OpcNode;
+import org.apache.streampipes.sdk.utils.Datatypes;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscription;
+import org.eclipse.milo.opcua.sdk.client.subscriptions.OpcUaSubscriptionManager;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SharedOpcUaSessionTest {
+
+  @Test
+  public void testFailedSubscriptionIsDiscarded() throws Exception {
+    var subscriptionManager = mock(OpcUaSubscriptionManager.class);
+    var client = mock(OpcUaClient.class);
+    when(client.getSubscriptionManager()).thenReturn(subscriptionManager);
+    var subscription = mock(UaSubscription.class);
+    when(subscription.getSubscriptionId()).thenReturn(uint(1));
+    when(subscription.createMonitoredItems(any(), anyList()))
+        .thenReturn(CompletableFuture.failedFuture(new UaException(StatusCode.BAD)));
+    when(subscriptionManager.createSubscription(anyDouble()))
+        .thenReturn(CompletableFuture.completedFuture(subscription));
+
+    var session = new SharedOpcUaSession(client);
+    var batch = new OpcUaSubscriptionBatch(
+        List.of(new OpcNode("temperature", Datatypes.Double, new NodeId(2, "temperature"))),
+        500,
+        1,
+        event -> {
+        });
+
+    assertThrows(ExecutionException.class, () -> session.subscribe(batch));
+    verify(subscription).removeNotificationListener(batch);
+    verify(subscriptionManager).deleteSubscription(uint(1));
+
+    // the next subscription is created from scratch
+    assertThrows(ExecutionException.class, () -> session.subscribe(batch));
+    verify(subscriptionManager, times(2)).createSubscription(anyDouble());
+  }
+}
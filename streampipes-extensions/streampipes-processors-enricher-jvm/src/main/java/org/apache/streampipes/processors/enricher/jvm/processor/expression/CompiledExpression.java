@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.expression;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A type-checked expression compiled to a lambda specialized for its result type.
+ * Numbers are evaluated as primitive doubles, booleans as primitive booleans.
+ */
+final class CompiledExpression {
+
+  static final int NO_SLOT = -1;
+
+  final ExpressionType type;
+  final ToDoubleFunction<EventSlots> number;
+  final Predicate<EventSlots> bool;
+  final Function<EventSlots, Object> value;
+
+  // set for constants and plain field references, which allows to specialize enclosing expressions
+  final Object constant;
+  final int slot;
+
+  private CompiledExpression(ExpressionType type,
+                             ToDoubleFunction<EventSlots> number,
+                             Predicate<EventSlots> bool,
+                             Function<EventSlots, Object> value,
+                             Object constant,
+                             int slot) {
+    this.type = type;
+    this.number = number;
+    this.bool = bool;
+    this.value = value;
+    this.constant = constant;
+    this.slot = slot;
+  }
+
+  static CompiledExpression ofNumber(ToDoubleFunction<EventSlots> number) {
+    return new CompiledExpression(ExpressionType.NUMBER, number, null, null, null, NO_SLOT);
+  }
+
+  static CompiledExpression ofBoolean(Predicate<EventSlots> bool) {
+    return new CompiledExpression(ExpressionType.BOOLEAN, null, bool, null, null, NO_SLOT);
+  }
+
+  static CompiledExpression ofString(Function<EventSlots, Object> value) {
+    return new CompiledExpression(ExpressionType.STRING, null, null, value, null, NO_SLOT);
+  }
+
+  static CompiledExpression numberConstant(double constant) {
+    return new CompiledExpression(ExpressionType.NUMBER, s -> constant, null, null, constant, NO_SLOT);
+  }
+
+  static CompiledExpression booleanConstant(boolean constant) {
+    return new CompiledExpression(ExpressionType.BOOLEAN, null, s -> constant, null, constant, NO_SLOT);
+  }
+
+  static CompiledExpression stringConstant(String constant) {
+    return new CompiledExpression(ExpressionType.STRING, null, null, s -> constant, constant, NO_SLOT);
+  }
+
+  static CompiledExpression field(ExpressionType type, int slot) {
+    switch (type) {
+      case NUMBER:
+        return new CompiledExpression(type, s -> s.numbers[slot], null, null, null, slot);
+      case BOOLEAN:
+        return new CompiledExpression(type, null, s -> s.booleans[slot], null, null, slot);
+      default:
+        return new CompiledExpression(type, null, null, s -> s.values[slot], null, slot);
+    }
+  }
+
+  boolean isConstant() {
+    return constant != null;
+  }
+
+  boolean isField() {
+    return slot != NO_SLOT;
+  }
+
+  /**
+   * Returns a function computing the boxed result, as added to the output event.
+   * Plain field references return the original value of the field, so that integer
+   * fields keep their type when projected or renamed.
+   */
+  Function<EventSlots, Object> toValueFunction() {
+    if (isField()) {
+      return s -> s.values[slot];
+    }
+    switch (type) {
+      case NUMBER:
+        return s -> number.applyAsDouble(s);
+      case BOOLEAN:
+        return s -> bool.test(s);
+      default:
+        return value;
+    }
+  }
+}
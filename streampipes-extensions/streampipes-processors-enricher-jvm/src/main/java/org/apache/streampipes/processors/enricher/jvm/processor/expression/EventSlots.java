@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.expression;
+
+/**
+ * Values of all fields referenced by an expression program, loaded once per event.
+ * Numeric and boolean fields are unboxed into primitive slots, so that compiled expressions
+ * do not need to look up, cast or unbox field values.
+ */
+final class EventSlots {
+
+  final double[] numbers;
+  final boolean[] booleans;
+  final Object[] values;
+
+  EventSlots(int size) {
+    this.numbers = new double[size];
+    this.booleans = new boolean[size];
+    this.values = new Object[size];
+  }
+}
@@ -0,0 +1,497 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.expression;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.processors.enricher.jvm.processor.expression.ExpressionLexer.Token;
+import org.apache.streampipes.processors.enricher.jvm.processor.expression.ExpressionLexer.TokenType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Parses and type-checks an expression program and compiles it into lambda trees.
+ *
+ * <pre>
+ * program    := statement ((';' | newline) statement)*
+ * statement  := 'where' expression | name '=' expression
+ * expression := or-expression with the operators || (or), &amp;&amp; (and), ! (not),
+ *               == != &lt; &lt;= &gt; &gt;=, + - * / % and unary -
+ * primary    := number | 'string' | true | false | field | function '(' arguments ')' | '(' expression ')'
+ * </pre>
+ *
+ * <p>Referenced fields are assigned to slots, which are loaded once per event. Sub-expressions
+ * consisting of constants only are folded at compile time, and comparisons or arithmetic between a
+ * field and a constant are compiled to a single lambda reading the primitive slot directly.</p>
+ */
+public class ExpressionCompiler {
+
+  private static final List<String> KEYWORDS = Arrays.asList("where", "and", "or", "not", "true", "false");
+
+  private static final Map<String, DoubleUnaryOperator> UNARY_FUNCTIONS = new HashMap<>();
+  private static final List<String> BINARY_FUNCTIONS = Arrays.asList("min", "max", "pow");
+
+  static {
+    UNARY_FUNCTIONS.put("abs", Math::abs);
+    UNARY_FUNCTIONS.put("sqrt", Math::sqrt);
+    UNARY_FUNCTIONS.put("exp", Math::exp);
+    UNARY_FUNCTIONS.put("log", Math::log);
+    UNARY_FUNCTIONS.put("log10", Math::log10);
+    UNARY_FUNCTIONS.put("floor", Math::floor);
+    UNARY_FUNCTIONS.put("ceil", Math::ceil);
+    UNARY_FUNCTIONS.put("round", v -> (double) Math.round(v));
+  }
+
+  private final Map<String, InputField> inputFields;
+
+  private final Map<String, Integer> slotIndices = new HashMap<>();
+  private final List<InputField> slotFields = new ArrayList<>();
+
+  private List<Token> tokens;
+  private int pos;
+
+  /**
+   * @param inputFields the fields which can be referenced, by their name (nested fields separated by '.')
+   */
+  public ExpressionCompiler(Map<String, InputField> inputFields) {
+    this.inputFields = inputFields;
+  }
+
+  public ExpressionProgram compile(String program) {
+    this.tokens = new ExpressionLexer(program).tokenize();
+    this.pos = 0;
+
+    List<Predicate<EventSlots>> filters = new ArrayList<>();
+    Map<String, Function<EventSlots, Object>> outputs = new LinkedHashMap<>();
+
+    while (peek().type != TokenType.END) {
+      if (peek().type == TokenType.SEPARATOR) {
+        next();
+        continue;
+      }
+      Token start = next();
+      if (start.isKeyword("where")) {
+        CompiledExpression condition = parseExpression();
+        expectType(condition, ExpressionType.BOOLEAN, start);
+        if (condition.isConstant()) {
+          if (!(Boolean) condition.constant) {
+            filters.add(s -> false);
+          }
+        } else {
+          filters.add(condition.bool);
+        }
+      } else if (start.type == TokenType.IDENTIFIER && !KEYWORDS.contains(start.text) && peek().isOperator("=")) {
+        next();
+        if (outputs.containsKey(start.text)) {
+          throw error(start, "Field '" + start.text + "' is assigned more than once");
+        }
+        outputs.put(start.text, parseExpression().toValueFunction());
+      } else {
+        throw error(start, "Expected 'where <condition>' or '<field> = <expression>'");
+      }
+      if (peek().type != TokenType.SEPARATOR && peek().type != TokenType.END) {
+        throw error(peek(), "Unexpected '" + peek().text + "'");
+      }
+    }
+
+    return new ExpressionProgram(slotFields, combine(filters), outputs);
+  }
+
+  private Predicate<EventSlots> combine(List<Predicate<EventSlots>> filters) {
+    if (filters.isEmpty()) {
+      return null;
+    } else if (filters.size() == 1) {
+      return filters.get(0);
+    } else {
+      return filters.stream().reduce(Predicate::and).get();
+    }
+  }
+
+  private CompiledExpression parseExpression() {
+    return parseOr();
+  }
+
+  private CompiledExpression parseOr() {
+    CompiledExpression left = parseAnd();
+    while (peek().isOperator("||") || peek().isKeyword("or")) {
+      Token op = next();
+      CompiledExpression right = parseAnd();
+      expectType(left, ExpressionType.BOOLEAN, op);
+      expectType(right, ExpressionType.BOOLEAN, op);
+      Predicate<EventSlots> l = left.bool;
+      Predicate<EventSlots> r = right.bool;
+      left = fold(CompiledExpression.ofBoolean(s -> l.test(s) || r.test(s)), left, right);
+    }
+    return left;
+  }
+
+  private CompiledExpression parseAnd() {
+    CompiledExpression left = parseNot();
+    while (peek().isOperator("&&") || peek().isKeyword("and")) {
+      Token op = next();
+      CompiledExpression right = parseNot();
+      expectType(left, ExpressionType.BOOLEAN, op);
+      expectType(right, ExpressionType.BOOLEAN, op);
+      Predicate<EventSlots> l = left.bool;
+      Predicate<EventSlots> r = right.bool;
+      left = fold(CompiledExpression.ofBoolean(s -> l.test(s) && r.test(s)), left, right);
+    }
+    return left;
+  }
+
+  private CompiledExpression parseNot() {
+    if (peek().isOperator("!") || peek().isKeyword("not")) {
+      Token op = next();
+      CompiledExpression operand = parseNot();
+      expectType(operand, ExpressionType.BOOLEAN, op);
+      Predicate<EventSlots> o = operand.bool;
+      return fold(CompiledExpression.ofBoolean(s -> !o.test(s)), operand);
+    }
+    return parseComparison();
+  }
+
+  private CompiledExpression parseComparison() {
+    CompiledExpression left = parseAdditive();
+    Token op = peek();
+    if (op.type == TokenType.OPERATOR && Arrays.asList("==", "!=", "<", "<=", ">", ">=").contains(op.text)) {
+      next();
+      CompiledExpression right = parseAdditive();
+      if (op.text.equals("==") || op.text.equals("!=")) {
+        if (left.type != right.type) {
+          throw error(op, "Cannot compare " + left.type + " with " + right.type);
+        }
+        Predicate<EventSlots> equals = compileEquals(left, right);
+        Predicate<EventSlots> result = op.text.equals("==") ? equals : equals.negate();
+        return fold(CompiledExpression.ofBoolean(result), left, right);
+      }
+      expectType(left, ExpressionType.NUMBER, op);
+      expectType(right, ExpressionType.NUMBER, op);
+      return fold(CompiledExpression.ofBoolean(compileNumberComparison(op.text, left, right)), left, right);
+    }
+    return left;
+  }
+
+  private Predicate<EventSlots> compileEquals(CompiledExpression left, CompiledExpression right) {
+    switch (left.type) {
+      case NUMBER:
+        return compileNumberComparison("==", left, right);
+      case BOOLEAN:
+        Predicate<EventSlots> lb = left.bool;
+        Predicate<EventSlots> rb = right.bool;
+        return s -> lb.test(s) == rb.test(s);
+      default:
+        Function<EventSlots, Object> lv = left.value;
+        Function<EventSlots, Object> rv = right.value;
+        return s -> stringEquals(lv.apply(s), rv.apply(s));
+    }
+  }
+
+  private Predicate<EventSlots> compileNumberComparison(String op,
+                                                        CompiledExpression left,
+                                                        CompiledExpression right) {
+    if (left.isConstant() && right.isField()) {
+      return compileNumberComparison(flip(op), right, left);
+    }
+    if (left.isField() && right.isConstant()) {
+      int i = left.slot;
+      double c = (Double) right.constant;
+      switch (op) {
+        case "==":
+          return s -> s.numbers[i] == c;
+        case "<":
+          return s -> s.numbers[i] < c;
+        case "<=":
+          return s -> s.numbers[i] <= c;
+        case ">":
+          return s -> s.numbers[i] > c;
+        default:
+          return s -> s.numbers[i] >= c;
+      }
+    }
+    ToDoubleFunction<EventSlots> l = left.number;
+    ToDoubleFunction<EventSlots> r = right.number;
+    switch (op) {
+      case "==":
+        return s -> l.applyAsDouble(s) == r.applyAsDouble(s);
+      case "<":
+        return s -> l.applyAsDouble(s) < r.applyAsDouble(s);
+      case "<=":
+        return s -> l.applyAsDouble(s) <= r.applyAsDouble(s);
+      case ">":
+        return s -> l.applyAsDouble(s) > r.applyAsDouble(s);
+      default:
+        return s -> l.applyAsDouble(s) >= r.applyAsDouble(s);
+    }
+  }
+
+  private String flip(String op) {
+    switch (op) {
+      case "<":
+        return ">";
+      case "<=":
+        return ">=";
+      case ">":
+        return "<";
+      case ">=":
+        return "<=";
+      default:
+        return op;
+    }
+  }
+
+  private CompiledExpression parseAdditive() {
+    CompiledExpression left = parseMultiplicative();
+    while (peek().isOperator("+") || peek().isOperator("-")) {
+      Token op = next();
+      CompiledExpression right = parseMultiplicative();
+      if (op.text.equals("+") && (left.type == ExpressionType.STRING || right.type == ExpressionType.STRING)) {
+        Function<EventSlots, Object> l = left.toValueFunction();
+        Function<EventSlots, Object> r = right.toValueFunction();
+        left = fold(CompiledExpression.ofString(s -> String.valueOf(l.apply(s)) + r.apply(s)), left, right);
+      } else {
+        left = compileArithmetic(op, left, right);
+      }
+    }
+    return left;
+  }
+
+  private CompiledExpression parseMultiplicative() {
+    CompiledExpression left = parseUnary();
+    while (peek().isOperator("*") || peek().isOperator("/") || peek().isOperator("%")) {
+      Token op = next();
+      left = compileArithmetic(op, left, parseUnary());
+    }
+    return left;
+  }
+
+  private CompiledExpression compileArithmetic(Token op,
+                                               CompiledExpression left,
+                                               CompiledExpression right) {
+    expectType(left, ExpressionType.NUMBER, op);
+    expectType(right, ExpressionType.NUMBER, op);
+    ToDoubleFunction<EventSlots> result;
+    if (left.isField() && right.isConstant()) {
+      int i = left.slot;
+      double c = (Double) right.constant;
+      switch (op.text) {
+        case "+":
+          result = s -> s.numbers[i] + c;
+          break;
+        case "-":
+          result = s -> s.numbers[i] - c;
+          break;
+        case "*":
+          result = s -> s.numbers[i] * c;
+          break;
+        case "/":
+          result = s -> s.numbers[i] / c;
+          break;
+        default:
+          result = s -> s.numbers[i] % c;
+      }
+    } else {
+      ToDoubleFunction<EventSlots> l = left.number;
+      ToDoubleFunction<EventSlots> r = right.number;
+      switch (op.text) {
+        case "+":
+          result = s -> l.applyAsDouble(s) + r.applyAsDouble(s);
+          break;
+        case "-":
+          result = s -> l.applyAsDouble(s) - r.applyAsDouble(s);
+          break;
+        case "*":
+          result = s -> l.applyAsDouble(s) * r.applyAsDouble(s);
+          break;
+        case "/":
+          result = s -> l.applyAsDouble(s) / r.applyAsDouble(s);
+          break;
+        default:
+          result = s -> l.applyAsDouble(s) % r.applyAsDouble(s);
+      }
+    }
+    return fold(CompiledExpression.ofNumber(result), left, right);
+  }
+
+  private CompiledExpression parseUnary() {
+    if (peek().isOperator("-")) {
+      Token op = next();
+      CompiledExpression operand = parseUnary();
+      expectType(operand, ExpressionType.NUMBER, op);
+      ToDoubleFunction<EventSlots> o = operand.number;
+      return fold(CompiledExpression.ofNumber(s -> -o.applyAsDouble(s)), operand);
+    }
+    return parsePrimary();
+  }
+
+  private CompiledExpression parsePrimary() {
+    Token token = next();
+    switch (token.type) {
+      case NUMBER:
+        try {
+          return CompiledExpression.numberConstant(Double.parseDouble(token.text));
+        } catch (NumberFormatException e) {
+          throw error(token, "Invalid number '" + token.text + "'");
+        }
+      case STRING:
+        return CompiledExpression.stringConstant(token.text);
+      case LEFT_PAREN:
+        CompiledExpression inner = parseExpression();
+        expect(TokenType.RIGHT_PAREN, ")");
+        return inner;
+      case IDENTIFIER:
+        if (token.text.equals("true") || token.text.equals("false")) {
+          return CompiledExpression.booleanConstant(Boolean.parseBoolean(token.text));
+        } else if (peek().type == TokenType.LEFT_PAREN) {
+          return parseFunction(token);
+        } else {
+          return compileField(token);
+        }
+      default:
+        throw error(token, token.type == TokenType.END || token.type == TokenType.SEPARATOR
+            ? "Unexpected end of expression"
+            : "Unexpected '" + token.text + "'");
+    }
+  }
+
+  private CompiledExpression parseFunction(Token name) {
+    next();
+    List<CompiledExpression> args = new ArrayList<>();
+    if (peek().type != TokenType.RIGHT_PAREN) {
+      args.add(parseArgument(name));
+      while (peek().type == TokenType.COMMA) {
+        next();
+        args.add(parseArgument(name));
+      }
+    }
+    expect(TokenType.RIGHT_PAREN, ")");
+
+    CompiledExpression[] operands = args.toArray(new CompiledExpression[0]);
+    if (!UNARY_FUNCTIONS.containsKey(name.text) && !BINARY_FUNCTIONS.contains(name.text)) {
+      throw error(name, "Unknown function '" + name.text + "'");
+    }
+    if (UNARY_FUNCTIONS.containsKey(name.text)) {
+      expectArguments(name, args, 1);
+      DoubleUnaryOperator function = UNARY_FUNCTIONS.get(name.text);
+      ToDoubleFunction<EventSlots> a = args.get(0).number;
+      return fold(CompiledExpression.ofNumber(s -> function.applyAsDouble(a.applyAsDouble(s))), operands);
+    }
+
+    expectArguments(name, args, 2);
+    ToDoubleFunction<EventSlots> a = args.get(0).number;
+    ToDoubleFunction<EventSlots> b = args.get(1).number;
+    switch (name.text) {
+      case "min":
+        return fold(CompiledExpression.ofNumber(s -> Math.min(a.applyAsDouble(s), b.applyAsDouble(s))), operands);
+      case "max":
+        return fold(CompiledExpression.ofNumber(s -> Math.max(a.applyAsDouble(s), b.applyAsDouble(s))), operands);
+      case "pow":
+        return fold(CompiledExpression.ofNumber(s -> Math.pow(a.applyAsDouble(s), b.applyAsDouble(s))), operands);
+      default:
+        throw error(name, "Unknown function '" + name.text + "'");
+    }
+  }
+
+  private CompiledExpression parseArgument(Token function) {
+    CompiledExpression arg = parseExpression();
+    expectType(arg, ExpressionType.NUMBER, function);
+    return arg;
+  }
+
+  private void expectArguments(Token function, List<CompiledExpression> args, int count) {
+    if (args.size() != count) {
+      throw error(function, "Function '" + function.text + "' expects " + count + " argument(s)");
+    }
+  }
+
+  private CompiledExpression compileField(Token token) {
+    InputField field = inputFields.get(token.text);
+    if (field == null) {
+      throw error(token, "Unknown field '" + token.text + "'");
+    }
+    int slot = slotIndices.computeIfAbsent(token.text, name -> {
+      slotFields.add(field);
+      return slotFields.size() - 1;
+    });
+    return CompiledExpression.field(field.getType(), slot);
+  }
+
+  /**
+   * Replaces an expression by its value if all operands are constants.
+   */
+  private CompiledExpression fold(CompiledExpression result, CompiledExpression... operands) {
+    for (CompiledExpression operand : operands) {
+      if (!operand.isConstant()) {
+        return result;
+      }
+    }
+    switch (result.type) {
+      case NUMBER:
+        return CompiledExpression.numberConstant(result.number.applyAsDouble(null));
+      case BOOLEAN:
+        return CompiledExpression.booleanConstant(result.bool.test(null));
+      default:
+        return CompiledExpression.stringConstant(String.valueOf(result.value.apply(null)));
+    }
+  }
+
+  private static boolean stringEquals(Object a, Object b) {
+    if (a == null || b == null) {
+      return a == b;
+    }
+    return a.toString().equals(b.toString());
+  }
+
+  private void expectType(CompiledExpression expression, ExpressionType type, Token at) {
+    if (expression.type != type) {
+      throw error(at, "Expected " + type + " but found " + expression.type);
+    }
+  }
+
+  private void expect(TokenType type, String text) {
+    Token token = next();
+    if (token.type != type) {
+      throw error(token, "Expected '" + text + "'");
+    }
+  }
+
+  private Token peek() {
+    return tokens.get(pos);
+  }
+
+  private Token next() {
+    Token token = tokens.get(pos);
+    if (token.type != TokenType.END) {
+      pos++;
+    }
+    return token;
+  }
+
+  private SpRuntimeException error(Token token, String message) {
+    return new SpRuntimeException("Invalid expression (line " + token.line + ", column " + token.column + "): "
+        + message);
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.expression;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits an expression program into tokens. Statements are separated by line breaks or semicolons,
+ * comments start with # and end at the line break.
+ */
+class ExpressionLexer {
+
+  enum TokenType {
+    NUMBER, STRING, IDENTIFIER, OPERATOR, LEFT_PAREN, RIGHT_PAREN, COMMA, SEPARATOR, END
+  }
+
+  static final class Token {
+
+    final TokenType type;
+    final String text;
+    final int line;
+    final int column;
+
+    Token(TokenType type, String text, int line, int column) {
+      this.type = type;
+      this.text = text;
+      this.line = line;
+      this.column = column;
+    }
+
+    boolean is(TokenType type, String text) {
+      return this.type == type && this.text.equals(text);
+    }
+
+    boolean isOperator(String text) {
+      return is(TokenType.OPERATOR, text);
+    }
+
+    boolean isKeyword(String keyword) {
+      return is(TokenType.IDENTIFIER, keyword);
+    }
+  }
+
+  private static final String[] OPERATORS = {
+      "==", "!=", "<=", ">=", "&&", "||", "<", ">", "=", "!", "+", "-", "*", "/", "%"
+  };
+
+  private final String input;
+  private int pos;
+  private int line = 1;
+  private int lineStart;
+
+  ExpressionLexer(String input) {
+    this.input = input;
+  }
+
+  List<Token> tokenize() {
+    List<Token> tokens = new ArrayList<>();
+    while (pos < input.length()) {
+      char c = input.charAt(pos);
+      int column = pos - lineStart + 1;
+      if (c == '\n') {
+        tokens.add(new Token(TokenType.SEPARATOR, "\n", line, column));
+        pos++;
+        line++;
+        lineStart = pos;
+      } else if (Character.isWhitespace(c)) {
+        pos++;
+      } else if (c == '#') {
+        while (pos < input.length() && input.charAt(pos) != '\n') {
+          pos++;
+        }
+      } else if (c == ';') {
+        tokens.add(new Token(TokenType.SEPARATOR, ";", line, column));
+        pos++;
+      } else if (c == '(') {
+        tokens.add(new Token(TokenType.LEFT_PAREN, "(", line, column));
+        pos++;
+      } else if (c == ')') {
+        tokens.add(new Token(TokenType.RIGHT_PAREN, ")", line, column));
+        pos++;
+      } else if (c == ',') {
+        tokens.add(new Token(TokenType.COMMA, ",", line, column));
+        pos++;
+      } else if (Character.isDigit(c) || (c == '.' && pos + 1 < input.length()
+          && Character.isDigit(input.charAt(pos + 1)))) {
+        tokens.add(new Token(TokenType.NUMBER, readNumber(), line, column));
+      } else if (c == '"' || c == '\'') {
+        tokens.add(new Token(TokenType.STRING, readQuoted(c), line, column));
+      } else if (c == '`') {
+        tokens.add(new Token(TokenType.IDENTIFIER, readQuoted(c), line, column));
+      } else if (Character.isLetter(c) || c == '_') {
+        tokens.add(new Token(TokenType.IDENTIFIER, readIdentifier(), line, column));
+      } else {
+        tokens.add(new Token(TokenType.OPERATOR, readOperator(column), line, column));
+      }
+    }
+    tokens.add(new Token(TokenType.END, "", line, pos - lineStart + 1));
+    return tokens;
+  }
+
+  private String readNumber() {
+    int start = pos;
+    while (pos < input.length() && (Character.isDigit(input.charAt(pos)) || input.charAt(pos) == '.')) {
+      pos++;
+    }
+    if (pos < input.length() && (input.charAt(pos) == 'e' || input.charAt(pos) == 'E')) {
+      pos++;
+      if (pos < input.length() && (input.charAt(pos) == '+' || input.charAt(pos) == '-')) {
+        pos++;
+      }
+      while (pos < input.length() && Character.isDigit(input.charAt(pos))) {
+        pos++;
+      }
+    }
+    return input.substring(start, pos);
+  }
+
+  private String readQuoted(char quote) {
+    int column = pos - lineStart + 1;
+    StringBuilder sb = new StringBuilder();
+    pos++;
+    while (pos < input.length() && input.charAt(pos) != quote) {
+      char c = input.charAt(pos);
+      if (c == '\\' && pos + 1 < input.length()) {
+        pos++;
+        c = input.charAt(pos);
+      } else if (c == '\n') {
+        break;
+      }
+      sb.append(c);
+      pos++;
+    }
+    if (pos >= input.length() || input.charAt(pos) != quote) {
+      throw error("Unterminated " + (quote == '`' ? "field name" : "string"), column);
+    }
+    pos++;
+    return sb.toString();
+  }
+
+  private String readIdentifier() {
+    int start = pos;
+    while (pos < input.length()
+        && (Character.isLetterOrDigit(input.charAt(pos)) || input.charAt(pos) == '_' || input.charAt(pos) == '.')) {
+      pos++;
+    }
+    return input.substring(start, pos);
+  }
+
+  private String readOperator(int column) {
+    for (String operator : OPERATORS) {
+      if (input.startsWith(operator, pos)) {
+        pos += operator.length();
+        return operator;
+      }
+    }
+    throw error("Unexpected character '" + input.charAt(pos) + "'", column);
+  }
+
+  private SpRuntimeException error(String message, int column) {
+    return new SpRuntimeException("Invalid expression (line " + line + ", column " + column + "): " + message);
+  }
+}
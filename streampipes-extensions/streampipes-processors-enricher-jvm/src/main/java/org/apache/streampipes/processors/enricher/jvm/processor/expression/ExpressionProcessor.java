@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.expression;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.extensions.api.pe.context.EventProcessorRuntimeContext;
+import org.apache.streampipes.extensions.api.pe.routing.SpOutputCollector;
+import org.apache.streampipes.model.DataProcessorType;
+import org.apache.streampipes.model.graph.DataProcessorDescription;
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.schema.EventProperty;
+import org.apache.streampipes.model.schema.EventPropertyNested;
+import org.apache.streampipes.model.schema.EventPropertyPrimitive;
+import org.apache.streampipes.sdk.builder.ProcessingElementBuilder;
+import org.apache.streampipes.sdk.builder.StreamRequirementsBuilder;
+import org.apache.streampipes.sdk.helpers.EpRequirements;
+import org.apache.streampipes.sdk.helpers.Labels;
+import org.apache.streampipes.sdk.helpers.Locales;
+import org.apache.streampipes.sdk.helpers.OutputStrategies;
+import org.apache.streampipes.sdk.utils.Assets;
+import org.apache.streampipes.vocabulary.XSD;
+import org.apache.streampipes.wrapper.params.compat.ProcessorParams;
+import org.apache.streampipes.wrapper.standalone.StreamPipesDataProcessor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ExpressionProcessor extends StreamPipesDataProcessor {
+
+  private static final String EXPRESSION = "expression";
+
+  private static final String DEFAULT_EXPRESSION = "# Drop events which do not match a condition\n"
+      + "where temperature > 20 and status == 'ok'\n"
+      + "# Compute, project and rename fields\n"
+      + "timestamp = timestamp\n"
+      + "id = sensorId\n"
+      + "temperatureF = temperature * 1.8 + 32\n";
+
+  private static final List<String> NUMBER_TYPES = Arrays.asList(
+      XSD.INT.toString(),
+      XSD.INTEGER.toString(),
+      XSD.LONG.toString(),
+      XSD.FLOAT.toString(),
+      XSD.DOUBLE.toString(),
+      XSD.DECIMAL.toString());
+
+  private ExpressionProgram program;
+
+  @Override
+  public DataProcessorDescription declareModel() {
+    return ProcessingElementBuilder.create("org.apache.streampipes.processors.enricher.jvm.expression")
+        .category(DataProcessorType.FILTER, DataProcessorType.TRANSFORM)
+        .withAssets(Assets.DOCUMENTATION, Assets.ICON)
+        .withLocales(Locales.EN)
+        .requiredStream(StreamRequirementsBuilder
+            .create()
+            .requiredProperty(EpRequirements.anyProperty())
+            .build())
+        .requiredCodeblock(Labels.withId(EXPRESSION), DEFAULT_EXPRESSION)
+        .outputStrategy(OutputStrategies.userDefined())
+        .build();
+  }
+
+  @Override
+  public void onInvocation(ProcessorParams parameters,
+                           SpOutputCollector spOutputCollector,
+                           EventProcessorRuntimeContext runtimeContext) throws SpRuntimeException {
+    String expression = parameters.extractor().codeblockValue(EXPRESSION);
+    String selectorPrefix = parameters.getInputSourceInfo(0).getSelectorPrefix();
+    List<EventProperty> properties = parameters.getModel().getInputStreams().get(0).getEventSchema()
+        .getEventProperties();
+
+    Map<String, InputField> inputFields = new HashMap<>();
+    collectInputFields(properties, "", selectorPrefix, inputFields);
+    this.program = new ExpressionCompiler(inputFields).compile(expression);
+  }
+
+  @Override
+  public void onEvent(Event event, SpOutputCollector collector) throws SpRuntimeException {
+    Event result = program.evaluate(event);
+    if (result != null) {
+      collector.collect(result);
+    }
+  }
+
+  @Override
+  public void onDetach() throws SpRuntimeException {
+
+  }
+
+  private void collectInputFields(List<EventProperty> properties,
+                                  String namePrefix,
+                                  String selectorPrefix,
+                                  Map<String, InputField> inputFields) {
+    for (EventProperty property : properties) {
+      String name = namePrefix + property.getRuntimeName();
+      String selector = selectorPrefix + "::" + property.getRuntimeName();
+      if (property instanceof EventPropertyPrimitive) {
+        inputFields.put(name, new InputField(selector, toExpressionType((EventPropertyPrimitive) property)));
+      } else if (property instanceof EventPropertyNested) {
+        collectInputFields(((EventPropertyNested) property).getEventProperties(), name + ".", selector, inputFields);
+      }
+    }
+  }
+
+  private ExpressionType toExpressionType(EventPropertyPrimitive property) {
+    if (NUMBER_TYPES.contains(property.getRuntimeType())) {
+      return ExpressionType.NUMBER;
+    } else if (XSD.BOOLEAN.toString().equals(property.getRuntimeType())) {
+      return ExpressionType.BOOLEAN;
+    } else {
+      return ExpressionType.STRING;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.expression;
+
+import org.apache.streampipes.model.runtime.Event;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A compiled expression program. Each referenced field is looked up once per event and
+ * loaded into a primitive slot, before the filter condition and the output expressions are evaluated.
+ *
+ * <p>Instances reuse their slots and are therefore not thread-safe.</p>
+ */
+public class ExpressionProgram {
+
+  private final String[] selectors;
+  private final ExpressionType[] types;
+  private final Predicate<EventSlots> filter;
+  private final String[] outputNames;
+  private final Function<EventSlots, Object>[] outputs;
+
+  private final EventSlots slots;
+
+  @SuppressWarnings("unchecked")
+  ExpressionProgram(List<InputField> fields,
+                    Predicate<EventSlots> filter,
+                    Map<String, Function<EventSlots, Object>> outputs) {
+    this.selectors = fields.stream().map(InputField::getSelector).toArray(String[]::new);
+    this.types = fields.stream().map(InputField::getType).toArray(ExpressionType[]::new);
+    this.filter = filter;
+    this.outputNames = outputs.keySet().toArray(new String[0]);
+    this.outputs = outputs.values().toArray(new Function[0]);
+    this.slots = new EventSlots(fields.size());
+  }
+
+  /**
+   * Evaluates the program for an input event.
+   *
+   * @param event the input event
+   * @return the output event, the unchanged input event if the program does not assign any fields,
+   *     or null if the event does not match the filter conditions
+   */
+  public Event evaluate(Event event) {
+    loadSlots(event);
+    if (filter != null && !filter.test(slots)) {
+      return null;
+    }
+    if (outputs.length == 0) {
+      return event;
+    }
+    Event result = new Event(new HashMap<>(), event.getSourceInfo(), event.getSchemaInfo());
+    for (int i = 0; i < outputs.length; i++) {
+      Object value = outputs[i].apply(slots);
+      if (value != null) {
+        result.addField(outputNames[i], value);
+      }
+    }
+    return result;
+  }
+
+  private void loadSlots(Event event) {
+    for (int i = 0; i < selectors.length; i++) {
+      Object value = readValue(event, selectors[i]);
+      slots.values[i] = value;
+      if (types[i] == ExpressionType.NUMBER) {
+        slots.numbers[i] = toDouble(value);
+      } else if (types[i] == ExpressionType.BOOLEAN) {
+        slots.booleans[i] = value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(String.valueOf(value));
+      }
+    }
+  }
+
+  private Object readValue(Event event, String selector) {
+    try {
+      return event.getFieldBySelector(selector).getRawValue();
+    } catch (IllegalArgumentException e) {
+      // missing (optional) fields are treated as null
+      return null;
+    }
+  }
+
+  private double toDouble(Object value) {
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    } else if (value != null) {
+      try {
+        return Double.parseDouble(value.toString());
+      } catch (NumberFormatException e) {
+        return Double.NaN;
+      }
+    } else {
+      return Double.NaN;
+    }
+  }
+}
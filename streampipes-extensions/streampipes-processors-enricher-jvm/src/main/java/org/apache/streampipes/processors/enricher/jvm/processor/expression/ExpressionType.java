@@ -16,8 +16,10 @@
  *
  */
 
-package org.apache.streampipes.sinks.brokers.jvm.bufferrest.buffer;
+package org.apache.streampipes.processors.enricher.jvm.processor.expression;
 
-public interface BufferListener {
-  void bufferFull(String messagesJsonArray);
+public enum ExpressionType {
+  NUMBER,
+  BOOLEAN,
+  STRING
 }
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.jseval;
+
+import org.apache.streampipes.model.constants.PropertySelectorConstants;
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.field.AbstractField;
+import org.apache.streampipes.model.runtime.field.ListField;
+import org.apache.streampipes.model.runtime.field.NestedField;
+
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.graalvm.polyglot.proxy.ProxyObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * View of an event for JavaScript functions. Field values are resolved lazily by their runtime name
+ * when the script accesses them, instead of converting the whole event to a map.
+ * Scripts may still modify the event: assigned and removed fields are kept in a copy-on-write overlay
+ * of the proxy, the input event itself is never changed.
+ */
+public class EventProxy implements ProxyObject {
+
+  private final FieldsProxy fields;
+
+  /**
+   * @param event        the event to expose
+   * @param runtimeNames the first-level runtime names of the input schema
+   */
+  public EventProxy(Event event,
+                    String[] runtimeNames) {
+    this.fields = new FieldsProxy(runtimeName -> findField(event, runtimeName), Arrays.asList(runtimeNames));
+  }
+
+  @Override
+  public Object getMember(String key) {
+    return fields.getMember(key);
+  }
+
+  @Override
+  public Object getMemberKeys() {
+    return fields.getMemberKeys();
+  }
+
+  @Override
+  public boolean hasMember(String key) {
+    return fields.hasMember(key);
+  }
+
+  @Override
+  public void putMember(String key, Value value) {
+    fields.putMember(key, value);
+  }
+
+  @Override
+  public boolean removeMember(String key) {
+    return fields.removeMember(key);
+  }
+
+  private static Optional<AbstractField> findField(Event event,
+                                                   String runtimeName) {
+    String prefix = event.getSourceInfo() != null ? event.getSourceInfo().getSelectorPrefix() : null;
+    if (prefix != null) {
+      AbstractField field = event
+          .getFields()
+          .get(prefix + PropertySelectorConstants.PROPERTY_DELIMITER + runtimeName);
+      if (field != null) {
+        return Optional.of(field);
+      }
+    }
+    return event.getOptionalFieldByRuntimeName(runtimeName);
+  }
+
+  private static Object toGuestValue(AbstractField field) {
+    if (field instanceof NestedField) {
+      Map<String, AbstractField> nestedFields = ((NestedField) field).getRawValue();
+      return new FieldsProxy(
+          runtimeName -> nestedFields.values().stream().filter(f -> f.getFieldNameIn().equals(runtimeName)).findFirst(),
+          nestedFields.values().stream().map(AbstractField::getFieldNameIn).collect(Collectors.toList()));
+    } else if (field instanceof ListField) {
+      return new ListFieldProxy(((ListField) field).getRawValue());
+    } else {
+      return field.getRawValue();
+    }
+  }
+
+  private static boolean isContainer(Object guestValue) {
+    return guestValue instanceof ProxyObject || guestValue instanceof ProxyArray;
+  }
+
+  private static class FieldsProxy implements ProxyObject {
+
+    private static final Object REMOVED = new Object();
+
+    private final Function<String, Optional<AbstractField>> lookup;
+    private final List<String> fieldNames;
+
+    // assigned values, removed fields and proxies of nested fields, which must be reused to keep their changes
+    private final Map<String, Object> overlay;
+
+    FieldsProxy(Function<String, Optional<AbstractField>> lookup,
+                List<String> fieldNames) {
+      this.lookup = lookup;
+      this.fieldNames = fieldNames;
+      this.overlay = new HashMap<>();
+    }
+
+    @Override
+    public Object getMember(String key) {
+      if (overlay.containsKey(key)) {
+        Object value = overlay.get(key);
+        return value == REMOVED ? null : value;
+      }
+      Object value = lookup.apply(key).map(EventProxy::toGuestValue).orElse(null);
+      if (isContainer(value)) {
+        overlay.put(key, value);
+      }
+      return value;
+    }
+
+    @Override
+    public Object getMemberKeys() {
+      List<String> keys = new ArrayList<>();
+      for (String fieldName : fieldNames) {
+        if (overlay.get(fieldName) != REMOVED) {
+          keys.add(fieldName);
+        }
+      }
+      overlay.forEach((key, value) -> {
+        if (value != REMOVED && !fieldNames.contains(key)) {
+          keys.add(key);
+        }
+      });
+      return ProxyArray.fromList(new ArrayList<>(keys));
+    }
+
+    @Override
+    public boolean hasMember(String key) {
+      if (overlay.containsKey(key)) {
+        return overlay.get(key) != REMOVED;
+      }
+      return lookup.apply(key).isPresent();
+    }
+
+    @Override
+    public void putMember(String key, Value value) {
+      overlay.put(key, value);
+    }
+
+    @Override
+    public boolean removeMember(String key) {
+      boolean present = hasMember(key);
+      overlay.put(key, REMOVED);
+      return present;
+    }
+  }
+
+  private static class ListFieldProxy implements ProxyArray {
+
+    private static final Object UNRESOLVED = new Object();
+
+    private final List<AbstractField> items;
+
+    // resolved and assigned items, so that changes to nested items are kept
+    private final Object[] values;
+
+    ListFieldProxy(List<AbstractField> items) {
+      this.items = items;
+      this.values = new Object[items.size()];
+      Arrays.fill(values, UNRESOLVED);
+    }
+
+    @Override
+    public Object get(long index) {
+      int i = checkIndex(index);
+      if (values[i] == UNRESOLVED) {
+        values[i] = toGuestValue(items.get(i));
+      }
+      return values[i];
+    }
+
+    @Override
+    public void set(long index, Value value) {
+      values[checkIndex(index)] = value;
+    }
+
+    @Override
+    public long getSize() {
+      return items.size();
+    }
+
+    private int checkIndex(long index) {
+      if (index < 0 || index >= items.size()) {
+        throw new ArrayIndexOutOfBoundsException("Invalid index " + index);
+      }
+      return (int) index;
+    }
+  }
+}
@@ -23,8 +23,10 @@ import org.apache.streampipes.extensions.api.pe.routing.SpOutputCollector;
 import org.apache.streampipes.model.DataProcessorType;
 import org.apache.streampipes.model.graph.DataProcessorDescription;
 import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.schema.EventProperty;
 import org.apache.streampipes.sdk.builder.ProcessingElementBuilder;
 import org.apache.streampipes.sdk.builder.StreamRequirementsBuilder;
+import org.apache.streampipes.sdk.extractor.ProcessingElementParameterExtractor;
 import org.apache.streampipes.sdk.helpers.CodeLanguage;
 import org.apache.streampipes.sdk.helpers.EpRequirements;
 import org.apache.streampipes.sdk.helpers.Labels;
@@ -34,19 +36,38 @@ import org.apache.streampipes.sdk.utils.Assets;
 import org.apache.streampipes.wrapper.params.compat.ProcessorParams;
 import org.apache.streampipes.wrapper.standalone.StreamPipesDataProcessor;
 
-import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Value;
-import org.graalvm.polyglot.proxy.ProxyObject;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class JSEvalProcessor extends StreamPipesDataProcessor {
 
+  private static final Logger LOG = LoggerFactory.getLogger(JSEvalProcessor.class);
+
   private static final String JS_FUNCTION = "jsFunction";
+  private static final String BATCH_SIZE = "batchSize";
+
+  private static final int MAX_POOLED_CONTEXTS = 4;
+  private static final long BATCH_LINGER_MS = 1000;
+
+  private JsFunctionPool functionPool;
+  private String[] inputRuntimeNames;
+  private SpOutputCollector outputCollector;
 
-  private Context polyglot;
-  private Value function;
+  private int batchSize;
+  private List<Event> batch;
+  private long batchStart;
+  private ScheduledExecutorService batchFlusher;
 
   @Override
   public DataProcessorDescription declareModel() {
@@ -59,6 +80,7 @@ public class JSEvalProcessor extends StreamPipesDataProcessor {
             .requiredProperty(EpRequirements.anyProperty())
             .build())
         .requiredCodeblock(Labels.withId(JS_FUNCTION), CodeLanguage.Javascript)
+        .requiredIntegerParameter(Labels.withId(BATCH_SIZE), 1)
         .outputStrategy(OutputStrategies.userDefined())
         .build();
   }
@@ -67,33 +89,139 @@ public class JSEvalProcessor extends StreamPipesDataProcessor {
   public void onInvocation(ProcessorParams parameters,
                            SpOutputCollector spOutputCollector,
                            EventProcessorRuntimeContext runtimeContext) throws SpRuntimeException {
-    polyglot = Context.create();
-    String code = parameters.extractor().codeblockValue(JS_FUNCTION);
-    function = polyglot.eval("js", "(" + code + ")");
+    ProcessingElementParameterExtractor extractor = parameters.extractor();
+    String code = extractor.codeblockValue(JS_FUNCTION);
+    try {
+      functionPool = new JsFunctionPool(code, MAX_POOLED_CONTEXTS);
+    } catch (PolyglotException e) {
+      throw new SpRuntimeException("Could not evaluate JavaScript function: " + e.getMessage(), e);
+    }
+
+    inputRuntimeNames = parameters
+        .getModel()
+        .getInputStreams()
+        .get(0)
+        .getEventSchema()
+        .getEventProperties()
+        .stream()
+        .map(EventProperty::getRuntimeName)
+        .toArray(String[]::new);
+    outputCollector = spOutputCollector;
+
+    // pipelines created before the batch mode was introduced do not contain this parameter
+    batchSize = extractor.getStaticPropertyByName(BATCH_SIZE) != null
+        ? Math.max(1, extractor.singleValueParameter(BATCH_SIZE, Integer.class))
+        : 1;
+    if (batchSize > 1) {
+      batch = new ArrayList<>(batchSize);
+      batchFlusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "sp-jseval-batch-flusher");
+        thread.setDaemon(true);
+        return thread;
+      });
+      batchFlusher.scheduleAtFixedRate(
+          this::flushIfLingering,
+          BATCH_LINGER_MS,
+          BATCH_LINGER_MS,
+          TimeUnit.MILLISECONDS);
+    }
   }
 
   @Override
   public void onEvent(Event event, SpOutputCollector collector) throws SpRuntimeException {
-    // create new event with input event's source info and schema info.
-    Event outEvent = new Event(new HashMap<>(), event.getSourceInfo(), event.getSchemaInfo());
+    if (batchSize > 1) {
+      addToBatch(event);
+    } else {
+      Map<String, Object> result = functionPool.apply(function ->
+          toResultMap(function.execute(new EventProxy(event, inputRuntimeNames))));
+      emit(event, result);
+    }
+  }
+
+  @Override
+  public void onDetach() throws SpRuntimeException {
     try {
+      if (batchFlusher != null) {
+        batchFlusher.shutdownNow();
+        batchFlusher = null;
+        flush();
+      }
+    } finally {
+      if (functionPool != null) {
+        functionPool.close();
+        functionPool = null;
+      }
+    }
+  }
 
-      final Map<String, Object> eventData = event.getRaw();
+  private synchronized void addToBatch(Event event) {
+    if (batch.isEmpty()) {
+      batchStart = System.currentTimeMillis();
+    }
+    batch.add(event);
+    if (batch.size() >= batchSize) {
+      flush();
+    }
+  }
 
-      Object result = function.execute(ProxyObject.fromMap(eventData));
-      Map<String, Object> resultEvent = ((Value) result).as(java.util.Map.class);
-      if (resultEvent != null) {
-        resultEvent.forEach(outEvent::addField);
-        collector.collect(outEvent);
+  private synchronized void flushIfLingering() {
+    try {
+      if (!batch.isEmpty() && System.currentTimeMillis() - batchStart >= BATCH_LINGER_MS) {
+        flush();
       }
+    } catch (RuntimeException e) {
+      LOG.error("Could not process batch of events", e);
+    }
+  }
 
-    } catch (ClassCastException e) {
-      throw new SpRuntimeException("`process` method must return a map with new event data.");
+  private synchronized void flush() {
+    if (batch.isEmpty()) {
+      return;
+    }
+    List<Event> events = new ArrayList<>(batch);
+    batch.clear();
+
+    Object[] proxies = events.stream().map(e -> new EventProxy(e, inputRuntimeNames)).toArray();
+    List<Map<String, Object>> results = functionPool.apply(function ->
+        toBatchResults(function.execute(ProxyArray.fromArray(proxies)), events.size()));
+
+    for (int i = 0; i < results.size(); i++) {
+      emit(events.get(i), results.get(i));
     }
   }
 
-  @Override
-  public void onDetach() throws SpRuntimeException {
+  static List<Map<String, Object>> toBatchResults(Value result,
+                                                  int batchSize) {
+    if (!result.hasArrayElements()) {
+      throw new SpRuntimeException("`process` method must return an array of event data in batch mode.");
+    }
+    if (result.getArraySize() != batchSize) {
+      throw new SpRuntimeException("`process` method must return one result per event in batch mode, but returned "
+          + result.getArraySize() + " results for " + batchSize + " events.");
+    }
+    List<Map<String, Object>> resultMaps = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      resultMaps.add(toResultMap(result.getArrayElement(i)));
+    }
+    return resultMaps;
+  }
 
+  private void emit(Event inEvent,
+                    Map<String, Object> result) {
+    if (result != null) {
+      // create new event with input event's source info and schema info.
+      Event outEvent = new Event(new HashMap<>(), inEvent.getSourceInfo(), inEvent.getSchemaInfo());
+      result.forEach(outEvent::addField);
+      outputCollector.collect(outEvent);
+    }
+  }
+
+  static Map<String, Object> toResultMap(Value result) {
+    if (result.isNull()) {
+      return null;
+    } else if (!result.hasMembers() || result.hasArrayElements()) {
+      throw new SpRuntimeException("`process` method must return a map with new event data.");
+    }
+    return JsValueConverter.toMap(result);
   }
 }
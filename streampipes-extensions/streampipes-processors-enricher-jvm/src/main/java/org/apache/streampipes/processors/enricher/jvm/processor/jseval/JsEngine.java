@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.jseval;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Source;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared polyglot engine of all JavaScript evaluation processors. Contexts created by this engine
+ * share parsed and compiled code, so a script is only compiled once, even if it is used by
+ * several pipelines. Sources are cached as long as at least one processor uses them.
+ */
+public enum JsEngine {
+
+  INSTANCE;
+
+  private static final String LANGUAGE_ID = "js";
+
+  private final Engine engine;
+  private final Map<String, CachedSource> sources;
+
+  JsEngine() {
+    this.engine = Engine.create();
+    this.sources = new ConcurrentHashMap<>();
+  }
+
+  public Context newContext() {
+    return Context.newBuilder(LANGUAGE_ID).engine(engine).build();
+  }
+
+  /**
+   * Returns the source evaluating to the given function. Each call must be paired with a call of
+   * {@link #releaseFunctionSource(String)} once the source is no longer used.
+   *
+   * @param functionCode the code of a JavaScript function
+   * @return the cached source of the function
+   */
+  public Source acquireFunctionSource(String functionCode) {
+    return sources.compute(functionCode, (code, cached) -> {
+      CachedSource source = cached != null ? cached : new CachedSource(
+          Source.newBuilder(LANGUAGE_ID, "(" + code + ")", "jsFunction").cached(true).buildLiteral());
+      source.users++;
+      return source;
+    }).source;
+  }
+
+  public void releaseFunctionSource(String functionCode) {
+    sources.computeIfPresent(functionCode, (code, cached) -> --cached.users > 0 ? cached : null);
+  }
+
+  int getCachedSourceCount() {
+    return sources.size();
+  }
+
+  private static class CachedSource {
+
+    private final Source source;
+    private int users;
+
+    CachedSource(Source source) {
+      this.source = source;
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.jseval;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Pool of contexts which have evaluated the same function. A polyglot context can only be used
+ * by one thread at a time, the pool allows to evaluate the function from several threads.
+ * Contexts are created lazily, so single-threaded usage only creates a single context.
+ * The pool must be closed to release the cached source of the function.
+ */
+public class JsFunctionPool implements AutoCloseable {
+
+  private final String functionCode;
+  private final Source source;
+  private final int maxSize;
+
+  private final BlockingQueue<PooledFunction> idleFunctions;
+  private final List<PooledFunction> allFunctions;
+
+  private boolean closed;
+
+  public JsFunctionPool(String functionCode,
+                        int maxSize) {
+    this.functionCode = functionCode;
+    this.source = JsEngine.INSTANCE.acquireFunctionSource(functionCode);
+    this.maxSize = maxSize;
+    this.idleFunctions = new LinkedBlockingQueue<>();
+    this.allFunctions = new ArrayList<>();
+    // evaluate eagerly so that syntax errors are reported on invocation
+    try {
+      this.idleFunctions.add(create());
+    } catch (RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Applies the given action to the function of a pooled context. Values of the context must not
+   * be used outside of the action.
+   *
+   * @param action the action receiving the evaluated function
+   * @param <T>    the result type of the action
+   * @return the result of the action
+   */
+  public <T> T apply(Function<Value, T> action) throws SpRuntimeException {
+    PooledFunction function = borrow();
+    try {
+      return action.apply(function.function);
+    } finally {
+      idleFunctions.add(function);
+    }
+  }
+
+  private PooledFunction borrow() {
+    PooledFunction function = idleFunctions.poll();
+    if (function != null) {
+      return function;
+    }
+    synchronized (allFunctions) {
+      if (allFunctions.size() < maxSize) {
+        return create();
+      }
+    }
+    try {
+      return idleFunctions.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SpRuntimeException("Interrupted while waiting for a JavaScript context", e);
+    }
+  }
+
+  private PooledFunction create() {
+    Context context = JsEngine.INSTANCE.newContext();
+    PooledFunction function = new PooledFunction(context, context.eval(source));
+    synchronized (allFunctions) {
+      allFunctions.add(function);
+    }
+    return function;
+  }
+
+  @Override
+  public void close() {
+    synchronized (allFunctions) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      allFunctions.forEach(function -> function.context.close(true));
+      allFunctions.clear();
+    }
+    idleFunctions.clear();
+    JsEngine.INSTANCE.releaseFunctionSource(functionCode);
+  }
+
+  private static class PooledFunction {
+
+    private final Context context;
+    private final Value function;
+
+    PooledFunction(Context context,
+                   Value function) {
+      this.context = context;
+      this.function = function;
+    }
+  }
+}
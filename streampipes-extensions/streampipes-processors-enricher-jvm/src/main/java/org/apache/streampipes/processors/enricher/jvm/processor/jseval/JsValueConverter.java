@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.jseval;
+
+import org.graalvm.polyglot.Value;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts values returned by a JavaScript function to plain Java objects, so that they can be
+ * used after the context has been returned to the pool.
+ */
+public class JsValueConverter {
+
+  public static Map<String, Object> toMap(Value value) {
+    Map<String, Object> result = new HashMap<>();
+    for (String key : value.getMemberKeys()) {
+      result.put(key, toJava(value.getMember(key)));
+    }
+    return result;
+  }
+
+  public static Object toJava(Value value) {
+    if (value == null || value.isNull()) {
+      return null;
+    } else if (value.isBoolean()) {
+      return value.asBoolean();
+    } else if (value.isString()) {
+      return value.asString();
+    } else if (value.isNumber()) {
+      if (value.fitsInInt()) {
+        return value.asInt();
+      } else if (value.fitsInLong()) {
+        return value.asLong();
+      } else {
+        return value.asDouble();
+      }
+    } else if (value.hasArrayElements()) {
+      List<Object> items = new ArrayList<>();
+      for (long i = 0; i < value.getArraySize(); i++) {
+        items.add(toJava(value.getArrayElement(i)));
+      }
+      return items;
+    } else if (value.hasMembers()) {
+      return toMap(value);
+    } else {
+      return value.toString();
+    }
+  }
+}
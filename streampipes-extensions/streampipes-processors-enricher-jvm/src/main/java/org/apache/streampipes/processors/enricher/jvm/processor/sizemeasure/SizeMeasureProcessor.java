@@ -19,13 +19,19 @@
 package org.apache.streampipes.processors.enricher.jvm.processor.sizemeasure;
 
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.dataformat.EventSizeEstimator;
+import org.apache.streampipes.dataformat.SpDataFormatDefinition;
+import org.apache.streampipes.dataformat.SpDataFormatManager;
+import org.apache.streampipes.dataformat.json.JsonDataFormatDefinition;
 import org.apache.streampipes.extensions.api.pe.context.EventProcessorRuntimeContext;
 import org.apache.streampipes.extensions.api.pe.routing.SpOutputCollector;
 import org.apache.streampipes.model.DataProcessorType;
 import org.apache.streampipes.model.graph.DataProcessorDescription;
+import org.apache.streampipes.model.grounding.TransportFormat;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.sdk.builder.ProcessingElementBuilder;
 import org.apache.streampipes.sdk.builder.StreamRequirementsBuilder;
+import org.apache.streampipes.sdk.extractor.ProcessingElementParameterExtractor;
 import org.apache.streampipes.sdk.helpers.EpProperties;
 import org.apache.streampipes.sdk.helpers.EpRequirements;
 import org.apache.streampipes.sdk.helpers.Labels;
@@ -37,9 +43,7 @@ import org.apache.streampipes.sdk.utils.Assets;
 import org.apache.streampipes.wrapper.params.compat.ProcessorParams;
 import org.apache.streampipes.wrapper.standalone.StreamPipesDataProcessor;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectOutputStream;
+import java.util.List;
 
 public class SizeMeasureProcessor extends StreamPipesDataProcessor {
 
@@ -48,9 +52,14 @@ public class SizeMeasureProcessor extends StreamPipesDataProcessor {
   static final String KILOBYTE_SIZE = "KILOBYTE";
   static final String MEGABYTE_SIZE = "MEGABYTE";
 
+  private static final String MEASUREMENT = "measurement";
+  static final String EXACT_MEASUREMENT = "EXACT";
+  static final String ESTIMATED_MEASUREMENT = "ESTIMATE";
+
   static final String EVENT_SIZE = "eventSize";
 
   private String sizeUnit;
+  private EventSizeEstimator sizeEstimator;
 
   @Override
   public DataProcessorDescription declareModel() {
@@ -66,6 +75,9 @@ public class SizeMeasureProcessor extends StreamPipesDataProcessor {
             Options.from(new Tuple2<>("Bytes", BYTE_SIZE),
                 new Tuple2<>("Kilobytes (1024 Bytes)", KILOBYTE_SIZE),
                 new Tuple2<>("Megabytes (1024 Kilobytes)", MEGABYTE_SIZE)))
+        .requiredSingleValueSelection(Labels.withId(MEASUREMENT),
+            Options.from(new Tuple2<>("Exact (transport format)", EXACT_MEASUREMENT),
+                new Tuple2<>("Estimate (field types)", ESTIMATED_MEASUREMENT)))
         .outputStrategy(OutputStrategies.append(EpProperties.doubleEp(
             Labels.withId(EVENT_SIZE),
             EVENT_SIZE,
@@ -77,23 +89,27 @@ public class SizeMeasureProcessor extends StreamPipesDataProcessor {
   public void onInvocation(ProcessorParams parameters,
                            SpOutputCollector spOutputCollector,
                            EventProcessorRuntimeContext runtimeContext) throws SpRuntimeException {
-    this.sizeUnit = parameters.extractor().selectedSingleValueInternalName(SIZE_UNIT, String.class);
+    ProcessingElementParameterExtractor extractor = parameters.extractor();
+    this.sizeUnit = extractor.selectedSingleValueInternalName(SIZE_UNIT, String.class);
+
+    // pipelines created before the estimate was introduced do not contain this parameter
+    boolean estimate = extractor.getStaticPropertyByName(MEASUREMENT) != null
+        && ESTIMATED_MEASUREMENT.equals(extractor.selectedSingleValueInternalName(MEASUREMENT, String.class));
+    this.sizeEstimator = estimate
+        ? EventSizeEstimator.estimate()
+        : EventSizeEstimator.exact(findInputDataFormat(parameters));
   }
 
   @Override
   public void onEvent(Event event, SpOutputCollector collector) throws SpRuntimeException {
-    try {
-      double size = getSizeInBytes(event.getRaw());
-      if (sizeUnit.equals(KILOBYTE_SIZE)) {
-        size /= 1024;
-      } else if (sizeUnit.equals(MEGABYTE_SIZE)) {
-        size /= 1048576;
-      }
-      event.addField(EVENT_SIZE, size);
-      collector.collect(event);
-    } catch (IOException e) {
-      e.printStackTrace();
+    double size = sizeEstimator.sizeOf(event);
+    if (sizeUnit.equals(KILOBYTE_SIZE)) {
+      size /= 1024;
+    } else if (sizeUnit.equals(MEGABYTE_SIZE)) {
+      size /= 1048576;
     }
+    event.addField(EVENT_SIZE, size);
+    collector.collect(event);
   }
 
   @Override
@@ -101,14 +117,19 @@ public class SizeMeasureProcessor extends StreamPipesDataProcessor {
 
   }
 
-  private int getSizeInBytes(Object map) throws IOException {
-    // Measuring the size by serializing it and then measuring the bytes
-    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-    ObjectOutputStream out = new ObjectOutputStream(byteStream);
+  private SpDataFormatDefinition findInputDataFormat(ProcessorParams parameters) {
+    List<TransportFormat> transportFormats = parameters
+        .getModel()
+        .getInputStreams()
+        .get(0)
+        .getEventGrounding()
+        .getTransportFormats();
 
-    out.writeObject(map);
-    out.close();
-
-    return byteStream.toByteArray().length;
+    if (transportFormats == null || transportFormats.isEmpty()) {
+      return new JsonDataFormatDefinition();
+    }
+    return SpDataFormatManager.INSTANCE
+        .findDefinition(transportFormats.get(0))
+        .orElseGet(JsonDataFormatDefinition::new);
   }
 }
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.expression;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.EventFactory;
+import org.apache.streampipes.model.runtime.SchemaInfo;
+import org.apache.streampipes.model.runtime.SourceInfo;
+import org.apache.streampipes.model.schema.EventSchema;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class TestExpressionCompiler {
+
+  private static final Map<String, InputField> FIELDS = Map.of(
+      "temperature", new InputField("s0::temperature", ExpressionType.NUMBER),
+      "count", new InputField("s0::count", ExpressionType.NUMBER),
+      "active", new InputField("s0::active", ExpressionType.BOOLEAN),
+      "status", new InputField("s0::status", ExpressionType.STRING),
+      "temp-1", new InputField("s0::temp-1", ExpressionType.NUMBER),
+      "location.room", new InputField("s0::location::room", ExpressionType.STRING));
+
+  @Test
+  public void testArithmeticPrecedence() {
+    assertEquals(7.0, evaluate("x = 1 + 2 * 3"));
+    assertEquals(9.0, evaluate("x = (1 + 2) * 3"));
+    assertEquals(-1.0, evaluate("x = 1 - 4 / 2 - 0"));
+    assertEquals(1.0, evaluate("x = 7 % 3"));
+    assertEquals(-6.0, evaluate("x = -2 * 3"));
+    assertEquals(8.0, evaluate("x = 2 * -(-4)"));
+    assertEquals(3.0, evaluate("x = 10 - 4 - 3"));
+  }
+
+  @Test
+  public void testLogicalPrecedence() {
+    assertEquals(true, evaluate("x = true or false and false"));
+    assertEquals(false, evaluate("x = (true or false) and false"));
+    assertEquals(true, evaluate("x = not false && true"));
+    assertEquals(true, evaluate("x = !(1 > 2) || false"));
+    assertEquals(true, evaluate("x = 1 + 1 == 2 and 3 > 2 * 1"));
+  }
+
+  @Test
+  public void testFunctions() {
+    assertEquals(3.0, evaluate("x = abs(-3)"));
+    assertEquals(8.0, evaluate("x = pow(2, 3)"));
+    assertEquals(2.0, evaluate("x = min(max(1, 2), 5)"));
+    assertEquals(4.0, evaluate("x = round(3.5)"));
+  }
+
+  @Test
+  public void testFieldsAreEvaluatedPerEvent() {
+    ExpressionProgram program = compile("fahrenheit = temperature * 1.8 + 32\nlimit = 2 * temperature > 50");
+
+    Event result = program.evaluate(event(Map.of("temperature", 20)));
+    assertEquals(68.0, (double) value(result, "fahrenheit"), 1e-9);
+    assertEquals(false, value(result, "limit"));
+
+    result = program.evaluate(event(Map.of("temperature", 30.0)));
+    assertEquals(86.0, (double) value(result, "fahrenheit"), 1e-9);
+    assertEquals(true, value(result, "limit"));
+  }
+
+  @Test
+  public void testWhereFiltersEvents() {
+    ExpressionProgram program = compile("where temperature > 20; where status == 'ok'");
+
+    Event matching = event(Map.of("temperature", 25, "status", "ok"));
+    assertSame(matching, program.evaluate(matching));
+    assertNull(program.evaluate(event(Map.of("temperature", 25, "status", "error"))));
+    assertNull(program.evaluate(event(Map.of("temperature", 15, "status", "ok"))));
+  }
+
+  @Test
+  public void testConstantOnLeftSideOfComparison() {
+    ExpressionProgram program = compile("where 20 < temperature");
+
+    assertNotNull(program.evaluate(event(Map.of("temperature", 25))));
+    assertNull(program.evaluate(event(Map.of("temperature", 15))));
+  }
+
+  @Test
+  public void testProjectionKeepsOriginalType() {
+    Event result = compile("n = count\nroom = location.room").evaluate(
+        event(Map.of("count", 3L, "location", Map.of("room", "r1"))));
+
+    assertEquals(3L, value(result, "n"));
+    assertEquals("r1", value(result, "room"));
+    assertEquals(2, result.getFields().size());
+  }
+
+  @Test
+  public void testQuotedFieldNamesAndComments() {
+    Event result = compile("# converts the first sensor\ny = `temp-1` + 1 # inline comment")
+        .evaluate(event(Map.of("temp-1", 1)));
+
+    assertEquals(2.0, value(result, "y"));
+  }
+
+  @Test
+  public void testNumericStringsAreCoerced() {
+    Event result = compile("x = temperature + 1\nflag = active").evaluate(
+        event(Map.of("temperature", "1.5", "active", "true")));
+
+    assertEquals(2.5, value(result, "x"));
+    assertEquals("true", value(result, "flag"));
+    assertTrue(compile("where active").evaluate(event(Map.of("active", "true"))) != null);
+  }
+
+  @Test
+  public void testStringConcatenation() {
+    assertEquals("a1.0", evaluate("x = 'a' + 1"));
+    Event result = compile("x = status + '-' + count").evaluate(event(Map.of("status", "ok", "count", 2)));
+    // plain field references keep their original value
+    assertEquals("ok-2", value(result, "x"));
+  }
+
+  @Test
+  public void testMissingFields() {
+    ExpressionProgram program = compile("where temperature > 20");
+    assertNull(program.evaluate(event(Map.of())));
+    assertNotNull(compile("where !(temperature > 20)").evaluate(event(Map.of())));
+
+    Event result = compile("n = count\nx = count + 1\ns = status == 'ok'").evaluate(event(Map.of()));
+    assertFalse(result.getFields().containsKey("n"));
+    assertTrue(Double.isNaN((double) value(result, "x")));
+    assertEquals(false, value(result, "s"));
+  }
+
+  @Test
+  public void testUnknownFieldIsReported() {
+    SpRuntimeException e = assertThrows(SpRuntimeException.class, () -> compile("x = humidity * 2"));
+    assertEquals("Invalid expression (line 1, column 5): Unknown field 'humidity'", e.getMessage());
+  }
+
+  @Test
+  public void testTypeErrorsAreReported() {
+    assertError("x = status * 2", "Expected NUMBER but found STRING");
+    assertError("where temperature", "Expected BOOLEAN but found NUMBER");
+    assertError("x = status == 1", "Cannot compare STRING with NUMBER");
+    assertError("x = active < 1", "Expected NUMBER but found BOOLEAN");
+    assertError("x = abs('a')", "Expected NUMBER but found STRING");
+  }
+
+  @Test
+  public void testParseErrorsAreReported() {
+    assertError("x = 1 +", "Unexpected end of expression");
+    assertError("x = (1 + 2", "Expected ')'");
+    assertError("x = 1 < 2 < 3", "Unexpected '<'");
+    assertError("x = 'abc", "Unterminated string");
+    assertError("x = 1 $ 2", "Unexpected character '$'");
+    assertError("x = foo(1)", "Unknown function 'foo'");
+    assertError("x = pow(1)", "Function 'pow' expects 2 argument(s)");
+    assertError("x = 1\nx = 2", "Field 'x' is assigned more than once");
+    assertError("temperature > 2", "Expected 'where <condition>' or '<field> = <expression>'");
+  }
+
+  @Test
+  public void testErrorPositionSpansLines() {
+    SpRuntimeException e = assertThrows(SpRuntimeException.class, () -> compile("x = 1\ny = 2 +\n"));
+    assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid expression (line 2, column 8)"));
+  }
+
+  private void assertError(String program,
+                           String message) {
+    SpRuntimeException e = assertThrows(SpRuntimeException.class, () -> compile(program));
+    assertTrue(e.getMessage(), e.getMessage().endsWith(message));
+  }
+
+  private Object evaluate(String program) {
+    return value(compile(program).evaluate(event(Map.of())), "x");
+  }
+
+  private ExpressionProgram compile(String program) {
+    return new ExpressionCompiler(FIELDS).compile(program);
+  }
+
+  private Object value(Event event,
+                       String field) {
+    return event.getFieldByRuntimeName(field).getRawValue();
+  }
+
+  private Event event(Map<String, Object> values) {
+    return EventFactory.fromMap(new HashMap<>(values), new SourceInfo("test", "s0"),
+        new SchemaInfo(new EventSchema(), new ArrayList<>()));
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.jseval;
+
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.EventFactory;
+import org.apache.streampipes.model.runtime.SchemaInfo;
+import org.apache.streampipes.model.runtime.SourceInfo;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class TestEventProxy {
+
+  private static final String[] RUNTIME_NAMES = {"id", "temperature", "location", "values"};
+
+  @Test
+  public void testFieldsAreRead() {
+    Map<String, Object> result = process("function process(event) { "
+        + "return {id: event.id, lat: event.location.lat, first: event.values[0]}; }");
+
+    assertEquals(Map.of("id", "sensor1", "lat", 49.5, "first", 1), result);
+  }
+
+  @Test
+  public void testModifiedEventIsReturned() {
+    Map<String, Object> result = process("function process(event) { "
+        + "event.temperature = event.temperature + 1; event.unit = 'C'; delete event.values; return event; }");
+
+    assertEquals("sensor1", result.get("id"));
+    assertEquals(21.5, result.get("temperature"));
+    assertEquals("C", result.get("unit"));
+    assertFalse(result.containsKey("values"));
+  }
+
+  @Test
+  public void testNestedFieldsAndListItemsAreModified() {
+    Map<String, Object> result = process("function process(event) { "
+        + "event.location.lat = 50; event.values[1] = 5; return event; }");
+
+    assertEquals(Map.of("lat", 50, "lng", 8.25), result.get("location"));
+    assertEquals(List.of(1, 5), result.get("values"));
+  }
+
+  @Test
+  public void testInputEventIsNotChanged() {
+    Event event = makeEvent();
+    try (JsFunctionPool pool = new JsFunctionPool(
+        "function process(event) { event.id = 'changed'; event.location.lat = 0; return event; }", 1)) {
+      pool.apply(function -> JSEvalProcessor.toResultMap(function.execute(new EventProxy(event, RUNTIME_NAMES))));
+    }
+
+    assertEquals("sensor1", event.getFieldByRuntimeName("id").getAsPrimitive().getAsString());
+    assertEquals(49.5, event.getFieldBySelector("s0::location::lat").getAsPrimitive().getAsDouble(), 0.0);
+  }
+
+  private Map<String, Object> process(String code) {
+    try (JsFunctionPool pool = new JsFunctionPool(code, 1)) {
+      return pool.apply(function ->
+          JSEvalProcessor.toResultMap(function.execute(new EventProxy(makeEvent(), RUNTIME_NAMES))));
+    }
+  }
+
+  private Event makeEvent() {
+    Map<String, Object> location = new HashMap<>();
+    location.put("lat", 49.5);
+    location.put("lng", 8.25);
+    Map<String, Object> values = new HashMap<>();
+    values.put("id", "sensor1");
+    values.put("temperature", 20.5);
+    values.put("location", location);
+    values.put("values", new ArrayList<>(List.of(1, 2)));
+    return EventFactory.fromMap(values, new SourceInfo("test", "s0"), new SchemaInfo(null, new ArrayList<>()));
+  }
+}
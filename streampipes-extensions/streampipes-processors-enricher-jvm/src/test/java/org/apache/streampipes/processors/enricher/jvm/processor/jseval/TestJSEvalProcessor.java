@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.jseval;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.graalvm.polyglot.proxy.ProxyObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+public class TestJSEvalProcessor {
+
+  private JsFunctionPool pool;
+
+  @Before
+  public void setUp() {
+    pool = new JsFunctionPool(
+        "function process(events) { return events.filter(e => e.keep).map(e => ({value: e.value})); }", 1);
+  }
+
+  @After
+  public void tearDown() {
+    pool.close();
+  }
+
+  @Test
+  public void testBatchResultsMatchEvents() {
+    List<Map<String, Object>> results = pool.apply(function -> JSEvalProcessor.toBatchResults(
+        function.execute(batch(Map.of("keep", true, "value", 1), Map.of("keep", true, "value", 2))), 2));
+
+    assertEquals(2, results.size());
+    assertEquals(1, results.get(0).get("value"));
+    assertEquals(2, results.get(1).get("value"));
+  }
+
+  @Test
+  public void testBatchWithMissingResultsIsRejected() {
+    assertThrows(SpRuntimeException.class, () -> pool.apply(function -> JSEvalProcessor.toBatchResults(
+        function.execute(batch(Map.of("keep", true, "value", 1), Map.of("keep", false, "value", 2))), 2)));
+  }
+
+  @Test
+  public void testNullResultDropsEvent() {
+    try (JsFunctionPool nullPool = new JsFunctionPool("function process(events) { return [null]; }", 1)) {
+      List<Map<String, Object>> results = nullPool.apply(function -> JSEvalProcessor.toBatchResults(
+          function.execute(batch(Map.of("value", 1))), 1));
+
+      assertEquals(1, results.size());
+      assertNull(results.get(0));
+    }
+  }
+
+  @SafeVarargs
+  private ProxyArray batch(Map<String, Object>... events) {
+    return ProxyArray.fromArray(Arrays.stream(events).map(ProxyObject::fromMap).toArray());
+  }
+}
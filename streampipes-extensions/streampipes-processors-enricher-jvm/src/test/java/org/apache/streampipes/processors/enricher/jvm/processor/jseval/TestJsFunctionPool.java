@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.enricher.jvm.processor.jseval;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.proxy.ProxyObject;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class TestJsFunctionPool {
+
+  private static final String FUNCTION = "function process(event) { return {doubled: event.value * 2}; }";
+
+  @Test
+  public void testFunctionIsEvaluated() {
+    try (JsFunctionPool pool = new JsFunctionPool(FUNCTION, 2)) {
+      Map<String, Object> result = pool.apply(function ->
+          JsValueConverter.toMap(function.execute(ProxyObject.fromMap(Map.of("value", 21)))));
+
+      assertEquals(42, result.get("doubled"));
+    }
+  }
+
+  @Test
+  public void testSourceIsReleasedWhenLastPoolIsClosed() {
+    String code = "function process(event) { return {id: 'release-test'}; }";
+    int cachedSources = JsEngine.INSTANCE.getCachedSourceCount();
+
+    JsFunctionPool first = new JsFunctionPool(code, 1);
+    JsFunctionPool second = new JsFunctionPool(code, 1);
+    assertEquals(cachedSources + 1, JsEngine.INSTANCE.getCachedSourceCount());
+
+    first.close();
+    first.close();
+    assertEquals(cachedSources + 1, JsEngine.INSTANCE.getCachedSourceCount());
+
+    second.close();
+    assertEquals(cachedSources, JsEngine.INSTANCE.getCachedSourceCount());
+  }
+
+  @Test
+  public void testInvalidFunctionDoesNotStayCached() {
+    int cachedSources = JsEngine.INSTANCE.getCachedSourceCount();
+
+    assertThrows(PolyglotException.class, () -> new JsFunctionPool("function process(event) {", 1));
+    assertEquals(cachedSources, JsEngine.INSTANCE.getCachedSourceCount());
+  }
+
+  @Test
+  public void testScriptErrorIsReported() {
+    try (JsFunctionPool pool = new JsFunctionPool("function process(event) { throw new Error('boom'); }", 1)) {
+      assertThrows(PolyglotException.class, () -> pool.apply(function -> function.execute(Map.of())));
+      // the context is returned to the pool and can be used again
+      assertThrows(PolyglotException.class, () -> pool.apply(function -> function.execute(Map.of())));
+    }
+  }
+
+  @Test
+  public void testNonMapResultIsRejected() {
+    try (JsFunctionPool pool = new JsFunctionPool("function process(event) { return 42; }", 1)) {
+      assertThrows(SpRuntimeException.class, () -> pool.apply(function ->
+          JSEvalProcessor.toResultMap(function.execute(Map.of()))));
+    }
+  }
+}
@@ -30,6 +30,7 @@ import org.apache.streampipes.sdk.utils.Assets;
 import org.apache.streampipes.wrapper.siddhi.SiddhiAppConfig;
 import org.apache.streampipes.wrapper.siddhi.SiddhiAppConfigBuilder;
 import org.apache.streampipes.wrapper.siddhi.SiddhiQueryBuilder;
+import org.apache.streampipes.wrapper.siddhi.constants.SiddhiConstants;
 import org.apache.streampipes.wrapper.siddhi.engine.StreamPipesSiddhiProcessor;
 import org.apache.streampipes.wrapper.siddhi.model.SiddhiProcessorParams;
 import org.apache.streampipes.wrapper.siddhi.query.InsertIntoClause;
@@ -67,6 +68,8 @@ public class FrequencySiddhiProcessor extends StreamPipesSiddhiProcessor {
     InsertIntoClause insertIntoClause = InsertIntoClause.create(finalInsertIntoStreamName);
     return SiddhiAppConfigBuilder
         .create()
+        .withInputBatching(SiddhiConstants.DEFAULT_INPUT_BATCH_SIZE, SiddhiConstants.DEFAULT_INPUT_BATCH_LINGER_MS)
+        .withAsyncInput(SiddhiConstants.DEFAULT_ASYNC_INPUT_BUFFER_SIZE)
         .addQuery(SiddhiQueryBuilder
             .create(fromStatement(siddhiParams, duration, timeUnit), insertIntoClause)
             .withSelectClause(selectStatement())
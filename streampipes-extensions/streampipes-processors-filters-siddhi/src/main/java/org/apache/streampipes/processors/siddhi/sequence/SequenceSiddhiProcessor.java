@@ -29,6 +29,7 @@ import org.apache.streampipes.sdk.utils.Assets;
 import org.apache.streampipes.wrapper.siddhi.SiddhiAppConfig;
 import org.apache.streampipes.wrapper.siddhi.SiddhiAppConfigBuilder;
 import org.apache.streampipes.wrapper.siddhi.SiddhiQueryBuilder;
+import org.apache.streampipes.wrapper.siddhi.constants.SiddhiConstants;
 import org.apache.streampipes.wrapper.siddhi.engine.StreamPipesSiddhiProcessor;
 import org.apache.streampipes.wrapper.siddhi.model.SiddhiProcessorParams;
 import org.apache.streampipes.wrapper.siddhi.query.InsertIntoClause;
@@ -67,6 +68,7 @@ public class SequenceSiddhiProcessor extends StreamPipesSiddhiProcessor {
     InsertIntoClause insertIntoClause = InsertIntoClause.create(finalInsertIntoStreamName);
     return SiddhiAppConfigBuilder
         .create()
+        .withInputBatching(SiddhiConstants.DEFAULT_INPUT_BATCH_SIZE, SiddhiConstants.DEFAULT_INPUT_BATCH_LINGER_MS)
         .addQuery(SiddhiQueryBuilder
             .create(fromStatement(siddhiParams, duration), insertIntoClause)
             .withSelectClause(selectStatement(siddhiParams))
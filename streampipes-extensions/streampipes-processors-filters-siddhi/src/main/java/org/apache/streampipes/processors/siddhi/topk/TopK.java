@@ -35,6 +35,7 @@ import org.apache.streampipes.vocabulary.SO;
 import org.apache.streampipes.wrapper.siddhi.SiddhiAppConfig;
 import org.apache.streampipes.wrapper.siddhi.SiddhiAppConfigBuilder;
 import org.apache.streampipes.wrapper.siddhi.SiddhiQueryBuilder;
+import org.apache.streampipes.wrapper.siddhi.constants.SiddhiConstants;
 import org.apache.streampipes.wrapper.siddhi.engine.StreamPipesSiddhiProcessor;
 import org.apache.streampipes.wrapper.siddhi.model.SiddhiProcessorParams;
 import org.apache.streampipes.wrapper.siddhi.output.SiddhiListOutputConfig;
@@ -120,6 +121,8 @@ public class TopK extends StreamPipesSiddhiProcessor {
     LimitClause limitClause = LimitClause.create(limit);
 
     return SiddhiAppConfigBuilder.create(new SiddhiListOutputConfig("top", true))
+        .withInputBatching(SiddhiConstants.DEFAULT_INPUT_BATCH_SIZE, SiddhiConstants.DEFAULT_INPUT_BATCH_LINGER_MS)
+        .withAsyncInput(SiddhiConstants.DEFAULT_ASYNC_INPUT_BUFFER_SIZE)
         .addQuery(SiddhiQueryBuilder
             .create(fromClause, insertIntoClause)
             .withSelectClause(selectClause)
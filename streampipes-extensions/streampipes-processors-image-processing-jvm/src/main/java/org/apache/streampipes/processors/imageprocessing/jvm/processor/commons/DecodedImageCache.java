@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.imageprocessing.jvm.processor.commons;
+
+import org.apache.streampipes.commons.blob.BlobReference;
+
+import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps recently decoded images of blob references so that co-located processors
+ * can share the decoded raster instead of decoding the same attachment again.
+ * Cached images are shared and must not be modified.
+ */
+public enum DecodedImageCache {
+
+  INSTANCE;
+
+  private static final int MAX_ENTRIES = 32;
+
+  private final Map<BlobReference, SoftReference<BufferedImage>> images;
+
+  DecodedImageCache() {
+    this.images = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<BlobReference, SoftReference<BufferedImage>> eldest) {
+        return size() > MAX_ENTRIES;
+      }
+    };
+  }
+
+  public synchronized Optional<BufferedImage> get(BlobReference reference) {
+    SoftReference<BufferedImage> ref = images.get(reference);
+    BufferedImage image = ref != null ? ref.get() : null;
+    if (ref != null && image == null) {
+      images.remove(reference);
+    }
+    return Optional.ofNullable(image);
+  }
+
+  public synchronized void put(BlobReference reference,
+                               BufferedImage image) {
+    images.put(reference, new SoftReference<>(image));
+  }
+}
@@ -17,6 +17,9 @@
  */
 package org.apache.streampipes.processors.imageprocessing.jvm.processor.commons;
 
+import org.apache.streampipes.commons.blob.BinaryAttachmentMode;
+import org.apache.streampipes.commons.blob.BinaryAttachments;
+import org.apache.streampipes.commons.blob.BlobReference;
 import org.apache.streampipes.model.runtime.Event;
 
 import javax.imageio.ImageIO;
@@ -25,23 +28,74 @@ import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public class PlainImageTransformer {
 
+  private static final BinaryAttachments ATTACHMENTS = BinaryAttachments.fromEnvironment();
+
   protected Event in;
 
+  private final Map<String, Optional<BufferedImage>> decodedImages;
+
   public PlainImageTransformer(Event in) {
     this.in = in;
+    this.decodedImages = new HashMap<>();
   }
 
+  /**
+   * Returns the image of the given property, decoding it at most once.
+   * The returned image might be shared with other processors and must not be modified,
+   * use {@link #getImageCopy(String)} instead.
+   */
   public Optional<BufferedImage> getImage(String imagePropertyName) {
-    String imageBase64 = in.getFieldBySelector(imagePropertyName).getAsPrimitive().getAsString();
+    return decodedImages.computeIfAbsent(imagePropertyName, this::decodeImage);
+  }
+
+  public Optional<BufferedImage> getImageCopy(String imagePropertyName) {
+    return getImage(imagePropertyName).map(image -> new BufferedImage(
+        image.getColorModel(),
+        image.copyData(null),
+        image.isAlphaPremultiplied(),
+        null));
+  }
+
+  /**
+   * Converts an encoded image into the value to add to an outgoing event, depending on the
+   * configured binary attachment mode.
+   */
+  public Object toImageFieldValue(byte[] encodedImage,
+                                  BufferedImage image) {
+    Object value = ATTACHMENTS.toFieldValue(encodedImage);
+    if (ATTACHMENTS.getMode() == BinaryAttachmentMode.REFERENCE) {
+      DecodedImageCache.INSTANCE.put(BlobReference.parse((String) value), image);
+    }
+    return value;
+  }
+
+  private Optional<BufferedImage> decodeImage(String imagePropertyName) {
+    Object value = in.getFieldBySelector(imagePropertyName).getAsPrimitive().getRawValue();
+
+    if (BlobReference.isReference(value)) {
+      BlobReference reference = BlobReference.parse((String) value);
+      Optional<BufferedImage> cachedImage = DecodedImageCache.INSTANCE.get(reference);
+      if (cachedImage.isPresent()) {
+        return cachedImage;
+      }
+      Optional<BufferedImage> image = readImage(ATTACHMENTS.toBytes(value));
+      image.ifPresent(img -> DecodedImageCache.INSTANCE.put(reference, img));
+      return image;
+    }
+
+    return readImage(ATTACHMENTS.toBytes(value));
+  }
 
-    InputStream img = new ByteArrayInputStream(Base64.getDecoder().decode(imageBase64));
+  private Optional<BufferedImage> readImage(byte[] imageBytes) {
+    InputStream img = new ByteArrayInputStream(imageBytes);
     try {
-      return Optional.of(ImageIO.read(img));
+      return Optional.ofNullable(ImageIO.read(img));
     } catch (IOException e) {
       e.printStackTrace();
       return Optional.empty();
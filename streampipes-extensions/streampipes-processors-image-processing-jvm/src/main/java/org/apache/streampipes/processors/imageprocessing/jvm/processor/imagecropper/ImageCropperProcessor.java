@@ -39,7 +39,6 @@ import org.apache.streampipes.wrapper.params.compat.ProcessorParams;
 import org.apache.streampipes.wrapper.standalone.StreamPipesDataProcessor;
 
 import java.awt.image.BufferedImage;
-import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -83,8 +82,14 @@ public class ImageCropperProcessor extends StreamPipesDataProcessor {
       for (Map<String, Object> box : allBoxCoordinates) {
         BoxCoordinates boxCoordinates = imageTransformer.getBoxCoordinates(image, box);
 
-        BufferedImage dest = image.getSubimage(boxCoordinates.getX(), boxCoordinates.getY(), boxCoordinates.getWidth(),
-            boxCoordinates.getHeight());
+        BufferedImage region = image.getSubimage(boxCoordinates.getX(), boxCoordinates.getY(),
+            boxCoordinates.getWidth(), boxCoordinates.getHeight());
+        // copy the region, a sub image would keep the whole source raster of the (cached) image alive
+        BufferedImage dest = new BufferedImage(
+            region.getColorModel(),
+            region.copyData(null),
+            region.isAlphaPremultiplied(),
+            null);
 
         Optional<byte[]> finalImage = imageTransformer.makeImage(dest);
 
@@ -95,7 +100,7 @@ public class ImageCropperProcessor extends StreamPipesDataProcessor {
               in.getFieldByRuntimeName(ImagePropertyConstants.TIMESTAMP.getProperty()).getAsPrimitive().getAsLong());
 
           outEvent.addField(ImagePropertyConstants.IMAGE.getProperty(),
-              Base64.getEncoder().encodeToString(finalImage.get()));
+              imageTransformer.toImageFieldValue(finalImage.get(), dest));
 
           outEvent.addField(ImagePropertyConstants.CLASS_NAME.getProperty(),
               box.get(ImagePropertyConstants.CLASS_NAME.getProperty()));
@@ -43,7 +43,6 @@ import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -77,7 +76,7 @@ public class ImageEnrichmentProcessor extends StreamPipesDataProcessor {
   @Override
   public void onEvent(Event in, SpOutputCollector out) throws SpRuntimeException {
     ImageTransformer imageTransformer = new ImageTransformer(in);
-    Optional<BufferedImage> imageOpt = imageTransformer.getImage(imageProperty);
+    Optional<BufferedImage> imageOpt = imageTransformer.getImageCopy(imageProperty);
 
     if (imageOpt.isPresent()) {
       BufferedImage image = imageOpt.get();
@@ -119,7 +118,7 @@ public class ImageEnrichmentProcessor extends StreamPipesDataProcessor {
       if (finalImage.isPresent()) {
         Event outEvent = new Event();
         outEvent.addField(ImagePropertyConstants.IMAGE.getProperty(),
-            Base64.getEncoder().encodeToString(finalImage.get()));
+            imageTransformer.toImageFieldValue(finalImage.get(), image));
         out.collect(outEvent);
       }
     }
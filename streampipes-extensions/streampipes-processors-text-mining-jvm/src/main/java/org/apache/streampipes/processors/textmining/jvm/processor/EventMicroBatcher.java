@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.textmining.jvm.processor;
+
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.sdk.extractor.ProcessingElementParameterExtractor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Collects the events of a text-mining processor into micro-batches, so that all texts of a batch are
+ * processed with a single pooled inference object. A batch is processed once it is full or at the latest
+ * one second after its first event.
+ */
+public class EventMicroBatcher implements AutoCloseable {
+
+  public static final String BATCH_SIZE_KEY = "batchSize";
+
+  private static final Logger LOG = LoggerFactory.getLogger(EventMicroBatcher.class);
+
+  private static final long BATCH_LINGER_MS = 1000;
+
+  private final int batchSize;
+  private final Consumer<List<Event>> batchHandler;
+  private final ScheduledExecutorService batchFlusher;
+
+  private List<Event> batch;
+  private long batchStart;
+
+  public EventMicroBatcher(String name,
+                           int batchSize,
+                           Consumer<List<Event>> batchHandler) {
+    this.batchSize = batchSize;
+    this.batchHandler = batchHandler;
+    this.batch = new ArrayList<>(batchSize);
+    this.batchFlusher = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, name + "-batch-flusher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.batchFlusher.scheduleAtFixedRate(this::flushIfLingering, BATCH_LINGER_MS, BATCH_LINGER_MS,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Returns the configured batch size; pipelines created before the batch mode was introduced do not
+   * contain this parameter and process each event on its own.
+   */
+  public static int extractBatchSize(ProcessingElementParameterExtractor extractor) {
+    return extractor.getStaticPropertyByName(BATCH_SIZE_KEY) != null
+        ? Math.max(1, extractor.singleValueParameter(BATCH_SIZE_KEY, Integer.class))
+        : 1;
+  }
+
+  public synchronized void add(Event event) {
+    if (batch.isEmpty()) {
+      batchStart = System.currentTimeMillis();
+    }
+    batch.add(event);
+    if (batch.size() >= batchSize) {
+      flush();
+    }
+  }
+
+  /**
+   * Stops the linger timer and processes the remaining events.
+   */
+  @Override
+  public void close() {
+    batchFlusher.shutdownNow();
+    flush();
+  }
+
+  private synchronized void flushIfLingering() {
+    try {
+      if (!batch.isEmpty() && System.currentTimeMillis() - batchStart >= BATCH_LINGER_MS) {
+        flush();
+      }
+    } catch (RuntimeException e) {
+      LOG.error("Could not process batch of events", e);
+    }
+  }
+
+  private synchronized void flush() {
+    if (batch.isEmpty()) {
+      return;
+    }
+    List<Event> events = batch;
+    batch = new ArrayList<>(batchSize);
+    batchHandler.accept(events);
+  }
+}
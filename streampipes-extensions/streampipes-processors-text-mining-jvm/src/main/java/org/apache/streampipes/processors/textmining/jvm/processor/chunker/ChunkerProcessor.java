@@ -26,7 +26,10 @@ import org.apache.streampipes.model.graph.DataProcessorDescription;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.model.runtime.field.ListField;
 import org.apache.streampipes.model.schema.PropertyScope;
+import org.apache.streampipes.processors.textmining.jvm.processor.EventMicroBatcher;
 import org.apache.streampipes.processors.textmining.jvm.processor.TextMiningUtil;
+import org.apache.streampipes.processors.textmining.jvm.processor.model.OpenNlpModelRegistry;
+import org.apache.streampipes.processors.textmining.jvm.processor.model.SharedModel;
 import org.apache.streampipes.sdk.builder.ProcessingElementBuilder;
 import org.apache.streampipes.sdk.builder.StreamRequirementsBuilder;
 import org.apache.streampipes.sdk.helpers.EpProperties;
@@ -43,9 +46,7 @@ import opennlp.tools.chunker.ChunkerME;
 import opennlp.tools.chunker.ChunkerModel;
 import opennlp.tools.util.Span;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 
@@ -59,7 +60,8 @@ public class ChunkerProcessor extends StreamPipesDataProcessor {
 
   private String tags;
   private String tokens;
-  private ChunkerME chunker;
+  private SharedModel<ChunkerModel, ChunkerME> chunker;
+  private EventMicroBatcher batcher;
 
   @Override
   public DataProcessorDescription declareModel() {
@@ -79,6 +81,7 @@ public class ChunkerProcessor extends StreamPipesDataProcessor {
                 Labels.withId(TOKENS_FIELD_KEY),
                 PropertyScope.NONE)
             .build())
+        .requiredIntegerParameter(Labels.withId(EventMicroBatcher.BATCH_SIZE_KEY), 1)
         .outputStrategy(OutputStrategies.append(
             EpProperties.listStringEp(
                 Labels.withId(CHUNK_TYPE_FIELD_KEY),
@@ -98,42 +101,60 @@ public class ChunkerProcessor extends StreamPipesDataProcessor {
     this.tags = parameters.extractor().mappingPropertyValue(TAGS_FIELD_KEY);
     this.tokens = parameters.extractor().mappingPropertyValue(TOKENS_FIELD_KEY);
     String filename = parameters.extractor().selectedFilename(BINARY_FILE_KEY);
-    byte[] fileContent = context.getStreamPipesClient().fileApi().getFileContent(filename);
+    Path modelFile = context.getStreamPipesClient().fileApi().getFileAsPath(filename);
 
-    InputStream modelIn = new ByteArrayInputStream(fileContent);
-    ChunkerModel model;
-    try {
-      model = new ChunkerModel(modelIn);
-    } catch (IOException e) {
-      throw new SpRuntimeException("Error when loading the uploaded model.", e);
-    }
+    this.chunker = OpenNlpModelRegistry.INSTANCE.acquire(modelFile,
+        ChunkerModel.class,
+        ChunkerModel::new,
+        ChunkerME::new);
 
-    chunker = new ChunkerME(model);
+    int batchSize = EventMicroBatcher.extractBatchSize(parameters.extractor());
+    if (batchSize > 1) {
+      this.batcher = new EventMicroBatcher("sp-chunker", batchSize,
+          events -> processBatch(events, spOutputCollector));
+    }
   }
 
   @Override
-  public void onEvent(Event event,
-                      SpOutputCollector collector) throws SpRuntimeException {
+  public void onEvent(Event event, SpOutputCollector collector) throws SpRuntimeException {
+    if (batcher != null) {
+      batcher.add(event);
+    } else {
+      processBatch(List.of(event), collector);
+    }
+  }
+
+  private void processBatch(List<Event> events,
+                            SpOutputCollector collector) {
+    chunker.executeBatch(events, this::chunk).forEach(collector::collect);
+  }
+
+  private Event chunk(ChunkerME chunkerMe,
+                      Event event) {
     ListField tags = event.getFieldBySelector(this.tags).getAsList();
     ListField tokens = event.getFieldBySelector(this.tokens).getAsList();
 
-
     String[] tagsArray = tags.castItems(String.class).toArray(String[]::new);
     String[] tokensArray = tokens.castItems(String.class).toArray(String[]::new);
 
-    Span[] spans = chunker.chunkAsSpans(tokensArray, tagsArray);
+    Span[] spans = chunkerMe.chunkAsSpans(tokensArray, tagsArray);
 
     List<String> chunks = TextMiningUtil.extractSpans(spans, tokensArray);
     String[] types = Arrays.stream(spans).map(Span::getType).toArray(String[]::new);
 
     event.addField(ChunkerProcessor.CHUNK_TYPE_FIELD_KEY, types);
     event.addField(ChunkerProcessor.CHUNK_FIELD_KEY, chunks);
-
-    collector.collect(event);
+    return event;
   }
 
   @Override
   public void onDetach() throws SpRuntimeException {
-
+    try {
+      if (batcher != null) {
+        batcher.close();
+      }
+    } finally {
+      OpenNlpModelRegistry.INSTANCE.release(chunker);
+    }
   }
 }
@@ -25,6 +25,9 @@ import org.apache.streampipes.model.DataProcessorType;
 import org.apache.streampipes.model.graph.DataProcessorDescription;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.model.schema.PropertyScope;
+import org.apache.streampipes.processors.textmining.jvm.processor.EventMicroBatcher;
+import org.apache.streampipes.processors.textmining.jvm.processor.model.OpenNlpModelRegistry;
+import org.apache.streampipes.processors.textmining.jvm.processor.model.SharedModel;
 import org.apache.streampipes.sdk.builder.ProcessingElementBuilder;
 import org.apache.streampipes.sdk.builder.StreamRequirementsBuilder;
 import org.apache.streampipes.sdk.helpers.EpProperties;
@@ -41,9 +44,9 @@ import opennlp.tools.langdetect.LanguageDetector;
 import opennlp.tools.langdetect.LanguageDetectorME;
 import opennlp.tools.langdetect.LanguageDetectorModel;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
 
 public class LanguageDetectionProcessor extends StreamPipesDataProcessor {
 
@@ -53,7 +56,8 @@ public class LanguageDetectionProcessor extends StreamPipesDataProcessor {
   private static final String BINARY_FILE_KEY = "binary-file";
 
   private String detection;
-  private LanguageDetector languageDetector;
+  private SharedModel<LanguageDetectorModel, LanguageDetector> languageDetector;
+  private EventMicroBatcher batcher;
 
   @Override
   public DataProcessorDescription declareModel() {
@@ -69,6 +73,7 @@ public class LanguageDetectionProcessor extends StreamPipesDataProcessor {
                 Labels.withId(DETECTION_FIELD_KEY),
                 PropertyScope.NONE)
             .build())
+        .requiredIntegerParameter(Labels.withId(EventMicroBatcher.BATCH_SIZE_KEY), 1)
         .outputStrategy(OutputStrategies.append(
             EpProperties.stringEp(
                 Labels.withId(LANGUAGE_KEY),
@@ -86,33 +91,53 @@ public class LanguageDetectionProcessor extends StreamPipesDataProcessor {
                            SpOutputCollector spOutputCollector,
                            EventProcessorRuntimeContext context) throws SpRuntimeException {
     String filename = parameters.extractor().selectedFilename(BINARY_FILE_KEY);
-    byte[] fileContent = context.getStreamPipesClient().fileApi().getFileContent(filename);
+    Path modelFile = context.getStreamPipesClient().fileApi().getFileAsPath(filename);
     this.detection = parameters.extractor().mappingPropertyValue(DETECTION_FIELD_KEY);
 
-    InputStream modelIn = new ByteArrayInputStream(fileContent);
-    LanguageDetectorModel model = null;
-    try {
-      model = new LanguageDetectorModel(modelIn);
-    } catch (IOException e) {
-      throw new SpRuntimeException("Error when loading the uploaded model.", e);
-    }
+    this.languageDetector = OpenNlpModelRegistry.INSTANCE.acquire(modelFile,
+        LanguageDetectorModel.class,
+        LanguageDetectorModel::new,
+        LanguageDetectorME::new);
 
-    languageDetector = new LanguageDetectorME(model);
+    int batchSize = EventMicroBatcher.extractBatchSize(parameters.extractor());
+    if (batchSize > 1) {
+      this.batcher = new EventMicroBatcher("sp-language-detection", batchSize,
+          events -> processBatch(events, spOutputCollector));
+    }
   }
 
   @Override
   public void onEvent(Event event, SpOutputCollector collector) throws SpRuntimeException {
+    if (batcher != null) {
+      batcher.add(event);
+    } else {
+      processBatch(List.of(event), collector);
+    }
+  }
+
+  private void processBatch(List<Event> events,
+                            SpOutputCollector collector) {
+    languageDetector.executeBatch(events, this::detectLanguage).forEach(collector::collect);
+  }
+
+  private Event detectLanguage(LanguageDetector detector,
+                               Event event) {
     String text = event.getFieldBySelector(detection).getAsPrimitive().getAsString();
-    Language language = languageDetector.predictLanguage(text);
+    Language language = detector.predictLanguage(text);
 
     event.addField(LanguageDetectionProcessor.LANGUAGE_KEY, language.getLang());
     event.addField(LanguageDetectionProcessor.CONFIDENCE_KEY, language.getConfidence());
-
-    collector.collect(event);
+    return event;
   }
 
   @Override
   public void onDetach() throws SpRuntimeException {
-
+    try {
+      if (batcher != null) {
+        batcher.close();
+      }
+    } finally {
+      OpenNlpModelRegistry.INSTANCE.release(languageDetector);
+    }
   }
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.textmining.jvm.processor.model;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Registry of OpenNLP models shared across all processor instances of this service.
+ * Models are keyed by the hash of the model file, so pipelines using the same file
+ * share one deserialized model, which is dropped once the last pipeline releases it.
+ * Files of the local file cache are stored by content hash, so their path is used as key directly.
+ */
+public enum OpenNlpModelRegistry {
+
+  INSTANCE;
+
+  private final Map<String, SharedModel<?, ?>> models;
+
+  OpenNlpModelRegistry() {
+    this.models = new HashMap<>();
+  }
+
+  public synchronized <ModelT, T> SharedModel<ModelT, T> acquire(byte[] modelContent,
+                                                                 Class<ModelT> modelType,
+                                                                 ModelLoader<ModelT> loader,
+                                                                 Function<ModelT, T> instanceFactory)
+      throws SpRuntimeException {
+    String key = makeKey(DigestUtils.sha256Hex(modelContent), modelType);
+    return acquire(key, () -> new ByteArrayInputStream(modelContent), loader, instanceFactory);
+  }
+
+  public synchronized <ModelT, T> SharedModel<ModelT, T> acquire(Path modelFile,
+                                                                 Class<ModelT> modelType,
+                                                                 ModelLoader<ModelT> loader,
+                                                                 Function<ModelT, T> instanceFactory)
+      throws SpRuntimeException {
+    String key = makeKey(modelFile.toAbsolutePath().toString(), modelType);
+    return acquire(key, () -> Files.newInputStream(modelFile), loader, instanceFactory);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <ModelT, T> SharedModel<ModelT, T> acquire(String key,
+                                                     ModelSource modelSource,
+                                                     ModelLoader<ModelT> loader,
+                                                     Function<ModelT, T> instanceFactory)
+      throws SpRuntimeException {
+    SharedModel<ModelT, T> sharedModel = (SharedModel<ModelT, T>) models.get(key);
+
+    if (sharedModel == null) {
+      sharedModel = new SharedModel<>(key, load(modelSource, loader), instanceFactory);
+      models.put(key, sharedModel);
+    }
+
+    sharedModel.retain();
+    return sharedModel;
+  }
+
+  public synchronized void release(SharedModel<?, ?> sharedModel) {
+    if (sharedModel != null && sharedModel.release() <= 0) {
+      models.remove(sharedModel.getKey());
+    }
+  }
+
+  synchronized int size() {
+    return models.size();
+  }
+
+  private <ModelT> ModelT load(ModelSource modelSource,
+                               ModelLoader<ModelT> loader) throws SpRuntimeException {
+    try (InputStream modelIn = modelSource.open()) {
+      return loader.load(modelIn);
+    } catch (IOException e) {
+      throw new SpRuntimeException("Error when loading the uploaded model.", e);
+    }
+  }
+
+  private String makeKey(String modelId,
+                         Class<?> modelType) {
+    return modelType.getName() + ":" + modelId;
+  }
+
+  @FunctionalInterface
+  private interface ModelSource {
+
+    InputStream open() throws IOException;
+  }
+}
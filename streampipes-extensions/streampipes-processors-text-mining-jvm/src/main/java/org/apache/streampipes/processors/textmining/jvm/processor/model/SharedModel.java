@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.textmining.jvm.processor.model;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * An immutable OpenNLP model shared by all processors using the same model file, together with
+ * a pool of the (non thread-safe) inference objects created from it, e.g. TokenizerME.
+ *
+ * @param <ModelT> the model type, e.g. TokenizerModel
+ * @param <T> the inference object type, e.g. TokenizerME
+ */
+public class SharedModel<ModelT, T> {
+
+  private static final int MAX_IDLE_INSTANCES = Runtime.getRuntime().availableProcessors();
+
+  private final String key;
+  private final ModelT model;
+  private final Function<ModelT, T> instanceFactory;
+  private final Deque<T> idleInstances;
+  private final AtomicInteger idleCount;
+
+  private int referenceCount;
+
+  SharedModel(String key,
+              ModelT model,
+              Function<ModelT, T> instanceFactory) {
+    this.key = key;
+    this.model = model;
+    this.instanceFactory = instanceFactory;
+    this.idleInstances = new ConcurrentLinkedDeque<>();
+    this.idleCount = new AtomicInteger(0);
+    this.referenceCount = 0;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public ModelT getModel() {
+    return model;
+  }
+
+  public <ResultT> ResultT execute(Function<T, ResultT> function) {
+    T instance = borrow();
+    try {
+      return function.apply(instance);
+    } finally {
+      giveBack(instance);
+    }
+  }
+
+  public void use(Consumer<T> consumer) {
+    execute(instance -> {
+      consumer.accept(instance);
+      return null;
+    });
+  }
+
+  /**
+   * Processes a micro-batch of inputs with a single pooled instance.
+   */
+  public <InputT, ResultT> List<ResultT> executeBatch(List<InputT> inputs,
+                                                      BiFunction<T, InputT, ResultT> function) {
+    return execute(instance -> {
+      List<ResultT> results = new ArrayList<>(inputs.size());
+      for (InputT input : inputs) {
+        results.add(function.apply(instance, input));
+      }
+      return results;
+    });
+  }
+
+  T borrow() {
+    T instance = idleInstances.pollFirst();
+    if (instance != null) {
+      idleCount.decrementAndGet();
+      return instance;
+    }
+    return instanceFactory.apply(model);
+  }
+
+  void giveBack(T instance) {
+    if (idleCount.incrementAndGet() <= MAX_IDLE_INSTANCES) {
+      idleInstances.offerFirst(instance);
+    } else {
+      idleCount.decrementAndGet();
+    }
+  }
+
+  int getIdleInstanceCount() {
+    return idleCount.get();
+  }
+
+  int retain() {
+    return ++referenceCount;
+  }
+
+  int release() {
+    return --referenceCount;
+  }
+}
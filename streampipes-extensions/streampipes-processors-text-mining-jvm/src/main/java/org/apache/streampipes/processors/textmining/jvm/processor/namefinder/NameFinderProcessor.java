@@ -26,7 +26,10 @@ import org.apache.streampipes.model.graph.DataProcessorDescription;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.model.runtime.field.ListField;
 import org.apache.streampipes.model.schema.PropertyScope;
+import org.apache.streampipes.processors.textmining.jvm.processor.EventMicroBatcher;
 import org.apache.streampipes.processors.textmining.jvm.processor.TextMiningUtil;
+import org.apache.streampipes.processors.textmining.jvm.processor.model.OpenNlpModelRegistry;
+import org.apache.streampipes.processors.textmining.jvm.processor.model.SharedModel;
 import org.apache.streampipes.sdk.builder.ProcessingElementBuilder;
 import org.apache.streampipes.sdk.builder.StreamRequirementsBuilder;
 import org.apache.streampipes.sdk.helpers.EpProperties;
@@ -43,9 +46,7 @@ import opennlp.tools.namefind.NameFinderME;
 import opennlp.tools.namefind.TokenNameFinderModel;
 import opennlp.tools.util.Span;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
 
 public class NameFinderProcessor extends StreamPipesDataProcessor {
@@ -55,7 +56,8 @@ public class NameFinderProcessor extends StreamPipesDataProcessor {
   static final String FOUND_NAME_FIELD_KEY = "foundNames";
 
   private String tokens;
-  private NameFinderME nameFinder;
+  private SharedModel<TokenNameFinderModel, NameFinderME> nameFinder;
+  private EventMicroBatcher batcher;
 
   @Override
   public DataProcessorDescription declareModel() {
@@ -71,6 +73,7 @@ public class NameFinderProcessor extends StreamPipesDataProcessor {
                 PropertyScope.NONE)
             .build())
         .requiredFile(Labels.withId(MODEL))
+        .requiredIntegerParameter(Labels.withId(EventMicroBatcher.BATCH_SIZE_KEY), 1)
         .outputStrategy(OutputStrategies.append(
             EpProperties.listStringEp(
                 Labels.withId(FOUND_NAME_FIELD_KEY),
@@ -84,38 +87,62 @@ public class NameFinderProcessor extends StreamPipesDataProcessor {
                            SpOutputCollector spOutputCollector,
                            EventProcessorRuntimeContext runtimeContext) throws SpRuntimeException {
     String filename = parameters.extractor().selectedFilename(MODEL);
-    byte[] fileContent = runtimeContext.getStreamPipesClient().fileApi().getFileContent(filename);
+    Path modelFile = runtimeContext.getStreamPipesClient().fileApi().getFileAsPath(filename);
     this.tokens = parameters.extractor().mappingPropertyValue(TOKENS_FIELD_KEY);
-    loadModel(fileContent);
+    loadModel(modelFile);
+
+    int batchSize = EventMicroBatcher.extractBatchSize(parameters.extractor());
+    if (batchSize > 1) {
+      this.batcher = new EventMicroBatcher("sp-name-finder", batchSize,
+          events -> processBatch(events, spOutputCollector));
+    }
   }
 
   @Override
   public void onEvent(Event event, SpOutputCollector collector) throws SpRuntimeException {
+    if (batcher != null) {
+      batcher.add(event);
+    } else {
+      processBatch(List.of(event), collector);
+    }
+  }
+
+  private void processBatch(List<Event> events,
+                            SpOutputCollector collector) {
+    nameFinder.executeBatch(events, this::findNames).forEach(collector::collect);
+  }
+
+  private Event findNames(NameFinderME finder,
+                          Event event) {
     ListField tokens = event.getFieldBySelector(this.tokens).getAsList();
 
     String[] tokensArray = tokens.castItems(String.class).toArray(String[]::new);
-    Span[] spans = nameFinder.find(tokensArray);
+    Span[] spans = finder.find(tokensArray);
+    // pooled finders are shared between events, so no adaptive data must survive this call
+    finder.clearAdaptiveData();
 
     // Generating the list of names from the found spans by the nameFinder
     List<String> names = TextMiningUtil.extractSpans(spans, tokensArray);
 
-    nameFinder.clearAdaptiveData();
-
     event.addField(NameFinderProcessor.FOUND_NAME_FIELD_KEY, names);
-    collector.collect(event);
+    return event;
   }
 
   @Override
   public void onDetach() throws SpRuntimeException {
-
+    try {
+      if (batcher != null) {
+        batcher.close();
+      }
+    } finally {
+      OpenNlpModelRegistry.INSTANCE.release(nameFinder);
+    }
   }
 
-  private void loadModel(byte[] modelContent) {
-    try (InputStream modelIn = new ByteArrayInputStream(modelContent)) {
-      TokenNameFinderModel model = new TokenNameFinderModel(modelIn);
-      nameFinder = new NameFinderME(model);
-    } catch (IOException e) {
-      e.printStackTrace();
-    }
+  private void loadModel(Path modelFile) {
+    this.nameFinder = OpenNlpModelRegistry.INSTANCE.acquire(modelFile,
+        TokenNameFinderModel.class,
+        TokenNameFinderModel::new,
+        NameFinderME::new);
   }
 }
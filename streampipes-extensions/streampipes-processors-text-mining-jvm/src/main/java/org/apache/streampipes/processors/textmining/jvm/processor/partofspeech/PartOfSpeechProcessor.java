@@ -26,6 +26,9 @@ import org.apache.streampipes.model.graph.DataProcessorDescription;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.model.runtime.field.ListField;
 import org.apache.streampipes.model.schema.PropertyScope;
+import org.apache.streampipes.processors.textmining.jvm.processor.EventMicroBatcher;
+import org.apache.streampipes.processors.textmining.jvm.processor.model.OpenNlpModelRegistry;
+import org.apache.streampipes.processors.textmining.jvm.processor.model.SharedModel;
 import org.apache.streampipes.sdk.builder.ProcessingElementBuilder;
 import org.apache.streampipes.sdk.builder.StreamRequirementsBuilder;
 import org.apache.streampipes.sdk.helpers.EpProperties;
@@ -41,9 +44,9 @@ import org.apache.streampipes.wrapper.standalone.StreamPipesDataProcessor;
 import opennlp.tools.postag.POSModel;
 import opennlp.tools.postag.POSTaggerME;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
 
 public class PartOfSpeechProcessor extends StreamPipesDataProcessor {
 
@@ -53,7 +56,8 @@ public class PartOfSpeechProcessor extends StreamPipesDataProcessor {
   private static final String BINARY_FILE_KEY = "binary-file";
 
   private String detection;
-  private POSTaggerME posTagger;
+  private SharedModel<POSModel, POSTaggerME> posTagger;
+  private EventMicroBatcher batcher;
 
   @Override
   public DataProcessorDescription declareModel() {
@@ -69,6 +73,7 @@ public class PartOfSpeechProcessor extends StreamPipesDataProcessor {
                 Labels.withId(DETECTION_FIELD_KEY),
                 PropertyScope.NONE)
             .build())
+        .requiredIntegerParameter(Labels.withId(EventMicroBatcher.BATCH_SIZE_KEY), 1)
         .outputStrategy(OutputStrategies.append(
             EpProperties.listDoubleEp(
                 Labels.withId(CONFIDENCE_KEY),
@@ -86,35 +91,58 @@ public class PartOfSpeechProcessor extends StreamPipesDataProcessor {
                            SpOutputCollector spOutputCollector,
                            EventProcessorRuntimeContext runtimeContext) throws SpRuntimeException {
     String filename = parameters.extractor().selectedFilename(BINARY_FILE_KEY);
-    byte[] fileContent = runtimeContext.getStreamPipesClient().fileApi().getFileContent(filename);
+    Path modelFile = runtimeContext.getStreamPipesClient().fileApi().getFileAsPath(filename);
     this.detection = parameters.extractor().mappingPropertyValue(DETECTION_FIELD_KEY);
 
-    InputStream modelIn = new ByteArrayInputStream(fileContent);
-    POSModel model;
-    try {
-      model = new POSModel(modelIn);
-    } catch (IOException e) {
-      throw new SpRuntimeException("Error when loading the uploaded model.", e);
-    }
+    this.posTagger = OpenNlpModelRegistry.INSTANCE.acquire(modelFile,
+        POSModel.class,
+        POSModel::new,
+        POSTaggerME::new);
 
-    posTagger = new POSTaggerME(model);
+    int batchSize = EventMicroBatcher.extractBatchSize(parameters.extractor());
+    if (batchSize > 1) {
+      this.batcher = new EventMicroBatcher("sp-part-of-speech", batchSize,
+          events -> processBatch(events, spOutputCollector));
+    }
   }
 
   @Override
   public void onEvent(Event event, SpOutputCollector collector) throws SpRuntimeException {
+    if (batcher != null) {
+      batcher.add(event);
+    } else {
+      processBatch(List.of(event), collector);
+    }
+  }
+
+  private void processBatch(List<Event> events,
+                            SpOutputCollector collector) {
+    posTagger.executeBatch(events, this::tag).forEach(collector::collect);
+  }
+
+  private Event tag(POSTaggerME tagger,
+                    Event event) {
     ListField text = event.getFieldBySelector(detection).getAsList();
 
-    String[] tags = posTagger.tag(text.castItems(String.class).toArray(String[]::new));
-    double[] confidence = posTagger.probs();
+    String[] tokens = text.castItems(String.class).toArray(String[]::new);
 
+    // probs() refers to the last tag() call and needs to be read from the same tagger instance
+    String[] tags = tagger.tag(tokens);
+    double[] confidence = tagger.probs();
 
     event.addField(PartOfSpeechProcessor.CONFIDENCE_KEY, confidence);
     event.addField(PartOfSpeechProcessor.TAG_KEY, tags);
-
-    collector.collect(event);
+    return event;
   }
 
   @Override
   public void onDetach() throws SpRuntimeException {
+    try {
+      if (batcher != null) {
+        batcher.close();
+      }
+    } finally {
+      OpenNlpModelRegistry.INSTANCE.release(posTagger);
+    }
   }
 }
@@ -25,6 +25,9 @@ import org.apache.streampipes.model.DataProcessorType;
 import org.apache.streampipes.model.graph.DataProcessorDescription;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.model.schema.PropertyScope;
+import org.apache.streampipes.processors.textmining.jvm.processor.EventMicroBatcher;
+import org.apache.streampipes.processors.textmining.jvm.processor.model.OpenNlpModelRegistry;
+import org.apache.streampipes.processors.textmining.jvm.processor.model.SharedModel;
 import org.apache.streampipes.sdk.builder.ProcessingElementBuilder;
 import org.apache.streampipes.sdk.builder.StreamRequirementsBuilder;
 import org.apache.streampipes.sdk.helpers.EpRequirements;
@@ -38,9 +41,9 @@ import org.apache.streampipes.wrapper.standalone.StreamPipesDataProcessor;
 import opennlp.tools.sentdetect.SentenceDetectorME;
 import opennlp.tools.sentdetect.SentenceModel;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
 
 public class SentenceDetectionProcessor extends StreamPipesDataProcessor {
 
@@ -48,7 +51,8 @@ public class SentenceDetectionProcessor extends StreamPipesDataProcessor {
   private static final String BINARY_FILE_KEY = "binary-file";
 
   private String detection;
-  private SentenceDetectorME sentenceDetector;
+  private SharedModel<SentenceModel, SentenceDetectorME> sentenceDetector;
+  private EventMicroBatcher batcher;
 
   @Override
   public DataProcessorDescription declareModel() {
@@ -64,6 +68,7 @@ public class SentenceDetectionProcessor extends StreamPipesDataProcessor {
                 Labels.withId(DETECTION_FIELD_KEY),
                 PropertyScope.NONE)
             .build())
+        .requiredIntegerParameter(Labels.withId(EventMicroBatcher.BATCH_SIZE_KEY), 1)
         .outputStrategy(OutputStrategies.keep())
         .build();
   }
@@ -73,34 +78,52 @@ public class SentenceDetectionProcessor extends StreamPipesDataProcessor {
                            SpOutputCollector spOutputCollector,
                            EventProcessorRuntimeContext runtimeContext) throws SpRuntimeException {
     String filename = parameters.extractor().selectedFilename(BINARY_FILE_KEY);
-    byte[] fileContent = runtimeContext.getStreamPipesClient().fileApi().getFileContent(filename);
+    Path modelFile = runtimeContext.getStreamPipesClient().fileApi().getFileAsPath(filename);
     this.detection = parameters.extractor().mappingPropertyValue(DETECTION_FIELD_KEY);
 
-    InputStream modelIn = new ByteArrayInputStream(fileContent);
-    SentenceModel model;
-    try {
-      model = new SentenceModel(modelIn);
-    } catch (IOException e) {
-      throw new SpRuntimeException("Error when loading the uploaded model.", e);
-    }
+    this.sentenceDetector = OpenNlpModelRegistry.INSTANCE.acquire(modelFile,
+        SentenceModel.class,
+        SentenceModel::new,
+        SentenceDetectorME::new);
 
-    sentenceDetector = new SentenceDetectorME(model);
+    int batchSize = EventMicroBatcher.extractBatchSize(parameters.extractor());
+    if (batchSize > 1) {
+      this.batcher = new EventMicroBatcher("sp-sentence-detection", batchSize,
+          events -> processBatch(events, spOutputCollector));
+    }
   }
 
   @Override
   public void onEvent(Event event, SpOutputCollector collector) throws SpRuntimeException {
-    String text = event.getFieldBySelector(detection).getAsPrimitive().getAsString();
-
-    String sentences[] = sentenceDetector.sentDetect(text);
+    if (batcher != null) {
+      batcher.add(event);
+    } else {
+      processBatch(List.of(event), collector);
+    }
+  }
 
-    for (String sentence : sentences) {
-      event.updateFieldBySelector(detection, sentence);
-      collector.collect(event);
+  private void processBatch(List<Event> events,
+                            SpOutputCollector collector) {
+    List<String[]> sentences = sentenceDetector.executeBatch(events, (detector, event) ->
+        detector.sentDetect(event.getFieldBySelector(detection).getAsPrimitive().getAsString()));
+
+    for (int i = 0; i < events.size(); i++) {
+      Event event = events.get(i);
+      for (String sentence : sentences.get(i)) {
+        event.updateFieldBySelector(detection, sentence);
+        collector.collect(event);
+      }
     }
   }
 
   @Override
   public void onDetach() throws SpRuntimeException {
-
+    try {
+      if (batcher != null) {
+        batcher.close();
+      }
+    } finally {
+      OpenNlpModelRegistry.INSTANCE.release(sentenceDetector);
+    }
   }
 }
@@ -25,6 +25,9 @@ import org.apache.streampipes.model.DataProcessorType;
 import org.apache.streampipes.model.graph.DataProcessorDescription;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.model.schema.PropertyScope;
+import org.apache.streampipes.processors.textmining.jvm.processor.EventMicroBatcher;
+import org.apache.streampipes.processors.textmining.jvm.processor.model.OpenNlpModelRegistry;
+import org.apache.streampipes.processors.textmining.jvm.processor.model.SharedModel;
 import org.apache.streampipes.sdk.builder.ProcessingElementBuilder;
 import org.apache.streampipes.sdk.builder.StreamRequirementsBuilder;
 import org.apache.streampipes.sdk.helpers.EpProperties;
@@ -39,9 +42,9 @@ import org.apache.streampipes.wrapper.standalone.StreamPipesDataProcessor;
 import opennlp.tools.tokenize.TokenizerME;
 import opennlp.tools.tokenize.TokenizerModel;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
 
 public class TokenizerProcessor extends StreamPipesDataProcessor {
 
@@ -50,7 +53,8 @@ public class TokenizerProcessor extends StreamPipesDataProcessor {
   private static final String BINARY_FILE_KEY = "binary-file";
 
   private String detection;
-  private TokenizerME tokenizer;
+  private SharedModel<TokenizerModel, TokenizerME> tokenizer;
+  private EventMicroBatcher batcher;
 
 
   //TODO: Maybe change outputStrategy to an array instead of tons of different strings
@@ -68,6 +72,7 @@ public class TokenizerProcessor extends StreamPipesDataProcessor {
                 Labels.withId(DETECTION_FIELD_KEY),
                 PropertyScope.NONE)
             .build())
+        .requiredIntegerParameter(Labels.withId(EventMicroBatcher.BATCH_SIZE_KEY), 1)
         .outputStrategy(OutputStrategies.append(EpProperties.listStringEp(Labels.withId(TOKEN_LIST_FIELD_KEY),
             TOKEN_LIST_FIELD_KEY,
             "http://schema.org/ItemList")))
@@ -79,31 +84,52 @@ public class TokenizerProcessor extends StreamPipesDataProcessor {
                            SpOutputCollector spOutputCollector,
                            EventProcessorRuntimeContext runtimeContext) throws SpRuntimeException {
     String filename = parameters.extractor().selectedFilename(BINARY_FILE_KEY);
-    byte[] fileContent = runtimeContext.getStreamPipesClient().fileApi().getFileContent(filename);
+    Path modelFile = runtimeContext.getStreamPipesClient().fileApi().getFileAsPath(filename);
     this.detection = parameters.extractor().mappingPropertyValue(DETECTION_FIELD_KEY);
 
-    InputStream modelIn = new ByteArrayInputStream(fileContent);
-    TokenizerModel model;
-    try {
-      model = new TokenizerModel(modelIn);
-    } catch (IOException e) {
-      throw new SpRuntimeException("Error when loading the uploaded model.", e);
-    }
+    this.tokenizer = OpenNlpModelRegistry.INSTANCE.acquire(modelFile,
+        TokenizerModel.class,
+        TokenizerModel::new,
+        TokenizerME::new);
 
-    tokenizer = new TokenizerME(model);
+    int batchSize = EventMicroBatcher.extractBatchSize(parameters.extractor());
+    if (batchSize > 1) {
+      this.batcher = new EventMicroBatcher("sp-tokenizer", batchSize,
+          events -> processBatch(events, spOutputCollector));
+    }
   }
 
   @Override
   public void onEvent(Event event, SpOutputCollector collector) throws SpRuntimeException {
-    String text = event.getFieldBySelector(detection).getAsPrimitive().getAsString();
+    if (batcher != null) {
+      batcher.add(event);
+    } else {
+      processBatch(List.of(event), collector);
+    }
+  }
 
-    event.addField(TokenizerProcessor.TOKEN_LIST_FIELD_KEY, tokenizer.tokenize(text));
+  private void processBatch(List<Event> events,
+                            SpOutputCollector collector) {
+    tokenizer.executeBatch(events, this::tokenize).forEach(collector::collect);
+  }
+
+  private Event tokenize(TokenizerME tokenizerMe,
+                         Event event) {
+    String text = event.getFieldBySelector(detection).getAsPrimitive().getAsString();
 
-    collector.collect(event);
+    String[] tokens = tokenizerMe.tokenize(text);
+    event.addField(TokenizerProcessor.TOKEN_LIST_FIELD_KEY, tokens);
+    return event;
   }
 
   @Override
   public void onDetach() throws SpRuntimeException {
-
+    try {
+      if (batcher != null) {
+        batcher.close();
+      }
+    } finally {
+      OpenNlpModelRegistry.INSTANCE.release(tokenizer);
+    }
   }
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.textmining.jvm.processor;
+
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.EventFactory;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestEventMicroBatcher {
+
+  @Test
+  public void testFullBatchIsProcessed() {
+    List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    EventMicroBatcher batcher = new EventMicroBatcher("test", 3, events -> batchSizes.add(events.size()));
+
+    for (int i = 0; i < 7; i++) {
+      batcher.add(makeEvent(i));
+    }
+    assertEquals(List.of(3, 3), batchSizes);
+
+    batcher.close();
+    assertEquals(List.of(3, 3, 1), batchSizes);
+  }
+
+  @Test
+  public void testPartialBatchIsProcessedAfterLinger() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    EventMicroBatcher batcher = new EventMicroBatcher("test", 100, events -> latch.countDown());
+
+    batcher.add(makeEvent(1));
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    batcher.close();
+  }
+
+  private Event makeEvent(int value) {
+    Map<String, Object> values = new HashMap<>();
+    values.put("value", value);
+    return EventFactory.fromMap(values);
+  }
+}
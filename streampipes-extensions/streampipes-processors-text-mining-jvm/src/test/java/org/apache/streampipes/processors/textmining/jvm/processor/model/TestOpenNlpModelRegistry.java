@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.processors.textmining.jvm.processor.model;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class TestOpenNlpModelRegistry {
+
+  private static final byte[] MODEL_A = "model-a".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] MODEL_B = "model-b".getBytes(StandardCharsets.UTF_8);
+
+  private final AtomicInteger loadCount = new AtomicInteger(0);
+
+  @Test
+  public void testModelIsSharedAndReferenceCounted() {
+    SharedModel<String, StringBuilder> first = acquire(MODEL_A);
+    SharedModel<String, StringBuilder> second = acquire(MODEL_A);
+    SharedModel<String, StringBuilder> other = acquire(MODEL_B);
+
+    assertSame(first, second);
+    assertNotSame(first, other);
+    assertEquals(2, loadCount.get());
+    assertEquals(2, OpenNlpModelRegistry.INSTANCE.size());
+
+    OpenNlpModelRegistry.INSTANCE.release(first);
+    assertEquals(2, OpenNlpModelRegistry.INSTANCE.size());
+
+    OpenNlpModelRegistry.INSTANCE.release(second);
+    OpenNlpModelRegistry.INSTANCE.release(other);
+    assertEquals(0, OpenNlpModelRegistry.INSTANCE.size());
+  }
+
+  @Test
+  public void testInstancesArePooled() {
+    SharedModel<String, StringBuilder> model = acquire(MODEL_A);
+
+    StringBuilder firstInstance = model.execute(instance -> instance);
+    StringBuilder secondInstance = model.execute(instance -> instance);
+
+    assertSame(firstInstance, secondInstance);
+    assertEquals(1, model.getIdleInstanceCount());
+
+    OpenNlpModelRegistry.INSTANCE.release(model);
+  }
+
+  @Test
+  public void testBatchIsProcessedWithOneInstance() {
+    SharedModel<String, StringBuilder> model = acquire(MODEL_A);
+
+    List<String> results = model.executeBatch(List.of("a", "b", "c"),
+        (instance, input) -> instance.append(input).toString());
+
+    assertEquals(List.of("model-aa", "model-aab", "model-aabc"), results);
+    assertEquals(1, model.getIdleInstanceCount());
+
+    OpenNlpModelRegistry.INSTANCE.release(model);
+  }
+
+  @Test
+  public void testModelFileIsSharedByPath() throws IOException {
+    Path modelFile = Files.createTempFile("sp-model", ".bin");
+    Files.write(modelFile, MODEL_A);
+
+    SharedModel<String, StringBuilder> first = acquire(modelFile);
+    SharedModel<String, StringBuilder> second = acquire(modelFile.toAbsolutePath());
+
+    assertSame(first, second);
+    assertEquals("model-a", first.getModel());
+    assertEquals(1, loadCount.get());
+
+    OpenNlpModelRegistry.INSTANCE.release(first);
+    OpenNlpModelRegistry.INSTANCE.release(second);
+    assertEquals(0, OpenNlpModelRegistry.INSTANCE.size());
+  }
+
+  @Test(expected = SpRuntimeException.class)
+  public void testMissingModelFileFails() {
+    acquire(Path.of("does-not-exist", "model.bin"));
+  }
+
+  private SharedModel<String, StringBuilder> acquire(Path modelFile) {
+    return OpenNlpModelRegistry.INSTANCE.acquire(modelFile,
+        String.class,
+        this::load,
+        StringBuilder::new);
+  }
+
+  private String load(InputStream modelIn) throws IOException {
+    loadCount.incrementAndGet();
+    return new String(modelIn.readAllBytes(), StandardCharsets.UTF_8);
+  }
+
+  private SharedModel<String, StringBuilder> acquire(byte[] content) {
+    return OpenNlpModelRegistry.INSTANCE.acquire(content,
+        String.class,
+        this::load,
+        StringBuilder::new);
+  }
+}
@@ -36,12 +36,11 @@ import org.apache.streampipes.vocabulary.SO;
 import org.apache.streampipes.vocabulary.SPSensor;
 import org.apache.streampipes.wrapper.params.compat.ProcessorParams;
 import org.apache.streampipes.wrapper.standalone.StreamPipesDataProcessor;
+import org.apache.streampipes.wrapper.standalone.state.ListState;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 public class StateBufferProcessor extends StreamPipesDataProcessor {
 
@@ -57,7 +56,7 @@ public class StateBufferProcessor extends StreamPipesDataProcessor {
   private String stateProperty;
   private String sensorValueProperty;
 
-  private Map<String, List> stateBuffer;
+  private ListState<Double> stateBuffer;
 
 
   @Override
@@ -97,7 +96,7 @@ public class StateBufferProcessor extends StreamPipesDataProcessor {
     timeProperty = extractor.mappingPropertyValue(TIMESTAMP_FIELD_ID);
     stateProperty = extractor.mappingPropertyValue(STATE_FIELD_ID);
     sensorValueProperty = extractor.mappingPropertyValue(SENSOR_VALUE_FIELD_ID);
-    stateBuffer = new HashMap<>();
+    stateBuffer = getStateStore(parameters).getListState("stateBuffer", Double.class);
   }
 
   @Override
@@ -109,18 +108,12 @@ public class StateBufferProcessor extends StreamPipesDataProcessor {
 
     // add value to state buffer
     for (String state : states) {
-      if (stateBuffer.containsKey(state)) {
-        stateBuffer.get(state).add(value);
-      } else {
-        List tmp = new ArrayList();
-        tmp.add(value);
-        stateBuffer.put(state, tmp);
-      }
+      stateBuffer.add(state, value);
     }
 
     // emit event if state is not in event anymore
     List<String> keysToRemove = new ArrayList<>();
-    for (String key : stateBuffer.keySet()) {
+    for (String key : stateBuffer.keys()) {
       if (!states.contains(key)) {
         Event resultEvent = new Event();
         resultEvent.addField(StateBufferProcessor.VALUES, stateBuffer.get(key));
@@ -132,7 +125,7 @@ public class StateBufferProcessor extends StreamPipesDataProcessor {
     }
 
     for (String s : keysToRemove) {
-      stateBuffer.remove(s);
+      stateBuffer.clear(s);
     }
   }
 
@@ -31,22 +31,18 @@ import org.apache.streampipes.sdk.builder.StreamRequirementsBuilder;
 import org.apache.streampipes.sdk.helpers.EpRequirements;
 import org.apache.streampipes.sdk.helpers.Labels;
 import org.apache.streampipes.sdk.helpers.Locales;
-import org.apache.streampipes.sinks.brokers.jvm.bufferrest.buffer.BufferListener;
-import org.apache.streampipes.sinks.brokers.jvm.bufferrest.buffer.MessageBuffer;
+import org.apache.streampipes.sinks.brokers.jvm.http.HttpDeliveryConfig;
+import org.apache.streampipes.sinks.brokers.jvm.http.HttpDeliveryEngine;
 import org.apache.streampipes.wrapper.params.compat.SinkParams;
 import org.apache.streampipes.wrapper.standalone.StreamPipesDataSink;
 
-import org.apache.commons.io.Charsets;
-import org.apache.http.client.fluent.Request;
-import org.apache.http.entity.StringEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
-public class BufferRestPublisherSink extends StreamPipesDataSink implements BufferListener {
+public class BufferRestPublisherSink extends StreamPipesDataSink {
 
   private static final Logger LOG = LoggerFactory.getLogger(BufferRestPublisherSink.class);
 
@@ -57,8 +53,7 @@ public class BufferRestPublisherSink extends StreamPipesDataSink implements Buff
 
   private List<String> fieldsToSend;
   private SpDataFormatDefinition dataFormatDefinition;
-  private String restEndpointURI;
-  private MessageBuffer buffer;
+  private HttpDeliveryEngine deliveryEngine;
 
   @Override
   public DataSinkDescription declareModel() {
@@ -83,20 +78,18 @@ public class BufferRestPublisherSink extends StreamPipesDataSink implements Buff
 
     var extractor = parameters.extractor();
     fieldsToSend = extractor.mappingPropertyValues(KEY + FIELDS);
-    restEndpointURI = extractor.singleValueParameter(KEY + URI, String.class);
+    String restEndpointURI = extractor.singleValueParameter(KEY + URI, String.class);
     int bufferSize = Integer.parseInt(extractor.singleValueParameter(KEY + COUNT, String.class));
     this.dataFormatDefinition = new JsonDataFormatDefinition();
 
-    this.buffer = new MessageBuffer(bufferSize);
-    this.buffer.addListener(this);
+    this.deliveryEngine = new HttpDeliveryEngine(HttpDeliveryConfig.batches(restEndpointURI, bufferSize));
   }
 
   @Override
   public void onEvent(Event event) throws SpRuntimeException {
     Map<String, Object> outEventMap = event.getSubset(fieldsToSend).getRaw();
     try {
-      String json = new String(dataFormatDefinition.fromMap(outEventMap));
-      this.buffer.addMessage(json);
+      this.deliveryEngine.send(dataFormatDefinition.fromMap(outEventMap));
     } catch (SpRuntimeException e) {
       LOG.error("Could not parse incoming event");
     }
@@ -104,15 +97,6 @@ public class BufferRestPublisherSink extends StreamPipesDataSink implements Buff
 
   @Override
   public void onDetach() throws SpRuntimeException {
-    buffer.removeListener(this);
-  }
-
-  @Override
-  public void bufferFull(String messagesJsonArray) {
-    try {
-      Request.Post(restEndpointURI).body(new StringEntity(messagesJsonArray, Charsets.UTF_8)).execute();
-    } catch (IOException e) {
-      LOG.error("Could not reach endpoint at {}", restEndpointURI);
-    }
+    deliveryEngine.close();
   }
 }
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.brokers.jvm.http;
+
+public class HttpDeliveryConfig {
+
+  private static final long DEFAULT_LINGER_MS = 5000;
+  private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 1;
+  private static final int DEFAULT_MAX_RETRIES = 3;
+  private static final long DEFAULT_INITIAL_BACKOFF_MS = 200;
+  private static final long DEFAULT_REQUEST_TIMEOUT_MS = 100000;
+  public static final long DEFAULT_CONNECT_TIMEOUT_MS = 1000;
+
+  private final String endpointUrl;
+  private final int maxBatchSize;
+  private final long lingerMs;
+  private final int maxConcurrentRequests;
+  private final int maxRetries;
+  private final long initialBackoffMs;
+  private final long requestTimeoutMs;
+  private final long connectTimeoutMs;
+
+  public HttpDeliveryConfig(String endpointUrl,
+                            int maxBatchSize,
+                            long lingerMs,
+                            int maxConcurrentRequests,
+                            int maxRetries,
+                            long initialBackoffMs,
+                            long requestTimeoutMs) {
+    this(endpointUrl, maxBatchSize, lingerMs, maxConcurrentRequests, maxRetries, initialBackoffMs,
+        requestTimeoutMs, DEFAULT_CONNECT_TIMEOUT_MS);
+  }
+
+  /**
+   * Note that with more than one concurrent request, events are no longer guaranteed to arrive
+   * at the endpoint in the order they were sent.
+   */
+  public HttpDeliveryConfig(String endpointUrl,
+                            int maxBatchSize,
+                            long lingerMs,
+                            int maxConcurrentRequests,
+                            int maxRetries,
+                            long initialBackoffMs,
+                            long requestTimeoutMs,
+                            long connectTimeoutMs) {
+    this.endpointUrl = endpointUrl;
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.lingerMs = Math.max(1, lingerMs);
+    this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+    this.maxRetries = Math.max(0, maxRetries);
+    this.initialBackoffMs = Math.max(1, initialBackoffMs);
+    this.requestTimeoutMs = Math.max(1, requestTimeoutMs);
+    this.connectTimeoutMs = Math.max(1, connectTimeoutMs);
+  }
+
+  /**
+   * Every event is posted as a single JSON object.
+   */
+  public static HttpDeliveryConfig singleEvents(String endpointUrl) {
+    return new HttpDeliveryConfig(endpointUrl, 1, DEFAULT_LINGER_MS, DEFAULT_MAX_CONCURRENT_REQUESTS,
+        DEFAULT_MAX_RETRIES, DEFAULT_INITIAL_BACKOFF_MS, DEFAULT_REQUEST_TIMEOUT_MS);
+  }
+
+  /**
+   * Events are posted as JSON array once maxBatchSize events are buffered or the linger time has expired.
+   */
+  public static HttpDeliveryConfig batches(String endpointUrl,
+                                           int maxBatchSize) {
+    return new HttpDeliveryConfig(endpointUrl, maxBatchSize, DEFAULT_LINGER_MS, DEFAULT_MAX_CONCURRENT_REQUESTS,
+        DEFAULT_MAX_RETRIES, DEFAULT_INITIAL_BACKOFF_MS, DEFAULT_REQUEST_TIMEOUT_MS);
+  }
+
+  public String getEndpointUrl() {
+    return endpointUrl;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public boolean isBatched() {
+    return maxBatchSize > 1;
+  }
+
+  public long getLingerMs() {
+    return lingerMs;
+  }
+
+  public int getMaxConcurrentRequests() {
+    return maxConcurrentRequests;
+  }
+
+  public int getMaxRetries() {
+    return maxRetries;
+  }
+
+  public long getInitialBackoffMs() {
+    return initialBackoffMs;
+  }
+
+  public long getRequestTimeoutMs() {
+    return requestTimeoutMs;
+  }
+
+  public long getConnectTimeoutMs() {
+    return connectTimeoutMs;
+  }
+}
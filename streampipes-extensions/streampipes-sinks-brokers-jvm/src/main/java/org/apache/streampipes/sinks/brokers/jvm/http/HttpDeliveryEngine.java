@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.brokers.jvm.http;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Posts events to an HTTP endpoint without blocking the event thread on each request.
+ * Events are serialized into a reusable byte buffer which is flushed once the configured
+ * batch size is reached or the linger time has expired. Requests are sent asynchronously over
+ * a shared, keep-alive HTTP client; the number of concurrent requests is bounded, so a slow
+ * endpoint applies back pressure instead of piling up requests in memory. By default, only one
+ * request is in flight at a time, which preserves the delivery order.
+ * Retries are scheduled on a separate thread, since a linger flush may block on the permit which is
+ * held by the request to be retried.
+ */
+public class HttpDeliveryEngine implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HttpDeliveryEngine.class);
+
+  private static final long CLOSE_TIMEOUT_MS = 30000;
+  private static final int INITIAL_BUFFER_SIZE = 8192;
+
+  private static final HttpClient SHARED_CLIENT = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofMillis(HttpDeliveryConfig.DEFAULT_CONNECT_TIMEOUT_MS))
+      .build();
+
+  private final HttpDeliveryConfig config;
+  private final HttpClient client;
+  private final URI endpoint;
+  private final Semaphore inFlight;
+  private final ScheduledExecutorService lingerScheduler;
+  private final ScheduledExecutorService retryScheduler;
+  private final ByteArrayOutputStream buffer;
+
+  private int bufferedEvents;
+  private ScheduledFuture<?> lingerTask;
+  private boolean closed;
+
+  public HttpDeliveryEngine(HttpDeliveryConfig config) {
+    this(config, makeClient(config));
+  }
+
+  HttpDeliveryEngine(HttpDeliveryConfig config,
+                     HttpClient client) {
+    this.config = config;
+    this.client = client;
+    this.endpoint = URI.create(config.getEndpointUrl());
+    this.inFlight = new Semaphore(config.getMaxConcurrentRequests());
+    this.lingerScheduler = makeScheduler("http-delivery-" + endpoint.getHost());
+    this.retryScheduler = makeScheduler("http-delivery-retry-" + endpoint.getHost());
+    this.buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+  }
+
+  private static ScheduledExecutorService makeScheduler(String threadName) {
+    return Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, threadName);
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  private static HttpClient makeClient(HttpDeliveryConfig config) {
+    if (config.getConnectTimeoutMs() == HttpDeliveryConfig.DEFAULT_CONNECT_TIMEOUT_MS) {
+      return SHARED_CLIENT;
+    }
+    return HttpClient.newBuilder()
+        .connectTimeout(Duration.ofMillis(config.getConnectTimeoutMs()))
+        .build();
+  }
+
+  /**
+   * Adds a serialized event (a JSON object) to the current batch.
+   * Blocks only if the maximum number of concurrent requests is reached.
+   *
+   * @param event the serialized event
+   */
+  public synchronized void send(byte[] event) {
+    if (closed) {
+      throw new SpRuntimeException("HTTP delivery to " + endpoint + " has already been closed");
+    }
+    if (config.isBatched()) {
+      buffer.write(bufferedEvents == 0 ? '[' : ',');
+    }
+    buffer.write(event, 0, event.length);
+    bufferedEvents++;
+
+    if (bufferedEvents >= config.getMaxBatchSize()) {
+      flush();
+    } else if (lingerTask == null) {
+      lingerTask = lingerScheduler.schedule(this::flushOnLinger, config.getLingerMs(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Sends all buffered events, regardless of the batch size.
+   */
+  public synchronized void flush() {
+    if (lingerTask != null) {
+      lingerTask.cancel(false);
+      lingerTask = null;
+    }
+    if (bufferedEvents == 0) {
+      return;
+    }
+    if (config.isBatched()) {
+      buffer.write(']');
+    }
+    byte[] body = buffer.toByteArray();
+    int eventCount = bufferedEvents;
+    buffer.reset();
+    bufferedEvents = 0;
+
+    acquirePermit();
+    deliver(body, eventCount, 0, System.nanoTime());
+  }
+
+  /**
+   * Flushes remaining events and waits until all pending requests have completed.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      flush();
+      closed = true;
+    }
+    try {
+      if (inFlight.tryAcquire(config.getMaxConcurrentRequests(), CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        inFlight.release(config.getMaxConcurrentRequests());
+      } else {
+        LOG.warn("Not all requests to {} completed within {} ms", endpoint, CLOSE_TIMEOUT_MS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      lingerScheduler.shutdownNow();
+      retryScheduler.shutdownNow();
+    }
+  }
+
+  public int getPendingRequestCount() {
+    return config.getMaxConcurrentRequests() - inFlight.availablePermits();
+  }
+
+  private synchronized void flushOnLinger() {
+    lingerTask = null;
+    if (!closed) {
+      flush();
+    }
+  }
+
+  private void acquirePermit() {
+    try {
+      inFlight.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SpRuntimeException("Interrupted while waiting for pending requests to " + endpoint, e);
+    }
+  }
+
+  private void deliver(byte[] body,
+                       int eventCount,
+                       int attempt,
+                       long startNanos) {
+    HttpRequest request = HttpRequest.newBuilder(endpoint)
+        .timeout(Duration.ofMillis(config.getRequestTimeoutMs()))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+        .build();
+
+    CompletableFuture<HttpResponse<Void>> response = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+    response.whenComplete((res, error) -> {
+      if (error == null && res.statusCode() < 300) {
+        onDelivered(eventCount, startNanos);
+      } else if (attempt < config.getMaxRetries() && isRetryable(res, error)) {
+        HttpDeliveryMetrics.RETRIED_REQUESTS.inc();
+        scheduleRetry(body, eventCount, attempt + 1, startNanos);
+      } else {
+        onFailed(res, error, eventCount);
+      }
+    });
+  }
+
+  private void scheduleRetry(byte[] body,
+                             int eventCount,
+                             int attempt,
+                             long startNanos) {
+    long backoff = config.getInitialBackoffMs() << (attempt - 1);
+    long jitter = ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    try {
+      retryScheduler.schedule(() -> deliver(body, eventCount, attempt, startNanos), backoff + jitter,
+          TimeUnit.MILLISECONDS);
+    } catch (RuntimeException e) {
+      onFailed(null, e, eventCount);
+    }
+  }
+
+  private boolean isRetryable(HttpResponse<Void> response,
+                              Throwable error) {
+    if (error != null) {
+      return unwrap(error) instanceof IOException;
+    }
+    return response.statusCode() >= 500 || response.statusCode() == 429;
+  }
+
+  private void onDelivered(int eventCount,
+                           long startNanos) {
+    HttpDeliveryMetrics.DELIVERY_LATENCY.observe((System.nanoTime() - startNanos) / 1e9);
+    HttpDeliveryMetrics.DELIVERED_REQUESTS.inc();
+    HttpDeliveryMetrics.DELIVERED_EVENTS.inc(eventCount);
+    inFlight.release();
+  }
+
+  private void onFailed(HttpResponse<Void> response,
+                        Throwable error,
+                        int eventCount) {
+    HttpDeliveryMetrics.FAILED_REQUESTS.inc();
+    if (error != null) {
+      LOG.error("Could not deliver {} event(s) to {}", eventCount, endpoint, unwrap(error));
+    } else {
+      LOG.error("Could not deliver {} event(s) to {}, endpoint responded with status {}",
+          eventCount, endpoint, response.statusCode());
+    }
+    inFlight.release();
+  }
+
+  private Throwable unwrap(Throwable error) {
+    return error.getCause() != null && error instanceof CompletionException
+        ? error.getCause() : error;
+  }
+}
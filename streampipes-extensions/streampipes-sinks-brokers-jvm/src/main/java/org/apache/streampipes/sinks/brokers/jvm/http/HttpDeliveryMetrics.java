@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.brokers.jvm.http;
+
+import org.apache.streampipes.commons.prometheus.StreamPipesCollectorRegistry;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+public class HttpDeliveryMetrics {
+
+  public static final Histogram DELIVERY_LATENCY = StreamPipesCollectorRegistry.registerHistogram(
+      "sink_http_delivery_latency_seconds",
+      "Time from handing a request to the HTTP client until the endpoint acknowledged it, including retries"
+  );
+
+  public static final Counter DELIVERED_REQUESTS = StreamPipesCollectorRegistry.registerCounter(
+      "sink_http_delivered_requests_total",
+      "Number of requests successfully delivered by HTTP sinks"
+  );
+
+  public static final Counter DELIVERED_EVENTS = StreamPipesCollectorRegistry.registerCounter(
+      "sink_http_delivered_events_total",
+      "Number of events successfully delivered by HTTP sinks"
+  );
+
+  public static final Counter RETRIED_REQUESTS = StreamPipesCollectorRegistry.registerCounter(
+      "sink_http_retried_requests_total",
+      "Number of request retries of HTTP sinks"
+  );
+
+  public static final Counter FAILED_REQUESTS = StreamPipesCollectorRegistry.registerCounter(
+      "sink_http_failed_requests_total",
+      "Number of requests of HTTP sinks which were dropped after all retries failed"
+  );
+}
@@ -21,7 +21,8 @@ package org.apache.streampipes.sinks.brokers.jvm.nats;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.dataformat.json.JsonDataFormatDefinition;
 import org.apache.streampipes.extensions.api.pe.context.EventSinkRuntimeContext;
-import org.apache.streampipes.messaging.nats.NatsUtils;
+import org.apache.streampipes.messaging.connection.SharedBrokerConnection;
+import org.apache.streampipes.messaging.nats.NatsConnections;
 import org.apache.streampipes.model.DataSinkType;
 import org.apache.streampipes.model.graph.DataSinkDescription;
 import org.apache.streampipes.model.nats.NatsConfig;
@@ -41,8 +42,6 @@ import org.apache.streampipes.wrapper.params.compat.SinkParams;
 import org.apache.streampipes.wrapper.standalone.StreamPipesDataSink;
 
 import io.nats.client.Connection;
-import io.nats.client.Nats;
-import io.nats.client.Options;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,6 +70,7 @@ public class NatsController extends StreamPipesDataSink {
   private static final String PROPERTIES_KEY = "properties";
 
   private String subject;
+  private SharedBrokerConnection<Connection> sharedConnection;
   private Connection natsConnection;
   private JsonDataFormatDefinition dataFormatDefinition;
 
@@ -125,10 +125,10 @@ public class NatsController extends StreamPipesDataSink {
     NatsConfig natsConfig = NatsConfigUtils.from(
         StaticPropertyExtractor.from(parameters.getModel().getStaticProperties()));
     this.subject = natsConfig.getSubject();
-    Options options = NatsUtils.makeNatsOptions(natsConfig);
 
     try {
-      this.natsConnection = Nats.connect(options);
+      this.sharedConnection = NatsConnections.acquire(natsConfig);
+      this.natsConnection = sharedConnection.getConnection();
     } catch (Exception e) {
       LOG.error("Error when connecting to the Nats broker on " + natsConfig.getNatsUrls() + " . " + e);
     }
@@ -148,9 +148,10 @@ public class NatsController extends StreamPipesDataSink {
   public void onDetach() throws SpRuntimeException {
     try {
       natsConnection.flush(Duration.ofMillis(50));
-      natsConnection.close();
     } catch (TimeoutException | InterruptedException e) {
       LOG.error("Error when disconnecting with Nats broker. " + e);
+    } finally {
+      NatsConnections.release(sharedConnection);
     }
   }
 }
@@ -31,23 +31,21 @@ import org.apache.streampipes.sdk.helpers.EpRequirements;
 import org.apache.streampipes.sdk.helpers.Labels;
 import org.apache.streampipes.sdk.helpers.Locales;
 import org.apache.streampipes.sdk.utils.Assets;
+import org.apache.streampipes.sinks.brokers.jvm.http.HttpDeliveryConfig;
+import org.apache.streampipes.sinks.brokers.jvm.http.HttpDeliveryEngine;
 import org.apache.streampipes.wrapper.params.compat.SinkParams;
 import org.apache.streampipes.wrapper.standalone.StreamPipesDataSink;
 
-import org.apache.http.client.fluent.Request;
-import org.apache.http.entity.ContentType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-
 public class RestSink extends StreamPipesDataSink {
 
   private static final Logger LOG = LoggerFactory.getLogger(RestSink.class);
 
   private static final String URL_KEY = "url-key";
 
-  private String url;
+  private HttpDeliveryEngine deliveryEngine;
   private JsonDataFormatDefinition jsonDataFormatDefinition;
 
   @Override
@@ -67,34 +65,24 @@ public class RestSink extends StreamPipesDataSink {
 
   @Override
   public void onDetach() throws SpRuntimeException {
-
+    deliveryEngine.close();
   }
 
   @Override
   public void onInvocation(SinkParams parameters,
                            EventSinkRuntimeContext runtimeContext) throws SpRuntimeException {
     jsonDataFormatDefinition = new JsonDataFormatDefinition();
-    url = parameters.extractor().singleValueParameter(URL_KEY, String.class);
+    String url = parameters.extractor().singleValueParameter(URL_KEY, String.class);
+    deliveryEngine = new HttpDeliveryEngine(HttpDeliveryConfig.singleEvents(url));
   }
 
   @Override
   public void onEvent(Event inputEvent) throws SpRuntimeException {
-    byte[] json = null;
     try {
-      json = jsonDataFormatDefinition.fromMap(inputEvent.getRaw());
+      deliveryEngine.send(jsonDataFormatDefinition.fromMap(inputEvent.getRaw()));
     } catch (SpRuntimeException e) {
       LOG.error("Error while serializing event: " + inputEvent.getSourceInfo().getSourceId() + " Exception: "
           + e);
     }
-
-    try {
-      Request.Post(url)
-          .bodyByteArray(json, ContentType.APPLICATION_JSON)
-          .connectTimeout(1000)
-          .socketTimeout(100000)
-          .execute().returnContent().asString();
-    } catch (IOException e) {
-      LOG.error("Error while sending data to endpoint: " + url + " Exception: " + e);
-    }
   }
 }
@@ -18,57 +18,127 @@
 
 package org.apache.streampipes.sinks.brokers.jvm.websocket;
 
-import org.apache.streampipes.dataformat.json.JsonDataFormatDefinition;
+import org.apache.streampipes.dataformat.SpDataFormatDefinition;
 import org.apache.streampipes.model.runtime.Event;
 
 import org.java_websocket.WebSocket;
 import org.java_websocket.handshake.ClientHandshake;
 import org.java_websocket.server.WebSocketServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Websocket server which fans out events to all connected clients. Each event is serialized once;
+ * the resulting frame is queued per client and sent from a separate thread, so slow clients
+ * never block the event thread.
+ */
 public class SocketServer extends WebSocketServer {
 
-  private JsonDataFormatDefinition dataFormatDefinition;
+  private static final Logger LOG = LoggerFactory.getLogger(SocketServer.class);
+
+  private static final long FLUSH_INTERVAL_MS = 20;
+
+  private final WebsocketSinkConfig config;
+  private final SpDataFormatDefinition dataFormatDefinition;
+  private final Map<WebSocket, WebsocketClientSession> sessions;
+  private final ScheduledExecutorService flusher;
+  private final AtomicBoolean flushRequested;
 
   public SocketServer(int port) {
-    super(new InetSocketAddress(port));
-    dataFormatDefinition = new JsonDataFormatDefinition();
+    this(WebsocketSinkConfig.defaults(port));
+  }
+
+  public SocketServer(WebsocketSinkConfig config) {
+    super(new InetSocketAddress(config.getPort()));
+    this.config = config;
+    this.dataFormatDefinition = config.getFrameFormat().makeDataFormat();
+    this.sessions = new ConcurrentHashMap<>();
+    this.flushRequested = new AtomicBoolean(false);
+    this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "sp-websocket-sink-" + config.getPort());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.flusher.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
   }
 
   @Override
   public void onOpen(WebSocket conn, ClientHandshake handshake) {
-    conn.send("Welcome!"); //This method sends a message to the new client
-    broadcast(
-        "New connection: " + handshake.getResourceDescriptor()); //This method sends a message to all clients connected
-    System.out.println(conn.getRemoteSocketAddress().getAddress().getHostAddress() + " connected.");
+    if (!config.getFrameFormat().isBinary()) {
+      conn.send("Welcome!");
+    }
+    sessions.put(conn, new WebsocketClientSession(conn, config));
+    WebsocketSinkMetrics.CONNECTED_CLIENTS.inc();
+    LOG.info("{} connected to websocket sink on port {}", conn.getRemoteSocketAddress(), config.getPort());
   }
 
   @Override
   public void onClose(WebSocket conn, int code, String reason, boolean remote) {
-    // do nothing special
+    WebsocketClientSession session = sessions.remove(conn);
+    if (session != null) {
+      session.clear();
+      WebsocketSinkMetrics.CONNECTED_CLIENTS.dec();
+      LOG.info("{} disconnected from websocket sink on port {} ({} frames sent, {} dropped)",
+          conn.getRemoteSocketAddress(), config.getPort(), session.getSentFrames(), session.getDroppedFrames());
+    }
   }
 
   @Override
   public void onMessage(WebSocket conn, String message) {
-    System.out.println(conn + ": " + message);
+    LOG.debug("{}: {}", conn.getRemoteSocketAddress(), message);
   }
 
   @Override
   public void onError(WebSocket conn, Exception ex) {
-    ex.printStackTrace();
+    LOG.error("Error in websocket sink on port {}", config.getPort(), ex);
   }
 
   @Override
   public void onStart() {
-    System.out.println("Server started!");
-    setConnectionLostTimeout(0);
+    LOG.info("Websocket sink started on port {}", config.getPort());
     setConnectionLostTimeout(100);
   }
 
   public void onEvent(Event event) {
-    Map<String, Object> rawEvent = event.getRaw();
-    broadcast(dataFormatDefinition.fromMap(rawEvent));
+    if (sessions.isEmpty()) {
+      return;
+    }
+    WebsocketFrame frame = new WebsocketFrame(
+        dataFormatDefinition.fromMap(event.getRaw()),
+        config.getFrameFormat().isBinary());
+    sessions.values().forEach(session -> session.offer(frame));
+    if (flushRequested.compareAndSet(false, true)) {
+      flusher.execute(this::flush);
+    }
+  }
+
+  @Override
+  public void stop(int timeout) throws InterruptedException {
+    flusher.shutdownNow();
+    sessions.values().forEach(WebsocketClientSession::clear);
+    WebsocketSinkMetrics.CONNECTED_CLIENTS.dec(sessions.size());
+    sessions.clear();
+    super.stop(timeout);
+  }
+
+  public int getConnectedClients() {
+    return sessions.size();
+  }
+
+  private void flush() {
+    flushRequested.set(false);
+    try {
+      sessions.values().forEach(WebsocketClientSession::drain);
+    } catch (RuntimeException e) {
+      LOG.warn("Could not send events to websocket clients", e);
+    }
   }
 }
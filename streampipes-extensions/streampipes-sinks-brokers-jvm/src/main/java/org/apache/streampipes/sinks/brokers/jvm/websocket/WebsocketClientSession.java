@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.brokers.jvm.websocket;
+
+import org.java_websocket.WebSocket;
+import org.java_websocket.WebSocketImpl;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded send queue of a single websocket client. Frames are only handed over to the
+ * connection while its socket buffer is nearly empty, so a slow client only fills its own
+ * queue instead of the memory of the sink.
+ */
+public class WebsocketClientSession {
+
+  private static final int MAX_IN_FLIGHT_FRAMES = 16;
+
+  private final WebSocket connection;
+  private final WebsocketOverflowPolicy overflowPolicy;
+  private final int maxQueueSize;
+  private final int maxMessagesPerSecond;
+  private final ArrayDeque<WebsocketFrame> queue;
+
+  private long queuedBytes;
+  private long sentFrames;
+  private long droppedFrames;
+  private double availablePermits;
+  private long lastRefillNanos;
+
+  public WebsocketClientSession(WebSocket connection,
+                                WebsocketSinkConfig config) {
+    this.connection = connection;
+    this.overflowPolicy = config.getOverflowPolicy();
+    this.maxQueueSize = config.getMaxQueueSize();
+    this.maxMessagesPerSecond = config.getMaxMessagesPerSecond();
+    this.queue = new ArrayDeque<>();
+    this.availablePermits = maxMessagesPerSecond;
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  public synchronized void offer(WebsocketFrame frame) {
+    if (overflowPolicy == WebsocketOverflowPolicy.CONFLATE) {
+      while (!queue.isEmpty()) {
+        drop(queue.pollFirst());
+      }
+    } else if (queue.size() >= maxQueueSize) {
+      drop(queue.pollFirst());
+    }
+    queue.addLast(frame);
+    queuedBytes += frame.size();
+    WebsocketSinkMetrics.QUEUED_BYTES.inc(frame.size());
+  }
+
+  /**
+   * Hands queued frames over to the connection as far as back pressure and rate limit allow.
+   *
+   * @return true if frames are left in the queue
+   */
+  public synchronized boolean drain() {
+    if (!connection.isOpen()) {
+      return !queue.isEmpty();
+    }
+    refillPermits();
+    while (!queue.isEmpty() && canSend()) {
+      WebsocketFrame frame = queue.pollFirst();
+      dequeued(frame);
+      connection.sendFrame(frame.toFramedata());
+      sentFrames++;
+      WebsocketSinkMetrics.SENT_FRAMES.inc();
+      if (maxMessagesPerSecond > 0) {
+        availablePermits--;
+      }
+    }
+    return !queue.isEmpty();
+  }
+
+  public synchronized void clear() {
+    while (!queue.isEmpty()) {
+      dequeued(queue.pollFirst());
+    }
+  }
+
+  public synchronized long getQueuedBytes() {
+    return queuedBytes;
+  }
+
+  public synchronized int getQueuedFrames() {
+    return queue.size();
+  }
+
+  public synchronized long getSentFrames() {
+    return sentFrames;
+  }
+
+  public synchronized long getDroppedFrames() {
+    return droppedFrames;
+  }
+
+  private boolean canSend() {
+    if (maxMessagesPerSecond > 0 && availablePermits < 1) {
+      return false;
+    }
+    if (connection instanceof WebSocketImpl) {
+      return ((WebSocketImpl) connection).outQueue.size() < MAX_IN_FLIGHT_FRAMES;
+    }
+    return !connection.hasBufferedData();
+  }
+
+  private void refillPermits() {
+    if (maxMessagesPerSecond > 0) {
+      long now = System.nanoTime();
+      double elapsedSeconds = (double) (now - lastRefillNanos) / TimeUnit.SECONDS.toNanos(1);
+      availablePermits = Math.min(maxMessagesPerSecond, availablePermits + elapsedSeconds * maxMessagesPerSecond);
+      lastRefillNanos = now;
+    }
+  }
+
+  private void drop(WebsocketFrame frame) {
+    dequeued(frame);
+    droppedFrames++;
+    WebsocketSinkMetrics.DROPPED_FRAMES.inc();
+  }
+
+  private void dequeued(WebsocketFrame frame) {
+    queuedBytes -= frame.size();
+    WebsocketSinkMetrics.QUEUED_BYTES.dec(frame.size());
+  }
+}
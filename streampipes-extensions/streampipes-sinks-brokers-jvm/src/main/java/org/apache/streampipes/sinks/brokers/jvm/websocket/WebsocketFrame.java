@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.brokers.jvm.websocket;
+
+import org.java_websocket.framing.BinaryFrame;
+import org.java_websocket.framing.DataFrame;
+import org.java_websocket.framing.Framedata;
+import org.java_websocket.framing.TextFrame;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An event which is serialized once and shared between all client queues.
+ */
+public class WebsocketFrame {
+
+  private final byte[] payload;
+  private final boolean binary;
+
+  public WebsocketFrame(byte[] payload,
+                        boolean binary) {
+    this.payload = payload;
+    this.binary = binary;
+  }
+
+  public int size() {
+    return payload.length;
+  }
+
+  public boolean isBinary() {
+    return binary;
+  }
+
+  /**
+   * Creates a websocket frame for a single connection. The payload is wrapped, not copied.
+   */
+  public Framedata toFramedata() {
+    DataFrame frame = binary ? new BinaryFrame() : new TextFrame();
+    frame.setPayload(ByteBuffer.wrap(payload).asReadOnlyBuffer());
+    return frame;
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.brokers.jvm.websocket;
+
+import org.apache.streampipes.dataformat.SpDataFormatDefinition;
+import org.apache.streampipes.dataformat.cbor.CborDataFormatDefinition;
+import org.apache.streampipes.dataformat.json.JsonDataFormatDefinition;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+public enum WebsocketFrameFormat {
+
+  JSON("JSON (text frames)", false, JsonDataFormatDefinition::new),
+  CBOR("CBOR (binary frames)", true, CborDataFormatDefinition::new);
+
+  private final String label;
+  private final boolean binary;
+  private final Supplier<SpDataFormatDefinition> dataFormatSupplier;
+
+  WebsocketFrameFormat(String label,
+                       boolean binary,
+                       Supplier<SpDataFormatDefinition> dataFormatSupplier) {
+    this.label = label;
+    this.binary = binary;
+    this.dataFormatSupplier = dataFormatSupplier;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public boolean isBinary() {
+    return binary;
+  }
+
+  public SpDataFormatDefinition makeDataFormat() {
+    return dataFormatSupplier.get();
+  }
+
+  public static WebsocketFrameFormat fromLabel(String label) {
+    return Arrays.stream(values())
+        .filter(format -> format.label.equals(label))
+        .findFirst()
+        .orElse(JSON);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.brokers.jvm.websocket;
+
+import java.util.Arrays;
+
+/**
+ * Defines what happens with new events if a client cannot keep up with the event rate.
+ */
+public enum WebsocketOverflowPolicy {
+
+  /**
+   * Queue events up to the maximum queue size, then drop the oldest queued event.
+   */
+  DROP_OLDEST("Drop oldest"),
+
+  /**
+   * Only keep the most recent event, so slow clients always receive the latest state.
+   */
+  CONFLATE("Latest only");
+
+  private final String label;
+
+  WebsocketOverflowPolicy(String label) {
+    this.label = label;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public static WebsocketOverflowPolicy fromLabel(String label) {
+    return Arrays.stream(values())
+        .filter(policy -> policy.label.equals(label))
+        .findFirst()
+        .orElse(DROP_OLDEST);
+  }
+}
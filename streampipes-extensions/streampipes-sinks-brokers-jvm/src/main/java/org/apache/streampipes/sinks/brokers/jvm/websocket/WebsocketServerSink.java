@@ -19,6 +19,7 @@
 package org.apache.streampipes.sinks.brokers.jvm.websocket;
 
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.extensions.api.extractor.IDataSinkParameterExtractor;
 import org.apache.streampipes.extensions.api.pe.context.EventSinkRuntimeContext;
 import org.apache.streampipes.model.DataSinkType;
 import org.apache.streampipes.model.graph.DataSinkDescription;
@@ -28,17 +29,22 @@ import org.apache.streampipes.sdk.builder.StreamRequirementsBuilder;
 import org.apache.streampipes.sdk.helpers.EpRequirements;
 import org.apache.streampipes.sdk.helpers.Labels;
 import org.apache.streampipes.sdk.helpers.Locales;
+import org.apache.streampipes.sdk.helpers.Options;
 import org.apache.streampipes.sdk.utils.Assets;
 import org.apache.streampipes.wrapper.params.compat.SinkParams;
 import org.apache.streampipes.wrapper.standalone.StreamPipesDataSink;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 
 public class WebsocketServerSink extends StreamPipesDataSink {
 
   private static final String PORT_KEY = "port";
-  private Integer port;
+  private static final String FRAME_FORMAT_KEY = "frame-format";
+  private static final String OVERFLOW_POLICY_KEY = "overflow-policy";
+  private static final String MAX_QUEUE_SIZE_KEY = "max-queue-size";
+  private static final String MAX_RATE_KEY = "max-messages-per-second";
 
   private SocketServer server;
 
@@ -53,13 +59,22 @@ public class WebsocketServerSink extends StreamPipesDataSink {
             .requiredProperty(EpRequirements.anyProperty())
             .build())
         .requiredIntegerParameter(Labels.withId(PORT_KEY))
+        .requiredSingleValueSelection(Labels.withId(FRAME_FORMAT_KEY),
+            Options.from(Arrays.stream(WebsocketFrameFormat.values())
+                .map(WebsocketFrameFormat::getLabel)
+                .toArray(String[]::new)))
+        .requiredSingleValueSelection(Labels.withId(OVERFLOW_POLICY_KEY),
+            Options.from(Arrays.stream(WebsocketOverflowPolicy.values())
+                .map(WebsocketOverflowPolicy::getLabel)
+                .toArray(String[]::new)))
+        .requiredIntegerParameter(Labels.withId(MAX_QUEUE_SIZE_KEY), WebsocketSinkConfig.DEFAULT_MAX_QUEUE_SIZE)
+        .requiredIntegerParameter(Labels.withId(MAX_RATE_KEY), 0)
         .build();
   }
 
   @Override
   public void onInvocation(SinkParams parameters, EventSinkRuntimeContext runtimeContext) throws SpRuntimeException {
-    port = parameters.extractor().singleValueParameter(PORT_KEY, Integer.class);
-    server = new SocketServer(port);
+    server = new SocketServer(makeConfig(parameters.extractor()));
     server.setReuseAddr(true);
     server.start();
   }
@@ -78,4 +93,19 @@ public class WebsocketServerSink extends StreamPipesDataSink {
       throw new SpRuntimeException(e.getMessage());
     }
   }
+
+  private WebsocketSinkConfig makeConfig(IDataSinkParameterExtractor extractor) {
+    int port = extractor.singleValueParameter(PORT_KEY, Integer.class);
+
+    // pipelines created before the fan-out options were introduced only contain the port
+    if (extractor.getStaticPropertyByName(FRAME_FORMAT_KEY) == null) {
+      return WebsocketSinkConfig.defaults(port);
+    }
+    return new WebsocketSinkConfig(
+        port,
+        WebsocketFrameFormat.fromLabel(extractor.selectedSingleValue(FRAME_FORMAT_KEY, String.class)),
+        WebsocketOverflowPolicy.fromLabel(extractor.selectedSingleValue(OVERFLOW_POLICY_KEY, String.class)),
+        extractor.singleValueParameter(MAX_QUEUE_SIZE_KEY, Integer.class),
+        extractor.singleValueParameter(MAX_RATE_KEY, Integer.class));
+  }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.brokers.jvm.websocket;
+
+public class WebsocketSinkConfig {
+
+  public static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+
+  private final int port;
+  private final WebsocketFrameFormat frameFormat;
+  private final WebsocketOverflowPolicy overflowPolicy;
+  private final int maxQueueSize;
+  private final int maxMessagesPerSecond;
+
+  public WebsocketSinkConfig(int port,
+                             WebsocketFrameFormat frameFormat,
+                             WebsocketOverflowPolicy overflowPolicy,
+                             int maxQueueSize,
+                             int maxMessagesPerSecond) {
+    this.port = port;
+    this.frameFormat = frameFormat;
+    this.overflowPolicy = overflowPolicy;
+    this.maxQueueSize = Math.max(1, maxQueueSize);
+    this.maxMessagesPerSecond = Math.max(0, maxMessagesPerSecond);
+  }
+
+  public static WebsocketSinkConfig defaults(int port) {
+    return new WebsocketSinkConfig(port, WebsocketFrameFormat.JSON, WebsocketOverflowPolicy.DROP_OLDEST,
+        DEFAULT_MAX_QUEUE_SIZE, 0);
+  }
+
+  public int getPort() {
+    return port;
+  }
+
+  public WebsocketFrameFormat getFrameFormat() {
+    return frameFormat;
+  }
+
+  public WebsocketOverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  /**
+   * @return the maximum number of messages sent to a single client per second, 0 if unlimited
+   */
+  public int getMaxMessagesPerSecond() {
+    return maxMessagesPerSecond;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.brokers.jvm.websocket;
+
+import org.apache.streampipes.commons.prometheus.StreamPipesCollectorRegistry;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public class WebsocketSinkMetrics {
+
+  public static final Gauge CONNECTED_CLIENTS = StreamPipesCollectorRegistry.registerGauge(
+      "sink_websocket_connected_clients",
+      "Number of clients connected to websocket sinks"
+  );
+
+  public static final Gauge QUEUED_BYTES = StreamPipesCollectorRegistry.registerGauge(
+      "sink_websocket_queued_bytes",
+      "Number of bytes waiting in the client queues of websocket sinks"
+  );
+
+  public static final Counter SENT_FRAMES = StreamPipesCollectorRegistry.registerCounter(
+      "sink_websocket_sent_frames_total",
+      "Number of frames sent to clients of websocket sinks"
+  );
+
+  public static final Counter DROPPED_FRAMES = StreamPipesCollectorRegistry.registerCounter(
+      "sink_websocket_dropped_frames_total",
+      "Number of frames dropped because a client of a websocket sink could not keep up"
+  );
+}
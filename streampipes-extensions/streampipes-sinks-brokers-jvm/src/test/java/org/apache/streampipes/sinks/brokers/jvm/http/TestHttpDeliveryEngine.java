@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.brokers.jvm.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestHttpDeliveryEngine {
+
+  private HttpServer server;
+  private List<String> receivedBodies;
+  private AtomicInteger failuresToSimulate;
+
+  @Before
+  public void startServer() throws IOException {
+    receivedBodies = new CopyOnWriteArrayList<>();
+    failuresToSimulate = new AtomicInteger(0);
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", exchange -> {
+      String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+      int status = failuresToSimulate.getAndDecrement() > 0 ? 503 : 200;
+      if (status == 200) {
+        receivedBodies.add(body);
+      }
+      exchange.sendResponseHeaders(status, -1);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @After
+  public void stopServer() {
+    server.stop(0);
+  }
+
+  @Test
+  public void testSingleEventsAreSentAsObjects() {
+    HttpDeliveryEngine engine = new HttpDeliveryEngine(HttpDeliveryConfig.singleEvents(endpoint()));
+    engine.send(json("{\"a\":1}"));
+    engine.send(json("{\"a\":2}"));
+    engine.close();
+
+    assertEquals(2, receivedBodies.size());
+    assertTrue(receivedBodies.contains("{\"a\":1}"));
+    assertTrue(receivedBodies.contains("{\"a\":2}"));
+  }
+
+  @Test
+  public void testBatchIsSentAsArray() {
+    HttpDeliveryEngine engine = new HttpDeliveryEngine(HttpDeliveryConfig.batches(endpoint(), 2));
+    engine.send(json("{\"a\":1}"));
+    engine.send(json("{\"a\":2}"));
+    engine.send(json("{\"a\":3}"));
+    engine.close();
+
+    assertEquals(2, receivedBodies.size());
+    assertTrue(receivedBodies.contains("[{\"a\":1},{\"a\":2}]"));
+    assertTrue(receivedBodies.contains("[{\"a\":3}]"));
+  }
+
+  @Test
+  public void testPartialBatchIsSentAfterLinger() throws InterruptedException {
+    HttpDeliveryEngine engine = new HttpDeliveryEngine(
+        new HttpDeliveryConfig(endpoint(), 100, 50, 1, 0, 10, 5000));
+    engine.send(json("{\"a\":1}"));
+
+    long deadline = System.currentTimeMillis() + 5000;
+    while (receivedBodies.isEmpty() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    engine.close();
+
+    assertEquals(List.of("[{\"a\":1}]"), receivedBodies);
+  }
+
+  @Test
+  public void testServerErrorIsRetried() {
+    failuresToSimulate.set(2);
+    HttpDeliveryEngine engine = new HttpDeliveryEngine(
+        new HttpDeliveryConfig(endpoint(), 1, 1000, 1, 3, 10, 5000));
+    engine.send(json("{\"a\":1}"));
+    engine.close();
+
+    assertEquals(List.of("{\"a\":1}"), receivedBodies);
+  }
+
+  @Test(timeout = 10000)
+  public void testLingerFlushDoesNotBlockPendingRetry() throws InterruptedException {
+    failuresToSimulate.set(1);
+    HttpDeliveryEngine engine = new HttpDeliveryEngine(
+        new HttpDeliveryConfig(endpoint(), 2, 20, 1, 3, 200, 5000));
+    engine.send(json("{\"a\":1}"));
+    engine.send(json("{\"a\":2}"));
+    engine.send(json("{\"a\":3}"));
+
+    // the linger flush of the last event waits for the permit of the batch to be retried
+    Thread.sleep(100);
+    engine.close();
+
+    assertEquals(List.of("[{\"a\":1},{\"a\":2}]", "[{\"a\":3}]"), receivedBodies);
+  }
+
+  @Test
+  public void testSingleEventsAreDeliveredInOrder() {
+    HttpDeliveryEngine engine = new HttpDeliveryEngine(HttpDeliveryConfig.singleEvents(endpoint()));
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      expected.add("{\"a\":" + i + "}");
+      engine.send(json(expected.get(i)));
+    }
+    engine.close();
+
+    assertEquals(expected, receivedBodies);
+  }
+
+  @Test
+  public void testCustomConnectTimeout() {
+    HttpDeliveryEngine engine = new HttpDeliveryEngine(
+        new HttpDeliveryConfig(endpoint(), 1, 1000, 1, 0, 10, 5000, 5000));
+    engine.send(json("{\"a\":1}"));
+    engine.close();
+
+    assertEquals(List.of("{\"a\":1}"), receivedBodies);
+  }
+
+  private String endpoint() {
+    return "http://localhost:" + server.getAddress().getPort() + "/";
+  }
+
+  private byte[] json(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
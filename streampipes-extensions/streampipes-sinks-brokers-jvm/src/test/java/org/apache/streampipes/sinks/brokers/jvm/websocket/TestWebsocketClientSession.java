@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.brokers.jvm.websocket;
+
+import org.java_websocket.WebSocket;
+import org.java_websocket.framing.Framedata;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestWebsocketClientSession {
+
+  private WebSocket connection;
+
+  @Before
+  public void setUp() {
+    connection = mock(WebSocket.class);
+    when(connection.isOpen()).thenReturn(true);
+  }
+
+  @Test
+  public void testDropOldestWhenQueueIsFull() {
+    WebsocketClientSession session = makeSession(WebsocketOverflowPolicy.DROP_OLDEST, 2, 0);
+    when(connection.hasBufferedData()).thenReturn(true);
+
+    session.offer(frame("1"));
+    session.offer(frame("22"));
+    session.offer(frame("333"));
+
+    assertTrue(session.drain());
+    assertEquals(2, session.getQueuedFrames());
+    assertEquals(5, session.getQueuedBytes());
+    assertEquals(1, session.getDroppedFrames());
+    verify(connection, never()).sendFrame(any(Framedata.class));
+  }
+
+  @Test
+  public void testConflateKeepsLatestFrame() {
+    WebsocketClientSession session = makeSession(WebsocketOverflowPolicy.CONFLATE, 100, 0);
+
+    session.offer(frame("1"));
+    session.offer(frame("22"));
+    session.offer(frame("333"));
+
+    assertEquals(1, session.getQueuedFrames());
+    assertEquals(3, session.getQueuedBytes());
+    assertFalse(session.drain());
+    assertEquals(1, session.getSentFrames());
+    assertEquals(2, session.getDroppedFrames());
+  }
+
+  @Test
+  public void testRateLimit() {
+    WebsocketClientSession session = makeSession(WebsocketOverflowPolicy.DROP_OLDEST, 100, 2);
+
+    for (int i = 0; i < 5; i++) {
+      session.offer(frame("e" + i));
+    }
+
+    assertTrue(session.drain());
+    assertEquals(2, session.getSentFrames());
+    assertEquals(3, session.getQueuedFrames());
+    verify(connection, times(2)).sendFrame(any(Framedata.class));
+  }
+
+  private WebsocketClientSession makeSession(WebsocketOverflowPolicy policy,
+                                             int maxQueueSize,
+                                             int maxMessagesPerSecond) {
+    return new WebsocketClientSession(connection,
+        new WebsocketSinkConfig(0, WebsocketFrameFormat.JSON, policy, maxQueueSize, maxMessagesPerSecond));
+  }
+
+  private WebsocketFrame frame(String payload) {
+    return new WebsocketFrame(payload.getBytes(StandardCharsets.UTF_8), false);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.batch;
+
+public class BatchConfig {
+
+  public static final int DEFAULT_MAX_BATCH_SIZE = 500;
+  public static final long DEFAULT_LINGER_MS = 1000;
+  public static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 4;
+
+  /**
+   * A batch is written as soon as it contains this number of items.
+   */
+  private final int maxBatchSize;
+
+  /**
+   * A non-empty batch is written at the latest after this time, even if it is not full.
+   */
+  private final long lingerMs;
+
+  /**
+   * Number of batches which may wait for the writer thread before adding new items blocks.
+   */
+  private final int maxInFlightBatches;
+
+  /**
+   * If true, batches are written by a dedicated writer thread instead of the calling thread.
+   */
+  private final boolean asyncCommit;
+
+  public BatchConfig(int maxBatchSize,
+                     long lingerMs,
+                     int maxInFlightBatches,
+                     boolean asyncCommit) {
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.lingerMs = Math.max(1, lingerMs);
+    this.maxInFlightBatches = Math.max(1, maxInFlightBatches);
+    this.asyncCommit = asyncCommit;
+  }
+
+  public static BatchConfig defaults() {
+    return new BatchConfig(DEFAULT_MAX_BATCH_SIZE, DEFAULT_LINGER_MS, DEFAULT_MAX_IN_FLIGHT_BATCHES, true);
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public long getLingerMs() {
+    return lingerMs;
+  }
+
+  public int getMaxInFlightBatches() {
+    return maxInFlightBatches;
+  }
+
+  public boolean isAsyncCommit() {
+    return asyncCommit;
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.batch;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects items (e.g., rows of a database sink) and hands them over to a {@link BatchHandler}
+ * once the batch is full or the oldest item exceeds the configured linger time.
+ * In async mode, batches are written by a dedicated writer thread; at most
+ * {@link BatchConfig#getMaxInFlightBatches()} batches may be pending, after which
+ * {@link #add(Object)} blocks until the writer catches up.
+ * Failed batches are retried; if a batch still cannot be written, the error is thrown by the
+ * current or next call of {@link #add(Object)}, {@link #flush()} or {@link #close()}.
+ */
+public class BatchWriter<T> implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BatchWriter.class);
+
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+  private static final int MAX_WRITE_ATTEMPTS = 3;
+  private static final long RETRY_BACKOFF_MS = 200;
+
+  private final BatchConfig config;
+  private final BatchHandler<T> handler;
+  private final ScheduledExecutorService lingerScheduler;
+  private final ExecutorService writerExecutor;
+  private final Semaphore inFlightBatches;
+
+  private List<T> buffer;
+  private long firstItemTimestamp;
+  private boolean closed;
+  private volatile SpRuntimeException failure;
+
+  public BatchWriter(String name,
+                     BatchConfig config,
+                     BatchHandler<T> handler) {
+    this.config = config;
+    this.handler = handler;
+    this.buffer = new ArrayList<>(config.getMaxBatchSize());
+    this.inFlightBatches = new Semaphore(config.getMaxInFlightBatches());
+    this.writerExecutor = config.isAsyncCommit()
+        ? Executors.newSingleThreadExecutor(runnable -> makeThread(runnable, name + "-writer"))
+        : null;
+    this.lingerScheduler = Executors.newSingleThreadScheduledExecutor(
+        runnable -> makeThread(runnable, name + "-linger"));
+
+    long checkInterval = Math.max(1, config.getLingerMs() / 2);
+    this.lingerScheduler.scheduleWithFixedDelay(
+        this::flushIfLingered, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+  }
+
+  public synchronized void add(T item) {
+    if (closed) {
+      throw new SpRuntimeException("Batch writer is already closed");
+    }
+    throwPendingFailure();
+    if (buffer.isEmpty()) {
+      firstItemTimestamp = System.currentTimeMillis();
+    }
+    buffer.add(item);
+    if (buffer.size() >= config.getMaxBatchSize()) {
+      submit(swapBuffer());
+    }
+  }
+
+  public synchronized void flush() {
+    throwPendingFailure();
+    if (!buffer.isEmpty()) {
+      submit(swapBuffer());
+    }
+  }
+
+  public synchronized int getBufferedItemCount() {
+    return buffer.size();
+  }
+
+  public int getInFlightBatchCount() {
+    return config.getMaxInFlightBatches() - inFlightBatches.availablePermits();
+  }
+
+  /**
+   * Writes all buffered items and waits until all pending batches are written.
+   * Buffered items are written even if a previous batch has failed; that failure is thrown afterwards.
+   */
+  @Override
+  public void close() {
+    try {
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        if (!buffer.isEmpty()) {
+          submit(swapBuffer());
+        }
+      }
+    } finally {
+      shutdownExecutors();
+    }
+    throwPendingFailure();
+  }
+
+  private void shutdownExecutors() {
+    lingerScheduler.shutdownNow();
+    if (writerExecutor != null) {
+      writerExecutor.shutdown();
+      try {
+        if (!writerExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+          LOG.warn("Pending batches could not be written within {} seconds", SHUTDOWN_TIMEOUT_SECONDS);
+          writerExecutor.shutdownNow();
+        }
+      } catch (InterruptedException e) {
+        writerExecutor.shutdownNow();
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private synchronized void flushIfLingered() {
+    if (!closed
+        && failure == null
+        && !buffer.isEmpty()
+        && System.currentTimeMillis() - firstItemTimestamp >= config.getLingerMs()) {
+      try {
+        submit(swapBuffer());
+      } catch (SpRuntimeException e) {
+        // written on the linger thread, the error is thrown to the caller of the next add
+        failure = e;
+      }
+    }
+  }
+
+  private List<T> swapBuffer() {
+    List<T> batch = buffer;
+    buffer = new ArrayList<>(config.getMaxBatchSize());
+    return batch;
+  }
+
+  // called while holding the lock, so batches are submitted in the order they were filled
+  private void submit(List<T> batch) {
+    if (writerExecutor == null) {
+      write(batch);
+    } else {
+      inFlightBatches.acquireUninterruptibly();
+      writerExecutor.execute(() -> {
+        try {
+          write(batch);
+        } catch (SpRuntimeException e) {
+          failure = e;
+        } finally {
+          inFlightBatches.release();
+        }
+      });
+    }
+  }
+
+  private void write(List<T> batch) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        handler.write(batch);
+        return;
+      } catch (RuntimeException e) {
+        if (attempt >= MAX_WRITE_ATTEMPTS) {
+          LOG.error("Could not write batch of {} items after {} attempts", batch.size(), attempt, e);
+          throw new SpRuntimeException("Could not write batch of " + batch.size() + " items: " + e.getMessage(), e);
+        }
+        LOG.warn("Could not write batch of {} items (attempt {}/{}), retrying: {}",
+            batch.size(), attempt, MAX_WRITE_ATTEMPTS, e.getMessage());
+        if (!sleep(RETRY_BACKOFF_MS * attempt)) {
+          throw new SpRuntimeException("Interrupted while writing batch of " + batch.size() + " items", e);
+        }
+      }
+    }
+  }
+
+  private void throwPendingFailure() {
+    SpRuntimeException pendingFailure = failure;
+    if (pendingFailure != null) {
+      failure = null;
+      throw pendingFailure;
+    }
+  }
+
+  private static boolean sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static Thread makeThread(Runnable runnable,
+                                   String name) {
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+}
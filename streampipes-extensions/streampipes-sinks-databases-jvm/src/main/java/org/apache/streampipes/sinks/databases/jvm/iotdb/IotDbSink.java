@@ -31,6 +31,8 @@ import org.apache.streampipes.sdk.helpers.EpRequirements;
 import org.apache.streampipes.sdk.helpers.Labels;
 import org.apache.streampipes.sdk.helpers.Locales;
 import org.apache.streampipes.sdk.utils.Assets;
+import org.apache.streampipes.sinks.databases.jvm.batch.BatchConfig;
+import org.apache.streampipes.sinks.databases.jvm.batch.BatchWriter;
 import org.apache.streampipes.wrapper.params.compat.SinkParams;
 import org.apache.streampipes.wrapper.standalone.StreamPipesDataSink;
 
@@ -39,8 +41,6 @@ import org.apache.iotdb.rpc.StatementExecutionException;
 import org.apache.iotdb.session.pool.SessionPool;
 import org.apache.iotdb.tsfile.file.metadata.enums.TSDataType;
 import org.apache.iotdb.tsfile.utils.Binary;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -48,8 +48,6 @@ import java.util.Map;
 
 public class IotDbSink extends StreamPipesDataSink {
 
-  private static final Logger LOG = LoggerFactory.getLogger(IotDbSink.class);
-
   private static final String HOST_KEY = "db_host";
   private static final String PORT_KEY = "db_port";
 
@@ -72,6 +70,9 @@ public class IotDbSink extends StreamPipesDataSink {
   // new session and redo the operation.
   private SessionPool sessionPool;
 
+  // Records are written with one insertRecordsOfOneDevice call per batch instead of one call per event.
+  private BatchWriter<IotDbRecord> batchWriter;
+
   @Override
   public DataSinkDescription declareModel() {
     return DataSinkBuilder.create("org.apache.streampipes.sinks.databases.jvm.iotdb").withLocales(Locales.EN)
@@ -110,6 +111,8 @@ public class IotDbSink extends StreamPipesDataSink {
         .user(user)
         .password(password)
         .build();
+
+    batchWriter = new BatchWriter<>("iotdb-" + deviceId, BatchConfig.defaults(), this::insertRecords);
   }
 
   @Override
@@ -164,16 +167,53 @@ public class IotDbSink extends StreamPipesDataSink {
       }
     }
 
+    batchWriter.add(new IotDbRecord(timestamp, measurements, types, values));
+  }
+
+  private void insertRecords(List<IotDbRecord> records) {
+    final List<Long> timestamps = new ArrayList<>(records.size());
+    final List<List<String>> measurementsList = new ArrayList<>(records.size());
+    final List<List<TSDataType>> typesList = new ArrayList<>(records.size());
+    final List<List<Object>> valuesList = new ArrayList<>(records.size());
+
+    for (IotDbRecord record : records) {
+      timestamps.add(record.timestamp);
+      measurementsList.add(record.measurements);
+      typesList.add(record.types);
+      valuesList.add(record.values);
+    }
+
     try {
-      sessionPool.insertRecord(deviceId, timestamp, measurements, types, values);
+      sessionPool.insertRecordsOfOneDevice(deviceId, timestamps, measurementsList, typesList, valuesList);
     } catch (IoTDBConnectionException | StatementExecutionException e) {
-      LOG.error("Failed to save event to IoTDB, because: " + e.getMessage());
-      e.printStackTrace();
+      // thrown to the batch writer, which retries the batch and reports the failure
+      throw new SpRuntimeException("Failed to save " + records.size() + " events to IoTDB: " + e.getMessage(), e);
     }
   }
 
   @Override
   public void onDetach() throws SpRuntimeException {
-    sessionPool.close();
+    try {
+      batchWriter.close();
+    } finally {
+      sessionPool.close();
+    }
+  }
+
+  private static class IotDbRecord {
+    private final long timestamp;
+    private final List<String> measurements;
+    private final List<TSDataType> types;
+    private final List<Object> values;
+
+    IotDbRecord(long timestamp,
+                List<String> measurements,
+                List<TSDataType> types,
+                List<Object> values) {
+      this.timestamp = timestamp;
+      this.measurements = measurements;
+      this.types = types;
+      this.values = values;
+    }
   }
 }
@@ -22,6 +22,8 @@ import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.logging.api.Logger;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.model.schema.EventSchema;
+import org.apache.streampipes.sinks.databases.jvm.batch.BatchConfig;
+import org.apache.streampipes.sinks.databases.jvm.batch.BatchWriter;
 import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.DbDescription;
 import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.JdbcConnectionParameters;
 import org.apache.streampipes.sinks.databases.jvm.jdbcclient.model.StatementHandler;
@@ -33,7 +35,9 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
 
 public class JdbcClient {
@@ -48,6 +52,8 @@ public class JdbcClient {
 
   protected Logger logger;
 
+  protected BatchWriter<Map<String, Object>> batchWriter;
+
   /**
    * A wrapper class for all supported SQL data types (INT, BIGINT, FLOAT, DOUBLE, VARCHAR(255)).
    * If no matching type is found, it is interpreted as a String (VARCHAR(255))
@@ -59,6 +65,14 @@ public class JdbcClient {
                                 JdbcConnectionParameters connectionParameters,
                                 SupportedDbEngines dbEngine,
                                 Logger logger) throws SpRuntimeException {
+    initializeJdbc(eventSchema, connectionParameters, dbEngine, logger, BatchConfig.defaults());
+  }
+
+  protected void initializeJdbc(EventSchema eventSchema,
+                                JdbcConnectionParameters connectionParameters,
+                                SupportedDbEngines dbEngine,
+                                Logger logger,
+                                BatchConfig batchConfig) throws SpRuntimeException {
     this.dbDescription = new DbDescription(connectionParameters, dbEngine);
     this.tableDescription = new TableDescription(connectionParameters.getDbTable(), eventSchema);
     this.statementHandler = new StatementHandler(null, null);
@@ -82,6 +96,14 @@ public class JdbcClient {
           this.dbDescription.getName()
       );
     }
+
+    try {
+      // rows are committed per batch, see saveBatch
+      connection.setAutoCommit(false);
+    } catch (SQLException e) {
+      throw new SpRuntimeException("Could not disable auto-commit: " + e.getMessage());
+    }
+    this.batchWriter = new BatchWriter<>("jdbc-" + this.tableDescription.getName(), batchConfig, this::saveBatch);
   }
 
 
@@ -117,7 +139,8 @@ public class JdbcClient {
         "jdbc:" + this.dbDescription.getEngine().getUrlName() + "://" + host + ":" + port + "/" + databaseName
             + "?user="
             + this.dbDescription.getUsername() + "&password=" + this.dbDescription.getPassword()
-            + "&ssl=true&sslfactory=" + this.dbDescription.getSslFactory() + "&sslmode=require";
+            + "&ssl=true&sslfactory=" + this.dbDescription.getSslFactory() + "&sslmode=require"
+            + "&" + this.dbDescription.getEngine().getBatchRewriteProperty() + "=true";
     try {
       connection = DriverManager.getConnection(url);
       ensureDatabaseExists(databaseName);
@@ -170,8 +193,7 @@ public class JdbcClient {
   protected void ensureTableExists(String url, String databaseName) throws SpRuntimeException {
     try {
       // Database should exist by now so we can establish a connection
-      connection = DriverManager.getConnection(url + databaseName, this.dbDescription.getUsername(),
-          this.dbDescription.getPassword());
+      connection = DriverManager.getConnection(url + databaseName, makeConnectionProperties());
       this.statementHandler.setStatement(connection.createStatement());
       ResultSet rs = connection.getMetaData().getTables(null, null, this.tableDescription.getName(), null);
       if (rs.next()) {
@@ -187,31 +209,50 @@ public class JdbcClient {
     }
   }
 
+  private Properties makeConnectionProperties() {
+    Properties properties = new Properties();
+    properties.setProperty("user", this.dbDescription.getUsername());
+    properties.setProperty("password", this.dbDescription.getPassword());
+    properties.setProperty(this.dbDescription.getEngine().getBatchRewriteProperty(), "true");
+    return properties;
+  }
+
   /**
-   * Prepares a statement for the insertion of values or the
+   * Adds the event to the current batch, which is written by {@link JdbcClient#saveBatch(List)}
+   * once it is full or its linger time has expired.
    *
-   * @param event The event which should be saved to the Postgres table
-   * @throws SpRuntimeException When there was an error in the saving process
+   * @param event The event which should be saved to the table
+   * @throws SpRuntimeException When the event is null or the client is not connected
    */
   protected void save(final Event event) throws SpRuntimeException {
-    //TODO: Add batch support (https://stackoverflow.com/questions/3784197/efficient-way-to-do-batch-inserts-with-jdbc)
-    checkConnected();
-    Map<String, Object> eventMap = event.getRaw();
     if (event == null) {
       throw new SpRuntimeException("event is null");
     }
+    checkConnected();
+    this.batchWriter.add(event.getRaw());
+  }
+
+  /**
+   * Inserts all events with a single batch and commits them in one transaction.
+   *
+   * @param events The events which should be saved to the table
+   * @throws SpRuntimeException When there was an error in the saving process
+   */
+  protected void saveBatch(final List<Map<String, Object>> events) throws SpRuntimeException {
+    checkConnected();
     if (!this.tableDescription.tableExists()) {
       // Creates the table
       createTable();
       this.tableDescription.setTableExists();
     }
     try {
-      checkConnected();
-      this.statementHandler.executePreparedStatement(
+      this.statementHandler.executeBatch(
           this.dbDescription, this.tableDescription,
-          connection, eventMap);
+          connection, events);
+      connection.commit();
     } catch (SQLException e) {
-      if (e.getSQLState().substring(0, 2).equals("42")) {
+      rollback();
+      if (e.getSQLState() != null && e.getSQLState().startsWith("42")) {
         // If the table does not exists (because it got deleted or something, will cause the error
         // code "42") we will try to create a new one. Otherwise we do not handle the exception.
         logger.warn("Table '" + this.tableDescription.getName() + "' was unexpectedly not found and gets recreated.");
@@ -221,10 +262,12 @@ public class JdbcClient {
 
         try {
           checkConnected();
-          this.statementHandler.executePreparedStatement(
+          this.statementHandler.executeBatch(
               this.dbDescription, this.tableDescription,
-              connection, eventMap);
+              connection, events);
+          connection.commit();
         } catch (SQLException e1) {
+          rollback();
           throw new SpRuntimeException(e1.getMessage());
         }
       } else {
@@ -233,6 +276,14 @@ public class JdbcClient {
     }
   }
 
+  private void rollback() {
+    try {
+      connection.rollback();
+    } catch (SQLException e) {
+      logger.warn("Exception when rolling back the transaction: " + e.getMessage());
+    }
+  }
+
   protected void createTable() throws SpRuntimeException {
     String createStatement = "CREATE TABLE ";
 
@@ -259,6 +310,16 @@ public class JdbcClient {
    */
   protected void closeAll() {
     boolean error = false;
+    SpRuntimeException writeFailure = null;
+    if (this.batchWriter != null) {
+      // writes all buffered events before the connection is closed
+      try {
+        this.batchWriter.close();
+      } catch (SpRuntimeException e) {
+        writeFailure = e;
+      }
+      this.batchWriter = null;
+    }
     try {
       if (this.statementHandler.statement != null) {
         this.statementHandler.statement.close();
@@ -286,6 +347,9 @@ public class JdbcClient {
       error = true;
       logger.warn("Exception when closing the prepared statement: " + e.getMessage());
     }
+    if (writeFailure != null) {
+      throw writeFailure;
+    }
     if (!error) {
       logger.info("Shutdown all connections successfully.");
     }
@@ -27,6 +27,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class StatementHandler {
@@ -68,6 +69,9 @@ public class StatementHandler {
     statement1.append(" ) ");
     statement2.append(" );");
     String finalStatement = statement1.append(statement2).toString();
+    if (this.preparedStatement != null) {
+      this.preparedStatement.close();
+    }
     this.preparedStatement = connection.prepareStatement(finalStatement);
   }
 
@@ -92,10 +96,10 @@ public class StatementHandler {
     for (Map.Entry<String, Object> pair : event.entrySet()) {
       if (pair.getValue() instanceof Map) {
         index = extendPreparedStatement(dbDescription, (Map<String, Object>) pair.getValue(), s1, s2, index,
-            pair.getKey() + "_", prefix);
+            preProperty + pair.getKey() + "_", prefix);
       } else {
         SQLStatementUtils.checkRegEx(pair.getKey(), "Columnname", dbDescription);
-        eventParameterMap.put(pair.getKey(), new ParameterInformation(index,
+        eventParameterMap.put(preProperty + pair.getKey(), new ParameterInformation(index,
             DbDataTypeFactory.getFromObject(pair.getValue(), dbDescription.getEngine())));
         if (dbDescription.isColumnNameQuoted()) {
           s1.append(prefix).append("\"").append(preProperty).append(pair.getKey()).append("\"");
@@ -165,6 +169,52 @@ public class StatementHandler {
     this.preparedStatement.executeUpdate();
   }
 
+  /**
+   * Adds all events to the batch of the prepared statement and executes them with a single round trip.
+   * If an event contains parameters which are not part of the current prepared statement, the events
+   * collected so far are executed before a new prepared statement is generated.
+   *
+   * @param events Data to be saved in the SQL table
+   * @throws SQLException       When the batch cannot be executed
+   * @throws SpRuntimeException When the table name is not allowed or a value cannot be set
+   */
+  public void executeBatch(DbDescription dbDescription, TableDescription tableDescription,
+                           Connection connection, final List<Map<String, Object>> events)
+      throws SQLException, SpRuntimeException {
+    int pendingStatements = 0;
+    for (Map<String, Object> event : events) {
+      if (this.preparedStatement == null || !containsAllParameters(event, "")) {
+        if (pendingStatements > 0) {
+          this.preparedStatement.executeBatch();
+          pendingStatements = 0;
+        }
+        generatePreparedStatement(dbDescription, tableDescription, connection, event);
+      } else {
+        this.preparedStatement.clearParameters();
+      }
+      fillPreparedStatement(dbDescription, tableDescription, connection, event, "");
+      this.preparedStatement.addBatch();
+      pendingStatements++;
+    }
+    if (pendingStatements > 0) {
+      this.preparedStatement.executeBatch();
+    }
+  }
+
+  private boolean containsAllParameters(final Map<String, Object> event, String pre) {
+    for (Map.Entry<String, Object> pair : event.entrySet()) {
+      String newKey = pre + pair.getKey();
+      if (pair.getValue() instanceof Map) {
+        if (!containsAllParameters((Map<String, Object>) pair.getValue(), newKey + "_")) {
+          return false;
+        }
+      } else if (!eventParameterMap.containsKey(newKey)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public PreparedStatement getPreparedStatement() {
     return preparedStatement;
   }
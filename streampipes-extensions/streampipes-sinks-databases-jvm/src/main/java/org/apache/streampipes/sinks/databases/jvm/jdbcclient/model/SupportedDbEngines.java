@@ -19,17 +19,22 @@
 package org.apache.streampipes.sinks.databases.jvm.jdbcclient.model;
 
 public enum SupportedDbEngines {
-  MY_SQL("mysql", "com.mysql.cj.jdbc.Driver", ".*"),
-  POSTGRESQL("postgresql", "org.postgresql.Driver", "^[a-zA-Z_][a-zA-Z0-9_]*$");
+  MY_SQL("mysql", "com.mysql.cj.jdbc.Driver", ".*", "rewriteBatchedStatements"),
+  POSTGRESQL("postgresql", "org.postgresql.Driver", "^[a-zA-Z_][a-zA-Z0-9_]*$", "reWriteBatchedInserts");
 
   private final String urlName;
   private final String driverName;
   private final String allowedRegex;
+  /**
+   * Driver property which rewrites batched inserts into multi-row inserts
+   */
+  private final String batchRewriteProperty;
 
-  SupportedDbEngines(String urlName, String driverName, String allowedRegex) {
+  SupportedDbEngines(String urlName, String driverName, String allowedRegex, String batchRewriteProperty) {
     this.urlName = urlName;
     this.driverName = driverName;
     this.allowedRegex = allowedRegex;
+    this.batchRewriteProperty = batchRewriteProperty;
   }
 
   public String getUrlName() {
@@ -43,4 +48,8 @@ public enum SupportedDbEngines {
   public String getAllowedRegex() {
     return allowedRegex;
   }
+
+  public String getBatchRewriteProperty() {
+    return batchRewriteProperty;
+  }
 }
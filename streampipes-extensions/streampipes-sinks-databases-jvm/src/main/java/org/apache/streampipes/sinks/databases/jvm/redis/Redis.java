@@ -20,6 +20,8 @@ package org.apache.streampipes.sinks.databases.jvm.redis;
 
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.sinks.databases.jvm.batch.BatchConfig;
+import org.apache.streampipes.sinks.databases.jvm.batch.BatchWriter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,14 +29,30 @@ import org.apache.commons.lang3.StringUtils;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.StreamEntryID;
 import redis.clients.jedis.exceptions.JedisException;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public class Redis {
 
   private static final String EVENT_PREFIX = "sp:event:";
 
   private static final String EVENT_COUNT = "sp:events";
 
+  private static final String EVENT_STREAM = "sp:event-stream";
+
+  private static final String STREAM_KEY_FIELD = "key";
+
+  private static final String STREAM_EVENT_FIELD = "event";
+
+  private static final long KEY_BLOCK_SIZE = 1000;
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
   private static JedisPool jedisPool = null;
 
   private String primaryKey;
@@ -49,6 +67,12 @@ public class Redis {
 
   private Integer ttl;
 
+  private RedisWriteMode writeMode;
+
+  private RedisKeyAllocator keyAllocator;
+
+  private BatchWriter<RedisRecord> batchWriter;
+
   public void onInvocation(RedisParameters parameters) {
     if (jedisPool == null) {
       initialPool(parameters);
@@ -59,27 +83,73 @@ public class Redis {
     clientName = parameters.getRedisClient();
     index = parameters.getRedisIndex();
     ttl = parameters.getTTL();
+    writeMode = parameters.getWriteMode();
+    keyAllocator = new RedisKeyAllocator(KEY_BLOCK_SIZE);
+    batchWriter = new BatchWriter<>("redis-sink", BatchConfig.defaults(), this::writeBatch);
   }
 
   public void onEvent(Event event) throws SpRuntimeException {
+    String eventKey = autoIncrement ? null : getEventKey(event);
+    batchWriter.add(new RedisRecord(eventKey, getEventValue(event)));
+  }
+
+  public void onDetach() throws SpRuntimeException {
+    if (batchWriter != null) {
+      batchWriter.close();
+    }
+    if (jedisPool != null && !jedisPool.isClosed()) {
+      jedisPool.close();
+    }
+    jedisPool = null;
+  }
+
+  private void writeBatch(List<RedisRecord> records) {
     try (Jedis jedis = getJedis()) {
-      final String eventKey = getEventKey(event, autoIncrement ? jedis.incr(EVENT_COUNT) : 0L);
-      jedis.set(eventKey, getEventValue(event));
-      if (ttl > -1) {
-        jedis.expire(eventKey, ttl);
+      if (writeMode != RedisWriteMode.STREAM) {
+        long missingKeys = records.stream().filter(record -> record.getKey() == null).count();
+        if (missingKeys > 0) {
+          keyAllocator.reserve(missingKeys, count -> jedis.incrBy(EVENT_COUNT, count));
+        }
+      }
+      Pipeline pipeline = jedis.pipelined();
+      if (writeMode == RedisWriteMode.STREAM) {
+        appendToStream(pipeline, records);
+      } else {
+        setKeys(pipeline, records);
       }
+      pipeline.sync();
     } catch (SpRuntimeException e) {
       throw e;
     } catch (Exception ex) {
-      throw new SpRuntimeException("Could not persist event to redis", ex);
+      throw new SpRuntimeException("Could not persist events to redis", ex);
     }
   }
 
-  public void onDetach() throws SpRuntimeException {
-    if (jedisPool != null && !jedisPool.isClosed()) {
-      jedisPool.close();
+  private void setKeys(Pipeline pipeline,
+                       List<RedisRecord> records) {
+    for (RedisRecord record : records) {
+      String eventKey = record.getKey() != null
+          ? record.getKey()
+          : EVENT_PREFIX + keyAllocator.nextKey();
+      if (ttl > -1) {
+        pipeline.setex(eventKey, ttl, record.getValue());
+      } else {
+        pipeline.set(eventKey, record.getValue());
+      }
+    }
+  }
+
+  private void appendToStream(Pipeline pipeline,
+                              List<RedisRecord> records) {
+    // entry ids are assigned by redis in insertion order, so auto-increment keys are not required
+    for (RedisRecord record : records) {
+      Map<String, String> fields = new HashMap<>();
+      if (record.getKey() != null) {
+        fields.put(STREAM_KEY_FIELD, record.getKey());
+      }
+      fields.put(STREAM_EVENT_FIELD, record.getValue());
+      pipeline.xadd(EVENT_STREAM, StreamEntryID.NEW_ENTRY, fields);
     }
-    jedisPool = null;
   }
 
   private void initialPool(RedisParameters parameters) {
@@ -114,20 +184,36 @@ public class Redis {
     return jedis;
   }
 
-  private String getEventKey(Event event, Long count) {
-    if (autoIncrement) {
-      return EVENT_PREFIX + count;
-    } else {
-      String value = event.getFieldBySelector(primaryKey).getAsPrimitive().getAsString();
-      return EVENT_PREFIX + value;
-    }
+  private String getEventKey(Event event) {
+    String value = event.getFieldBySelector(primaryKey).getAsPrimitive().getAsString();
+    return EVENT_PREFIX + value;
   }
 
   private String getEventValue(Event event) throws SpRuntimeException {
     try {
-      return new ObjectMapper().writeValueAsString(event.getRaw());
+      return MAPPER.writeValueAsString(event.getRaw());
     } catch (JsonProcessingException e) {
       throw new SpRuntimeException("Could not convert event to JSON", e);
     }
   }
+
+  private static class RedisRecord {
+
+    private final String key;
+    private final String value;
+
+    RedisRecord(String key,
+                String value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    String getKey() {
+      return key;
+    }
+
+    String getValue() {
+      return value;
+    }
+  }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.redis;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Hands out sequential event keys from blocks reserved with a single INCRBY,
+ * instead of issuing an INCR round trip for every event.
+ * Keys of a partially used block are skipped when the sink is restarted.
+ *
+ * <p>Keys must be reserved before a Jedis pipeline is opened, as Jedis does not allow
+ * regular commands such as INCRBY while a pipeline is in progress.</p>
+ */
+public class RedisKeyAllocator {
+
+  private final long blockSize;
+
+  private long next;
+  private long last;
+
+  private long nextBlockFirst;
+  private long nextBlockLast;
+
+  public RedisKeyAllocator(long blockSize) {
+    this.blockSize = Math.max(1, blockSize);
+    this.next = 1;
+    this.last = 0;
+    this.nextBlockFirst = 1;
+    this.nextBlockLast = 0;
+  }
+
+  /**
+   * Makes sure that the given number of keys can be handed out by {@link #nextKey()}.
+   *
+   * @param count       the number of keys required
+   * @param incrementBy increments the counter by the given value and returns the new counter value,
+   *                    called at most once and only if the remaining keys are not sufficient
+   */
+  public void reserve(long count,
+                      LongUnaryOperator incrementBy) {
+    long available = remaining(next, last) + remaining(nextBlockFirst, nextBlockLast);
+    if (available < count) {
+      if (next > last) {
+        next = nextBlockFirst;
+        last = nextBlockLast;
+      }
+      long size = Math.max(blockSize, count - remaining(next, last));
+      nextBlockLast = incrementBy.applyAsLong(size);
+      nextBlockFirst = nextBlockLast - size + 1;
+    }
+  }
+
+  /**
+   * @return the next reserved key
+   * @throws IllegalStateException if all reserved keys have been handed out
+   */
+  public long nextKey() {
+    if (next > last) {
+      if (nextBlockFirst > nextBlockLast) {
+        throw new IllegalStateException("No event keys reserved");
+      }
+      next = nextBlockFirst;
+      last = nextBlockLast;
+      nextBlockFirst = 1;
+      nextBlockLast = 0;
+    }
+    return next++;
+  }
+
+  private long remaining(long first,
+                         long lastKey) {
+    return Math.max(0, lastKey - first + 1);
+  }
+}
@@ -44,6 +44,8 @@ public class RedisParameters {
 
   private final Integer redisPoolTimeout;
 
+  private final RedisWriteMode writeMode;
+
   public RedisParameters(String primaryKey,
                          Boolean autoIncrement,
                          Integer ttl,
@@ -55,7 +57,8 @@ public class RedisParameters {
                          Integer redisPoolMaxActive,
                          Integer redisPoolMaxIdle,
                          Integer redisPoolMaxWait,
-                         Integer redisPoolTimeout) {
+                         Integer redisPoolTimeout,
+                         RedisWriteMode writeMode) {
     this.primaryKey = primaryKey;
     this.autoIncrement = autoIncrement;
     this.ttl = ttl;
@@ -68,6 +71,7 @@ public class RedisParameters {
     this.redisPoolMaxIdle = redisPoolMaxIdle;
     this.redisPoolMaxWait = redisPoolMaxWait;
     this.redisPoolTimeout = redisPoolTimeout;
+    this.writeMode = writeMode;
   }
 
   public String getPrimaryKey() {
@@ -117,4 +121,8 @@ public class RedisParameters {
   public Integer getRedisPoolTimeout() {
     return redisPoolTimeout;
   }
+
+  public RedisWriteMode getWriteMode() {
+    return writeMode;
+  }
 }
@@ -60,6 +60,8 @@ public class RedisSink extends StreamPipesDataSink {
 
   private static final String REDIS_POOL_TIMEOUT_KEY = "redis_pool_timeout";
 
+  private static final String REDIS_WRITE_MODE_KEY = "redis_write_mode";
+
   private Redis redis;
 
   @Override
@@ -85,6 +87,8 @@ public class RedisSink extends StreamPipesDataSink {
         .requiredIntegerParameter(Labels.withId(REDIS_POOL_MAX_IDLE_KEY), 8)
         .requiredIntegerParameter(Labels.withId(REDIS_POOL_MAX_WAIT_KEY), -1)
         .requiredIntegerParameter(Labels.withId(REDIS_POOL_TIMEOUT_KEY), 2000)
+        .requiredSingleValueSelection(Labels.withId(REDIS_WRITE_MODE_KEY),
+            Options.from(RedisWriteMode.KEY_VALUE.getLabel(), RedisWriteMode.STREAM.getLabel()))
         .build();
   }
 
@@ -106,11 +110,15 @@ public class RedisSink extends StreamPipesDataSink {
     Integer redisPoolTimeout = extractor.singleValueParameter(REDIS_POOL_TIMEOUT_KEY, Integer.class);
     String redisPassword = "";
     String redisClient = "";
+    // pipelines created before the write mode was introduced do not contain this parameter
+    RedisWriteMode writeMode = extractor.getStaticPropertyByName(REDIS_WRITE_MODE_KEY) != null
+        ? RedisWriteMode.fromLabel(extractor.selectedSingleValue(REDIS_WRITE_MODE_KEY, String.class))
+        : RedisWriteMode.KEY_VALUE;
 
     RedisParameters
         params = new RedisParameters(primaryKey, autoIncrement, ttl, redisHost,
         redisPort, redisPassword, redisClient, redisIndex, redisPoolMaxActive, redisPoolMaxIdle,
-        redisPoolMaxWait, redisPoolTimeout);
+        redisPoolMaxWait, redisPoolTimeout, writeMode);
 
     this.redis = new Redis();
     redis.onInvocation(params);
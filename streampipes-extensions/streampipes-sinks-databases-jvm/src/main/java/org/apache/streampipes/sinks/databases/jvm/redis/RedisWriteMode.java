@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.redis;
+
+import java.util.Arrays;
+
+public enum RedisWriteMode {
+
+  /**
+   * Every event is stored as JSON string under its own key.
+   */
+  KEY_VALUE("Key-Value"),
+
+  /**
+   * Events are appended to a Redis stream, preserving their order for consumers.
+   */
+  STREAM("Stream");
+
+  private final String label;
+
+  RedisWriteMode(String label) {
+    this.label = label;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public static RedisWriteMode fromLabel(String label) {
+    return Arrays.stream(values())
+        .filter(mode -> mode.label.equals(label))
+        .findFirst()
+        .orElse(KEY_VALUE);
+  }
+}
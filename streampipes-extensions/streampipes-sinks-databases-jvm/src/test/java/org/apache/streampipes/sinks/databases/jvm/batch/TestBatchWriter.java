@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.batch;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class TestBatchWriter {
+
+  @Test
+  public void testFlushOnBatchSize() {
+    List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+    BatchWriter<Integer> writer = new BatchWriter<>("test", new BatchConfig(3, 60000, 1, false), batches::add);
+
+    for (int i = 0; i < 7; i++) {
+      writer.add(i);
+    }
+
+    assertEquals(2, batches.size());
+    assertEquals(List.of(0, 1, 2), batches.get(0));
+    assertEquals(1, writer.getBufferedItemCount());
+
+    writer.close();
+    assertEquals(3, batches.size());
+    assertEquals(List.of(6), batches.get(2));
+  }
+
+  @Test
+  public void testFlushOnLinger() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    BatchWriter<Integer> writer = new BatchWriter<>("test", new BatchConfig(100, 50, 1, true),
+        batch -> latch.countDown());
+
+    writer.add(1);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    writer.close();
+  }
+
+  @Test
+  public void testAsyncWriterKeepsOrder() {
+    List<Integer> items = Collections.synchronizedList(new ArrayList<>());
+    BatchWriter<Integer> writer = new BatchWriter<>("test", new BatchConfig(10, 60000, 2, true), items::addAll);
+
+    for (int i = 0; i < 1000; i++) {
+      writer.add(i);
+    }
+    writer.close();
+
+    assertEquals(1000, items.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, (int) items.get(i));
+    }
+  }
+
+  @Test
+  public void testFailedBatchIsRetried() {
+    AtomicInteger attempts = new AtomicInteger(0);
+    List<Integer> items = new ArrayList<>();
+    BatchWriter<Integer> writer = new BatchWriter<>("test", new BatchConfig(2, 60000, 1, false), batch -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new SpRuntimeException("connection lost");
+      }
+      items.addAll(batch);
+    });
+
+    writer.add(1);
+    writer.add(2);
+
+    assertEquals(2, attempts.get());
+    assertEquals(List.of(1, 2), items);
+    writer.close();
+  }
+
+  @Test
+  public void testFailureIsThrownToCaller() {
+    BatchWriter<Integer> writer = new BatchWriter<>("test", new BatchConfig(1, 60000, 1, false), batch -> {
+      throw new SpRuntimeException("table dropped");
+    });
+
+    assertThrows(SpRuntimeException.class, () -> writer.add(1));
+  }
+
+  @Test
+  public void testAsyncFailureIsThrownOnClose() {
+    BatchWriter<Integer> writer = new BatchWriter<>("test", new BatchConfig(1, 60000, 1, true), batch -> {
+      throw new SpRuntimeException("table dropped");
+    });
+
+    writer.add(1);
+
+    assertThrows(SpRuntimeException.class, writer::close);
+  }
+
+  @Test
+  public void testBufferedItemsAreWrittenOnCloseAfterFailure() throws InterruptedException {
+    List<Integer> items = Collections.synchronizedList(new ArrayList<>());
+    BatchWriter<Integer> writer = new BatchWriter<>("test", new BatchConfig(2, 60000, 1, true), batch -> {
+      if (batch.contains(1)) {
+        throw new SpRuntimeException("connection lost");
+      }
+      items.addAll(batch);
+    });
+
+    writer.add(1);
+    writer.add(2);
+    writer.add(3);
+    while (writer.getInFlightBatchCount() > 0) {
+      Thread.sleep(10);
+    }
+
+    assertThrows(SpRuntimeException.class, writer::close);
+    assertEquals(List.of(3), items);
+
+    SpRuntimeException e = assertThrows(SpRuntimeException.class, () -> writer.add(4));
+    assertTrue(e.getMessage().contains("closed"));
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.redis;
+
+import org.apache.streampipes.model.runtime.Event;
+import org.apache.streampipes.model.runtime.EventFactory;
+import org.apache.streampipes.model.runtime.SchemaInfo;
+import org.apache.streampipes.model.runtime.SourceInfo;
+import org.apache.streampipes.model.schema.EventSchema;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs the Redis sink with a real Jedis client against a minimal in-memory server speaking the
+ * Redis protocol, so that client-side restrictions such as commands issued during a pipeline are
+ * exercised.
+ */
+public class TestRedis {
+
+  private ServerSocket serverSocket;
+  private Thread serverThread;
+  private List<List<String>> commands;
+  private Map<String, String> values;
+  private AtomicLong eventCount;
+
+  @Before
+  public void startServer() throws IOException {
+    commands = new CopyOnWriteArrayList<>();
+    values = new ConcurrentHashMap<>();
+    eventCount = new AtomicLong(0);
+    serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    serverThread = new Thread(this::acceptConnections, "test-redis-server");
+    serverThread.setDaemon(true);
+    serverThread.start();
+  }
+
+  @After
+  public void stopServer() throws IOException {
+    serverSocket.close();
+  }
+
+  @Test
+  public void testAutoIncrementKeysAreWrittenInPipeline() {
+    Redis redis = new Redis();
+    redis.onInvocation(parameters(true, RedisWriteMode.KEY_VALUE));
+    for (int i = 0; i < 3; i++) {
+      redis.onEvent(event(i));
+    }
+    redis.onDetach();
+
+    assertEquals(3, values.size());
+    assertEquals("{\"value\":0}", values.get("sp:event:1"));
+    assertEquals("{\"value\":2}", values.get("sp:event:3"));
+    assertEquals(1, commandCount("INCRBY"));
+  }
+
+  @Test
+  public void testPrimaryKeysAreWrittenWithoutCounter() {
+    Redis redis = new Redis();
+    redis.onInvocation(parameters(false, RedisWriteMode.KEY_VALUE));
+    redis.onEvent(event(42));
+    redis.onDetach();
+
+    assertEquals("{\"value\":42}", values.get("sp:event:42"));
+    assertEquals(0, commandCount("INCRBY"));
+  }
+
+  private long commandCount(String name) {
+    return commands.stream().filter(command -> command.get(0).equalsIgnoreCase(name)).count();
+  }
+
+  private RedisParameters parameters(boolean autoIncrement,
+                                     RedisWriteMode writeMode) {
+    return new RedisParameters("s0::value", autoIncrement, -1, "localhost", serverSocket.getLocalPort(),
+        "", "", -1, 2, 2, 2000, 2000, writeMode);
+  }
+
+  private Event event(int value) {
+    return EventFactory.fromMap(Map.of("value", value), new SourceInfo("test", "s0"),
+        new SchemaInfo(new EventSchema(), new ArrayList<>()));
+  }
+
+  private void acceptConnections() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        Thread connection = new Thread(() -> handle(socket), "test-redis-connection");
+        connection.setDaemon(true);
+        connection.start();
+      } catch (IOException e) {
+        return;
+      }
+    }
+  }
+
+  private void handle(Socket socket) {
+    try (socket) {
+      InputStream in = new BufferedInputStream(socket.getInputStream());
+      OutputStream out = socket.getOutputStream();
+      List<String> command;
+      while ((command = readCommand(in)) != null) {
+        commands.add(command);
+        out.write(reply(command).getBytes(StandardCharsets.UTF_8));
+        out.flush();
+      }
+    } catch (IOException e) {
+      // connection closed by the client
+    }
+  }
+
+  private String reply(List<String> command) {
+    switch (command.get(0).toUpperCase()) {
+      case "INCRBY":
+        return ":" + eventCount.addAndGet(Long.parseLong(command.get(2))) + "\r\n";
+      case "SET":
+        values.put(command.get(1), command.get(2));
+        return "+OK\r\n";
+      case "SETEX":
+        values.put(command.get(1), command.get(3));
+        return "+OK\r\n";
+      case "PING":
+        return "+PONG\r\n";
+      default:
+        return "+OK\r\n";
+    }
+  }
+
+  private List<String> readCommand(InputStream in) throws IOException {
+    String header = readLine(in);
+    if (header == null) {
+      return null;
+    }
+    int count = Integer.parseInt(header.substring(1));
+    List<String> args = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int length = Integer.parseInt(readLine(in).substring(1));
+      byte[] data = in.readNBytes(length + 2);
+      args.add(new String(data, 0, length, StandardCharsets.UTF_8));
+    }
+    return args;
+  }
+
+  private String readLine(InputStream in) throws IOException {
+    StringBuilder line = new StringBuilder();
+    int c;
+    while ((c = in.read()) != -1) {
+      if (c == '\r') {
+        in.read();
+        return line.toString();
+      }
+      line.append((char) c);
+    }
+    return null;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.sinks.databases.jvm.redis;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestRedisKeyAllocator {
+
+  @Test
+  public void testKeysAreReservedInBlocks() {
+    AtomicLong counter = new AtomicLong(0);
+    AtomicInteger roundTrips = new AtomicInteger(0);
+    LongUnaryOperator incrementBy = count -> {
+      roundTrips.incrementAndGet();
+      return counter.addAndGet(count);
+    };
+
+    RedisKeyAllocator allocator = new RedisKeyAllocator(3);
+    for (long expected = 1; expected <= 7; expected++) {
+      allocator.reserve(1, incrementBy);
+      assertEquals(expected, allocator.nextKey());
+    }
+    assertEquals(3, roundTrips.get());
+  }
+
+  @Test
+  public void testKeysContinueAfterOtherWriters() {
+    AtomicLong counter = new AtomicLong(10);
+    LongUnaryOperator incrementBy = counter::addAndGet;
+
+    RedisKeyAllocator allocator = new RedisKeyAllocator(2);
+    allocator.reserve(2, incrementBy);
+    assertEquals(11, allocator.nextKey());
+    assertEquals(12, allocator.nextKey());
+
+    // another sink instance reserved a block in between
+    counter.addAndGet(2);
+    allocator.reserve(1, incrementBy);
+    assertEquals(15, allocator.nextKey());
+  }
+
+  @Test
+  public void testBatchLargerThanBlockIsReservedAtOnce() {
+    AtomicLong counter = new AtomicLong(0);
+    AtomicInteger roundTrips = new AtomicInteger(0);
+    LongUnaryOperator incrementBy = count -> {
+      roundTrips.incrementAndGet();
+      return counter.addAndGet(count);
+    };
+
+    RedisKeyAllocator allocator = new RedisKeyAllocator(3);
+    allocator.reserve(2, incrementBy);
+    assertEquals(1, allocator.nextKey());
+
+    // one key of the first block is left, the remaining four come from a single new block
+    allocator.reserve(5, incrementBy);
+    for (long expected = 2; expected <= 6; expected++) {
+      assertEquals(expected, allocator.nextKey());
+    }
+    assertEquals(2, roundTrips.get());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testKeysMustBeReserved() {
+    new RedisKeyAllocator(3).nextKey();
+  }
+}
@@ -18,31 +18,78 @@
 
 package org.apache.streampipes.messaging.jms;
 
+import org.apache.streampipes.messaging.connection.BrokerConnectionProvider;
+import org.apache.streampipes.messaging.connection.SharedBrokerConnection;
+import org.apache.streampipes.messaging.connection.SharedBrokerConnections;
 import org.apache.streampipes.model.grounding.JmsTransportProtocol;
 
+import org.apache.activemq.ActiveMQConnection;
 import org.apache.activemq.ActiveMQConnectionFactory;
 
 import javax.jms.Connection;
 import javax.jms.JMSException;
+import javax.jms.Session;
+
+import java.util.function.Function;
 
 public abstract class ActiveMQConnectionProvider {
 
+  private static final SharedBrokerConnections<String, Connection> CONNECTIONS =
+      new SharedBrokerConnections<>("jms", new JmsConnectionProvider(), Function.identity());
+
   protected JmsTransportProtocol protocol;
 
+  private SharedBrokerConnection<Connection> sharedConnection;
+
   public ActiveMQConnectionProvider(JmsTransportProtocol protocol) {
     this.protocol = protocol;
   }
 
-  protected Connection startJmsConnection(String url) {
+  /**
+   * Creates a new session on the connection to the broker, which is shared with all other producers and consumers
+   * of this service connecting to the same broker.
+   */
+  protected Session createSession(String url) throws JMSException {
+    this.sharedConnection = CONNECTIONS.acquire(url);
     try {
+      return sharedConnection.getConnection().createSession(false, Session.AUTO_ACKNOWLEDGE);
+    } catch (JMSException e) {
+      releaseConnection();
+      throw e;
+    }
+  }
+
+  protected void releaseConnection() {
+    if (sharedConnection != null) {
+      CONNECTIONS.release(sharedConnection);
+      sharedConnection = null;
+    }
+  }
+
+  protected boolean isConnectionHealthy() {
+    return sharedConnection != null && sharedConnection.isHealthy();
+  }
+
+  private static class JmsConnectionProvider implements BrokerConnectionProvider<String, Connection> {
+
+    @Override
+    public Connection open(String url) throws JMSException {
       ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(url);
       connectionFactory.setAlwaysSyncSend(false);
-      Connection connect = connectionFactory.createConnection();
+      Connection connection = connectionFactory.createConnection();
+      connection.start();
+      return connection;
+    }
 
-      connect.start();
-      return connect;
-    } catch (JMSException e) {
-      throw new AssertionError("Failed to establish the JMS-Connection!", e);
+    @Override
+    public void close(Connection connection) throws JMSException {
+      connection.close();
+    }
+
+    @Override
+    public boolean isHealthy(Connection connection) {
+      ActiveMQConnection activeMqConnection = (ActiveMQConnection) connection;
+      return !activeMqConnection.isClosed() && !activeMqConnection.isTransportFailed();
     }
   }
 }
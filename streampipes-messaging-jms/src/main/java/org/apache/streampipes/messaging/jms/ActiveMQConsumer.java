@@ -68,13 +68,14 @@ public class ActiveMQConsumer extends ActiveMQConnectionProvider implements
 
     try {
       this.eventProcessor = eventProcessor;
-      session = startJmsConnection(url).createSession(false, Session.AUTO_ACKNOWLEDGE);
+      session = createSession(url);
       consumer = session.createConsumer(session.createTopic(
           protocol.getTopicDefinition().getActualTopicName())
       );
       initListener();
       this.connected = true;
     } catch (JMSException e) {
+      releaseConnection();
       throw new SpRuntimeException("could not connect to activemq broker");
     }
   }
@@ -87,13 +88,15 @@ public class ActiveMQConsumer extends ActiveMQConnectionProvider implements
       this.connected = false;
     } catch (JMSException e) {
       throw new SpRuntimeException("could not disconnect from activemq broker");
+    } finally {
+      releaseConnection();
     }
 
   }
 
   @Override
   public boolean isConnected() {
-    return connected;
+    return connected && isConnectionHealthy();
   }
 
   @Override
@@ -22,13 +22,7 @@ import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.messaging.EventProducer;
 import org.apache.streampipes.model.grounding.JmsTransportProtocol;
 
-import org.apache.activemq.ActiveMQConnectionFactory;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import javax.jms.BytesMessage;
-import javax.jms.Connection;
-import javax.jms.ConnectionFactory;
 import javax.jms.DeliveryMode;
 import javax.jms.JMSException;
 import javax.jms.MessageProducer;
@@ -37,9 +31,6 @@ import javax.jms.Session;
 
 public class ActiveMQPublisher extends ActiveMQConnectionProvider implements EventProducer {
 
-  private static final Logger LOG = LoggerFactory.getLogger(ActiveMQPublisher.class);
-
-  private Connection connection;
   private Session session;
   private MessageProducer producer;
 
@@ -51,32 +42,19 @@ public class ActiveMQPublisher extends ActiveMQConnectionProvider implements Eve
 
   @Override
   public void connect() throws SpRuntimeException {
-
     String url = ActiveMQUtils.makeActiveMqUrl(protocol);
-    ConnectionFactory connectionFactory = new ActiveMQConnectionFactory(url);
-
-    boolean co = false;
-    do {
-      try {
-        this.connection = connectionFactory.createConnection();
-        co = true;
-      } catch (JMSException e) {
-        LOG.error("Trying to connect...", e);
-      }
-    } while (!co);
 
     try {
-      this.session = connection
-          .createSession(false, Session.AUTO_ACKNOWLEDGE);
+      this.session = createSession(url);
       this.producer = session.createProducer(session.createTopic(protocol
           .getTopicDefinition()
           .getActualTopicName()));
       this.producer.setDeliveryMode(DeliveryMode.NON_PERSISTENT);
-      this.connection.start();
       this.connected = true;
-    } catch (JMSException e) {
+    } catch (SpRuntimeException | JMSException e) {
+      releaseConnection();
       throw new SpRuntimeException("could not connect to activemq broker. Broker: '"
-          + protocol.getBrokerHostname() + "' Port: " + protocol.getPort());
+          + protocol.getBrokerHostname() + "' Port: " + protocol.getPort(), e);
     }
   }
 
@@ -97,16 +75,17 @@ public class ActiveMQPublisher extends ActiveMQConnectionProvider implements Eve
     try {
       producer.close();
       session.close();
-      connection.close();
       this.connected = false;
     } catch (JMSException e) {
       throw new SpRuntimeException("could not disconnect from activemq broker");
+    } finally {
+      releaseConnection();
     }
   }
 
   @Override
   public boolean isConnected() {
-    return connected;
+    return connected && isConnectionHealthy();
   }
 
 }
@@ -33,6 +33,7 @@ public class ProducerConfigFactory extends AbstractConfigFactory {
   private static final Integer LINGER_MS_DEFAULT = 20;
   private static final Integer BUFFER_MEMORY_CONFIG_DEFAULT = 33554432;
   private static final Integer MAX_REQUEST_SIZE_CONFIG_DEFAULT = 5000012;
+  private static final String COMPRESSION_TYPE_CONFIG_DEFAULT = "none";
 
   private static final String KEY_SERIALIZER_DEFAULT = StringSerializer.class.getName();
   private static final String VALUE_SERIALIZER_DEFAULT = ByteArraySerializer.class.getName();
@@ -56,6 +57,8 @@ public class ProducerConfigFactory extends AbstractConfigFactory {
     props.put(ProducerConfig.MAX_REQUEST_SIZE_CONFIG, getConfigOrDefault(protocol::getMaxRequestSize,
         MAX_REQUEST_SIZE_CONFIG_DEFAULT));
     props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, BUFFER_MEMORY_CONFIG_DEFAULT);
+    props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, getConfigOrDefault(protocol::getCompressionType,
+        COMPRESSION_TYPE_CONFIG_DEFAULT));
 
     props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, KEY_SERIALIZER_DEFAULT);
     props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, VALUE_SERIALIZER_DEFAULT);
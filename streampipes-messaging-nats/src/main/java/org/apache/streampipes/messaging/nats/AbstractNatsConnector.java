@@ -18,14 +18,12 @@
 
 package org.apache.streampipes.messaging.nats;
 
+import org.apache.streampipes.messaging.connection.SharedBrokerConnection;
 import org.apache.streampipes.model.grounding.NatsTransportProtocol;
 import org.apache.streampipes.model.nats.NatsConfig;
 
 import io.nats.client.Connection;
-import io.nats.client.Nats;
-import io.nats.client.Options;
 
-import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.TimeoutException;
 
@@ -34,15 +32,16 @@ public abstract class AbstractNatsConnector {
   protected Connection natsConnection;
   protected String subject;
 
-  protected void makeBrokerConnection(NatsConfig natsConfig) throws IOException, InterruptedException {
-    Options options = NatsUtils.makeNatsOptions(natsConfig);
-    this.natsConnection = Nats.connect(options);
+  private SharedBrokerConnection<Connection> sharedConnection;
+
+  protected void makeBrokerConnection(NatsConfig natsConfig) {
+    this.sharedConnection = NatsConnections.acquire(natsConfig);
+    this.natsConnection = sharedConnection.getConnection();
     this.subject = natsConfig.getSubject();
   }
 
-  protected void makeBrokerConnection(NatsTransportProtocol protocol) throws IOException, InterruptedException {
-    this.natsConnection = Nats.connect(makeBrokerUrl(protocol));
-    this.subject = protocol.getTopicDefinition().getActualTopicName();
+  protected void makeBrokerConnection(NatsTransportProtocol protocol) {
+    makeBrokerConnection(makeNatsConfig(protocol));
   }
 
   protected NatsConfig makeNatsConfig(NatsTransportProtocol protocol) {
@@ -54,8 +53,12 @@ public abstract class AbstractNatsConnector {
   }
 
   protected void disconnect() throws InterruptedException, TimeoutException {
-    natsConnection.flush(Duration.ofMillis(50));
-    natsConnection.close();
+    try {
+      natsConnection.flush(Duration.ofMillis(50));
+    } finally {
+      NatsConnections.release(sharedConnection);
+      sharedConnection = null;
+    }
   }
 
   private String makeBrokerUrl(NatsTransportProtocol protocolSettings) {
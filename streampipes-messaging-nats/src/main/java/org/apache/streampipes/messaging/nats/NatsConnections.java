@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.messaging.nats;
+
+import org.apache.streampipes.messaging.connection.BrokerConnectionProvider;
+import org.apache.streampipes.messaging.connection.SharedBrokerConnection;
+import org.apache.streampipes.messaging.connection.SharedBrokerConnections;
+import org.apache.streampipes.model.nats.NatsConfig;
+
+import io.nats.client.Connection;
+import io.nats.client.Nats;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Shares a single NATS {@link Connection} per server and credentials among all publishers and consumers of a
+ * service. Publishers and consumers must not close the connection themselves.
+ */
+public class NatsConnections {
+
+  private static final SharedBrokerConnections<ConnectionKey, Connection> CONNECTIONS =
+      new SharedBrokerConnections<>("nats", new NatsConnectionProvider(), ConnectionKey::natsUrls);
+
+  public static SharedBrokerConnection<Connection> acquire(NatsConfig natsConfig) {
+    return CONNECTIONS.acquire(ConnectionKey.from(natsConfig));
+  }
+
+  public static void release(SharedBrokerConnection<Connection> connection) {
+    if (connection != null) {
+      CONNECTIONS.release(connection);
+    }
+  }
+
+  private record ConnectionKey(String natsUrls,
+                               String username,
+                               String password,
+                               String properties) {
+
+    static ConnectionKey from(NatsConfig natsConfig) {
+      return new ConnectionKey(
+          natsConfig.getNatsUrls(),
+          natsConfig.getUsername(),
+          natsConfig.getPassword(),
+          natsConfig.getProperties()
+      );
+    }
+
+    NatsConfig toNatsConfig() {
+      var natsConfig = new NatsConfig();
+      natsConfig.setNatsUrls(natsUrls);
+      natsConfig.setUsername(username);
+      natsConfig.setPassword(password);
+      natsConfig.setProperties(properties);
+      return natsConfig;
+    }
+  }
+
+  private static class NatsConnectionProvider implements BrokerConnectionProvider<ConnectionKey, Connection> {
+
+    @Override
+    public Connection open(ConnectionKey key) throws IOException, InterruptedException {
+      return Nats.connect(NatsUtils.makeNatsOptions(key.toNatsConfig()));
+    }
+
+    @Override
+    public void close(Connection connection) throws InterruptedException, TimeoutException {
+      connection.flush(Duration.ofMillis(50));
+      connection.close();
+    }
+
+    @Override
+    public boolean isHealthy(Connection connection) {
+      return connection.getStatus() != Connection.Status.CLOSED;
+    }
+  }
+}
@@ -53,18 +53,15 @@ public class NatsConsumer extends AbstractNatsConnector implements EventConsumer
 
   @Override
   public void connect(InternalEventProcessor<byte[]> eventProcessor) throws SpRuntimeException {
-    try {
-      makeBrokerConnection(natsConfig);
-      createSubscription(eventProcessor);
-    } catch (IOException | InterruptedException e) {
-      throw new SpRuntimeException(e);
-    }
+    makeBrokerConnection(natsConfig);
+    createSubscription(eventProcessor);
   }
 
   @Override
   public void disconnect() throws SpRuntimeException {
     try {
       dispatcher.unsubscribe(this.subscription);
+      natsConnection.closeDispatcher(dispatcher);
       super.disconnect();
     } catch (InterruptedException | TimeoutException e) {
       e.printStackTrace();
@@ -24,7 +24,6 @@ import org.apache.streampipes.model.grounding.NatsTransportProtocol;
 
 import io.nats.client.Connection;
 
-import java.io.IOException;
 import java.util.concurrent.TimeoutException;
 
 public class NatsPublisher extends AbstractNatsConnector implements EventProducer {
@@ -37,11 +36,7 @@ public class NatsPublisher extends AbstractNatsConnector implements EventProduce
 
   @Override
   public void connect() throws SpRuntimeException {
-    try {
-      makeBrokerConnection(protocol);
-    } catch (IOException | InterruptedException e) {
-      e.printStackTrace();
-    }
+    makeBrokerConnection(protocol);
   }
 
   @Override
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.messaging.pulsar;
+
+import org.apache.streampipes.messaging.connection.BrokerConnectionProvider;
+import org.apache.streampipes.messaging.connection.SharedBrokerConnection;
+import org.apache.streampipes.messaging.connection.SharedBrokerConnections;
+import org.apache.streampipes.model.grounding.PulsarTransportProtocol;
+
+import org.apache.pulsar.client.api.PulsarClient;
+import org.apache.pulsar.client.api.PulsarClientException;
+
+import java.util.function.Function;
+
+/**
+ * Shares a single {@link PulsarClient} per service URL among all producers and consumers of a service.
+ */
+public class PulsarClients {
+
+  private static final String PULSAR_PROTOCOL = "pulsar://";
+
+  private static final SharedBrokerConnections<String, PulsarClient> CLIENTS =
+      new SharedBrokerConnections<>("pulsar", new PulsarClientProvider(), Function.identity());
+
+  public static SharedBrokerConnection<PulsarClient> acquire(PulsarTransportProtocol protocolSettings) {
+    return CLIENTS.acquire(makeServiceUrl(protocolSettings));
+  }
+
+  public static void release(SharedBrokerConnection<PulsarClient> client) {
+    if (client != null) {
+      CLIENTS.release(client);
+    }
+  }
+
+  private static String makeServiceUrl(PulsarTransportProtocol protocolSettings) {
+    String brokerHostname = protocolSettings.getBrokerHostname();
+    return brokerHostname.startsWith(PULSAR_PROTOCOL) ? brokerHostname : PULSAR_PROTOCOL + brokerHostname;
+  }
+
+  private static class PulsarClientProvider implements BrokerConnectionProvider<String, PulsarClient> {
+
+    @Override
+    public PulsarClient open(String serviceUrl) throws PulsarClientException {
+      return PulsarClient.builder()
+          .serviceUrl(serviceUrl)
+          .build();
+    }
+
+    @Override
+    public void close(PulsarClient client) throws PulsarClientException {
+      client.close();
+    }
+
+    @Override
+    public boolean isHealthy(PulsarClient client) {
+      return !client.isClosed();
+    }
+  }
+}
@@ -21,6 +21,7 @@ package org.apache.streampipes.messaging.pulsar;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.messaging.EventConsumer;
 import org.apache.streampipes.messaging.InternalEventProcessor;
+import org.apache.streampipes.messaging.connection.SharedBrokerConnection;
 import org.apache.streampipes.model.grounding.PulsarTransportProtocol;
 
 import org.apache.pulsar.client.api.Consumer;
@@ -31,7 +32,7 @@ import org.apache.pulsar.client.api.PulsarClientException;
 
 public class PulsarConsumer implements EventConsumer {
 
-  private PulsarClient pulsarClient;
+  private SharedBrokerConnection<PulsarClient> pulsarClient;
   private Consumer<byte[]> consumer;
   private PulsarTransportProtocol protocolSettings;
 
@@ -42,16 +43,8 @@ public class PulsarConsumer implements EventConsumer {
   @Override
   public void connect(InternalEventProcessor<byte[]> eventProcessor) throws SpRuntimeException {
     try {
-      String serviceURL = "";
-      if (!protocolSettings.getBrokerHostname().startsWith("pulsar://")) {
-        serviceURL = "pulsar://" + protocolSettings.getBrokerHostname();
-      } else {
-        serviceURL = protocolSettings.getBrokerHostname();
-      }
-      pulsarClient = PulsarClient.builder()
-          .serviceUrl(serviceURL)
-          .build();
-      consumer = pulsarClient.newConsumer()
+      pulsarClient = PulsarClients.acquire(protocolSettings);
+      consumer = pulsarClient.getConnection().newConsumer()
           .topic(protocolSettings.getTopicDefinition().getActualTopicName())
           .subscriptionName("streampipes")
           .messageListener(new MessageListener<byte[]>() {
@@ -62,6 +55,7 @@ public class PulsarConsumer implements EventConsumer {
           })
           .subscribe();
     } catch (PulsarClientException e) {
+      releaseClient();
       throw new SpRuntimeException(e);
     }
   }
@@ -69,10 +63,14 @@ public class PulsarConsumer implements EventConsumer {
   @Override
   public void disconnect() throws SpRuntimeException {
     try {
-      consumer.close();
-      pulsarClient.close();
+      if (consumer != null) {
+        consumer.close();
+      }
     } catch (PulsarClientException e) {
       // throw new SpRuntimeException(e);
+    } finally {
+      consumer = null;
+      releaseClient();
     }
   }
 
@@ -83,4 +81,9 @@ public class PulsarConsumer implements EventConsumer {
     }
     return consumer.isConnected();
   }
+
+  private void releaseClient() {
+    PulsarClients.release(pulsarClient);
+    pulsarClient = null;
+  }
 }
@@ -20,6 +20,7 @@ package org.apache.streampipes.messaging.pulsar;
 
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.messaging.EventProducer;
+import org.apache.streampipes.messaging.connection.SharedBrokerConnection;
 import org.apache.streampipes.model.grounding.PulsarTransportProtocol;
 
 import org.apache.pulsar.client.api.Producer;
@@ -30,7 +31,7 @@ import java.io.Serializable;
 
 public class PulsarProducer implements EventProducer, Serializable {
 
-  private PulsarClient pulsarClient;
+  private SharedBrokerConnection<PulsarClient> pulsarClient;
   private Producer<byte[]> producer;
   private PulsarTransportProtocol protocolSettings;
 
@@ -41,13 +42,12 @@ public class PulsarProducer implements EventProducer, Serializable {
   @Override
   public void connect() throws SpRuntimeException {
     try {
-      pulsarClient = PulsarClient.builder()
-          .serviceUrl(protocolSettings.getBrokerHostname())
-          .build();
-      producer = pulsarClient.newProducer()
+      pulsarClient = PulsarClients.acquire(protocolSettings);
+      producer = pulsarClient.getConnection().newProducer()
           .topic(protocolSettings.getTopicDefinition().getActualTopicName())
           .create();
     } catch (PulsarClientException e) {
+      releaseClient();
       throw new SpRuntimeException(e);
     }
   }
@@ -64,10 +64,14 @@ public class PulsarProducer implements EventProducer, Serializable {
   @Override
   public void disconnect() throws SpRuntimeException {
     try {
-      producer.close();
-      pulsarClient.close();
+      if (producer != null) {
+        producer.close();
+      }
     } catch (PulsarClientException e) {
       throw new SpRuntimeException(e);
+    } finally {
+      producer = null;
+      releaseClient();
     }
   }
 
@@ -75,4 +79,9 @@ public class PulsarProducer implements EventProducer, Serializable {
   public boolean isConnected() {
     return producer != null && producer.isConnected();
   }
+
+  private void releaseClient() {
+    PulsarClients.release(pulsarClient);
+    pulsarClient = null;
+  }
 }
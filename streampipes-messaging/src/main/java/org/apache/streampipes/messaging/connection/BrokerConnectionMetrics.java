@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.messaging.connection;
+
+import org.apache.streampipes.commons.prometheus.StreamPipesCollectorRegistry;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public class BrokerConnectionMetrics {
+
+  public static final Gauge OPEN_CONNECTIONS = StreamPipesCollectorRegistry.registerGauge(
+      "messaging_broker_connections_open",
+      "Number of physical broker connections opened by this service"
+  );
+
+  public static final Gauge CONNECTION_REFERENCES = StreamPipesCollectorRegistry.registerGauge(
+      "messaging_broker_connection_references",
+      "Number of producers and consumers using a shared broker connection"
+  );
+
+  public static final Counter FAILED_CONNECTIONS = StreamPipesCollectorRegistry.registerCounter(
+      "messaging_broker_connection_failures_total",
+      "Number of failed attempts to open a broker connection"
+  );
+
+  public static final Counter REPLACED_CONNECTIONS = StreamPipesCollectorRegistry.registerCounter(
+      "messaging_broker_connections_replaced_total",
+      "Number of unhealthy broker connections which were replaced by a new connection"
+  );
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.messaging.connection;
+
+/**
+ * A reference to a physical broker connection which is shared by several producers and consumers.
+ * Each reference must be released exactly once via {@link SharedBrokerConnections#release(SharedBrokerConnection)}.
+ *
+ * @param <ConnectionT> the type of the physical connection
+ */
+public class SharedBrokerConnection<ConnectionT> {
+
+  private final String brokerName;
+  private final ConnectionT connection;
+  private final BrokerConnectionProvider<?, ConnectionT> provider;
+  private int references;
+
+  SharedBrokerConnection(String brokerName,
+                         ConnectionT connection,
+                         BrokerConnectionProvider<?, ConnectionT> provider) {
+    this.brokerName = brokerName;
+    this.connection = connection;
+    this.provider = provider;
+  }
+
+  public ConnectionT getConnection() {
+    return connection;
+  }
+
+  public String getBrokerName() {
+    return brokerName;
+  }
+
+  public boolean isHealthy() {
+    return provider.isHealthy(connection);
+  }
+
+  int retain() {
+    return ++references;
+  }
+
+  int release() {
+    if (references == 0) {
+      throw new IllegalStateException("Connection to " + brokerName + " was already released");
+    }
+    return --references;
+  }
+
+  int getReferences() {
+    return references;
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.messaging.connection;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Registry of reference-counted broker connections of a single messaging protocol. All producers and consumers of an
+ * extensions service which target the same broker share one physical connection, which is closed as soon as the last
+ * reference is released. A connection which is no longer healthy is replaced for new references, while existing
+ * references keep the old connection until they are released.
+ *
+ * @param <K> the key identifying a broker, e.g., its URL
+ * @param <ConnectionT> the type of the physical connection
+ */
+public class SharedBrokerConnections<K, ConnectionT> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SharedBrokerConnections.class);
+
+  private final String protocolName;
+  private final BrokerConnectionProvider<K, ConnectionT> provider;
+  private final Function<K, String> brokerNameFunction;
+  private final Map<K, SharedBrokerConnection<ConnectionT>> connections;
+
+  public SharedBrokerConnections(String protocolName,
+                                 BrokerConnectionProvider<K, ConnectionT> provider,
+                                 Function<K, String> brokerNameFunction) {
+    this.protocolName = protocolName;
+    this.provider = provider;
+    this.brokerNameFunction = brokerNameFunction;
+    this.connections = new HashMap<>();
+  }
+
+  public synchronized SharedBrokerConnection<ConnectionT> acquire(K key) throws SpRuntimeException {
+    SharedBrokerConnection<ConnectionT> connection = connections.get(key);
+    if (connection != null && !connection.isHealthy()) {
+      LOG.warn("Replacing unhealthy {} connection to {}", protocolName, connection.getBrokerName());
+      connections.remove(key);
+      BrokerConnectionMetrics.REPLACED_CONNECTIONS.inc();
+      connection = null;
+    }
+
+    if (connection == null) {
+      connection = open(key);
+      connections.put(key, connection);
+    }
+
+    connection.retain();
+    BrokerConnectionMetrics.CONNECTION_REFERENCES.inc();
+    return connection;
+  }
+
+  public synchronized void release(SharedBrokerConnection<ConnectionT> connection) {
+    if (connection.getReferences() == 0) {
+      LOG.warn("Ignoring release of {} connection to {}, which was already released", protocolName,
+          connection.getBrokerName());
+      return;
+    }
+    BrokerConnectionMetrics.CONNECTION_REFERENCES.dec();
+    if (connection.release() > 0) {
+      return;
+    }
+
+    connections.values().remove(connection);
+    try {
+      provider.close(connection.getConnection());
+    } catch (Exception e) {
+      LOG.warn("Could not close {} connection to {}", protocolName, connection.getBrokerName(), e);
+    } finally {
+      BrokerConnectionMetrics.OPEN_CONNECTIONS.dec();
+    }
+  }
+
+  /**
+   * Reports the health of all connections currently handed out by this registry.
+   *
+   * @return the health of each connection, by broker name
+   */
+  public synchronized Map<String, Boolean> getConnectionHealth() {
+    Map<String, Boolean> health = new HashMap<>();
+    connections.values().forEach(connection -> health.put(connection.getBrokerName(), connection.isHealthy()));
+    return health;
+  }
+
+  private SharedBrokerConnection<ConnectionT> open(K key) {
+    String brokerName = brokerNameFunction.apply(key);
+    try {
+      ConnectionT connection = provider.open(key);
+      BrokerConnectionMetrics.OPEN_CONNECTIONS.inc();
+      LOG.info("Opened shared {} connection to {}", protocolName, brokerName);
+      return new SharedBrokerConnection<>(brokerName, connection, provider);
+    } catch (Exception e) {
+      BrokerConnectionMetrics.FAILED_CONNECTIONS.inc();
+      throw new SpRuntimeException("Could not connect to " + protocolName + " broker " + brokerName, e);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.apache.streampipes.messaging.connection;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class SharedBrokerConnectionsTest {
+
+  private static final String BROKER = "broker:1234";
+
+  private FakeConnectionProvider provider;
+  private SharedBrokerConnections<String, FakeConnection> connections;
+
+  @Before
+  public void setUp() {
+    provider = new FakeConnectionProvider();
+    connections = new SharedBrokerConnections<>("test", provider, Function.identity());
+  }
+
+  @Test
+  public void testConnectionIsSharedPerBroker() {
+    SharedBrokerConnection<FakeConnection> first = connections.acquire(BROKER);
+    SharedBrokerConnection<FakeConnection> second = connections.acquire(BROKER);
+    SharedBrokerConnection<FakeConnection> other = connections.acquire("other:1234");
+
+    assertSame(first, second);
+    assertNotSame(first.getConnection(), other.getConnection());
+    assertEquals(2, first.getReferences());
+    assertEquals(2, provider.opened.size());
+  }
+
+  @Test
+  public void testConnectionIsClosedWithLastReference() {
+    SharedBrokerConnection<FakeConnection> first = connections.acquire(BROKER);
+    SharedBrokerConnection<FakeConnection> second = connections.acquire(BROKER);
+
+    connections.release(first);
+    assertEquals(0, first.getConnection().closeCount);
+
+    connections.release(second);
+    assertEquals(1, first.getConnection().closeCount);
+    assertEquals(0, first.getReferences());
+    assertTrue(connections.getConnectionHealth().isEmpty());
+  }
+
+  @Test
+  public void testReleasingTooOftenDoesNotGoBelowZero() {
+    SharedBrokerConnection<FakeConnection> connection = connections.acquire(BROKER);
+
+    connections.release(connection);
+    connections.release(connection);
+
+    assertEquals(0, connection.getReferences());
+    assertEquals(1, connection.getConnection().closeCount);
+    assertThrows(IllegalStateException.class, connection::release);
+  }
+
+  @Test
+  public void testReleasedConnectionIsReopened() {
+    SharedBrokerConnection<FakeConnection> first = connections.acquire(BROKER);
+    connections.release(first);
+
+    SharedBrokerConnection<FakeConnection> second = connections.acquire(BROKER);
+
+    assertNotSame(first, second);
+    assertEquals(1, second.getReferences());
+    assertEquals(2, provider.opened.size());
+  }
+
+  @Test
+  public void testUnhealthyConnectionIsReplacedForNewReferences() {
+    SharedBrokerConnection<FakeConnection> first = connections.acquire(BROKER);
+    first.getConnection().healthy = false;
+
+    SharedBrokerConnection<FakeConnection> second = connections.acquire(BROKER);
+    connections.release(second);
+    assertEquals(1, second.getConnection().closeCount);
+    assertEquals(0, first.getConnection().closeCount);
+
+    connections.release(first);
+    assertEquals(1, first.getConnection().closeCount);
+  }
+
+  @Test
+  public void testFailedConnectIsNotShared() {
+    provider.failOpen = true;
+    assertThrows(SpRuntimeException.class, () -> connections.acquire(BROKER));
+
+    provider.failOpen = false;
+    SharedBrokerConnection<FakeConnection> connection = connections.acquire(BROKER);
+    assertEquals(1, connection.getReferences());
+  }
+
+  private static class FakeConnection {
+
+    private boolean healthy = true;
+    private int closeCount;
+  }
+
+  private static class FakeConnectionProvider implements BrokerConnectionProvider<String, FakeConnection> {
+
+    private final List<FakeConnection> opened = new ArrayList<>();
+    private boolean failOpen;
+
+    @Override
+    public FakeConnection open(String key) throws Exception {
+      if (failOpen) {
+        throw new Exception("Connection refused");
+      }
+      FakeConnection connection = new FakeConnection();
+      opened.add(connection);
+      return connection;
+    }
+
+    @Override
+    public void close(FakeConnection connection) {
+      connection.closeCount++;
+    }
+
+    @Override
+    public boolean isHealthy(FakeConnection connection) {
+      return connection.healthy;
+    }
+  }
+}
@@ -52,9 +52,12 @@ public class DefaultMessagingSettings {
         5000012,
         20,
         2,
-        Arrays.asList(SpDataFormat.JSON, SpDataFormat.CBOR, SpDataFormat.FST, SpDataFormat.SMILE),
+        Arrays.asList(SpDataFormat.JSON, SpDataFormat.CBOR, SpDataFormat.FST, SpDataFormat.SMILE,
+            SpDataFormat.POSITIONAL),
         protocolList);
 
+    defaultSettings.setCompression(SpCompression.fromValue(env.getTransportCompression().getValueOrDefault()));
+
     defaultSettings.setJmsHost("activemq");
     defaultSettings.setJmsPort(61616);
 
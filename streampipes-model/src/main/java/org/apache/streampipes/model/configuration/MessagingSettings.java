@@ -33,6 +33,8 @@ public class MessagingSettings {
   private List<SpDataFormat> prioritizedFormats;
   private List<SpProtocol> prioritizedProtocols;
 
+  private SpCompression compression;
+
   private String jmsHost;
   private int jmsPort;
 
@@ -119,6 +121,14 @@ public class MessagingSettings {
     this.prioritizedProtocols = prioritizedProtocols;
   }
 
+  public SpCompression getCompression() {
+    return compression;
+  }
+
+  public void setCompression(SpCompression compression) {
+    this.compression = compression;
+  }
+
   public String getJmsHost() {
     return jmsHost;
   }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.model.configuration;
+
+import org.apache.streampipes.vocabulary.CompressionFormat;
+
+import java.util.Arrays;
+
+public enum SpCompression {
+
+  NONE("None", null, "none"),
+  LZ4("LZ4", CompressionFormat.LZ4, "lz4"),
+  ZSTD("Zstandard", CompressionFormat.ZSTD, "zstd"),
+  SNAPPY("Snappy", CompressionFormat.SNAPPY, "snappy");
+
+  private final String name;
+  private final String compressionFormat;
+  private final String kafkaCompressionType;
+
+  SpCompression(String name,
+                String compressionFormat,
+                String kafkaCompressionType) {
+    this.name = name;
+    this.compressionFormat = compressionFormat;
+    this.kafkaCompressionType = kafkaCompressionType;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getCompressionFormat() {
+    return compressionFormat;
+  }
+
+  public String getKafkaCompressionType() {
+    return kafkaCompressionType;
+  }
+
+  public static boolean isCompressionFormat(String rdfType) {
+    return Arrays.stream(values())
+        .anyMatch(compression -> rdfType.equals(compression.compressionFormat));
+  }
+
+  public static SpCompression fromValue(String value) {
+    return Arrays.stream(values())
+        .filter(compression -> compression.kafkaCompressionType.equalsIgnoreCase(value))
+        .findFirst()
+        .orElse(NONE);
+  }
+}
@@ -31,6 +31,7 @@ public class FileMetadata {
   private String internalFilename;
   private String originalFilename;
   private String filetype;
+  private String fileHash;
 
   private long createdAt;
   private long lastModified;
@@ -100,4 +101,12 @@ public class FileMetadata {
   public void setFiletype(String filetype) {
     this.filetype = filetype;
   }
+
+  public String getFileHash() {
+    return fileHash;
+  }
+
+  public void setFileHash(String fileHash) {
+    this.fileHash = fileHash;
+  }
 }
@@ -38,6 +38,8 @@ public class KafkaTransportProtocol extends TransportProtocol {
 
   private String batchSize;
 
+  private String compressionType;
+
   private String offset;
 
   private String groupId;
@@ -64,6 +66,7 @@ public class KafkaTransportProtocol extends TransportProtocol {
     this.zookeeperPort = other.getZookeeperPort();
     this.acks = other.getAcks();
     this.batchSize = other.getBatchSize();
+    this.compressionType = other.getCompressionType();
     this.groupId = other.getGroupId();
     this.lingerMs = other.getLingerMs();
     this.maxRequestSize = other.getMaxRequestSize();
@@ -142,6 +145,14 @@ public class KafkaTransportProtocol extends TransportProtocol {
     this.batchSize = batchSize;
   }
 
+  public String getCompressionType() {
+    return compressionType;
+  }
+
+  public void setCompressionType(String compressionType) {
+    this.compressionType = compressionType;
+  }
+
   public String getOffset() {
     return offset;
   }
@@ -22,10 +22,25 @@ public class MessageCounter {
 
   private long lastTimestamp;
   private long counter = 0;
+  private long bytes = 0;
 
   public MessageCounter() {
   }
 
+  public MessageCounter(MessageCounter other) {
+    this.lastTimestamp = other.getLastTimestamp();
+    this.counter = other.getCounter();
+    this.bytes = other.getBytes();
+  }
+
+  public MessageCounter(long lastTimestamp,
+                        long counter,
+                        long bytes) {
+    this.lastTimestamp = lastTimestamp;
+    this.counter = counter;
+    this.bytes = bytes;
+  }
+
   public long getLastTimestamp() {
     return lastTimestamp;
   }
@@ -41,4 +56,12 @@ public class MessageCounter {
   public void setCounter(long counter) {
     this.counter = counter;
   }
+
+  public long getBytes() {
+    return bytes;
+  }
+
+  public void setBytes(long bytes) {
+    this.bytes = bytes;
+  }
 }
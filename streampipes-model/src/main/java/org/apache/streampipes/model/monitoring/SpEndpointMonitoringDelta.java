@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.model.monitoring;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Monitoring data pushed by an extensions service to the core.
+ * Unless {@link #isFullSnapshot()} is set, the metrics only contain the counter increments since the
+ * previous delta of the same service and the log infos only contain log entries which have not yet been sent.
+ */
+public class SpEndpointMonitoringDelta {
+
+  private String serviceId;
+  private long sequence;
+  private long timestamp;
+  private boolean fullSnapshot;
+  private Map<String, List<SpLogEntry>> logInfos;
+  private Map<String, SpMetricsEntry> metricsInfos;
+
+  public SpEndpointMonitoringDelta() {
+    this.logInfos = new HashMap<>();
+    this.metricsInfos = new HashMap<>();
+  }
+
+  public SpEndpointMonitoringDelta(String serviceId,
+                                   long sequence,
+                                   long timestamp,
+                                   boolean fullSnapshot,
+                                   Map<String, List<SpLogEntry>> logInfos,
+                                   Map<String, SpMetricsEntry> metricsInfos) {
+    this.serviceId = serviceId;
+    this.sequence = sequence;
+    this.timestamp = timestamp;
+    this.fullSnapshot = fullSnapshot;
+    this.logInfos = logInfos;
+    this.metricsInfos = metricsInfos;
+  }
+
+  public boolean hasContent() {
+    return fullSnapshot || !logInfos.isEmpty() || !metricsInfos.isEmpty();
+  }
+
+  public String getServiceId() {
+    return serviceId;
+  }
+
+  public void setServiceId(String serviceId) {
+    this.serviceId = serviceId;
+  }
+
+  public long getSequence() {
+    return sequence;
+  }
+
+  public void setSequence(long sequence) {
+    this.sequence = sequence;
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(long timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  public boolean isFullSnapshot() {
+    return fullSnapshot;
+  }
+
+  public void setFullSnapshot(boolean fullSnapshot) {
+    this.fullSnapshot = fullSnapshot;
+  }
+
+  public Map<String, List<SpLogEntry>> getLogInfos() {
+    return logInfos;
+  }
+
+  public void setLogInfos(Map<String, List<SpLogEntry>> logInfos) {
+    this.logInfos = logInfos;
+  }
+
+  public Map<String, SpMetricsEntry> getMetricsInfos() {
+    return metricsInfos;
+  }
+
+  public void setMetricsInfos(Map<String, SpMetricsEntry> metricsInfos) {
+    this.metricsInfos = metricsInfos;
+  }
+}
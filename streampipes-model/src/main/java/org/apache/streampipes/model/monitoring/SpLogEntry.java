@@ -20,6 +20,8 @@ package org.apache.streampipes.model.monitoring;
 
 import org.apache.streampipes.model.shared.annotation.TsModel;
 
+import java.util.Objects;
+
 @TsModel
 public class SpLogEntry {
 
@@ -61,4 +63,22 @@ public class SpLogEntry {
   public void setErrorMessage(SpLogMessage errorMessage) {
     this.errorMessage = errorMessage;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    SpLogEntry that = (SpLogEntry) o;
+    return timestamp == that.timestamp
+           && Objects.equals(errorMessage, that.errorMessage);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(timestamp, errorMessage);
+  }
 }
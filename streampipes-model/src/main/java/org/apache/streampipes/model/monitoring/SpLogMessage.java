@@ -22,6 +22,8 @@ import org.apache.streampipes.model.shared.annotation.TsModel;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
+import java.util.Objects;
+
 @TsModel
 public class SpLogMessage {
 
@@ -136,4 +138,25 @@ public class SpLogMessage {
   public void setCause(String cause) {
     this.cause = cause;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    SpLogMessage that = (SpLogMessage) o;
+    return level == that.level
+           && Objects.equals(title, that.title)
+           && Objects.equals(detail, that.detail)
+           && Objects.equals(cause, that.cause)
+           && Objects.equals(fullStackTrace, that.fullStackTrace);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(level, title, detail, cause, fullStackTrace);
+  }
 }
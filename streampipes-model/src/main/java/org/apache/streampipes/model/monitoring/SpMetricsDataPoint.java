@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.model.monitoring;
+
+import org.apache.streampipes.model.shared.annotation.TsModel;
+
+/**
+ * Cumulative message counts of a single pipeline element or adapter at a point in time.
+ */
+@TsModel
+public class SpMetricsDataPoint {
+
+  private long timestamp;
+  private long messagesIn;
+  private long messagesOut;
+  private long bytesIn;
+  private long bytesOut;
+
+  public SpMetricsDataPoint() {
+  }
+
+  public SpMetricsDataPoint(long timestamp,
+                            long messagesIn,
+                            long messagesOut,
+                            long bytesIn,
+                            long bytesOut) {
+    this.timestamp = timestamp;
+    this.messagesIn = messagesIn;
+    this.messagesOut = messagesOut;
+    this.bytesIn = bytesIn;
+    this.bytesOut = bytesOut;
+  }
+
+  public static SpMetricsDataPoint from(long timestamp,
+                                        SpMetricsEntry metricsEntry) {
+    var messagesIn = metricsEntry.getMessagesIn().values();
+    return new SpMetricsDataPoint(
+        timestamp,
+        messagesIn.stream().mapToLong(MessageCounter::getCounter).sum(),
+        metricsEntry.getMessagesOut().getCounter(),
+        messagesIn.stream().mapToLong(MessageCounter::getBytes).sum(),
+        metricsEntry.getMessagesOut().getBytes());
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(long timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  public long getMessagesIn() {
+    return messagesIn;
+  }
+
+  public void setMessagesIn(long messagesIn) {
+    this.messagesIn = messagesIn;
+  }
+
+  public long getMessagesOut() {
+    return messagesOut;
+  }
+
+  public void setMessagesOut(long messagesOut) {
+    this.messagesOut = messagesOut;
+  }
+
+  public long getBytesIn() {
+    return bytesIn;
+  }
+
+  public void setBytesIn(long bytesIn) {
+    this.bytesIn = bytesIn;
+  }
+
+  public long getBytesOut() {
+    return bytesOut;
+  }
+
+  public void setBytesOut(long bytesOut) {
+    this.bytesOut = bytesOut;
+  }
+}
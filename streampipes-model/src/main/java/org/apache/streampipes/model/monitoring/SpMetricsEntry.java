@@ -35,6 +35,13 @@ public class SpMetricsEntry {
     this.messagesOut = new MessageCounter();
   }
 
+  public SpMetricsEntry(SpMetricsEntry other) {
+    this.lastTimestamp = other.getLastTimestamp();
+    this.messagesIn = new HashMap<>();
+    other.getMessagesIn().forEach((key, value) -> this.messagesIn.put(key, new MessageCounter(value)));
+    this.messagesOut = new MessageCounter(other.getMessagesOut());
+  }
+
   public long getLastTimestamp() {
     return lastTimestamp;
   }
@@ -64,21 +71,101 @@ public class SpMetricsEntry {
     this.messagesOut.setCounter(this.messagesOut.getCounter() + 1);
   }
 
+  public void addOutMetrics(long lastTimestamp,
+                            long bytes) {
+    addOutMetrics(lastTimestamp);
+    this.messagesOut.setBytes(this.messagesOut.getBytes() + bytes);
+  }
+
   public void addInMetrics(String sourceInfo,
                            long lastTimestamp) {
-    if (!this.messagesIn.containsKey(sourceInfo)) {
-      this.messagesIn.put(sourceInfo, new MessageCounter());
-    }
-
-    var messagesIn = this.messagesIn.get(sourceInfo);
+    var messagesIn = getMessagesIn(sourceInfo);
     messagesIn.setCounter(messagesIn.getCounter() + 1);
     messagesIn.setLastTimestamp(lastTimestamp);
   }
 
+  public void addInBytes(String sourceInfo,
+                         long bytes) {
+    var messagesIn = getMessagesIn(sourceInfo);
+    messagesIn.setBytes(messagesIn.getBytes() + bytes);
+  }
+
+  /**
+   * Checks whether any counter is lower than in a previous state of the same entry,
+   * i.e., the counters were reset in the meantime.
+   */
+  public boolean isResetSince(SpMetricsEntry previous) {
+    if (messagesOut.getCounter() < previous.getMessagesOut().getCounter()
+        || messagesOut.getBytes() < previous.getMessagesOut().getBytes()) {
+      return true;
+    }
+    return previous.getMessagesIn().entrySet().stream().anyMatch(entry -> {
+      var current = messagesIn.get(entry.getKey());
+      return current == null
+          || current.getCounter() < entry.getValue().getCounter()
+          || current.getBytes() < entry.getValue().getBytes();
+    });
+  }
+
+  /**
+   * Computes the counter increments since a previous state of the same entry.
+   * Only input sources with new messages are contained in the result.
+   */
+  public SpMetricsEntry incrementSince(SpMetricsEntry previous) {
+    var increment = new SpMetricsEntry();
+    increment.setLastTimestamp(lastTimestamp);
+    messagesIn.forEach((key, value) -> {
+      var before = previous.getMessagesIn().getOrDefault(key, new MessageCounter());
+      if (value.getCounter() != before.getCounter() || value.getBytes() != before.getBytes()) {
+        increment.getMessagesIn().put(key, new MessageCounter(
+            value.getLastTimestamp(),
+            value.getCounter() - before.getCounter(),
+            value.getBytes() - before.getBytes()));
+      }
+    });
+    var outBefore = previous.getMessagesOut();
+    increment.setMessagesOut(new MessageCounter(
+        messagesOut.getLastTimestamp(),
+        messagesOut.getCounter() - outBefore.getCounter(),
+        messagesOut.getBytes() - outBefore.getBytes()));
+    return increment;
+  }
+
+  /**
+   * Adds the counter increments computed by {@link #incrementSince(SpMetricsEntry)} to this entry.
+   */
+  public void addIncrement(SpMetricsEntry increment) {
+    this.lastTimestamp = Math.max(lastTimestamp, increment.getLastTimestamp());
+    increment.getMessagesIn().forEach((key, value) -> {
+      var messagesIn = getMessagesIn(key);
+      messagesIn.setCounter(messagesIn.getCounter() + value.getCounter());
+      messagesIn.setBytes(messagesIn.getBytes() + value.getBytes());
+      messagesIn.setLastTimestamp(Math.max(messagesIn.getLastTimestamp(), value.getLastTimestamp()));
+    });
+    var out = increment.getMessagesOut();
+    messagesOut.setCounter(messagesOut.getCounter() + out.getCounter());
+    messagesOut.setBytes(messagesOut.getBytes() + out.getBytes());
+    messagesOut.setLastTimestamp(Math.max(messagesOut.getLastTimestamp(), out.getLastTimestamp()));
+  }
+
+  public boolean hasMessages() {
+    return messagesOut.getCounter() > 0
+        || messagesOut.getBytes() > 0
+        || messagesIn.values().stream().anyMatch(counter -> counter.getCounter() > 0 || counter.getBytes() > 0);
+  }
+
   public void reset() {
     this.lastTimestamp = 0;
     this.messagesIn.clear();
     this.messagesOut.setCounter(0);
+    this.messagesOut.setBytes(0);
     this.messagesOut.setLastTimestamp(0);
   }
+
+  private MessageCounter getMessagesIn(String sourceInfo) {
+    if (!this.messagesIn.containsKey(sourceInfo)) {
+      this.messagesIn.put(sourceInfo, new MessageCounter());
+    }
+    return this.messagesIn.get(sourceInfo);
+  }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.model.monitoring;
+
+/**
+ * Answer of the core to a pushed {@link SpEndpointMonitoringDelta}.
+ * If a resync is required, the core could not apply the delta and expects a full snapshot with the next push.
+ */
+public class SpMonitoringDeltaResult {
+
+  private boolean resyncRequired;
+
+  public SpMonitoringDeltaResult() {
+  }
+
+  public SpMonitoringDeltaResult(boolean resyncRequired) {
+    this.resyncRequired = resyncRequired;
+  }
+
+  public static SpMonitoringDeltaResult applied() {
+    return new SpMonitoringDeltaResult(false);
+  }
+
+  public static SpMonitoringDeltaResult resync() {
+    return new SpMonitoringDeltaResult(true);
+  }
+
+  public boolean isResyncRequired() {
+    return resyncRequired;
+  }
+
+  public void setResyncRequired(boolean resyncRequired) {
+    this.resyncRequired = resyncRequired;
+  }
+}
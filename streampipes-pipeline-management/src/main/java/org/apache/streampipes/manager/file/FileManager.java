@@ -22,18 +22,27 @@ import org.apache.streampipes.sdk.helpers.Filetypes;
 import org.apache.streampipes.storage.api.IFileMetadataStorage;
 import org.apache.streampipes.storage.management.StorageDispatcher;
 
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.input.BOMInputStream;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.DigestInputStream;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class FileManager {
 
+  private static final Map<String, String> FILE_HASHES = new ConcurrentHashMap<>();
+
   public static List<FileMetadata> getAllFiles() {
     return getAllFiles(null);
   }
@@ -58,11 +67,14 @@ public class FileManager {
 
     String filetype = filename.substring(filename.lastIndexOf(".") + 1);
 
-    fileInputStream = cleanFile(fileInputStream, filetype);
+    DigestInputStream digestInputStream =
+        new DigestInputStream(cleanFile(fileInputStream, filetype), DigestUtils.getSha256Digest());
 
     String internalFilename = makeInternalFilename(filetype);
     FileMetadata fileMetadata = makeFileMetadata(user, filename, internalFilename, filetype);
-    new FileHandler().storeFile(internalFilename, fileInputStream);
+    new FileHandler().storeFile(internalFilename, digestInputStream);
+    fileMetadata.setFileHash(Hex.encodeHexString(digestInputStream.getMessageDigest().digest()));
+    FILE_HASHES.put(internalFilename, fileMetadata.getFileHash());
     storeFileMetadata(fileMetadata);
     return fileMetadata;
   }
@@ -70,6 +82,7 @@ public class FileManager {
   public static void deleteFile(String id) {
     FileMetadata fileMetadata = getFileMetadataStorage().getMetadataById(id);
     new FileHandler().deleteFile(fileMetadata.getInternalFilename());
+    FILE_HASHES.remove(fileMetadata.getInternalFilename());
     getFileMetadataStorage().deleteFileMetadata(id);
   }
 
@@ -77,6 +90,38 @@ public class FileManager {
     return new FileHandler().getFile(filename);
   }
 
+  /**
+   * Returns the sha256 hex digest of the content of a stored file, which is used as entity tag when serving it.
+   * Files uploaded before the digest was part of the file metadata are hashed once on first access.
+   *
+   * @param filename the internal filename
+   * @return the digest or null if the file does not exist
+   */
+  public static String getFileHash(String filename) {
+    return FILE_HASHES.computeIfAbsent(filename, FileManager::loadFileHash);
+  }
+
+  private static String loadFileHash(String filename) {
+    return getAllFiles()
+        .stream()
+        .filter(fileMetadata -> filename.equals(fileMetadata.getInternalFilename()))
+        .map(FileMetadata::getFileHash)
+        .filter(Objects::nonNull)
+        .findFirst()
+        .orElseGet(() -> hashFileContent(getFile(filename)));
+  }
+
+  private static String hashFileContent(File file) {
+    if (!file.exists()) {
+      return null;
+    }
+    try (InputStream in = new FileInputStream(file)) {
+      return DigestUtils.sha256Hex(in);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
   /**
    * Remove Byte Order Mark (BOM) from csv files
    *
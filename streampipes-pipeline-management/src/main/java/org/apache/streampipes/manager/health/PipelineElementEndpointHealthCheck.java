@@ -37,7 +37,9 @@ public class PipelineElementEndpointHealthCheck {
   }
 
   public List<String> checkRunningInstances() throws IOException {
-    var request = ExtensionServiceExecutions.extServiceGetRequest(makeRequestUrl());
+    var request = ExtensionServiceExecutions.extServiceGetRequest(makeRequestUrl())
+        .connectTimeout(ServiceHealthCheck.PROBE_TIMEOUT_MS)
+        .socketTimeout(ServiceHealthCheck.PROBE_TIMEOUT_MS);
     return asList(request.execute().returnContent().toString());
   }
 
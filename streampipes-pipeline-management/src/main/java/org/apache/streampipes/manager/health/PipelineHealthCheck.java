@@ -42,6 +42,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -188,16 +190,27 @@ public class PipelineHealthCheck implements Runnable {
 
 
   private List<String> findRunningInstances(Set<String> endpoints) {
-    List<String> allRunningInstances = new ArrayList<>();
-    endpoints.forEach(endpoint -> {
-      try {
-        allRunningInstances.addAll(new PipelineElementEndpointHealthCheck(endpoint).checkRunningInstances());
-      } catch (IOException e) {
-        LOG.error("Pipeline element endpoint {} is unavailable", endpoint);
-      }
-    });
-
-    return allRunningInstances;
+    var requests = endpoints
+        .stream()
+        .map(endpoint -> CompletableFuture.supplyAsync(() -> {
+          try {
+            return new PipelineElementEndpointHealthCheck(endpoint).checkRunningInstances();
+          } catch (IOException e) {
+            LOG.error("Pipeline element endpoint {} is unavailable", endpoint);
+            return List.<String>of();
+          }
+        }, ServiceHealthCheck.PROBE_EXECUTOR)
+            .orTimeout(2L * ServiceHealthCheck.PROBE_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+            .exceptionally(e -> {
+              LOG.error("Pipeline element endpoint {} did not respond in time", endpoint);
+              return List.of();
+            }))
+        .toList();
+
+    return requests
+        .stream()
+        .flatMap(request -> request.join().stream())
+        .collect(Collectors.toList());
   }
 
   private Map<String, List<InvocableStreamPipesEntity>> generateEndpointMap() {
@@ -19,6 +19,7 @@
 package org.apache.streampipes.manager.health;
 
 import org.apache.streampipes.manager.execution.ExtensionServiceExecutions;
+import org.apache.streampipes.manager.monitoring.pipeline.ExtensionsLogProvider;
 import org.apache.streampipes.model.extensions.svcdiscovery.SpServiceRegistration;
 import org.apache.streampipes.storage.api.CRUDStorage;
 import org.apache.streampipes.storage.management.StorageDispatcher;
@@ -28,12 +29,31 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Updates the health state of registered extensions services.
+ * Services which recently sent a heartbeat are considered healthy, all other services are probed
+ * concurrently with a short timeout. The storage is only updated if the health state of a service changes.
+ */
 public class ServiceHealthCheck implements Runnable {
 
   private static final Logger LOG = LoggerFactory.getLogger(ServiceHealthCheck.class);
 
   private static final int MAX_UNHEALTHY_DURATION_BEFORE_REMOVAL_MS = 60000;
+  static final int PROBE_TIMEOUT_MS = 2000;
+  private static final int PROBE_THREADS = 16;
+
+  static final ExecutorService PROBE_EXECUTOR = Executors.newFixedThreadPool(PROBE_THREADS, r -> {
+    Thread thread = new Thread(r, "sp-service-probe");
+    thread.setDaemon(true);
+    return thread;
+  });
 
   private final CRUDStorage<String, SpServiceRegistration> storage;
 
@@ -44,25 +64,56 @@ public class ServiceHealthCheck implements Runnable {
   @Override
   public void run() {
     var registeredServices = getRegisteredServices();
-    registeredServices.forEach(this::checkServiceHealth);
+    var currentTimeMillis = System.currentTimeMillis();
+    ServiceLivenessTracker.INSTANCE.retainServices(
+        registeredServices.stream().map(SpServiceRegistration::getSvcId).toList());
+
+    Map<Boolean, List<SpServiceRegistration>> servicesByHeartbeat = registeredServices
+        .stream()
+        .collect(Collectors.partitioningBy(service ->
+            ServiceLivenessTracker.INSTANCE.hasRecentHeartbeat(service.getSvcId(), currentTimeMillis)));
+
+    servicesByHeartbeat.get(true).forEach(this::processHealthyService);
+
+    var probes = servicesByHeartbeat.get(false)
+        .stream()
+        .collect(Collectors.toMap(service -> service, this::probeAsync));
+    CompletableFuture.allOf(probes.values().toArray(new CompletableFuture[0])).join();
+
+    probes.forEach((service, probe) -> {
+      if (probe.join()) {
+        processHealthyService(service);
+      } else {
+        processUnhealthyService(service);
+      }
+    });
+  }
+
+  private CompletableFuture<Boolean> probeAsync(SpServiceRegistration service) {
+    return CompletableFuture
+        .supplyAsync(() -> isServiceResponding(service), PROBE_EXECUTOR)
+        .completeOnTimeout(false, 2L * PROBE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
   }
 
-  private void checkServiceHealth(SpServiceRegistration service) {
+  private boolean isServiceResponding(SpServiceRegistration service) {
     String healthCheckUrl = makeHealthCheckUrl(service);
 
     try {
-      var request = ExtensionServiceExecutions.extServiceGetRequest(healthCheckUrl);
+      var request = ExtensionServiceExecutions.extServiceGetRequest(healthCheckUrl)
+          .connectTimeout(PROBE_TIMEOUT_MS)
+          .socketTimeout(PROBE_TIMEOUT_MS);
       var response = request.execute();
-      if (response.returnResponse().getStatusLine().getStatusCode() != 200) {
-        processUnhealthyService(service);
-      } else {
-        if (!service.isHealthy()) {
-          service.setHealthy(true);
-          updateService(service);
-        }
-      }
+      return response.returnResponse().getStatusLine().getStatusCode() == 200;
     } catch (IOException e) {
-      processUnhealthyService(service);
+      return false;
+    }
+  }
+
+  private void processHealthyService(SpServiceRegistration service) {
+    if (!service.isHealthy()) {
+      LOG.info("Service {} is available again.", service.getSvcId());
+      service.setHealthy(true);
+      updateService(service);
     }
   }
 
@@ -76,6 +127,8 @@ public class ServiceHealthCheck implements Runnable {
       LOG.info("Removing service {} which has been unhealthy for more than {} seconds.",
           service.getSvcId(), MAX_UNHEALTHY_DURATION_BEFORE_REMOVAL_MS / 1000);
       storage.deleteElement(service);
+      ServiceLivenessTracker.INSTANCE.remove(service.getSvcId());
+      ExtensionsLogProvider.INSTANCE.removeService(service.getSvcId());
     }
   }
 
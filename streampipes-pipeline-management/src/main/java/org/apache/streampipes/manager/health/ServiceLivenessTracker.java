@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.health;
+
+import org.apache.streampipes.commons.environment.Environments;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the heartbeats of registered extensions services in memory.
+ * Services with a recent heartbeat are considered alive without being probed by the {@link ServiceHealthCheck}.
+ * Services send their heartbeat interval along with each heartbeat, the core's own interval is only used
+ * for services which do not report one.
+ */
+public enum ServiceLivenessTracker {
+
+  INSTANCE;
+
+  private static final int MISSED_HEARTBEATS_BEFORE_PROBE = 3;
+
+  private final Map<String, Heartbeat> lastHeartbeats = new ConcurrentHashMap<>();
+  private final long defaultHeartbeatIntervalMs;
+
+  ServiceLivenessTracker() {
+    this.defaultHeartbeatIntervalMs = Environments.getEnvironment().getHeartbeatIntervalMs().getValueOrDefault();
+  }
+
+  /**
+   * Records a heartbeat of a service.
+   *
+   * @param serviceId           the id of the service
+   * @param heartbeatIntervalMs the heartbeat interval reported by the service, or null if it did not report one
+   */
+  public void recordHeartbeat(String serviceId,
+                              Long heartbeatIntervalMs) {
+    long intervalMs = heartbeatIntervalMs != null && heartbeatIntervalMs > 0
+        ? heartbeatIntervalMs
+        : defaultHeartbeatIntervalMs;
+    lastHeartbeats.put(serviceId, new Heartbeat(
+        System.currentTimeMillis(),
+        Math.max(intervalMs, 0) * MISSED_HEARTBEATS_BEFORE_PROBE));
+  }
+
+  /**
+   * Checks whether a heartbeat of the service was received recently enough to consider it alive without probing.
+   */
+  public boolean hasRecentHeartbeat(String serviceId,
+                                    long currentTimeMillis) {
+    Heartbeat lastHeartbeat = lastHeartbeats.get(serviceId);
+    return lastHeartbeat != null && currentTimeMillis - lastHeartbeat.timestamp() <= lastHeartbeat.timeoutMs();
+  }
+
+  /**
+   * Removes the state of all services which are no longer registered.
+   */
+  public void retainServices(Collection<String> serviceIds) {
+    lastHeartbeats.keySet().retainAll(serviceIds);
+  }
+
+  public void remove(String serviceId) {
+    lastHeartbeats.remove(serviceId);
+  }
+
+  private record Heartbeat(long timestamp,
+                           long timeoutMs) {
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.matching;
+
+import org.apache.streampipes.model.SpDataStream;
+import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
+import org.apache.streampipes.model.base.NamedStreamPipesEntity;
+import org.apache.streampipes.model.configuration.SpCompression;
+import org.apache.streampipes.model.grounding.KafkaTransportProtocol;
+import org.apache.streampipes.model.grounding.TransportFormat;
+import org.apache.streampipes.model.grounding.TransportProtocol;
+import org.apache.streampipes.storage.management.StorageDispatcher;
+
+import java.net.URI;
+import java.util.Set;
+
+/**
+ * Applies the compression configured in the messaging settings to the grounding of a pipeline element output.
+ * Kafka compresses record batches natively, so for Kafka topics only the producer configuration is changed.
+ * For all other protocols, the payload is compressed if the source and all targets support the compression.
+ */
+public class CompressionSelector extends GroundingSelector {
+
+  public CompressionSelector(NamedStreamPipesEntity source, Set<InvocableStreamPipesEntity> targets) {
+    super(source, targets);
+  }
+
+  public void applyCompression(TransportProtocol protocol,
+                               TransportFormat format) {
+    SpCompression compression = getCompression();
+    if (source instanceof SpDataStream || compression == SpCompression.NONE) {
+      return;
+    }
+
+    if (protocol instanceof KafkaTransportProtocol) {
+      ((KafkaTransportProtocol) protocol).setCompressionType(compression.getKafkaCompressionType());
+    } else if (new FormatSelector(source, targets).supportsFormat(compression.getCompressionFormat())) {
+      format.getRdfType().add(URI.create(compression.getCompressionFormat()));
+    }
+  }
+
+  private SpCompression getCompression() {
+    SpCompression compression = StorageDispatcher
+        .INSTANCE
+        .getNoSqlStore()
+        .getSpCoreConfigurationStorage()
+        .get()
+        .getMessagingSettings()
+        .getCompression();
+
+    return compression != null ? compression : SpCompression.NONE;
+  }
+}
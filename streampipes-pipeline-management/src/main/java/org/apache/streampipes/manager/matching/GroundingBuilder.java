@@ -39,8 +39,11 @@ public class GroundingBuilder {
 
   public EventGrounding getEventGrounding() {
     EventGrounding grounding = new EventGrounding();
-    grounding.setTransportFormats(Collections.singletonList(getFormat()));
-    grounding.setTransportProtocols(Collections.singletonList(getProtocol()));
+    TransportFormat format = getFormat();
+    TransportProtocol protocol = getProtocol();
+    new CompressionSelector(source, targets).applyCompression(protocol, format);
+    grounding.setTransportFormats(Collections.singletonList(format));
+    grounding.setTransportProtocols(Collections.singletonList(protocol));
     return grounding;
   }
 
@@ -21,8 +21,10 @@ package org.apache.streampipes.manager.matching.v2;
 import org.apache.streampipes.manager.matching.v2.utils.MatchingUtils;
 import org.apache.streampipes.model.client.matching.MatchingResultMessage;
 import org.apache.streampipes.model.client.matching.MatchingResultType;
+import org.apache.streampipes.model.configuration.SpCompression;
 import org.apache.streampipes.model.grounding.TransportFormat;
 
+import java.net.URI;
 import java.util.List;
 
 public class FormatMatch extends AbstractMatcher<TransportFormat, TransportFormat> {
@@ -33,8 +35,23 @@ public class FormatMatch extends AbstractMatcher<TransportFormat, TransportForma
 
   @Override
   public boolean match(TransportFormat offer, TransportFormat requirement, List<MatchingResultMessage> errorLog) {
-    return MatchingUtils.nullCheck(offer, requirement)
-        || requirement.getRdfType().containsAll(offer.getRdfType());
+    if (MatchingUtils.nullCheck(offer, requirement)) {
+      return true;
+    }
+    List<URI> offeredFormats = withoutCompression(offer.getRdfType());
+    return (!offeredFormats.isEmpty() || offer.getRdfType().isEmpty())
+        && requirement.getRdfType().containsAll(offeredFormats);
+  }
 
+  /**
+   * Compressions are negotiated separately by the grounding builder, so only the message format of an
+   * offered transport format needs to be supported. A transport format which solely declares a
+   * compression does not match any requirement.
+   */
+  private List<URI> withoutCompression(List<URI> rdfTypes) {
+    return rdfTypes
+        .stream()
+        .filter(rdfType -> !SpCompression.isCompressionFormat(rdfType.toString()))
+        .toList();
   }
 }
@@ -18,18 +18,24 @@
 
 package org.apache.streampipes.manager.monitoring.pipeline;
 
+import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.manager.pipeline.PipelineManager;
 import org.apache.streampipes.model.base.NamedStreamPipesEntity;
+import org.apache.streampipes.model.monitoring.SpEndpointMonitoringDelta;
 import org.apache.streampipes.model.monitoring.SpEndpointMonitoringInfo;
 import org.apache.streampipes.model.monitoring.SpLogEntry;
+import org.apache.streampipes.model.monitoring.SpMetricsDataPoint;
 import org.apache.streampipes.model.monitoring.SpMetricsEntry;
+import org.apache.streampipes.model.monitoring.SpMonitoringDeltaResult;
 import org.apache.streampipes.model.pipeline.Pipeline;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -38,19 +44,101 @@ public enum ExtensionsLogProvider {
   INSTANCE;
 
   private static final int MAX_ITEMS = 50;
+  private static final int MAX_HISTORY_ITEMS = 720;
+  private static final int MAX_MISSED_PUSH_INTERVALS = 4;
 
-  private final Map<String, List<SpLogEntry>> allLogInfos = new HashMap<>();
-  private final Map<String, SpMetricsEntry> allMetricsInfos = new HashMap<>();
+  private final Map<String, List<SpLogEntry>> allLogInfos = new ConcurrentHashMap<>();
+  private final Map<String, SpMetricsEntry> allMetricsInfos = new ConcurrentHashMap<>();
+  private final Map<String, Deque<SpMetricsDataPoint>> metricsHistory = new ConcurrentHashMap<>();
+  private final Map<String, Long> pushSequences = new ConcurrentHashMap<>();
+  private final Map<String, Long> lastPushTimes = new ConcurrentHashMap<>();
 
-  public void addMonitoringInfos(SpEndpointMonitoringInfo monitoringInfo) {
+  // services push with their own SP_MONITORING_PUSH_INTERVAL_MS, which is expected to match the core's value
+  private final long pushTimeoutMs = MAX_MISSED_PUSH_INTERVALS
+      * (long) Environments.getEnvironment().getMonitoringPushIntervalMs().getValueOrDefault();
+
+  public synchronized void addMonitoringInfos(SpEndpointMonitoringInfo monitoringInfo) {
     allMetricsInfos.putAll(monitoringInfo.getMetricsInfos());
-    monitoringInfo.getLogInfos().forEach((key, value) -> {
+    addLogInfos(monitoringInfo.getLogInfos());
+    addHistory(monitoringInfo.getMetricsInfos().keySet(), System.currentTimeMillis());
+  }
+
+  /**
+   * Applies a monitoring delta pushed by an extensions service.
+   * Increments are only applied if they directly follow the last delta of the service,
+   * otherwise the service is asked to send a full snapshot.
+   *
+   * @param delta the pushed delta
+   * @return the result indicating whether a full snapshot is required
+   */
+  public synchronized SpMonitoringDeltaResult applyMonitoringDelta(SpEndpointMonitoringDelta delta) {
+    Long lastSequence = pushSequences.get(delta.getServiceId());
+    if (!delta.isFullSnapshot() && (lastSequence == null || delta.getSequence() != lastSequence + 1)) {
+      return SpMonitoringDeltaResult.resync();
+    }
+
+    if (delta.isFullSnapshot()) {
+      allMetricsInfos.putAll(delta.getMetricsInfos());
+    } else {
+      delta.getMetricsInfos().forEach((key, value) ->
+          allMetricsInfos.computeIfAbsent(key, k -> new SpMetricsEntry()).addIncrement(value));
+    }
+    addLogInfos(delta.getLogInfos());
+    addHistory(delta.getMetricsInfos().keySet(), System.currentTimeMillis());
+    pushSequences.put(delta.getServiceId(), delta.getSequence());
+    lastPushTimes.put(delta.getServiceId(), System.currentTimeMillis());
+
+    return SpMonitoringDeltaResult.applied();
+  }
+
+  /**
+   * Checks whether an extensions service pushes its monitoring data, so that it does not need to be polled.
+   * A service which did not push for several push intervals is polled again, and needs to send a full
+   * snapshot before its increments are applied again.
+   */
+  public boolean isPushingService(String serviceId) {
+    return isPushingService(serviceId, System.currentTimeMillis());
+  }
+
+  synchronized boolean isPushingService(String serviceId,
+                                        long now) {
+    Long lastPushTime = lastPushTimes.get(serviceId);
+    if (lastPushTime == null) {
+      return false;
+    }
+    if (now - lastPushTime > pushTimeoutMs) {
+      removeService(serviceId);
+      return false;
+    }
+    return true;
+  }
+
+  public synchronized void removeService(String serviceId) {
+    pushSequences.remove(serviceId);
+    lastPushTimes.remove(serviceId);
+  }
+
+  private void addHistory(Iterable<String> resourceIds,
+                          long timestamp) {
+    resourceIds.forEach(resourceId -> {
+      var history = metricsHistory.computeIfAbsent(resourceId, k -> new ArrayDeque<>());
+      history.addLast(SpMetricsDataPoint.from(timestamp, allMetricsInfos.get(resourceId)));
+      if (history.size() > MAX_HISTORY_ITEMS) {
+        history.removeFirst();
+      }
+    });
+  }
+
+  private void addLogInfos(Map<String, List<SpLogEntry>> logInfos) {
+    logInfos.forEach((key, value) -> {
       if (!allLogInfos.containsKey(key)) {
         allLogInfos.put(key, new ArrayList<>());
       }
 
       var infos = allLogInfos.get(key);
-      infos.addAll(0, value);
+      // services resend retained entries in snapshots, in polled infos and after a lost acknowledgement
+      var newEntries = value.stream().filter(entry -> !infos.contains(entry)).toList();
+      infos.addAll(0, newEntries);
 
       if (infos.size() > MAX_ITEMS) {
         int numElementsToRemove = infos.size() - MAX_ITEMS;
@@ -82,6 +170,22 @@ public enum ExtensionsLogProvider {
     return getLogInfosForPipeline(pipeline);
   }
 
+  /**
+   * Returns the recorded cumulative message counts of a resource, oldest first.
+   */
+  public synchronized List<SpMetricsDataPoint> getMetricsHistoryForResource(String resourceId) {
+    return new ArrayList<>(metricsHistory.getOrDefault(resourceId, new ArrayDeque<>()));
+  }
+
+  public synchronized Map<String, List<SpMetricsDataPoint>> getMetricsHistoryForPipeline(String pipelineId) {
+    var pipeline = PipelineManager.getPipeline(pipelineId);
+
+    return getInfosForPipeline(metricsHistory, pipeline)
+        .entrySet()
+        .stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> new ArrayList<>(entry.getValue())));
+  }
+
   public List<SpLogEntry> getLogInfosForResource(String resourceId) {
     return allLogInfos.getOrDefault(resourceId, Collections.emptyList());
   }
@@ -100,18 +204,20 @@ public enum ExtensionsLogProvider {
     return getInfosForPipeline(allMetricsInfos, pipeline);
   }
 
-  public void reset(String resourceId) {
+  public synchronized void reset(String resourceId) {
     if (allMetricsInfos.containsKey(resourceId)) {
       allMetricsInfos.get(resourceId).reset();
     }
     if (allLogInfos.containsKey(resourceId)) {
       allLogInfos.get(resourceId).clear();
     }
+    this.metricsHistory.remove(resourceId);
   }
 
-  public void remove(String resourceId) {
+  public synchronized void remove(String resourceId) {
     this.allMetricsInfos.remove(resourceId);
     this.allLogInfos.remove(resourceId);
+    this.metricsHistory.remove(resourceId);
   }
 
   public Map<String, SpMetricsEntry> getAllMetricsInfos(){
@@ -24,14 +24,14 @@ import org.apache.streampipes.commons.prometheus.pipelines.PipelineFlowStats;
 import org.apache.streampipes.manager.execution.ExtensionServiceExecutions;
 import org.apache.streampipes.model.client.user.Principal;
 import org.apache.streampipes.model.connect.adapter.AdapterDescription;
+import org.apache.streampipes.model.extensions.svcdiscovery.SpServiceRegistration;
 import org.apache.streampipes.model.graph.DataProcessorInvocation;
 import org.apache.streampipes.model.graph.DataSinkInvocation;
 import org.apache.streampipes.model.monitoring.SpEndpointMonitoringInfo;
 import org.apache.streampipes.resource.management.SpResourceManager;
 import org.apache.streampipes.serializers.json.JacksonSerializer;
-import org.apache.streampipes.svcdiscovery.SpServiceDiscovery;
+import org.apache.streampipes.storage.management.StorageDispatcher;
 import org.apache.streampipes.svcdiscovery.api.model.DefaultSpServiceTags;
-import org.apache.streampipes.svcdiscovery.api.model.DefaultSpServiceTypes;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.http.client.fluent.Request;
@@ -54,6 +54,9 @@ public class ExtensionsServiceLogExecutor implements Runnable {
     updatePipelineFlow();
   }
 
+  /**
+   * Fetches the monitoring infos of all healthy extensions services which do not push their monitoring data.
+   */
   public void triggerUpdate() {
     List<String> serviceEndpoints = getActiveExtensionsEndpoints();
 
@@ -103,11 +106,14 @@ public class ExtensionsServiceLogExecutor implements Runnable {
   }
 
   private List<String> getActiveExtensionsEndpoints() {
-    return SpServiceDiscovery.getServiceDiscovery().getServiceEndpoints(
-        DefaultSpServiceTypes.EXT,
-        true,
-        List.of(DefaultSpServiceTags.PE.asString(), DefaultSpServiceTags.CONNECT_WORKER.asString())
-    );
+    var tags = List.of(DefaultSpServiceTags.PE.asString(), DefaultSpServiceTags.CONNECT_WORKER.asString());
+    return StorageDispatcher.INSTANCE.getNoSqlStore().getExtensionsServiceStorage().getAll()
+        .stream()
+        .filter(SpServiceRegistration::isHealthy)
+        .filter(service -> service.getTags().stream().anyMatch(tag -> tags.contains(tag.asString())))
+        .filter(service -> !ExtensionsLogProvider.INSTANCE.isPushingService(service.getSvcId()))
+        .map(service -> service.getScheme() + "://" + service.getHost() + ":" + service.getPort())
+        .toList();
   }
 
   private String makeLogUrl(String baseUrl) {
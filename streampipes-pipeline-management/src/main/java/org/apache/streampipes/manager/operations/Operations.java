@@ -26,6 +26,8 @@ import org.apache.streampipes.manager.execution.PipelineExecutor;
 import org.apache.streampipes.manager.matching.PipelineVerificationHandlerV2;
 import org.apache.streampipes.manager.recommender.ElementRecommender;
 import org.apache.streampipes.manager.remote.ContainerProvidedOptionsHandler;
+import org.apache.streampipes.manager.runtime.LiveTapListener;
+import org.apache.streampipes.manager.runtime.LiveTapSubscription;
 import org.apache.streampipes.manager.runtime.PipelineElementRuntimeInfoFetcher;
 import org.apache.streampipes.manager.storage.PipelineStorageService;
 import org.apache.streampipes.manager.template.PipelineTemplateGenerator;
@@ -127,6 +129,12 @@ public class Operations {
     return PipelineElementRuntimeInfoFetcher.INSTANCE.getCurrentData(spDataStream);
   }
 
+  public static LiveTapSubscription subscribeToRuntimeInfo(SpDataStream spDataStream,
+                                                           LiveTapListener listener,
+                                                           long minIntervalMs) throws SpRuntimeException {
+    return PipelineElementRuntimeInfoFetcher.INSTANCE.subscribe(spDataStream, listener, minIntervalMs);
+  }
+
   public static List<PipelineTemplateDescription> getAllPipelineTemplates() {
     return new PipelineTemplateGenerator().getAllPipelineTemplates();
   }
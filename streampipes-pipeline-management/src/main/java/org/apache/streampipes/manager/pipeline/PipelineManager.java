@@ -29,6 +29,7 @@ import org.apache.streampipes.resource.management.NotificationsResourceManager;
 import org.apache.streampipes.storage.api.IPermissionStorage;
 import org.apache.streampipes.storage.api.IPipelineStorage;
 import org.apache.streampipes.storage.management.StorageDispatcher;
+import org.apache.streampipes.user.management.cache.SecurityCache;
 
 import java.util.Date;
 import java.util.List;
@@ -75,6 +76,7 @@ public class PipelineManager {
 
     Permission permission = new PermissionManager().makePermission(pipeline, principalSid);
     getPermissionStorage().addPermission(permission);
+    SecurityCache.INSTANCE.invalidateUserDetails();
 
     return pipelineId;
   }
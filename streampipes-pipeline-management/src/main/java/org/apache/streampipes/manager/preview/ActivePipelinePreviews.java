@@ -17,21 +17,25 @@
  */
 package org.apache.streampipes.manager.preview;
 
+import org.apache.streampipes.manager.runtime.LiveTapSubscription;
 import org.apache.streampipes.model.base.NamedStreamPipesEntity;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public enum ActivePipelinePreviews {
 
   INSTANCE;
 
   private Map<String, List<NamedStreamPipesEntity>> activePreviews;
+  private Map<String, List<LiveTapSubscription>> liveSubscriptions;
 
   ActivePipelinePreviews() {
-    this.activePreviews = new HashMap<>();
+    this.activePreviews = new ConcurrentHashMap<>();
+    this.liveSubscriptions = new ConcurrentHashMap<>();
   }
 
   public void addActivePreview(String previewId,
@@ -41,6 +45,33 @@ public enum ActivePipelinePreviews {
 
   public void removePreview(String previewId) {
     this.activePreviews.remove(previewId);
+    List<LiveTapSubscription> subscriptions = this.liveSubscriptions.remove(previewId);
+    if (subscriptions != null) {
+      subscriptions.forEach(LiveTapSubscription::close);
+    }
+  }
+
+  /**
+   * Registers a live subscription which is closed once the preview is removed.
+   *
+   * @return false if the preview does not exist (anymore), the subscription is not registered then
+   */
+  public boolean addLiveSubscription(String previewId,
+                                     LiveTapSubscription subscription) {
+    this.liveSubscriptions.compute(previewId, (key, subscriptions) -> {
+      List<LiveTapSubscription> active = new ArrayList<>();
+      if (subscriptions != null) {
+        subscriptions.stream().filter(s -> !s.isClosed()).forEach(active::add);
+      }
+      active.add(subscription);
+      return active;
+    });
+    // the preview might have been removed concurrently, after its subscriptions were closed
+    if (!this.activePreviews.containsKey(previewId)) {
+      this.liveSubscriptions.remove(previewId);
+      return false;
+    }
+    return true;
   }
 
   public List<NamedStreamPipesEntity> getInvocationGraphs(String previewId) {
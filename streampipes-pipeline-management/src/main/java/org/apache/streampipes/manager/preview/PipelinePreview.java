@@ -24,6 +24,8 @@ import org.apache.streampipes.manager.execution.http.DetachHttpRequest;
 import org.apache.streampipes.manager.execution.http.InvokeHttpRequest;
 import org.apache.streampipes.manager.matching.PipelineVerificationHandlerV2;
 import org.apache.streampipes.manager.operations.Operations;
+import org.apache.streampipes.manager.runtime.LiveTapListener;
+import org.apache.streampipes.manager.runtime.LiveTapSubscription;
 import org.apache.streampipes.model.SpDataStream;
 import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
 import org.apache.streampipes.model.base.NamedStreamPipesEntity;
@@ -55,12 +57,35 @@ public class PipelinePreview {
 
   public void deletePreview(String previewId) {
     List<NamedStreamPipesEntity> graphs = ActivePipelinePreviews.INSTANCE.getInvocationGraphs(previewId);
-    detachGraphs(filter(graphs));
-    deleteGraphs(previewId);
+    try {
+      detachGraphs(filter(graphs));
+    } finally {
+      deleteGraphs(previewId);
+    }
   }
 
   public String getPipelineElementPreview(String previewId,
                                           String pipelineElementDomId) throws IllegalArgumentException {
+    return Operations.getRuntimeInfo(findPreviewStream(previewId, pipelineElementDomId));
+  }
+
+  public LiveTapSubscription subscribeToPipelineElementPreview(String previewId,
+                                                               String pipelineElementDomId,
+                                                               LiveTapListener listener,
+                                                               long minIntervalMs) throws IllegalArgumentException {
+    LiveTapSubscription subscription = Operations.subscribeToRuntimeInfo(
+        findPreviewStream(previewId, pipelineElementDomId),
+        listener,
+        minIntervalMs);
+    if (!ActivePipelinePreviews.INSTANCE.addLiveSubscription(previewId, subscription)) {
+      subscription.close();
+      throw new IllegalArgumentException("Preview " + previewId + " was deleted");
+    }
+    return subscription;
+  }
+
+  private SpDataStream findPreviewStream(String previewId,
+                                         String pipelineElementDomId) throws IllegalArgumentException {
     Optional<NamedStreamPipesEntity> graphOpt = ActivePipelinePreviews
         .INSTANCE
         .getInvocationGraphForPipelineELement(previewId, pipelineElementDomId);
@@ -68,9 +93,9 @@ public class PipelinePreview {
     if (graphOpt.isPresent()) {
       NamedStreamPipesEntity graph = graphOpt.get();
       if (graph instanceof DataProcessorInvocation) {
-        return Operations.getRuntimeInfo(((DataProcessorInvocation) graph).getOutputStream());
+        return ((DataProcessorInvocation) graph).getOutputStream();
       } else if (graph instanceof SpDataStream) {
-        return Operations.getRuntimeInfo((SpDataStream) graph);
+        return (SpDataStream) graph;
       } else {
         throw new IllegalArgumentException("Requested pipeline element is not a data processor");
       }
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.recommender;
+
+import org.apache.streampipes.model.SpDataStream;
+import org.apache.streampipes.model.base.ConsumableStreamPipesEntity;
+import org.apache.streampipes.model.graph.DataProcessorDescription;
+import org.apache.streampipes.model.graph.DataSinkDescription;
+import org.apache.streampipes.resource.management.AbstractPipelineElementResourceManager;
+import org.apache.streampipes.storage.api.IPipelineElementDescriptionStorage;
+import org.apache.streampipes.storage.management.StorageManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * In-memory index over the stream requirements of all installed data processors and data sinks.
+ * The index is loaded once from the pipeline element storage and afterwards kept up to date when
+ * elements are installed, updated or deleted.
+ * Elements returned by the index are shared and must not be modified.
+ */
+public enum CompatibilityIndex {
+
+  INSTANCE;
+
+  private final Map<String, IndexEntry> entries = new HashMap<>();
+  private final Map<String, Set<String>> postings = new HashMap<>();
+  private final Set<String> unconstrained = new HashSet<>();
+
+  private boolean initialized = false;
+
+  CompatibilityIndex() {
+    AbstractPipelineElementResourceManager.addDeletionListener(this::remove);
+  }
+
+  /**
+   * Returns all elements whose requirement keys are covered by the offered stream.
+   * Candidates still need to be verified with the full matching, elements which are not returned
+   * can never match the offer.
+   *
+   * @param offer the output stream which should be connected
+   * @return the candidate elements
+   */
+  public synchronized List<ConsumableStreamPipesEntity> findCandidates(SpDataStream offer) {
+    ensureInitialized();
+    Map<String, Integer> matchedKeys = new HashMap<>();
+    for (String key : CompatibilityKeys.offerKeys(offer)) {
+      Set<String> elementIds = postings.get(key);
+      if (elementIds != null) {
+        elementIds.forEach(id -> matchedKeys.merge(id, 1, Integer::sum));
+      }
+    }
+
+    Set<String> offeredProtocols = CompatibilityKeys.protocols(offer.getEventGrounding());
+    List<ConsumableStreamPipesEntity> candidates = new ArrayList<>();
+    unconstrained.forEach(id -> addIfProtocolMatches(candidates, entries.get(id), offeredProtocols));
+    matchedKeys.forEach((id, count) -> {
+      IndexEntry entry = entries.get(id);
+      if (entry.keys.size() == count) {
+        addIfProtocolMatches(candidates, entry, offeredProtocols);
+      }
+    });
+    return candidates;
+  }
+
+  public synchronized Optional<ConsumableStreamPipesEntity> find(String elementId) {
+    ensureInitialized();
+    return Optional.ofNullable(entries.get(elementId)).map(entry -> entry.element);
+  }
+
+  public synchronized void put(ConsumableStreamPipesEntity element) {
+    if (initialized) {
+      removeEntry(element.getElementId());
+      addEntry(element);
+    }
+  }
+
+  public synchronized void remove(String elementId) {
+    if (initialized) {
+      removeEntry(elementId);
+    }
+  }
+
+  /**
+   * Discards the index, it is loaded again from the storage on next access.
+   */
+  public synchronized void invalidate() {
+    clear();
+    initialized = false;
+  }
+
+  synchronized void rebuild(Collection<? extends ConsumableStreamPipesEntity> elements) {
+    clear();
+    elements.forEach(this::addEntry);
+    initialized = true;
+  }
+
+  private void ensureInitialized() {
+    if (!initialized) {
+      IPipelineElementDescriptionStorage storage = StorageManager.INSTANCE.getPipelineElementStorage();
+      List<ConsumableStreamPipesEntity> elements = new ArrayList<>();
+      elements.addAll(storage.getAllDataProcessors());
+      elements.addAll(storage.getAllDataSinks());
+      rebuild(elements);
+    }
+  }
+
+  private void addIfProtocolMatches(List<ConsumableStreamPipesEntity> candidates,
+                                    IndexEntry entry,
+                                    Set<String> offeredProtocols) {
+    // groundings without protocols are left to the full matching
+    if (offeredProtocols.isEmpty()
+        || entry.protocols.isEmpty()
+        || entry.protocols.stream().anyMatch(offeredProtocols::contains)) {
+      candidates.add(entry.element);
+    }
+  }
+
+  private void addEntry(ConsumableStreamPipesEntity original) {
+    ConsumableStreamPipesEntity element = copy(original);
+    String elementId = element.getElementId();
+    if (element.getSpDataStreams() == null || element.getSpDataStreams().isEmpty()) {
+      // elements without stream requirements can be looked up, but are never a candidate
+      entries.put(elementId, new IndexEntry(element, Set.of(), Set.of()));
+      return;
+    }
+
+    SpDataStream requirement = element.getSpDataStreams().get(0);
+    requirement.setEventGrounding(element.getSupportedGrounding());
+    Set<String> keys = CompatibilityKeys.requirementKeys(requirement);
+    Set<String> protocols = CompatibilityKeys.protocols(requirement.getEventGrounding());
+
+    entries.put(elementId, new IndexEntry(element, keys, protocols));
+    if (keys.isEmpty()) {
+      unconstrained.add(elementId);
+    } else {
+      keys.forEach(key -> postings.computeIfAbsent(key, k -> new HashSet<>()).add(elementId));
+    }
+  }
+
+  private void removeEntry(String elementId) {
+    IndexEntry entry = entries.remove(elementId);
+    if (entry != null) {
+      unconstrained.remove(elementId);
+      entry.keys.forEach(key -> {
+        Set<String> elementIds = postings.get(key);
+        elementIds.remove(elementId);
+        if (elementIds.isEmpty()) {
+          postings.remove(key);
+        }
+      });
+    }
+  }
+
+  private ConsumableStreamPipesEntity copy(ConsumableStreamPipesEntity element) {
+    if (element instanceof DataProcessorDescription) {
+      return new DataProcessorDescription((DataProcessorDescription) element);
+    } else {
+      return new DataSinkDescription((DataSinkDescription) element);
+    }
+  }
+
+  private void clear() {
+    entries.clear();
+    postings.clear();
+    unconstrained.clear();
+  }
+
+  private static class IndexEntry {
+
+    private final ConsumableStreamPipesEntity element;
+    private final Set<String> keys;
+    private final Set<String> protocols;
+
+    IndexEntry(ConsumableStreamPipesEntity element,
+               Set<String> keys,
+               Set<String> protocols) {
+      this.element = element;
+      this.keys = keys;
+      this.protocols = protocols;
+    }
+  }
+}
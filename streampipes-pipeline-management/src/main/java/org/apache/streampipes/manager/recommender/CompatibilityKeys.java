@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.recommender;
+
+import org.apache.streampipes.model.SpDataStream;
+import org.apache.streampipes.model.grounding.EventGrounding;
+import org.apache.streampipes.model.grounding.TransportProtocol;
+import org.apache.streampipes.model.schema.EventProperty;
+import org.apache.streampipes.model.schema.EventPropertyPrimitive;
+import org.apache.streampipes.model.schema.EventSchema;
+import org.apache.streampipes.vocabulary.SO;
+import org.apache.streampipes.vocabulary.StreamPipes;
+import org.apache.streampipes.vocabulary.XSD;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Derives the keys (runtime type, domain property, measurement unit and protocol) used by the
+ * {@link CompatibilityIndex}. An element can only match an offered stream if each of its requirement keys
+ * is contained in the keys of the offer, so the keys serve as a cheap necessary condition before the full
+ * matching of {@link org.apache.streampipes.manager.matching.v2.StreamMatch} is applied.
+ */
+public class CompatibilityKeys {
+
+  private static final String TYPE = "type:";
+  private static final String DOMAIN_PROPERTY = "domain:";
+  private static final String MEASUREMENT_UNIT = "unit:";
+
+  private static final Set<String> NUMBER_TYPES = Set.of(
+      XSD.INTEGER.toString(),
+      XSD.LONG.toString(),
+      XSD.DOUBLE.toString(),
+      XSD.FLOAT.toString());
+
+  public static Set<String> requirementKeys(SpDataStream requirement) {
+    Set<String> keys = new HashSet<>();
+    forEachPrimitive(requirement, property -> {
+      if (property.getRuntimeType() != null) {
+        keys.add(TYPE + property.getRuntimeType());
+      }
+      if (property.getMeasurementUnit() != null) {
+        keys.add(MEASUREMENT_UNIT + property.getMeasurementUnit());
+      }
+      addDomainProperties(keys, property.getDomainProperties());
+    });
+    return keys;
+  }
+
+  public static Set<String> offerKeys(SpDataStream offer) {
+    Set<String> keys = new HashSet<>();
+    forEachPrimitive(offer, property -> {
+      if (property.getRuntimeType() != null) {
+        keys.add(TYPE + property.getRuntimeType());
+        if (NUMBER_TYPES.contains(property.getRuntimeType())) {
+          keys.add(TYPE + SO.NUMBER);
+        }
+      }
+      if (property.getMeasurementUnit() != null) {
+        keys.add(MEASUREMENT_UNIT + property.getMeasurementUnit());
+        keys.add(MEASUREMENT_UNIT + StreamPipes.ANYTHING);
+      }
+      addDomainProperties(keys, property.getDomainProperties());
+    });
+    return keys;
+  }
+
+  public static Set<String> protocols(EventGrounding grounding) {
+    Set<String> protocols = new HashSet<>();
+    if (grounding != null && grounding.getTransportProtocols() != null) {
+      for (TransportProtocol protocol : grounding.getTransportProtocols()) {
+        protocols.add(protocol.getClass().getCanonicalName());
+      }
+    }
+    return protocols;
+  }
+
+  private static void addDomainProperties(Set<String> keys,
+                                          List<URI> domainProperties) {
+    if (domainProperties != null) {
+      domainProperties.forEach(dp -> keys.add(DOMAIN_PROPERTY + dp));
+    }
+  }
+
+  private static void forEachPrimitive(SpDataStream stream,
+                                       Consumer<EventPropertyPrimitive> consumer) {
+    EventSchema schema = stream.getEventSchema();
+    if (schema == null || schema.getEventProperties() == null) {
+      return;
+    }
+    // only top-level properties are considered, nested requirements are left to the full matching
+    for (EventProperty property : schema.getEventProperties()) {
+      if (property instanceof EventPropertyPrimitive) {
+        consumer.accept((EventPropertyPrimitive) property);
+      }
+    }
+  }
+}
@@ -25,18 +25,13 @@ import org.apache.streampipes.model.SpDataStream;
 import org.apache.streampipes.model.base.ConsumableStreamPipesEntity;
 import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
 import org.apache.streampipes.model.base.NamedStreamPipesEntity;
-import org.apache.streampipes.model.graph.DataProcessorDescription;
-import org.apache.streampipes.model.graph.DataSinkDescription;
 import org.apache.streampipes.model.message.PipelineModificationMessage;
 import org.apache.streampipes.model.pipeline.Pipeline;
 import org.apache.streampipes.model.pipeline.PipelineElementRecommendation;
 import org.apache.streampipes.model.pipeline.PipelineElementRecommendationMessage;
 import org.apache.streampipes.model.pipeline.PipelineModification;
-import org.apache.streampipes.resource.management.SpResourceManager;
 import org.apache.streampipes.storage.api.INoSqlStorage;
-import org.apache.streampipes.storage.api.IPipelineElementDescriptionStorage;
 import org.apache.streampipes.storage.management.StorageDispatcher;
-import org.apache.streampipes.storage.management.StorageManager;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -63,7 +58,7 @@ public class ElementRecommender {
     try {
       rootNodeId = getRootNodeId(elementsProvider);
       Optional<SpDataStream> outputStream = getOutputStream(elementsProvider);
-      outputStream.ifPresent(spDataStream -> validate(spDataStream, getAll()));
+      outputStream.ifPresent(this::validate);
     } catch (Exception e) {
       e.printStackTrace();
       return recommendationMessage;
@@ -91,9 +86,7 @@ public class ElementRecommender {
       List<PipelineElementRecommendation> recommendedElements) {
     return recommendedElements
         .stream()
-        .filter(r -> getAll()
-            .stream()
-            .anyMatch(a -> a.getElementId().equals(r.getElementId())))
+        .filter(r -> getIndex().find(r.getElementId()).isPresent())
         .collect(Collectors.toList());
   }
 
@@ -123,22 +116,17 @@ public class ElementRecommender {
   }
 
   private NamedStreamPipesEntity filter(String elementId) {
-    List<ConsumableStreamPipesEntity> allElements = getAll();
-    return allElements
-        .stream()
-        .filter(a -> a.getElementId().equals(elementId))
-        .findFirst()
-        .get();
+    return getIndex().find(elementId).get();
   }
 
   private Float getWeight(Integer count, Integer allConnectionsCount) {
     return ((float) (count)) / allConnectionsCount;
   }
 
-  private void validate(SpDataStream offer, List<ConsumableStreamPipesEntity> entities) {
-    for (ConsumableStreamPipesEntity sepa : entities) {
+  private void validate(SpDataStream offer) {
+    for (ConsumableStreamPipesEntity sepa : getIndex().findCandidates(offer)) {
+      // the index already assigns the supported grounding to the requirement
       SpDataStream requirement = sepa.getSpDataStreams().get(0);
-      requirement.setEventGrounding(sepa.getSupportedGrounding());
       boolean matches = new StreamMatch().match(offer, requirement, new ArrayList<>());
       if (matches) {
         addPossibleElements(sepa);
@@ -151,36 +139,8 @@ public class ElementRecommender {
         new PipelineElementRecommendation(sepa.getElementId(), sepa.getName(), sepa.getDescription()));
   }
 
-  private List<ConsumableStreamPipesEntity> getAllDataProcessors() {
-    List<String> userObjects = new SpResourceManager().manageDataProcessors().findAllIdsOnly();
-    return getTripleStore()
-        .getAllDataProcessors()
-        .stream()
-        .filter(e -> userObjects.stream().anyMatch(u -> u.equals(e.getElementId())))
-        .map(DataProcessorDescription::new)
-        .collect(Collectors.toList());
-  }
-
-
-  private List<ConsumableStreamPipesEntity> getAllDataSinks() {
-    List<String> userObjects = new SpResourceManager().manageDataSinks().findAllIdsOnly();
-    return getTripleStore()
-        .getAllDataSinks()
-        .stream()
-        .filter(e -> userObjects.stream().anyMatch(u -> u.equals(e.getElementId())))
-        .map(DataSinkDescription::new)
-        .collect(Collectors.toList());
-  }
-
-  private List<ConsumableStreamPipesEntity> getAll() {
-    List<ConsumableStreamPipesEntity> allElements = new ArrayList<>();
-    allElements.addAll(getAllDataProcessors());
-    allElements.addAll(getAllDataSinks());
-    return allElements;
-  }
-
-  private IPipelineElementDescriptionStorage getTripleStore() {
-    return StorageManager.INSTANCE.getPipelineElementStorage();
+  private CompatibilityIndex getIndex() {
+    return CompatibilityIndex.INSTANCE;
   }
 
   private INoSqlStorage getNoSqlStorage() {
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.runtime;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.dataformat.positional.PositionalLayout;
+import org.apache.streampipes.dataformat.positional.PositionalSchemaStore;
+import org.apache.streampipes.serializers.json.JacksonSerializer;
+import org.apache.streampipes.storage.api.IGenericStorage;
+import org.apache.streampipes.storage.management.StorageDispatcher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the layouts of the positional data format in the generic storage of the core, so that they can be
+ * resolved by all services consuming positional events.
+ */
+public class GenericStoragePositionalSchemaStore implements PositionalSchemaStore {
+
+  public static final String FINGERPRINT = "fingerprint";
+  public static final String DESCRIPTOR = "descriptor";
+
+  private static final String APP_DOC_TYPE = "positional-schema";
+  private static final String ID_PREFIX = APP_DOC_TYPE + "-";
+
+  @Override
+  public void store(long fingerprint, String layoutDescriptor) {
+    if (find(fingerprint).isPresent()) {
+      return;
+    }
+
+    Map<String, Object> document = new HashMap<>();
+    document.put("_id", ID_PREFIX + PositionalLayout.toHex(fingerprint));
+    document.put("appDocType", APP_DOC_TYPE);
+    document.put(FINGERPRINT, PositionalLayout.toHex(fingerprint));
+    document.put(DESCRIPTOR, layoutDescriptor);
+
+    try {
+      getGenericStorage().create(JacksonSerializer.getObjectMapper().writeValueAsString(document));
+    } catch (JsonProcessingException e) {
+      throw new SpRuntimeException("Could not serialize positional layout", e);
+    } catch (IOException e) {
+      // the layout might have been stored concurrently by another producer
+      if (find(fingerprint).isEmpty()) {
+        throw new SpRuntimeException("Could not store positional layout", e);
+      }
+    }
+  }
+
+  @Override
+  public Optional<String> find(long fingerprint) {
+    try {
+      Map<String, Object> document = getGenericStorage().findOne(ID_PREFIX + PositionalLayout.toHex(fingerprint));
+      return Optional.ofNullable(document).map(d -> (String) d.get(DESCRIPTOR));
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  private IGenericStorage getGenericStorage() {
+    return StorageDispatcher.INSTANCE.getNoSqlStore().getGenericStorage();
+  }
+}
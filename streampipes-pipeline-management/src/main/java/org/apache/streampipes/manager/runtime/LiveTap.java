@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.runtime;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.messaging.EventConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A single broker subscription to a topic which is shared by all clients previewing this topic.
+ * Keeps the last events (converted to JSON) in a ring buffer.
+ */
+public class LiveTap {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LiveTap.class);
+
+  private final String topic;
+  private final EventConsumer consumer;
+  private final SpDataFormatConverter converter;
+  private final int bufferSize;
+
+  private final Deque<String> recentEvents;
+  private final Set<LiveTapSubscription> subscriptions;
+  private final CompletableFuture<String> firstEvent;
+
+  private volatile long lastAccess;
+
+  public LiveTap(String topic,
+                 EventConsumer consumer,
+                 SpDataFormatConverter converter,
+                 int bufferSize) {
+    this.topic = topic;
+    this.consumer = consumer;
+    this.converter = converter;
+    this.bufferSize = bufferSize;
+    this.recentEvents = new ArrayDeque<>(bufferSize);
+    this.subscriptions = new CopyOnWriteArraySet<>();
+    this.firstEvent = new CompletableFuture<>();
+    this.lastAccess = System.currentTimeMillis();
+  }
+
+  public void open() throws SpRuntimeException {
+    LOG.info("Opening live tap for topic {}", topic);
+    try {
+      consumer.connect(this::onEvent);
+    } catch (RuntimeException e) {
+      // clients already waiting for this tap fail instead of running into the timeout
+      firstEvent.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  public void close() {
+    LOG.info("Releasing live tap for topic {}", topic);
+    subscriptions.clear();
+    try {
+      consumer.disconnect();
+    } catch (SpRuntimeException e) {
+      LOG.warn("Could not disconnect live tap for topic {}", topic, e);
+    }
+  }
+
+  void onEvent(byte[] event) {
+    String json;
+    try {
+      json = converter.convert(event);
+    } catch (RuntimeException e) {
+      LOG.warn("Could not convert event of topic {}", topic, e);
+      return;
+    }
+
+    synchronized (this) {
+      if (recentEvents.size() == bufferSize) {
+        recentEvents.removeFirst();
+      }
+      recentEvents.addLast(json);
+    }
+    firstEvent.complete(json);
+    subscriptions.forEach(subscription -> subscription.onEvent(json));
+  }
+
+  /**
+   * Returns the most recent event of the topic, waiting for the first event if none has been received yet.
+   *
+   * @param timeoutMs the maximum time to wait for the first event
+   * @return the most recent event as JSON string or null if no event arrived in time
+   */
+  public String getLatestEvent(long timeoutMs) {
+    touch();
+    synchronized (this) {
+      if (!recentEvents.isEmpty()) {
+        return recentEvents.peekLast();
+      }
+    }
+    try {
+      return firstEvent.get(timeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (ExecutionException e) {
+      throw new SpRuntimeException(e.getCause());
+    }
+  }
+
+  public synchronized List<String> getRecentEvents() {
+    return new ArrayList<>(recentEvents);
+  }
+
+  void addSubscription(LiveTapSubscription subscription) {
+    touch();
+    subscriptions.add(subscription);
+  }
+
+  void removeSubscription(LiveTapSubscription subscription) {
+    touch();
+    subscriptions.remove(subscription);
+  }
+
+  void touch() {
+    this.lastAccess = System.currentTimeMillis();
+  }
+
+  boolean isIdle(long now,
+                 long idleTimeoutMs) {
+    return subscriptions.isEmpty() && now - lastAccess > idleTimeoutMs;
+  }
+
+  public String getTopic() {
+    return topic;
+  }
+
+  public int getSubscriptionCount() {
+    return subscriptions.size();
+  }
+}
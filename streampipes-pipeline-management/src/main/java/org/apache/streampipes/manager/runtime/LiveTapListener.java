@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.runtime;
+
+/**
+ * Receives the events of a {@link LiveTapSubscription}.
+ */
+@FunctionalInterface
+public interface LiveTapListener {
+
+  /**
+   * @param event the event as JSON string
+   */
+  void onEvent(String event);
+
+  /**
+   * Called periodically, also on topics without events, so that disconnected clients are detected.
+   * Throwing a runtime exception closes the subscription.
+   */
+  default void onHeartbeat() {
+  }
+
+  /**
+   * Called once the subscription is closed, e.g. to release the connection to the client.
+   */
+  default void onClose() {
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.runtime;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Holds one {@link LiveTap} per topic as long as the topic is watched, so that any number of
+ * preview clients share a single broker subscription. Taps without subscriptions are released
+ * once they have not been accessed for the idle timeout.
+ *
+ * <p>Broker consumers are opened outside of the map operations, so that connecting to a slow
+ * broker does not block other topics.</p>
+ *
+ * <p>A single scheduler thread only keeps time. Deliveries to clients and the release of idle
+ * taps run on a shared delivery pool, so that a slow client does not stall other clients.</p>
+ */
+public enum LiveTapService {
+
+  INSTANCE;
+
+  public static final int BUFFER_SIZE = 10;
+
+  private static final long IDLE_TIMEOUT_MS = 60000;
+  private static final long RELEASE_CHECK_INTERVAL_MS = 10000;
+  private static final long HEARTBEAT_INTERVAL_MS = 15000;
+
+  private final Map<String, LiveTap> taps;
+  private final ScheduledExecutorService scheduler;
+  private final ExecutorService deliveryExecutor;
+
+  LiveTapService() {
+    this.taps = new ConcurrentHashMap<>();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> makeDaemon(r, "sp-live-tap"));
+    this.deliveryExecutor = Executors.newCachedThreadPool(r -> makeDaemon(r, "sp-live-tap-delivery"));
+    this.scheduler.scheduleAtFixedRate(
+        () -> deliveryExecutor.execute(() -> releaseIdleTaps(IDLE_TIMEOUT_MS)),
+        RELEASE_CHECK_INTERVAL_MS,
+        RELEASE_CHECK_INTERVAL_MS,
+        TimeUnit.MILLISECONDS);
+  }
+
+  public String getLatestEvent(String topic,
+                               Supplier<LiveTap> tapFactory,
+                               long timeoutMs) throws SpRuntimeException {
+    return getOrOpenTap(topic, tapFactory).getLatestEvent(timeoutMs);
+  }
+
+  /**
+   * Subscribes a client to the events of a topic. The client first receives the buffered recent
+   * events and afterwards live events, at most one per minimum interval. Events and heartbeats are
+   * delivered asynchronously, the calling thread is not blocked.
+   *
+   * @param topic         the topic to watch
+   * @param tapFactory    creates the tap if the topic is not watched yet
+   * @param listener      receives the events as JSON strings
+   * @param minIntervalMs the minimum interval between two events pushed to this client
+   * @return the subscription, which must be closed once the client disconnects
+   */
+  public LiveTapSubscription subscribe(String topic,
+                                       Supplier<LiveTap> tapFactory,
+                                       LiveTapListener listener,
+                                       long minIntervalMs) throws SpRuntimeException {
+    LiveTap tap = getOrOpenTap(topic, tapFactory);
+    LiveTapSubscription subscription =
+        new LiveTapSubscription(tap, listener, minIntervalMs, scheduler, deliveryExecutor);
+    subscription.start(tap.getRecentEvents(), HEARTBEAT_INTERVAL_MS);
+    tap.addSubscription(subscription);
+    return subscription;
+  }
+
+  public void releaseIdleTaps(long idleTimeoutMs) {
+    long now = System.currentTimeMillis();
+    taps.keySet().forEach(topic -> taps.computeIfPresent(topic, (key, tap) -> {
+      if (tap.isIdle(now, idleTimeoutMs)) {
+        tap.close();
+        return null;
+      }
+      return tap;
+    }));
+  }
+
+  public int getActiveTapCount() {
+    return taps.size();
+  }
+
+  private static Thread makeDaemon(Runnable runnable,
+                                   String name) {
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  private LiveTap getOrOpenTap(String topic,
+                               Supplier<LiveTap> tapFactory) {
+    while (true) {
+      LiveTap tap = taps.get(topic);
+      if (tap == null) {
+        LiveTap created = tapFactory.get();
+        tap = taps.putIfAbsent(topic, created);
+        if (tap == null) {
+          openTap(topic, created);
+          return created;
+        }
+      }
+      tap.touch();
+      // a touched tap is not idle, so it is only gone if it was released before
+      if (taps.get(topic) == tap) {
+        return tap;
+      }
+    }
+  }
+
+  private void openTap(String topic,
+                       LiveTap tap) {
+    try {
+      tap.open();
+    } catch (RuntimeException e) {
+      taps.remove(topic, tap);
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.runtime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A client watching a {@link LiveTap}. Events are forwarded at most once per minimum interval;
+ * events arriving in between are coalesced so that the client always receives the latest value.
+ * A periodic heartbeat detects clients which have disconnected while the topic is quiet.
+ *
+ * <p>The scheduler is only used for timing. Events and heartbeats are written to the client on the
+ * delivery executor, one task at a time per subscription, so that a slow client only delays its
+ * own deliveries.</p>
+ */
+public class LiveTapSubscription implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LiveTapSubscription.class);
+
+  private final LiveTap tap;
+  private final LiveTapListener listener;
+  private final long minIntervalMs;
+  private final ScheduledExecutorService scheduler;
+  private final Executor deliveryExecutor;
+
+  private final AtomicReference<String> pendingEvent;
+  private final AtomicBoolean deliveryScheduled;
+  private final Queue<Runnable> deliveries;
+  private final AtomicBoolean delivering;
+  private volatile long lastDelivery;
+  private volatile boolean closed;
+  private ScheduledFuture<?> heartbeat;
+
+  LiveTapSubscription(LiveTap tap,
+                      LiveTapListener listener,
+                      long minIntervalMs,
+                      ScheduledExecutorService scheduler,
+                      Executor deliveryExecutor) {
+    this.tap = tap;
+    this.listener = listener;
+    this.minIntervalMs = minIntervalMs;
+    this.scheduler = scheduler;
+    this.deliveryExecutor = deliveryExecutor;
+    this.pendingEvent = new AtomicReference<>();
+    this.deliveryScheduled = new AtomicBoolean(false);
+    this.deliveries = new ConcurrentLinkedQueue<>();
+    this.delivering = new AtomicBoolean(false);
+  }
+
+  /**
+   * Replays the given events and starts the heartbeat, both asynchronously.
+   */
+  synchronized void start(List<String> recentEvents,
+                          long heartbeatIntervalMs) {
+    runSerially(() -> recentEvents.forEach(this::deliverEvent));
+    heartbeat = scheduler.scheduleAtFixedRate(
+        this::scheduleHeartbeat,
+        heartbeatIntervalMs,
+        heartbeatIntervalMs,
+        TimeUnit.MILLISECONDS);
+  }
+
+  void onEvent(String event) {
+    if (closed) {
+      return;
+    }
+    pendingEvent.set(event);
+    scheduleDelivery();
+  }
+
+  private void scheduleDelivery() {
+    if (deliveryScheduled.compareAndSet(false, true)) {
+      long delay = Math.max(0, lastDelivery + minIntervalMs - System.currentTimeMillis());
+      scheduler.schedule(() -> runSerially(this::deliver), delay, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void scheduleHeartbeat() {
+    // a client still busy with earlier deliveries does not need a heartbeat on top
+    if (deliveries.isEmpty() && !delivering.get()) {
+      runSerially(this::sendHeartbeat);
+    }
+  }
+
+  private void runSerially(Runnable task) {
+    if (closed) {
+      return;
+    }
+    deliveries.add(task);
+    drainIfIdle();
+  }
+
+  private void drainIfIdle() {
+    if (!deliveries.isEmpty() && delivering.compareAndSet(false, true)) {
+      try {
+        deliveryExecutor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        delivering.set(false);
+        deliveries.clear();
+      }
+    }
+  }
+
+  private void drain() {
+    try {
+      Runnable task;
+      while ((task = deliveries.poll()) != null) {
+        task.run();
+      }
+    } finally {
+      delivering.set(false);
+    }
+    // a task may have been added after the queue was found empty
+    drainIfIdle();
+  }
+
+  private void deliver() {
+    String event = pendingEvent.getAndSet(null);
+    if (event != null) {
+      lastDelivery = System.currentTimeMillis();
+      deliverEvent(event);
+    }
+    deliveryScheduled.set(false);
+    if (pendingEvent.get() != null && !closed) {
+      scheduleDelivery();
+    }
+  }
+
+  private void deliverEvent(String event) {
+    if (closed) {
+      return;
+    }
+    try {
+      listener.onEvent(event);
+    } catch (RuntimeException e) {
+      LOG.debug("Could not deliver preview event of topic {}, closing subscription", tap.getTopic(), e);
+      close();
+    }
+  }
+
+  private void sendHeartbeat() {
+    if (closed) {
+      return;
+    }
+    try {
+      listener.onHeartbeat();
+    } catch (RuntimeException e) {
+      LOG.debug("Preview client of topic {} disconnected, closing subscription", tap.getTopic(), e);
+      close();
+    }
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      if (heartbeat != null) {
+        heartbeat.cancel(false);
+      }
+      deliveries.clear();
+      tap.removeSubscription(this);
+    }
+    try {
+      listener.onClose();
+    } catch (RuntimeException e) {
+      LOG.debug("Could not release preview client of topic {}", tap.getTopic(), e);
+    }
+  }
+}
@@ -20,7 +20,6 @@ package org.apache.streampipes.manager.runtime;
 import org.apache.streampipes.commons.environment.Environment;
 import org.apache.streampipes.commons.environment.Environments;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
-import org.apache.streampipes.messaging.EventConsumer;
 import org.apache.streampipes.messaging.SpProtocolManager;
 import org.apache.streampipes.model.SpDataStream;
 import org.apache.streampipes.model.grounding.KafkaTransportProtocol;
@@ -29,25 +28,34 @@ import org.apache.streampipes.model.grounding.TransportFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 public enum PipelineElementRuntimeInfoFetcher {
   INSTANCE;
 
   private static final Logger LOG = LoggerFactory.getLogger(PipelineElementRuntimeInfoFetcher.class);
 
-  private static final int FETCH_INTERVAL_MS = 300;
-  private final Map<String, SpDataFormatConverter> converterMap;
+  private static final long FIRST_EVENT_TIMEOUT_MS = 6000;
   private final Environment env;
 
   PipelineElementRuntimeInfoFetcher() {
-    this.converterMap = new HashMap<>();
     this.env = Environments.getEnvironment();
   }
 
   public String getCurrentData(SpDataStream spDataStream) throws SpRuntimeException {
+    return LiveTapService
+        .INSTANCE
+        .getLatestEvent(getOutputTopic(spDataStream), () -> makeTap(spDataStream), FIRST_EVENT_TIMEOUT_MS);
+  }
+
+  public LiveTapSubscription subscribe(SpDataStream spDataStream,
+                                       LiveTapListener listener,
+                                       long minIntervalMs) throws SpRuntimeException {
+    return LiveTapService
+        .INSTANCE
+        .subscribe(getOutputTopic(spDataStream), () -> makeTap(spDataStream), listener, minIntervalMs);
+  }
+
+  private LiveTap makeTap(SpDataStream spDataStream) throws SpRuntimeException {
     var topic = getOutputTopic(spDataStream);
     var protocol = spDataStream.getEventGrounding().getTransportProtocol();
     if (env.getSpDebug().getValueOrDefault()) {
@@ -57,21 +65,15 @@ public enum PipelineElementRuntimeInfoFetcher {
       }
     }
 
-    if (!converterMap.containsKey(topic)) {
-      this.converterMap.put(topic,
-          new SpDataFormatConverterGenerator(getTransportFormat(spDataStream)).makeConverter());
-    }
-
-    var converter = converterMap.get(topic);
+    var converter = new SpDataFormatConverterGenerator(getTransportFormat(spDataStream)).makeConverter();
 
     var protocolDefinitionOpt = SpProtocolManager
         .INSTANCE
-        .findDefinition(spDataStream.getEventGrounding().getTransportProtocol());
+        .findDefinition(protocol);
 
     if (protocolDefinitionOpt.isPresent()) {
       var consumer = protocolDefinitionOpt.get().getConsumer(protocol);
-      return getLatestEvent(consumer, converter);
-
+      return new LiveTap(topic, consumer, converter, LiveTapService.BUFFER_SIZE);
     } else {
       LOG.error("Error while fetching data for preview - protocol {} not found - did you register the protocol? ",
           protocol.getClass().getCanonicalName());
@@ -90,29 +92,4 @@ public enum PipelineElementRuntimeInfoFetcher {
         .getTopicDefinition()
         .getActualTopicName();
   }
-
-  private void waitForEvent(String[] result) {
-    long timeout = 0;
-    while (result[0] == null && timeout < 6000) {
-      try {
-        TimeUnit.MILLISECONDS.sleep(FETCH_INTERVAL_MS);
-        timeout = timeout + 300;
-      } catch (InterruptedException e) {
-        e.printStackTrace();
-      }
-    }
-  }
-
-  private String getLatestEvent(EventConsumer consumer,
-                                SpDataFormatConverter converter) {
-    final String[] result = {null};
-    consumer.connect(event -> {
-      result[0] = converter.convert(event);
-      consumer.disconnect();
-    });
-
-    waitForEvent(result);
-
-    return result[0];
-  }
 }
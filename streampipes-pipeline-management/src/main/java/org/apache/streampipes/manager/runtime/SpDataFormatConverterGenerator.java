@@ -17,11 +17,18 @@
  */
 package org.apache.streampipes.manager.runtime;
 
+import org.apache.streampipes.dataformat.CompressedDataFormatDefinition;
+import org.apache.streampipes.dataformat.SpDataFormatDefinition;
 import org.apache.streampipes.dataformat.cbor.CborDataFormatDefinition;
+import org.apache.streampipes.dataformat.compression.Lz4CompressionCodec;
+import org.apache.streampipes.dataformat.compression.SnappyCompressionCodec;
+import org.apache.streampipes.dataformat.compression.ZstdCompressionCodec;
 import org.apache.streampipes.dataformat.fst.FstDataFormatDefinition;
 import org.apache.streampipes.dataformat.json.JsonDataFormatDefinition;
+import org.apache.streampipes.dataformat.positional.PositionalDataFormatDefinition;
 import org.apache.streampipes.dataformat.smile.SmileDataFormatDefinition;
 import org.apache.streampipes.model.grounding.TransportFormat;
+import org.apache.streampipes.vocabulary.CompressionFormat;
 import org.apache.streampipes.vocabulary.MessageFormat;
 
 public class SpDataFormatConverterGenerator {
@@ -33,19 +40,41 @@ public class SpDataFormatConverterGenerator {
   }
 
   public SpDataFormatConverter makeConverter() {
+    return new SpDataFormatConverter(withCompression(makeDataFormatDefinition()));
+  }
+
+  private SpDataFormatDefinition makeDataFormatDefinition() {
     if (isJsonFormat(transportFormat)) {
-      return new SpDataFormatConverter(new JsonDataFormatDefinition());
+      return new JsonDataFormatDefinition();
     } else if (isCborFormat(transportFormat)) {
-      return new SpDataFormatConverter(new CborDataFormatDefinition());
+      return new CborDataFormatDefinition();
     } else if (isFstFormat(transportFormat)) {
-      return new SpDataFormatConverter(new FstDataFormatDefinition());
+      return new FstDataFormatDefinition();
     } else if (isSmileFormat(transportFormat)) {
-      return new SpDataFormatConverter(new SmileDataFormatDefinition());
+      return new SmileDataFormatDefinition();
+    } else if (isPositionalFormat(transportFormat)) {
+      return new PositionalDataFormatDefinition();
     } else {
       throw new IllegalArgumentException("Wrong transport format: " + makeError(transportFormat));
     }
   }
 
+  private SpDataFormatDefinition withCompression(SpDataFormatDefinition dataFormatDefinition) {
+    if (isFormat(CompressionFormat.LZ4, transportFormat)) {
+      return new CompressedDataFormatDefinition(dataFormatDefinition, new Lz4CompressionCodec());
+    } else if (isFormat(CompressionFormat.ZSTD, transportFormat)) {
+      return new CompressedDataFormatDefinition(dataFormatDefinition, new ZstdCompressionCodec());
+    } else if (isFormat(CompressionFormat.SNAPPY, transportFormat)) {
+      return new CompressedDataFormatDefinition(dataFormatDefinition, new SnappyCompressionCodec());
+    } else {
+      return dataFormatDefinition;
+    }
+  }
+
+  private boolean isPositionalFormat(TransportFormat transportFormat) {
+    return isFormat(MessageFormat.POSITIONAL, transportFormat);
+  }
+
   private boolean isSmileFormat(TransportFormat transportFormat) {
     return isFormat(MessageFormat.SMILE, transportFormat);
   }
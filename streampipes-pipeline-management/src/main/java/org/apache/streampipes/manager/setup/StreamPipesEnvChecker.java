@@ -25,6 +25,7 @@ import org.apache.streampipes.model.configuration.LocalAuthConfig;
 import org.apache.streampipes.model.configuration.SpCoreConfiguration;
 import org.apache.streampipes.storage.api.ISpCoreConfigurationStorage;
 import org.apache.streampipes.storage.management.StorageDispatcher;
+import org.apache.streampipes.user.management.cache.SecurityCache;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -109,6 +110,7 @@ public class StreamPipesEnvChecker {
       LOG.info("Updating local auth config with signing mode {}", localAuthConfig.getJwtSigningMode().name());
       coreConfig.setLocalAuthConfig(localAuthConfig);
       configStorage.updateElement(coreConfig);
+      SecurityCache.INSTANCE.invalidateAll();
     }
   }
 
@@ -27,6 +27,7 @@ import org.apache.streampipes.model.staticproperty.StaticProperty;
 import org.apache.streampipes.model.template.PipelineTemplateDescription;
 import org.apache.streampipes.model.template.PipelineTemplateInvocation;
 import org.apache.streampipes.storage.management.StorageDispatcher;
+import org.apache.streampipes.user.management.cache.SecurityCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -60,6 +61,7 @@ public class PipelineTemplateInvocationHandler {
     Operations.storePipeline(pipeline);
     Permission permission = new PermissionManager().makePermission(pipeline, username);
     StorageDispatcher.INSTANCE.getNoSqlStore().getPermissionStorage().addPermission(permission);
+    SecurityCache.INSTANCE.invalidateUserDetails();
     Pipeline storedPipeline =
         StorageDispatcher.INSTANCE.getNoSqlStore().getPipelineStorageAPI().getPipeline(pipeline.getPipelineId());
     return Operations.startPipeline(storedPipeline);
@@ -21,6 +21,7 @@ package org.apache.streampipes.manager.verification;
 import org.apache.streampipes.commons.exceptions.NoServiceEndpointsAvailableException;
 import org.apache.streampipes.commons.exceptions.SepaParseException;
 import org.apache.streampipes.manager.assets.AssetManager;
+import org.apache.streampipes.manager.recommender.CompatibilityIndex;
 import org.apache.streampipes.model.graph.DataProcessorDescription;
 import org.apache.streampipes.svcdiscovery.api.model.SpServiceUrlProvider;
 
@@ -45,6 +46,7 @@ public class DataProcessorVerifier extends ElementVerifier<DataProcessorDescript
 
     if (!storageApi.exists(elementDescription)) {
       storageApi.storeDataProcessor(elementDescription);
+      CompatibilityIndex.INSTANCE.put(elementDescription);
     } else {
       storageState = StorageState.ALREADY_IN_SESAME;
     }
@@ -54,6 +56,7 @@ public class DataProcessorVerifier extends ElementVerifier<DataProcessorDescript
   @Override
   protected void update() {
     storageApi.update(elementDescription);
+    CompatibilityIndex.INSTANCE.put(elementDescription);
   }
 
   @Override
@@ -21,6 +21,7 @@ package org.apache.streampipes.manager.verification;
 import org.apache.streampipes.commons.exceptions.NoServiceEndpointsAvailableException;
 import org.apache.streampipes.commons.exceptions.SepaParseException;
 import org.apache.streampipes.manager.assets.AssetManager;
+import org.apache.streampipes.manager.recommender.CompatibilityIndex;
 import org.apache.streampipes.model.graph.DataSinkDescription;
 import org.apache.streampipes.svcdiscovery.api.model.SpServiceUrlProvider;
 
@@ -40,6 +41,7 @@ public class DataSinkVerifier extends ElementVerifier<DataSinkDescription> {
     StorageState storageState = StorageState.STORED;
     if (!storageApi.exists(elementDescription)) {
       storageApi.storeDataSink(elementDescription);
+      CompatibilityIndex.INSTANCE.put(elementDescription);
     } else {
       storageState = StorageState.ALREADY_IN_SESAME;
     }
@@ -55,6 +57,7 @@ public class DataSinkVerifier extends ElementVerifier<DataSinkDescription> {
   @Override
   protected void update() {
     storageApi.update(elementDescription);
+    CompatibilityIndex.INSTANCE.put(elementDescription);
   }
 
   @Override
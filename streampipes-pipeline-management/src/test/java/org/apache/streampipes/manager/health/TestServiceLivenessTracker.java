@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.health;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestServiceLivenessTracker {
+
+  private static final String SERVICE_ID = "test-service";
+
+  private final ServiceLivenessTracker tracker = ServiceLivenessTracker.INSTANCE;
+
+  @After
+  public void tearDown() {
+    tracker.remove(SERVICE_ID);
+  }
+
+  @Test
+  public void testRecentHeartbeat() {
+    tracker.recordHeartbeat(SERVICE_ID, null);
+
+    assertTrue(tracker.hasRecentHeartbeat(SERVICE_ID, System.currentTimeMillis()));
+  }
+
+  @Test
+  public void testMissedHeartbeats() {
+    tracker.recordHeartbeat(SERVICE_ID, null);
+
+    assertFalse(tracker.hasRecentHeartbeat(SERVICE_ID, System.currentTimeMillis() + 60000));
+  }
+
+  @Test
+  public void testReportedIntervalDeterminesTimeout() {
+    long now = System.currentTimeMillis();
+    tracker.recordHeartbeat(SERVICE_ID, 30000L);
+
+    assertTrue(tracker.hasRecentHeartbeat(SERVICE_ID, now + 60000));
+    assertFalse(tracker.hasRecentHeartbeat(SERVICE_ID, now + 120000));
+  }
+
+  @Test
+  public void testUnknownService() {
+    assertFalse(tracker.hasRecentHeartbeat("unknown-service", System.currentTimeMillis()));
+  }
+
+  @Test
+  public void testDeregisteredServicesAreRemoved() {
+    tracker.recordHeartbeat(SERVICE_ID, null);
+    tracker.retainServices(List.of("other-service"));
+
+    assertFalse(tracker.hasRecentHeartbeat(SERVICE_ID, System.currentTimeMillis()));
+  }
+}
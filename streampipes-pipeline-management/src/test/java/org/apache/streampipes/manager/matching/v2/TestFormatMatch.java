@@ -20,9 +20,11 @@ package org.apache.streampipes.manager.matching.v2;
 
 import org.apache.streampipes.model.client.matching.MatchingResultMessage;
 import org.apache.streampipes.model.grounding.TransportFormat;
+import org.apache.streampipes.vocabulary.CompressionFormat;
 
 import org.junit.Test;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -54,4 +56,29 @@ public class TestFormatMatch {
     boolean matches = new FormatMatch().match(offeredJson, requiredThrift, errorLog);
     assertFalse(matches);
   }
+
+  @Test
+  public void testCompressedFormatMatch() {
+
+    TransportFormat offeredCompressedJson = TestUtils.jsonFormat();
+    offeredCompressedJson.getRdfType().add(URI.create(CompressionFormat.LZ4));
+    TransportFormat requiredJson = TestUtils.jsonFormat();
+
+    List<MatchingResultMessage> errorLog = new ArrayList<>();
+
+    boolean matches = new FormatMatch().match(offeredCompressedJson, requiredJson, errorLog);
+    assertTrue(matches);
+  }
+
+  @Test
+  public void testCompressionOnlyFormatMatch() {
+
+    TransportFormat offeredLz4 = new TransportFormat(CompressionFormat.LZ4);
+    TransportFormat requiredJson = TestUtils.jsonFormat();
+
+    List<MatchingResultMessage> errorLog = new ArrayList<>();
+
+    boolean matches = new FormatMatch().match(offeredLz4, requiredJson, errorLog);
+    assertFalse(matches);
+  }
 }
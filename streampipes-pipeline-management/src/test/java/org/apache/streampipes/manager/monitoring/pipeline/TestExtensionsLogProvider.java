@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.monitoring.pipeline;
+
+import org.apache.streampipes.model.monitoring.SpEndpointMonitoringDelta;
+import org.apache.streampipes.model.monitoring.SpLogEntry;
+import org.apache.streampipes.model.monitoring.SpLogMessage;
+import org.apache.streampipes.model.monitoring.SpMetricsEntry;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestExtensionsLogProvider {
+
+  private static final String SERVICE_ID = "test-service";
+  private static final String RESOURCE_ID = "test-resource";
+  private static final String SOURCE = "source";
+
+  private final ExtensionsLogProvider provider = ExtensionsLogProvider.INSTANCE;
+
+  @After
+  public void tearDown() {
+    provider.remove(RESOURCE_ID);
+    provider.removeService(SERVICE_ID);
+  }
+
+  @Test
+  public void testIncrementWithoutSnapshotRequiresResync() {
+    var result = provider.applyMonitoringDelta(makeDelta(1, false, metrics(5, 2)));
+
+    assertTrue(result.isResyncRequired());
+    assertFalse(provider.isPushingService(SERVICE_ID));
+  }
+
+  @Test
+  public void testIncrementsAreAddedToSnapshot() {
+    var snapshot = metrics(5, 2);
+    assertFalse(provider.applyMonitoringDelta(makeDelta(1, true, snapshot)).isResyncRequired());
+
+    var current = metrics(8, 6);
+    var increment = current.incrementSince(snapshot);
+    assertFalse(provider.applyMonitoringDelta(makeDelta(2, false, increment)).isResyncRequired());
+
+    var metricsEntry = provider.getMetricInfosForResource(RESOURCE_ID);
+    assertEquals(8, metricsEntry.getMessagesIn().get(SOURCE).getCounter());
+    assertEquals(6, metricsEntry.getMessagesOut().getCounter());
+    assertTrue(provider.isPushingService(SERVICE_ID));
+
+    var history = provider.getMetricsHistoryForResource(RESOURCE_ID);
+    assertEquals(2, history.size());
+    assertEquals(5, history.get(0).getMessagesIn());
+    assertEquals(8, history.get(1).getMessagesIn());
+  }
+
+  @Test
+  public void testPushingServiceExpiresWithoutDeltas() {
+    provider.applyMonitoringDelta(makeDelta(1, true, metrics(5, 2)));
+    long now = System.currentTimeMillis();
+
+    assertTrue(provider.isPushingService(SERVICE_ID, now));
+    assertFalse(provider.isPushingService(SERVICE_ID, now + 60 * 60 * 1000));
+    assertFalse(provider.isPushingService(SERVICE_ID, now));
+
+    // the service is polled meanwhile, so it needs to send a full snapshot again
+    assertTrue(provider.applyMonitoringDelta(makeDelta(2, false, metrics(1, 1))).isResyncRequired());
+    assertFalse(provider.applyMonitoringDelta(makeDelta(2, true, metrics(6, 3))).isResyncRequired());
+    assertTrue(provider.isPushingService(SERVICE_ID));
+  }
+
+  @Test
+  public void testMissingDeltaRequiresResync() {
+    provider.applyMonitoringDelta(makeDelta(1, true, metrics(5, 2)));
+
+    var result = provider.applyMonitoringDelta(makeDelta(3, false, metrics(1, 1)));
+
+    assertTrue(result.isResyncRequired());
+    assertEquals(5, provider.getMetricInfosForResource(RESOURCE_ID).getMessagesIn().get(SOURCE).getCounter());
+  }
+
+  @Test
+  public void testLogsAreAppendedNewestFirst() {
+    var first = SpLogEntry.from(1, SpLogMessage.from(new RuntimeException("first")));
+    var second = SpLogEntry.from(2, SpLogMessage.from(new RuntimeException("second")));
+
+    var delta = makeDelta(1, true, metrics(0, 0));
+    delta.setLogInfos(Map.of(RESOURCE_ID, List.of(first)));
+    provider.applyMonitoringDelta(delta);
+
+    var nextDelta = makeDelta(2, false, new SpMetricsEntry());
+    nextDelta.setMetricsInfos(Map.of());
+    nextDelta.setLogInfos(Map.of(RESOURCE_ID, List.of(second)));
+    provider.applyMonitoringDelta(nextDelta);
+
+    var logs = provider.getLogInfosForResource(RESOURCE_ID);
+    assertEquals(2, logs.size());
+    assertEquals(2, logs.get(0).getTimestamp());
+  }
+
+  @Test
+  public void testResentLogsAreNotDuplicated() {
+    var first = SpLogEntry.from(1, SpLogMessage.from(new RuntimeException("first")));
+    var second = SpLogEntry.from(2, SpLogMessage.from(new RuntimeException("second")));
+
+    var delta = makeDelta(1, true, metrics(0, 0));
+    delta.setLogInfos(Map.of(RESOURCE_ID, List.of(first)));
+    provider.applyMonitoringDelta(delta);
+
+    // the acknowledgement got lost, so the service resends the entry with its next snapshot
+    var snapshot = makeDelta(1, true, metrics(0, 0));
+    snapshot.setLogInfos(Map.of(RESOURCE_ID, List.of(new SpLogEntry(second), new SpLogEntry(first))));
+    provider.applyMonitoringDelta(snapshot);
+
+    var logs = provider.getLogInfosForResource(RESOURCE_ID);
+    assertEquals(2, logs.size());
+    assertEquals(2, logs.get(0).getTimestamp());
+    assertEquals(1, logs.get(1).getTimestamp());
+  }
+
+  private SpEndpointMonitoringDelta makeDelta(long sequence,
+                                              boolean fullSnapshot,
+                                              SpMetricsEntry metricsEntry) {
+    return new SpEndpointMonitoringDelta(
+        SERVICE_ID,
+        sequence,
+        System.currentTimeMillis(),
+        fullSnapshot,
+        Map.of(),
+        Map.of(RESOURCE_ID, metricsEntry));
+  }
+
+  private SpMetricsEntry metrics(int messagesIn,
+                                 int messagesOut) {
+    var entry = new SpMetricsEntry();
+    for (int i = 0; i < messagesIn; i++) {
+      entry.addInMetrics(SOURCE, i);
+    }
+    for (int i = 0; i < messagesOut; i++) {
+      entry.addOutMetrics(i, 10);
+    }
+    return entry;
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.recommender;
+
+import org.apache.streampipes.manager.matching.v2.TestUtils;
+import org.apache.streampipes.model.SpDataStream;
+import org.apache.streampipes.model.base.ConsumableStreamPipesEntity;
+import org.apache.streampipes.model.graph.DataProcessorDescription;
+import org.apache.streampipes.model.grounding.EventGrounding;
+import org.apache.streampipes.model.schema.EventProperty;
+import org.apache.streampipes.model.schema.EventSchema;
+import org.apache.streampipes.sdk.helpers.EpProperties;
+import org.apache.streampipes.sdk.helpers.EpRequirements;
+import org.apache.streampipes.sdk.helpers.Labels;
+import org.apache.streampipes.vocabulary.Geo;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestCompatibilityIndex {
+
+  @After
+  public void tearDown() {
+    CompatibilityIndex.INSTANCE.invalidate();
+  }
+
+  @Test
+  public void testCandidatesRequireAllKeys() {
+    CompatibilityIndex.INSTANCE.rebuild(List.of(
+        makeProcessor("geo", EpRequirements.numberReq(Geo.LAT)),
+        makeProcessor("text", EpRequirements.stringReq()),
+        makeProcessor("any", EpRequirements.anyProperty())));
+
+    List<String> candidates = findCandidateIds(makeOffer(EpProperties.integerEp(Labels.empty(), "lat", Geo.LAT)));
+
+    assertEquals(List.of("any", "geo"), candidates);
+  }
+
+  @Test
+  public void testRemovedElementIsNoCandidate() {
+    CompatibilityIndex.INSTANCE.rebuild(List.of(makeProcessor("geo", EpRequirements.numberReq(Geo.LAT))));
+    CompatibilityIndex.INSTANCE.remove("geo");
+
+    List<String> candidates = findCandidateIds(makeOffer(EpProperties.integerEp(Labels.empty(), "lat", Geo.LAT)));
+
+    assertTrue(candidates.isEmpty());
+    assertFalse(CompatibilityIndex.INSTANCE.find("geo").isPresent());
+  }
+
+  @Test
+  public void testProtocolMismatchIsNoCandidate() {
+    DataProcessorDescription processor = makeProcessor("jms", EpRequirements.anyProperty());
+    processor.setSupportedGrounding(new EventGrounding(TestUtils.jmsProtocol(), TestUtils.jsonFormat()));
+    CompatibilityIndex.INSTANCE.rebuild(List.of(processor));
+
+    List<String> candidates = findCandidateIds(makeOffer(EpProperties.integerEp(Labels.empty(), "lat", Geo.LAT)));
+
+    assertTrue(candidates.isEmpty());
+  }
+
+  private List<String> findCandidateIds(SpDataStream offer) {
+    return CompatibilityIndex.INSTANCE.findCandidates(offer)
+        .stream()
+        .map(ConsumableStreamPipesEntity::getElementId)
+        .sorted()
+        .collect(Collectors.toList());
+  }
+
+  private DataProcessorDescription makeProcessor(String elementId,
+                                                 EventProperty requirement) {
+    DataProcessorDescription processor = new DataProcessorDescription();
+    processor.setElementId(elementId);
+    processor.setSpDataStreams(List.of(new SpDataStream(elementId, "", "", new EventSchema(List.of(requirement)))));
+    processor.setSupportedGrounding(new EventGrounding(TestUtils.kafkaProtocol(), TestUtils.jsonFormat()));
+    return processor;
+  }
+
+  private SpDataStream makeOffer(EventProperty property) {
+    SpDataStream offer = new SpDataStream("offer", "", "", new EventSchema(List.of(property)));
+    offer.setEventGrounding(new EventGrounding(TestUtils.kafkaProtocol(), TestUtils.jsonFormat()));
+    return offer;
+  }
+}
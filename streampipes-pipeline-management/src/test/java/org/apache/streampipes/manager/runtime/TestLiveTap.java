@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.manager.runtime;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.dataformat.json.JsonDataFormatDefinition;
+import org.apache.streampipes.messaging.EventConsumer;
+import org.apache.streampipes.messaging.InternalEventProcessor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class TestLiveTap {
+
+  private FakeConsumer consumer;
+  private LiveTap tap;
+  private ScheduledExecutorService scheduler;
+  private ExecutorService deliveryExecutor;
+
+  @Before
+  public void setUp() {
+    consumer = new FakeConsumer();
+    tap = new LiveTap("test-topic", consumer, new SpDataFormatConverter(new JsonDataFormatDefinition()), 3);
+    tap.open();
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+    deliveryExecutor = Executors.newCachedThreadPool();
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.shutdownNow();
+    deliveryExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testRingBufferKeepsLastEvents() {
+    for (int i = 0; i < 5; i++) {
+      consumer.publish(i);
+    }
+
+    List<String> recentEvents = tap.getRecentEvents();
+    assertEquals(3, recentEvents.size());
+    assertEquals("{\"value\":2}", recentEvents.get(0));
+    assertEquals("{\"value\":4}", tap.getLatestEvent(0));
+  }
+
+  @Test
+  public void testLatestEventTimesOutWithoutEvents() {
+    assertNull(tap.getLatestEvent(50));
+  }
+
+  @Test
+  public void testSubscriptionCoalescesEvents() throws InterruptedException {
+    List<String> received = new CopyOnWriteArrayList<>();
+    LiveTapSubscription subscription = new LiveTapSubscription(tap, received::add, 200, scheduler, deliveryExecutor);
+    tap.addSubscription(subscription);
+
+    for (int i = 0; i < 10; i++) {
+      consumer.publish(i);
+    }
+    TimeUnit.MILLISECONDS.sleep(400);
+
+    assertTrue(received.size() <= 2);
+    assertEquals("{\"value\":9}", received.get(received.size() - 1));
+  }
+
+  @Test
+  public void testClosedSubscriptionMakesTapIdle() {
+    LiveTapSubscription subscription = new LiveTapSubscription(tap, event -> {
+    }, 100, scheduler, deliveryExecutor);
+    tap.addSubscription(subscription);
+    assertFalse(tap.isIdle(System.currentTimeMillis() + 1000, 0));
+
+    subscription.close();
+    assertTrue(subscription.isClosed());
+    assertEquals(0, tap.getSubscriptionCount());
+    assertTrue(tap.isIdle(System.currentTimeMillis() + 1000, 0));
+  }
+
+  @Test
+  public void testListenerIsNotifiedOnceOnClose() {
+    List<String> closed = new CopyOnWriteArrayList<>();
+    LiveTapSubscription subscription = new LiveTapSubscription(tap, new LiveTapListener() {
+      @Override
+      public void onEvent(String event) {
+      }
+
+      @Override
+      public void onClose() {
+        closed.add("closed");
+      }
+    }, 100, scheduler, deliveryExecutor);
+    tap.addSubscription(subscription);
+
+    subscription.close();
+    subscription.close();
+
+    assertEquals(1, closed.size());
+  }
+
+  @Test
+  public void testRecentEventsAreReplayedAsynchronously() throws InterruptedException {
+    consumer.publish(1);
+    consumer.publish(2);
+    List<String> received = new CopyOnWriteArrayList<>();
+    CountDownLatch replayed = new CountDownLatch(2);
+    Thread caller = Thread.currentThread();
+    List<Thread> deliveryThreads = new CopyOnWriteArrayList<>();
+    LiveTapSubscription subscription = new LiveTapSubscription(tap, event -> {
+      deliveryThreads.add(Thread.currentThread());
+      received.add(event);
+      replayed.countDown();
+    }, 100, scheduler, deliveryExecutor);
+
+    subscription.start(tap.getRecentEvents(), 60000);
+
+    assertTrue(replayed.await(2, TimeUnit.SECONDS));
+    assertEquals(List.of("{\"value\":1}", "{\"value\":2}"), received);
+    assertFalse(deliveryThreads.contains(caller));
+    subscription.close();
+  }
+
+  @Test
+  public void testFailedHeartbeatClosesSubscription() throws InterruptedException {
+    CountDownLatch heartbeats = new CountDownLatch(1);
+    LiveTapSubscription subscription = new LiveTapSubscription(tap, new LiveTapListener() {
+      @Override
+      public void onEvent(String event) {
+      }
+
+      @Override
+      public void onHeartbeat() {
+        heartbeats.countDown();
+        throw new IllegalStateException("client disconnected");
+      }
+    }, 100, scheduler, deliveryExecutor);
+    tap.addSubscription(subscription);
+
+    subscription.start(List.of(), 20);
+
+    assertTrue(heartbeats.await(2, TimeUnit.SECONDS));
+    long deadline = System.currentTimeMillis() + 2000;
+    while (!subscription.isClosed() && System.currentTimeMillis() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    assertTrue(subscription.isClosed());
+    assertEquals(0, tap.getSubscriptionCount());
+  }
+
+  @Test
+  public void testSlowSubscriberDoesNotBlockOthers() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    LiveTapSubscription slow = new LiveTapSubscription(tap, event -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }, 0, scheduler, deliveryExecutor);
+    CountDownLatch delivered = new CountDownLatch(2);
+    LiveTapSubscription fast = new LiveTapSubscription(tap, event -> delivered.countDown(), 0, scheduler,
+        deliveryExecutor);
+    tap.addSubscription(slow);
+    tap.addSubscription(fast);
+
+    consumer.publish(1);
+    TimeUnit.MILLISECONDS.sleep(50);
+    consumer.publish(2);
+
+    assertTrue(delivered.await(2, TimeUnit.SECONDS));
+    release.countDown();
+    slow.close();
+    fast.close();
+  }
+
+  @Test
+  public void testTapIsNotRegisteredIfOpenFails() {
+    String topic = "failing-topic-" + System.nanoTime();
+    EventConsumer failingConsumer = new FakeConsumer() {
+      @Override
+      public void connect(InternalEventProcessor<byte[]> eventProcessor) {
+        throw new SpRuntimeException("broker not reachable");
+      }
+    };
+    int activeTaps = LiveTapService.INSTANCE.getActiveTapCount();
+
+    assertThrows(SpRuntimeException.class, () -> LiveTapService.INSTANCE.getLatestEvent(topic,
+        () -> new LiveTap(topic, failingConsumer, new SpDataFormatConverter(new JsonDataFormatDefinition()), 3),
+        50));
+    assertEquals(activeTaps, LiveTapService.INSTANCE.getActiveTapCount());
+  }
+
+  private static class FakeConsumer implements EventConsumer {
+
+    private InternalEventProcessor<byte[]> eventProcessor;
+
+    @Override
+    public void connect(InternalEventProcessor<byte[]> eventProcessor) {
+      this.eventProcessor = eventProcessor;
+    }
+
+    @Override
+    public void disconnect() {
+      this.eventProcessor = null;
+    }
+
+    @Override
+    public boolean isConnected() {
+      return eventProcessor != null;
+    }
+
+    void publish(int value) {
+      eventProcessor.onEvent(("{\"value\":" + value + "}").getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
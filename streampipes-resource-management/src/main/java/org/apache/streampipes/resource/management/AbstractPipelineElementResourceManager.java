@@ -24,15 +24,27 @@ import org.apache.streampipes.storage.api.CRUDStorage;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public abstract class AbstractPipelineElementResourceManager<T extends CRUDStorage<String, W>,
     W extends NamedStreamPipesEntity, X> extends AbstractResourceManager<T> {
 
+  private static final List<Consumer<String>> DELETION_LISTENERS = new CopyOnWriteArrayList<>();
+
   public AbstractPipelineElementResourceManager(T db) {
     super(db);
   }
 
+  /**
+   * Registers a listener which is called with the element id of each deleted pipeline element,
+   * e.g., to keep in-memory indexes over the installed elements up to date.
+   */
+  public static void addDeletionListener(Consumer<String> listener) {
+    DELETION_LISTENERS.add(listener);
+  }
+
   public List<W> findAll() {
     return db.getAll();
   }
@@ -67,6 +79,7 @@ public abstract class AbstractPipelineElementResourceManager<T extends CRUDStora
     if (description != null) {
       deleteAssetsAndPermissions(description);
       db.deleteElement(description);
+      DELETION_LISTENERS.forEach(listener -> listener.accept(elementId));
     }
   }
 
@@ -21,6 +21,7 @@ import org.apache.streampipes.model.client.user.Permission;
 import org.apache.streampipes.model.client.user.PermissionBuilder;
 import org.apache.streampipes.storage.api.IPermissionStorage;
 import org.apache.streampipes.storage.management.StorageDispatcher;
+import org.apache.streampipes.user.management.cache.SecurityCache;
 
 import java.util.List;
 
@@ -40,6 +41,7 @@ public class PermissionResourceManager extends AbstractResourceManager<IPermissi
 
   public void create(Permission permission) {
     db.addPermission(permission);
+    SecurityCache.INSTANCE.invalidateUserDetails();
   }
 
   public void createDefault(String objectInstanceId,
@@ -56,9 +58,11 @@ public class PermissionResourceManager extends AbstractResourceManager<IPermissi
 
   public void update(Permission permission) {
     db.updatePermission(permission);
+    SecurityCache.INSTANCE.invalidateUserDetails();
   }
 
   public void delete(Permission permission) {
     db.deletePermission(permission.getPermissionId());
+    SecurityCache.INSTANCE.invalidateUserDetails();
   }
 }
@@ -34,6 +34,7 @@ import org.apache.streampipes.storage.api.IPasswordRecoveryTokenStorage;
 import org.apache.streampipes.storage.api.IUserActivationTokenStorage;
 import org.apache.streampipes.storage.api.IUserStorage;
 import org.apache.streampipes.storage.management.StorageDispatcher;
+import org.apache.streampipes.user.management.cache.SecurityCache;
 import org.apache.streampipes.user.management.util.PasswordUtil;
 
 import java.io.IOException;
@@ -54,6 +55,7 @@ public class UserResourceManager extends AbstractResourceManager<IUserStorage> {
     UserAccount user = userService.getUserAccount(username);
     user.setHideTutorial(hideTutorial);
     userService.updateUser(user);
+    SecurityCache.INSTANCE.invalidateAll();
   }
 
   public static IUserStorage getUserStorage() {
@@ -99,6 +101,7 @@ public class UserResourceManager extends AbstractResourceManager<IUserStorage> {
       if (user instanceof UserAccount) {
         user.setAccountEnabled(true);
         db.updateUser(user);
+        SecurityCache.INSTANCE.invalidateAll();
         getUserActivationTokenStorage().deleteElement(token);
       }
     } else {
@@ -144,6 +147,7 @@ public class UserResourceManager extends AbstractResourceManager<IUserStorage> {
       String encryptedPassword = PasswordUtil.encryptPassword(data.getPassword());
       ((UserAccount) user).setPassword(encryptedPassword);
       db.updateUser(user);
+      SecurityCache.INSTANCE.invalidateAll();
       getPasswordRecoveryTokenStorage().deleteElement(token);
     }
   }
@@ -44,4 +44,11 @@ public class AdapterMonitoringResource extends AbstractMonitoringResource {
   public Response getMetricsInfoForAdapter(@PathParam("elementId") String elementId) {
     return ok(ExtensionsLogProvider.INSTANCE.getMetricInfosForResource(elementId));
   }
+
+  @Path("adapter/{elementId}/metrics/history")
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response getMetricsHistoryForAdapter(@PathParam("elementId") String elementId) {
+    return ok(ExtensionsLogProvider.INSTANCE.getMetricsHistoryForResource(elementId));
+  }
 }
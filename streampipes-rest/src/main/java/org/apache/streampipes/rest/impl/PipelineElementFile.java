@@ -30,20 +30,37 @@ import org.springframework.stereotype.Component;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
+import java.io.File;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Path("/v2/files")
 @Component
 public class PipelineElementFile extends AbstractAuthGuardedRestResource {
 
+  private static final String RANGE = "Range";
+  private static final String CONTENT_RANGE = "Content-Range";
+  private static final String ACCEPT_RANGES = "Accept-Ranges";
+  private static final Pattern SINGLE_BYTE_RANGE = Pattern.compile("bytes=(\\d{0,18})-(\\d{0,18})");
+
   @POST
   @Consumes(MediaType.MULTIPART_FORM_DATA)
   @PreAuthorize(AuthConstants.IS_ADMIN_ROLE)
@@ -76,8 +93,88 @@ public class PipelineElementFile extends AbstractAuthGuardedRestResource {
   @GET
   @Path("/{filename}")
   @Produces(MediaType.APPLICATION_OCTET_STREAM)
-  public Response getFile(@PathParam("filename") String filename) {
-    return ok(FileManager.getFile(filename));
+  public Response getFile(@PathParam("filename") String filename,
+                          @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+                          @HeaderParam(RANGE) String range) {
+    File file = FileManager.getFile(filename);
+    String fileHash = FileManager.getFileHash(filename);
+    if (!file.exists() || fileHash == null) {
+      return notFound();
+    }
+
+    EntityTag entityTag = new EntityTag(fileHash);
+    if (ifNoneMatch != null && matchesEntityTag(ifNoneMatch, fileHash)) {
+      return Response.notModified(entityTag).build();
+    }
+
+    Matcher rangeMatcher = range != null ? SINGLE_BYTE_RANGE.matcher(range.trim()) : null;
+    if (rangeMatcher != null && rangeMatcher.matches()) {
+      return makeRangeResponse(file, rangeMatcher, entityTag);
+    } else {
+      // multiple ranges are not supported and answered with the complete file
+      return Response
+          .ok(file)
+          .tag(entityTag)
+          .header(ACCEPT_RANGES, "bytes")
+          .build();
+    }
+  }
+
+  private boolean matchesEntityTag(String ifNoneMatch,
+                                   String fileHash) {
+    return Arrays
+        .stream(ifNoneMatch.split(","))
+        .map(tag -> tag.trim().replaceFirst("^W/", "").replace("\"", ""))
+        .anyMatch(tag -> tag.equals("*") || tag.equals(fileHash));
+  }
+
+  private Response makeRangeResponse(File file,
+                                     Matcher rangeMatcher,
+                                     EntityTag entityTag) {
+    long size = file.length();
+    String first = rangeMatcher.group(1);
+    String last = rangeMatcher.group(2);
+    long start;
+    long end;
+    if (first.isEmpty()) {
+      long suffixLength = last.isEmpty() ? 0 : Long.parseLong(last);
+      start = Math.max(0, size - suffixLength);
+      end = suffixLength > 0 ? size - 1 : -1;
+    } else {
+      start = Long.parseLong(first);
+      end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+    }
+
+    if (start >= size || start > end) {
+      return Response
+          .status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+          .header(CONTENT_RANGE, "bytes */" + size)
+          .build();
+    }
+
+    long length = end - start + 1;
+    StreamingOutput output = out -> {
+      try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+        WritableByteChannel target = Channels.newChannel(out);
+        long transferred = 0;
+        while (transferred < length) {
+          long count = channel.transferTo(start + transferred, length - transferred, target);
+          if (count <= 0) {
+            break;
+          }
+          transferred += count;
+        }
+      }
+    };
+
+    return Response
+        .status(Response.Status.PARTIAL_CONTENT)
+        .entity(output)
+        .tag(entityTag)
+        .header(ACCEPT_RANGES, "bytes")
+        .header(CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size)
+        .header(HttpHeaders.CONTENT_LENGTH, length)
+        .build();
   }
 
 }
@@ -18,6 +18,7 @@
 package org.apache.streampipes.rest.impl;
 
 import org.apache.streampipes.manager.preview.PipelinePreview;
+import org.apache.streampipes.manager.runtime.LiveTapListener;
 import org.apache.streampipes.model.pipeline.Pipeline;
 import org.apache.streampipes.model.preview.PipelinePreviewModel;
 import org.apache.streampipes.rest.core.base.impl.AbstractRestResource;
@@ -25,17 +26,25 @@ import org.apache.streampipes.rest.shared.annotation.JacksonSerialized;
 
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 
 @Path("/v2/pipeline-element-preview")
 public class PipelineElementPreview extends AbstractRestResource {
 
+  private static final long MIN_PUSH_INTERVAL_MS = 250;
+
 
   @POST
   @Produces(MediaType.APPLICATION_JSON)
@@ -61,6 +70,41 @@ public class PipelineElementPreview extends AbstractRestResource {
     }
   }
 
+  @GET
+  @Path("{previewId}/{pipelineElementDomId}/live")
+  @Produces(MediaType.SERVER_SENT_EVENTS)
+  public void streamPipelinePreviewResults(@PathParam("previewId") String previewId,
+                                           @PathParam("pipelineElementDomId") String pipelineElementDomId,
+                                           @QueryParam("minInterval") @DefaultValue("1000") long minIntervalMs,
+                                           @Context SseEventSink eventSink,
+                                           @Context Sse sse) {
+    try {
+      new PipelinePreview().subscribeToPipelineElementPreview(
+          previewId,
+          pipelineElementDomId,
+          new LiveTapListener() {
+            @Override
+            public void onEvent(String event) {
+              send(eventSink, sse.newEventBuilder().name("preview").data(event).build());
+            }
+
+            @Override
+            public void onHeartbeat() {
+              send(eventSink, sse.newEventBuilder().comment("heartbeat").build());
+            }
+
+            @Override
+            public void onClose() {
+              eventSink.close();
+            }
+          },
+          Math.max(MIN_PUSH_INTERVAL_MS, minIntervalMs));
+    } catch (RuntimeException e) {
+      // unknown preview or broker not reachable, the client must not be left waiting
+      eventSink.close();
+    }
+  }
+
   @DELETE
   @Path("{previewId}")
   @Produces(MediaType.APPLICATION_JSON)
@@ -68,4 +112,16 @@ public class PipelineElementPreview extends AbstractRestResource {
     new PipelinePreview().deletePreview(previewId);
   }
 
+  private void send(SseEventSink eventSink,
+                    OutboundSseEvent event) {
+    if (eventSink.isClosed()) {
+      throw new IllegalStateException("Preview client disconnected");
+    }
+    eventSink
+        .send(event)
+        .exceptionally(e -> {
+          eventSink.close();
+          return null;
+        });
+  }
 }
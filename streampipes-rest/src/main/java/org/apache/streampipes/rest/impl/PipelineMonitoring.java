@@ -43,4 +43,11 @@ public class PipelineMonitoring extends AbstractMonitoringResource {
     return ok(ExtensionsLogProvider.INSTANCE.getMetricInfosForPipeline(pipelineId));
   }
 
+  @Path("pipeline/{pipelineId}/metrics/history")
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response getMetricsHistoryForPipeline(@PathParam("pipelineId") String pipelineId) {
+    return ok(ExtensionsLogProvider.INSTANCE.getMetricsHistoryForPipeline(pipelineId));
+  }
+
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.rest.impl;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.dataformat.positional.PositionalLayout;
+import org.apache.streampipes.dataformat.positional.PositionalSchemaStore;
+import org.apache.streampipes.manager.runtime.GenericStoragePositionalSchemaStore;
+import org.apache.streampipes.rest.core.base.impl.AbstractAuthGuardedRestResource;
+import org.apache.streampipes.rest.security.AuthConstants;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Component;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.util.Map;
+
+import static org.apache.streampipes.manager.runtime.GenericStoragePositionalSchemaStore.DESCRIPTOR;
+import static org.apache.streampipes.manager.runtime.GenericStoragePositionalSchemaStore.FINGERPRINT;
+
+/**
+ * Registry of the layouts used by the positional data format, identified by their fingerprint.
+ */
+@Path("/v2/positional-schemas")
+@Component
+public class PositionalSchemaResource extends AbstractAuthGuardedRestResource {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PositionalSchemaResource.class);
+
+  private final PositionalSchemaStore schemaStore = new GenericStoragePositionalSchemaStore();
+
+  @GET
+  @Path("/{fingerprint}")
+  @Produces(MediaType.APPLICATION_JSON)
+  @PreAuthorize(AuthConstants.IS_AUTHENTICATED)
+  public Response getLayout(@PathParam("fingerprint") String fingerprint) {
+    try {
+      long parsedFingerprint = PositionalLayout.fromHex(fingerprint);
+      return schemaStore.find(parsedFingerprint)
+          .map(descriptor -> ok(Map.of(FINGERPRINT, fingerprint, DESCRIPTOR, descriptor)))
+          .orElseGet(this::notFound);
+    } catch (NumberFormatException e) {
+      return badRequest();
+    }
+  }
+
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  @PreAuthorize(AuthConstants.IS_AUTHENTICATED)
+  public Response storeLayout(Map<String, String> layout) {
+    if (layout.get(DESCRIPTOR) == null || layout.get(FINGERPRINT) == null) {
+      return badRequest();
+    }
+    try {
+      PositionalLayout parsedLayout = PositionalLayout.parse(layout.get(DESCRIPTOR));
+      if (parsedLayout.getFingerprint() != PositionalLayout.fromHex(layout.get(FINGERPRINT))) {
+        return badRequest();
+      }
+      schemaStore.store(parsedLayout.getFingerprint(), parsedLayout.getDescriptor());
+      return ok();
+    } catch (IllegalArgumentException e) {
+      return badRequest();
+    } catch (SpRuntimeException e) {
+      LOG.error("Could not store positional layout", e);
+      return fail();
+    }
+  }
+}
@@ -30,6 +30,7 @@ import org.apache.streampipes.rest.core.base.impl.AbstractAuthGuardedRestResourc
 import org.apache.streampipes.rest.security.AuthConstants;
 import org.apache.streampipes.rest.shared.annotation.JacksonSerialized;
 import org.apache.streampipes.rest.utils.Utils;
+import org.apache.streampipes.user.management.cache.SecurityCache;
 import org.apache.streampipes.user.management.encryption.SecretEncryptionManager;
 import org.apache.streampipes.user.management.service.TokenService;
 import org.apache.streampipes.user.management.util.PasswordUtil;
@@ -111,6 +112,7 @@ public class UserResource extends AbstractAuthGuardedRestResource {
 
     if (principal != null) {
       getUserStorage().deleteUser(principalId);
+      SecurityCache.INSTANCE.invalidateAll();
       return ok();
     } else {
       return statusMessage(Notifications.error("User not found"));
@@ -126,6 +128,7 @@ public class UserResource extends AbstractAuthGuardedRestResource {
       UserAccount user = getUser(authenticatedUsername);
       user.setDarkMode(darkMode);
       getUserStorage().updateUser(user);
+      SecurityCache.INSTANCE.invalidateAll();
 
       return ok(Notifications.success("Appearance updated"));
     } else {
@@ -204,6 +207,7 @@ public class UserResource extends AbstractAuthGuardedRestResource {
       updateUser(existingUser, user, isAdmin(), existingUser.getPassword());
       user.setRev(existingUser.getRev());
       getUserStorage().updateUser(user);
+      SecurityCache.INSTANCE.invalidateAll();
       return ok(Notifications.success("User updated"));
     } else {
       return statusMessage(Notifications.error("User not found"));
@@ -229,6 +233,7 @@ public class UserResource extends AbstractAuthGuardedRestResource {
               .noneMatch(u -> u.getUsername().equalsIgnoreCase(user.getUsername()))) {
             updateUser(existingUser, user, isAdmin(), existingUser.getPassword());
             getUserStorage().updateUser(existingUser);
+            SecurityCache.INSTANCE.invalidateAll();
             return ok();
           } else {
             return badRequest(Notifications.error("Username already taken"));
@@ -259,6 +264,7 @@ public class UserResource extends AbstractAuthGuardedRestResource {
           String newEncryptedPw = PasswordUtil.encryptPassword(passwordRequest.getNewPassword());
           updateUser(existingUser, existingUser, isAdmin(), newEncryptedPw);
           getUserStorage().updateUser(existingUser);
+          SecurityCache.INSTANCE.invalidateAll();
 
           return ok();
         } else {
@@ -290,6 +296,7 @@ public class UserResource extends AbstractAuthGuardedRestResource {
         user.setSecretEncrypted(true);
       }
       getUserStorage().updateUser(user);
+      SecurityCache.INSTANCE.invalidateAll();
       return ok(Notifications.success("User updated"));
     } else {
       return statusMessage(Notifications.error("User not found"));
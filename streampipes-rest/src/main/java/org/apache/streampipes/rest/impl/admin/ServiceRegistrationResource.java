@@ -18,6 +18,8 @@
 
 package org.apache.streampipes.rest.impl.admin;
 
+import org.apache.streampipes.manager.health.ServiceLivenessTracker;
+import org.apache.streampipes.manager.monitoring.pipeline.ExtensionsLogProvider;
 import org.apache.streampipes.model.extensions.svcdiscovery.SpServiceRegistration;
 import org.apache.streampipes.rest.core.base.impl.AbstractAuthGuardedRestResource;
 import org.apache.streampipes.rest.security.AuthConstants;
@@ -32,6 +34,7 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
@@ -62,9 +65,19 @@ public class ServiceRegistrationResource extends AbstractAuthGuardedRestResource
     try {
       var serviceRegistration = extensionsServiceStorage.getElementById(serviceId);
       extensionsServiceStorage.deleteElement(serviceRegistration);
+      ServiceLivenessTracker.INSTANCE.remove(serviceId);
+      ExtensionsLogProvider.INSTANCE.removeService(serviceId);
       return ok();
     } catch (IllegalArgumentException e) {
       return badRequest("Could not find registered service with id " + serviceId);
     }
   }
+
+  @POST
+  @Path("/{serviceId}/heartbeat")
+  public Response receiveHeartbeat(@PathParam("serviceId") String serviceId,
+                                   @QueryParam("intervalMs") Long heartbeatIntervalMs) {
+    ServiceLivenessTracker.INSTANCE.recordHeartbeat(serviceId, heartbeatIntervalMs);
+    return ok();
+  }
 }
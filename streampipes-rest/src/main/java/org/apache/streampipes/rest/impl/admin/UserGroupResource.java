@@ -21,6 +21,7 @@ import org.apache.streampipes.model.client.user.Group;
 import org.apache.streampipes.rest.core.base.impl.AbstractAuthGuardedRestResource;
 import org.apache.streampipes.rest.security.AuthConstants;
 import org.apache.streampipes.storage.api.IUserGroupStorage;
+import org.apache.streampipes.user.management.cache.SecurityCache;
 
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
@@ -58,7 +59,9 @@ public class UserGroupResource extends AbstractAuthGuardedRestResource {
     if (!groupId.equals(group.getGroupId())) {
       return badRequest();
     } else {
-      return ok(getUserGroupStorage().updateElement(group));
+      Group updatedGroup = getUserGroupStorage().updateElement(group);
+      SecurityCache.INSTANCE.invalidateAll();
+      return ok(updatedGroup);
     }
   }
 
@@ -77,6 +80,7 @@ public class UserGroupResource extends AbstractAuthGuardedRestResource {
           getUserStorage().updateUser(user);
         }
       });
+      SecurityCache.INSTANCE.invalidateAll();
       return ok();
     } else {
       return badRequest();
@@ -19,6 +19,7 @@
 package org.apache.streampipes.rest.impl.connect;
 
 import org.apache.streampipes.commons.exceptions.connect.AdapterException;
+import org.apache.streampipes.connect.management.health.AdapterOperationLock;
 import org.apache.streampipes.connect.management.management.AdapterMasterManagement;
 import org.apache.streampipes.model.connect.adapter.AdapterDescription;
 import org.apache.streampipes.model.message.Notifications;
@@ -117,7 +118,7 @@ public class AdapterResource extends AbstractAdapterResource<AdapterMasterManage
   @PreAuthorize(AuthConstants.HAS_WRITE_ADAPTER_PRIVILEGE)
   public Response stopAdapter(@PathParam("id") String adapterId) {
     try {
-      managementService.stopStreamAdapter(adapterId);
+      AdapterOperationLock.INSTANCE.runUserOperation(() -> managementService.stopStreamAdapter(adapterId));
       return ok(Notifications.success("Adapter started"));
     } catch (AdapterException e) {
       LOG.error("Could not stop adapter with id " + adapterId, e);
@@ -132,7 +133,7 @@ public class AdapterResource extends AbstractAdapterResource<AdapterMasterManage
   @PreAuthorize(AuthConstants.HAS_WRITE_ADAPTER_PRIVILEGE)
   public Response startAdapter(@PathParam("id") String adapterId) {
     try {
-      managementService.startStreamAdapter(adapterId);
+      AdapterOperationLock.INSTANCE.runUserOperation(() -> managementService.startStreamAdapter(adapterId));
       return ok(Notifications.success("Adapter stopped"));
     } catch (AdapterException e) {
       LOG.error("Could not start adapter with id " + adapterId, e);
@@ -150,7 +151,7 @@ public class AdapterResource extends AbstractAdapterResource<AdapterMasterManage
 
     if (pipelinesUsingAdapter.size() == 0) {
       try {
-        managementService.deleteAdapter(elementId);
+        AdapterOperationLock.INSTANCE.runUserOperation(() -> managementService.deleteAdapter(elementId));
         return ok(Notifications.success("Adapter with id: " + elementId + " is deleted."));
       } catch (AdapterException e) {
         LOG.error("Error while deleting adapter with id " + elementId, e);
@@ -59,6 +59,15 @@ public class Formats {
     return new TransportFormat(MessageFormat.SMILE);
   }
 
+  /**
+   * Defines the schema-positional binary transport format used by a data stream at runtime.
+   *
+   * @return The {@link org.apache.streampipes.model.grounding.TransportFormat} of type POSITIONAL.
+   */
+  public static TransportFormat positionalFormat() {
+    return new TransportFormat(MessageFormat.POSITIONAL);
+  }
+
   /**
    * Defines the transport format Apache Thrift used by a data stream at runtime.
    *
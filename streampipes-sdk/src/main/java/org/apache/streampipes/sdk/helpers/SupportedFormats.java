@@ -71,4 +71,14 @@ public class SupportedFormats {
   public static TransportFormat smileFormat() {
     return new TransportFormat(MessageFormat.SMILE);
   }
+
+  /**
+   * Defines that a pipeline element (data processor or data sink) supports processing messaging
+   * arriving in the schema-positional binary format
+   *
+   * @return The resulting {@link org.apache.streampipes.model.grounding.TransportFormat}.
+   */
+  public static TransportFormat positionalFormat() {
+    return new TransportFormat(MessageFormat.POSITIONAL);
+  }
 }
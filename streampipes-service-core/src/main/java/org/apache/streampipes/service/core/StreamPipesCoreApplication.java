@@ -18,10 +18,13 @@
 package org.apache.streampipes.service.core;
 
 import org.apache.streampipes.config.backend.BackendConfig;
+import org.apache.streampipes.connect.management.health.AdapterHealthCheck;
+import org.apache.streampipes.dataformat.positional.PositionalSchemaRegistry;
 import org.apache.streampipes.manager.health.PipelineHealthCheck;
 import org.apache.streampipes.manager.health.ServiceHealthCheck;
 import org.apache.streampipes.manager.monitoring.pipeline.ExtensionsServiceLogExecutor;
 import org.apache.streampipes.manager.operations.Operations;
+import org.apache.streampipes.manager.runtime.GenericStoragePositionalSchemaStore;
 import org.apache.streampipes.manager.setup.AutoInstallation;
 import org.apache.streampipes.manager.setup.StreamPipesEnvChecker;
 import org.apache.streampipes.messaging.SpProtocolManager;
@@ -81,12 +84,16 @@ public class StreamPipesCoreApplication extends StreamPipesServiceBase {
   private static final int HEALTH_CHECK_INTERVAL = 60;
   private static final TimeUnit HEALTH_CHECK_UNIT = TimeUnit.SECONDS;
 
-  private static final int SERVICE_HEALTH_CHECK_INTERVAL = 60;
+  private static final int SERVICE_HEALTH_CHECK_INTERVAL = 5;
   private static final TimeUnit SERVICE_HEALTH_CHECK_UNIT = TimeUnit.SECONDS;
 
+  private static final int ADAPTER_HEALTH_CHECK_INTERVAL = 60;
+  private static final TimeUnit ADAPTER_HEALTH_CHECK_UNIT = TimeUnit.SECONDS;
+
   private ScheduledExecutorService executorService;
   private ScheduledExecutorService healthCheckExecutorService;
   private ScheduledExecutorService serviceHealthCheckExecutorService;
+  private ScheduledExecutorService adapterHealthCheckExecutorService;
   private ScheduledExecutorService logCheckExecutorService;
 
   private final Map<String, Integer> failedPipelines = new HashMap<>();
@@ -125,9 +132,11 @@ public class StreamPipesCoreApplication extends StreamPipesServiceBase {
     this.healthCheckExecutorService = Executors.newSingleThreadScheduledExecutor();
     this.logCheckExecutorService = Executors.newSingleThreadScheduledExecutor();
     this.serviceHealthCheckExecutorService = Executors.newSingleThreadScheduledExecutor();
+    this.adapterHealthCheckExecutorService = Executors.newSingleThreadScheduledExecutor();
 
     new StreamPipesEnvChecker().updateEnvironmentVariables();
     new CouchDbViewGenerator().createGenericDatabaseIfNotExists();
+    PositionalSchemaRegistry.INSTANCE.setSchemaStore(new GenericStoragePositionalSchemaStore());
 
     if (!isConfigured()) {
       doInitialSetup();
@@ -149,6 +158,12 @@ public class StreamPipesCoreApplication extends StreamPipesServiceBase {
         HEALTH_CHECK_INTERVAL,
         HEALTH_CHECK_UNIT);
 
+    LOG.info("Adapter health check will run every {} seconds", ADAPTER_HEALTH_CHECK_INTERVAL);
+    adapterHealthCheckExecutorService.scheduleAtFixedRate(new AdapterHealthCheck(),
+        ADAPTER_HEALTH_CHECK_INTERVAL,
+        ADAPTER_HEALTH_CHECK_INTERVAL,
+        ADAPTER_HEALTH_CHECK_UNIT);
+
     LOG.info("Extensions logs will be fetched every {} seconds", LOG_FETCH_INTERVAL);
     logCheckExecutorService.scheduleAtFixedRate(new ExtensionsServiceLogExecutor(),
         LOG_FETCH_INTERVAL,
@@ -33,6 +33,7 @@ import org.apache.streampipes.rest.impl.CategoryResource;
 import org.apache.streampipes.rest.impl.ContainerProvidedOptions;
 import org.apache.streampipes.rest.impl.DataStream;
 import org.apache.streampipes.rest.impl.EmailResource;
+import org.apache.streampipes.rest.impl.ExtensionsMonitoringResource;
 import org.apache.streampipes.rest.impl.FunctionsResource;
 import org.apache.streampipes.rest.impl.GenericStorageResource;
 import org.apache.streampipes.rest.impl.LabelResource;
@@ -51,6 +52,7 @@ import org.apache.streampipes.rest.impl.PipelineElementRuntimeInfo;
 import org.apache.streampipes.rest.impl.PipelineMonitoring;
 import org.apache.streampipes.rest.impl.PipelineResource;
 import org.apache.streampipes.rest.impl.PipelineTemplate;
+import org.apache.streampipes.rest.impl.PositionalSchemaResource;
 import org.apache.streampipes.rest.impl.ResetResource;
 import org.apache.streampipes.rest.impl.RestorePasswordResource;
 import org.apache.streampipes.rest.impl.Setup;
@@ -89,6 +91,8 @@ import org.apache.streampipes.service.base.rest.ServiceHealthResource;
 
 import io.swagger.v3.jaxrs2.integration.resources.OpenApiResource;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.glassfish.jersey.message.GZipEncoder;
 import org.glassfish.jersey.server.ServerProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -124,6 +128,7 @@ public class StreamPipesResourceConfig extends BaseResourceConfig {
         DataStream.class,
         EmailConfigurationResource.class,
         EmailResource.class,
+        ExtensionsMonitoringResource.class,
         ExtensionsServiceEndpointResource.class,
         FunctionsResource.class,
         GeneralConfigurationResource.class,
@@ -148,6 +153,7 @@ public class StreamPipesResourceConfig extends BaseResourceConfig {
         PipelineMonitoring.class,
         PipelineResource.class,
         PipelineTemplate.class,
+        PositionalSchemaResource.class,
         DataSinkResource.class,
         DataProcessorResource.class,
         DataStreamResource.class,
@@ -167,6 +173,8 @@ public class StreamPipesResourceConfig extends BaseResourceConfig {
         // Serializers
         JacksonSerializationProvider.class,
         MultiPartFeature.class,
+        SseFeature.class,
+        GZipEncoder.class,
 
         // Platform Services
         PipelineElementTemplateResource.class,
@@ -24,6 +24,7 @@ import org.apache.streampipes.model.client.user.ServiceAccount;
 import org.apache.streampipes.model.client.user.UserAccount;
 import org.apache.streampipes.storage.api.IUserStorage;
 import org.apache.streampipes.storage.management.StorageDispatcher;
+import org.apache.streampipes.user.management.cache.SecurityCache;
 import org.apache.streampipes.user.management.jwt.JwtTokenProvider;
 import org.apache.streampipes.user.management.model.PrincipalUserDetails;
 import org.apache.streampipes.user.management.model.ServiceAccountDetails;
@@ -73,7 +74,8 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         String apiUser = getApiUserFromRequest(request);
         if (StringUtils.hasText(apiKey) && StringUtils.hasText(apiUser)) {
           String hashedToken = TokenUtil.hashToken(apiKey);
-          boolean hasValidToken = new TokenService().hasValidToken(apiUser, hashedToken);
+          boolean hasValidToken = SecurityCache.INSTANCE.isValidApiKey(apiUser, hashedToken,
+              () -> new TokenService().hasValidToken(apiUser, hashedToken));
           if (hasValidToken) {
             applySuccessfulAuth(request, apiUser);
           }
@@ -88,9 +90,8 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
   private void applySuccessfulAuth(HttpServletRequest request,
                                    String username) {
-    Principal user = userStorage.getUser(username);
-    PrincipalUserDetails<?> userDetails = user instanceof UserAccount ? new UserAccountDetails((UserAccount) user) :
-        new ServiceAccountDetails((ServiceAccount) user);
+    PrincipalUserDetails<?> userDetails =
+        SecurityCache.INSTANCE.getUserDetails(username, () -> makeUserDetails(username));
     UsernamePasswordAuthenticationToken authentication =
         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -98,6 +99,12 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
     SecurityContextHolder.getContext().setAuthentication(authentication);
   }
 
+  private PrincipalUserDetails<?> makeUserDetails(String username) {
+    Principal user = SecurityCache.INSTANCE.getPrincipal(username, () -> userStorage.getUser(username));
+    return user instanceof UserAccount ? new UserAccountDetails((UserAccount) user) :
+        new ServiceAccountDetails((ServiceAccount) user);
+  }
+
 
   private String getJwtFromRequest(HttpServletRequest request) {
     String bearerToken = request.getHeader(HttpConstants.AUTHORIZATION);
@@ -22,6 +22,8 @@ import org.apache.streampipes.extensions.management.model.SpServiceDefinition;
 import org.apache.streampipes.model.extensions.svcdiscovery.SpServiceTag;
 import org.apache.streampipes.service.extensions.connect.ConnectWorkerRegistrationService;
 import org.apache.streampipes.service.extensions.function.StreamPipesFunctionHandler;
+import org.apache.streampipes.service.extensions.monitoring.ExtensionsHeartbeatSender;
+import org.apache.streampipes.service.extensions.monitoring.ExtensionsMonitoringPusher;
 import org.apache.streampipes.service.extensions.security.WebSecurityConfig;
 
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -41,6 +43,8 @@ public abstract class ExtensionsModelSubmitter extends StreamPipesExtensionsServ
   public void onExit() {
     new ExtensionsServiceShutdownHandler().onShutdown();
     StreamPipesFunctionHandler.INSTANCE.cleanupFunctions();
+    ExtensionsMonitoringPusher.INSTANCE.stop();
+    ExtensionsHeartbeatSender.INSTANCE.stop();
     deregisterService(DeclarersSingleton.getInstance().getServiceId());
   }
 
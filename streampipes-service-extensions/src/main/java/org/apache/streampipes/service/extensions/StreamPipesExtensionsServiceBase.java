@@ -30,6 +30,8 @@ import org.apache.streampipes.model.extensions.svcdiscovery.SpServiceTag;
 import org.apache.streampipes.model.extensions.svcdiscovery.SpServiceTagPrefix;
 import org.apache.streampipes.service.base.BaseNetworkingConfig;
 import org.apache.streampipes.service.base.StreamPipesServiceBase;
+import org.apache.streampipes.service.extensions.monitoring.ExtensionsHeartbeatSender;
+import org.apache.streampipes.service.extensions.monitoring.ExtensionsMonitoringPusher;
 import org.apache.streampipes.svcdiscovery.api.model.DefaultSpServiceTypes;
 
 import org.slf4j.Logger;
@@ -92,6 +94,8 @@ public abstract class StreamPipesExtensionsServiceBase extends StreamPipesServic
         networkingConfig
     );
 
+    ExtensionsHeartbeatSender.INSTANCE.start(serviceId());
+    ExtensionsMonitoringPusher.INSTANCE.start(serviceId());
     this.afterServiceRegistered(serviceDef);
   }
 
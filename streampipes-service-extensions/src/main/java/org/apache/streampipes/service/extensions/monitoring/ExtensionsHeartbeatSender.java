@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.service.extensions.monitoring;
+
+import org.apache.streampipes.client.StreamPipesClient;
+import org.apache.streampipes.commons.environment.Environments;
+import org.apache.streampipes.extensions.management.client.StreamPipesClientResolver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically reports the liveness of this extensions service to the core,
+ * so that the core only needs to probe services which stopped sending heartbeats.
+ */
+public enum ExtensionsHeartbeatSender {
+
+  INSTANCE;
+
+  private static final Logger LOG = LoggerFactory.getLogger(ExtensionsHeartbeatSender.class);
+
+  private ScheduledExecutorService scheduler;
+  private StreamPipesClient client;
+  private String serviceId;
+  private long heartbeatIntervalMs;
+
+  public synchronized void start(String serviceId) {
+    long heartbeatIntervalMs = Environments.getEnvironment().getHeartbeatIntervalMs().getValueOrDefault();
+    if (heartbeatIntervalMs <= 0 || scheduler != null) {
+      return;
+    }
+    this.serviceId = serviceId;
+    this.heartbeatIntervalMs = heartbeatIntervalMs;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "sp-heartbeat");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.scheduler.scheduleAtFixedRate(
+        this::sendHeartbeat,
+        0,
+        heartbeatIntervalMs,
+        TimeUnit.MILLISECONDS);
+  }
+
+  public synchronized void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  private void sendHeartbeat() {
+    try {
+      if (client == null) {
+        client = new StreamPipesClientResolver().makeStreamPipesClientInstance();
+      }
+      client.adminApi().sendHeartbeat(serviceId, heartbeatIntervalMs);
+    } catch (RuntimeException e) {
+      LOG.debug("Could not send heartbeat to core: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.service.extensions.monitoring;
+
+import org.apache.streampipes.client.StreamPipesClient;
+import org.apache.streampipes.commons.environment.Environments;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
+import org.apache.streampipes.extensions.management.client.StreamPipesClientResolver;
+import org.apache.streampipes.model.monitoring.SpMonitoringDeltaResult;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically pushes the monitoring deltas of this extensions service to the core,
+ * so that the core does not need to poll the monitoring endpoint of the service.
+ * Empty deltas are pushed every few intervals, because the core polls services which stopped pushing.
+ */
+public enum ExtensionsMonitoringPusher {
+
+  INSTANCE;
+
+  private static final Logger LOG = LoggerFactory.getLogger(ExtensionsMonitoringPusher.class);
+
+  private static final String MONITORING_PATH = "api/v2/extensions-monitoring";
+  private static final int KEEP_ALIVE_INTERVALS = 2;
+
+  private ScheduledExecutorService scheduler;
+  private StreamPipesClient client;
+  private String serviceId;
+  private long keepAliveIntervalMs;
+  private long lastPushTime;
+  private boolean fullSnapshotRequired = true;
+
+  public synchronized void start(String serviceId) {
+    long pushIntervalMs = Environments.getEnvironment().getMonitoringPushIntervalMs().getValueOrDefault();
+    if (pushIntervalMs <= 0 || scheduler != null) {
+      return;
+    }
+    this.serviceId = serviceId;
+    this.keepAliveIntervalMs = KEEP_ALIVE_INTERVALS * pushIntervalMs;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "sp-monitoring-push");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.scheduler.scheduleWithFixedDelay(
+        this::push,
+        pushIntervalMs,
+        pushIntervalMs,
+        TimeUnit.MILLISECONDS);
+    LOG.info("Monitoring data will be pushed to the core every {} ms", pushIntervalMs);
+  }
+
+  /**
+   * Stops the periodic push and sends the remaining monitoring data to the core.
+   */
+  public synchronized void stop() {
+    if (scheduler != null) {
+      scheduler.shutdown();
+      try {
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      scheduler = null;
+      push();
+    }
+  }
+
+  private void push() {
+    var delta = SpMonitoringManager.INSTANCE.makeDelta(serviceId, fullSnapshotRequired);
+    if (!delta.hasContent() && System.currentTimeMillis() - lastPushTime < keepAliveIntervalMs) {
+      return;
+    }
+    try {
+      if (client == null) {
+        client = new StreamPipesClientResolver().makeStreamPipesClientInstance();
+      }
+      var result = client.customRequest().sendPost(MONITORING_PATH, delta, SpMonitoringDeltaResult.class);
+      lastPushTime = System.currentTimeMillis();
+      if (result != null && result.isResyncRequired()) {
+        LOG.info("Core requested a full monitoring snapshot");
+        fullSnapshotRequired = true;
+      } else {
+        SpMonitoringManager.INSTANCE.acknowledgeDelta(delta);
+        fullSnapshotRequired = false;
+      }
+    } catch (RuntimeException e) {
+      LOG.warn("Could not push monitoring data to core: {}", e.getMessage());
+    }
+  }
+}
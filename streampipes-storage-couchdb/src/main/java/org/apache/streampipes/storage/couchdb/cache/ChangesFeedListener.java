@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.storage.couchdb.cache;
+
+import org.lightcouch.Changes;
+import org.lightcouch.ChangesResult;
+import org.lightcouch.CouchDbClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Function;
+
+/**
+ * Consumes the continuous _changes feed of a database and invalidates the corresponding cache entries.
+ * The cache is only active while the feed is connected. If the feed is interrupted, the cache is
+ * invalidated and bypassed, since changes might be missed, until the feed has been resumed.
+ */
+public class ChangesFeedListener implements Runnable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ChangesFeedListener.class);
+
+  private static final long HEARTBEAT_MS = 30000;
+  private static final long RECONNECT_DELAY_MS = 5000;
+  private static final String SINCE_NOW = "now";
+
+  private final DocumentCache cache;
+  private final Function<String, CouchDbClient> clientFactory;
+
+  private volatile boolean running;
+  private volatile Changes changes;
+
+  public ChangesFeedListener(DocumentCache cache,
+                             Function<String, CouchDbClient> clientFactory) {
+    this.cache = cache;
+    this.clientFactory = clientFactory;
+    this.running = true;
+  }
+
+  public void start() {
+    Thread thread = new Thread(this, "couchdb-changes-" + cache.getDatabaseName());
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  public void stop() {
+    running = false;
+    Changes current = changes;
+    if (current != null) {
+      current.stop();
+    }
+  }
+
+  @Override
+  public void run() {
+    while (running) {
+      CouchDbClient client = null;
+      try {
+        client = clientFactory.apply(cache.getDatabaseName());
+        changes = client.changes()
+            .includeDocs(false)
+            .since(SINCE_NOW)
+            .heartBeat(HEARTBEAT_MS)
+            .continuousChanges();
+        // changes made while the feed was not connected would otherwise be missed
+        cache.activate();
+
+        while (running && changes.hasNext()) {
+          ChangesResult.Row row = changes.next();
+          cache.invalidate(row.getId());
+        }
+      } catch (RuntimeException e) {
+        LOG.warn("Changes feed of database {} interrupted: {}", cache.getDatabaseName(), e.getMessage());
+      } finally {
+        cache.deactivate();
+        if (client != null) {
+          client.shutdown();
+        }
+      }
+      sleepBeforeReconnect();
+    }
+  }
+
+  private void sleepBeforeReconnect() {
+    if (running) {
+      try {
+        Thread.sleep(RECONNECT_DELAY_MS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      }
+    }
+  }
+}
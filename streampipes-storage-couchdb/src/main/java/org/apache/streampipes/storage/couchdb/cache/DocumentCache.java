@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.storage.couchdb.cache;
+
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of the raw JSON documents of a single CouchDB database.
+ * Documents are cached as JSON and deserialized on every read, so callers never share mutable objects.
+ * Any change to the database invalidates the affected document and all cached view results.
+ */
+public class DocumentCache {
+
+  private final String databaseName;
+  private final Map<String, JsonObject> documents;
+  private final Map<String, List<JsonObject>> views;
+
+  // incremented on every invalidation, so that results loaded concurrently to a change are not cached
+  private final AtomicLong generation;
+
+  // the cache is only used while its coherence is ensured, e.g., while the changes feed is connected
+  private volatile boolean active;
+
+  public DocumentCache(String databaseName) {
+    this.databaseName = databaseName;
+    this.documents = new ConcurrentHashMap<>();
+    this.views = new ConcurrentHashMap<>();
+    this.generation = new AtomicLong(0);
+  }
+
+  public String getDatabaseName() {
+    return databaseName;
+  }
+
+  public Optional<JsonObject> getDocument(String id,
+                                          Supplier<Optional<JsonObject>> loader) {
+    if (!active) {
+      return loader.get();
+    }
+    JsonObject cached = documents.get(id);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    long currentGeneration = generation.get();
+    Optional<JsonObject> document = loader.get();
+    if (document.isPresent() && currentGeneration == generation.get()) {
+      documents.put(id, document.get());
+      if (currentGeneration != generation.get()) {
+        documents.remove(id);
+      }
+    }
+    return document;
+  }
+
+  public List<JsonObject> getView(String viewName,
+                                  Supplier<List<JsonObject>> loader) {
+    if (!active) {
+      return loader.get();
+    }
+    List<JsonObject> cached = views.get(viewName);
+    if (cached != null) {
+      return cached;
+    }
+    long currentGeneration = generation.get();
+    List<JsonObject> result = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+    if (currentGeneration == generation.get()) {
+      views.put(viewName, result);
+      if (currentGeneration != generation.get()) {
+        views.remove(viewName);
+      }
+    }
+    return result;
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public void activate() {
+    invalidateAll();
+    active = true;
+  }
+
+  public void deactivate() {
+    active = false;
+    invalidateAll();
+  }
+
+  public void invalidate(String id) {
+    generation.incrementAndGet();
+    documents.remove(id);
+    views.clear();
+  }
+
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    documents.clear();
+    views.clear();
+  }
+
+  public int size() {
+    return documents.size() + views.size();
+  }
+}
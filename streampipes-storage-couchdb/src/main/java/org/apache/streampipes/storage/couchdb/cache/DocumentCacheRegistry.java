@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.storage.couchdb.cache;
+
+import org.apache.streampipes.commons.environment.Environments;
+import org.apache.streampipes.storage.couchdb.utils.Utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public enum DocumentCacheRegistry {
+
+  INSTANCE;
+
+  private final Map<String, DocumentCache> caches = new HashMap<>();
+  private final Map<String, ChangesFeedListener> listeners = new HashMap<>();
+
+  /**
+   * Returns the cache of the given database. The changes feed which keeps the cache coherent is started
+   * on first access; if caching is disabled (SP_COUCHDB_CACHE_ENABLED), the returned cache is never activated
+   * and all reads are passed to the database.
+   */
+  public synchronized DocumentCache getCache(String databaseName) {
+    return caches.computeIfAbsent(databaseName, name -> {
+      DocumentCache cache = new DocumentCache(name);
+      if (isCacheEnabled()) {
+        ChangesFeedListener listener = new ChangesFeedListener(cache, Utils::makeDedicatedCouchDbClient);
+        listeners.put(name, listener);
+        listener.start();
+      }
+      return cache;
+    });
+  }
+
+  public synchronized void invalidate(String databaseName) {
+    DocumentCache cache = caches.get(databaseName);
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
+  public synchronized void shutdown() {
+    listeners.values().forEach(ChangesFeedListener::stop);
+    listeners.clear();
+    caches.values().forEach(DocumentCache::deactivate);
+    caches.clear();
+  }
+
+  private boolean isCacheEnabled() {
+    return Environments.getEnvironment().getCouchDbCacheEnabled().getValueOrDefault();
+  }
+}
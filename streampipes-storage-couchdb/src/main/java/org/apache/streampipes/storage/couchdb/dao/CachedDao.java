@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.storage.couchdb.dao;
+
+import org.apache.streampipes.model.Tuple2;
+import org.apache.streampipes.storage.couchdb.cache.DocumentCache;
+import org.apache.streampipes.storage.couchdb.cache.DocumentCacheRegistry;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.lightcouch.CouchDbClient;
+import org.lightcouch.NoDocumentException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * DAO for frequently read documents (e.g., pipeline element descriptions, pipelines and adapters)
+ * which serves reads from a {@link DocumentCache} kept coherent by the database's changes feed.
+ */
+public class CachedDao<T> extends AbstractDao<T> {
+
+  public CachedDao(Supplier<CouchDbClient> couchDbClientSupplier,
+                   Class<T> clazz) {
+    super(couchDbClientSupplier, clazz);
+  }
+
+  @Override
+  public <V> Tuple2<Boolean, String> persist(V objToPersist, Class<V> clazz) {
+    try {
+      return super.persist(objToPersist, clazz);
+    } finally {
+      invalidateCache();
+    }
+  }
+
+  @Override
+  public <V> Boolean delete(String key, Class<V> clazz) {
+    try {
+      return super.delete(key, clazz);
+    } finally {
+      invalidateCache();
+    }
+  }
+
+  @Override
+  public <V> Boolean update(V objToUpdate, Class<V> clazz) {
+    try {
+      return super.update(objToUpdate, clazz);
+    } finally {
+      invalidateCache();
+    }
+  }
+
+  @Override
+  public <V> Optional<V> find(String id, Class<V> clazz) {
+    CouchDbClient couchDbClient = couchDbClientSupplier.get();
+    return getCache(couchDbClient)
+        .getDocument(id, () -> findDocument(couchDbClient, id))
+        .map(document -> couchDbClient.getGson().fromJson(document, clazz));
+  }
+
+  @Override
+  public <V> List<V> findAll(String viewName,
+                             Class<V> clazz) {
+    CouchDbClient couchDbClient = couchDbClientSupplier.get();
+    Gson gson = couchDbClient.getGson();
+    return getCache(couchDbClient)
+        .getView(viewName, () -> queryView(couchDbClient, viewName))
+        .stream()
+        .map(document -> gson.fromJson(document, clazz))
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public <V> V findWithNullIfEmpty(String id, Class<V> clazz) {
+    return find(id, clazz).orElse(null);
+  }
+
+  /**
+   * Must be called after modifying the database without using the methods of this DAO.
+   */
+  public void invalidateCache() {
+    getCache(couchDbClientSupplier.get()).invalidateAll();
+  }
+
+  private DocumentCache getCache(CouchDbClient couchDbClient) {
+    return DocumentCacheRegistry.INSTANCE.getCache(getDatabaseName(couchDbClient));
+  }
+
+  private Optional<JsonObject> findDocument(CouchDbClient couchDbClient,
+                                            String id) {
+    try {
+      return Optional.of(couchDbClient.find(JsonObject.class, id));
+    } catch (NoDocumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  private List<JsonObject> queryView(CouchDbClient couchDbClient,
+                                     String viewName) {
+    List<JsonObject> documents = couchDbClient
+        .view(viewName)
+        .includeDocs(true)
+        .query(JsonObject.class);
+    return documents != null ? documents : Collections.emptyList();
+  }
+
+  private String getDatabaseName(CouchDbClient couchDbClient) {
+    // the database uri has the form <protocol>://<host>:<port>/<database>/
+    String path = couchDbClient.getDBUri().getPath();
+    String trimmed = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    return trimmed.substring(trimmed.lastIndexOf('/') + 1);
+  }
+}
@@ -35,10 +35,6 @@ public abstract class DbCommand<K, V> {
 
 
   public K execute() {
-    CouchDbClient couchDbClient = couchDbClientSupplier.get();
-    K result = executeCommand(couchDbClient);
-    couchDbClient.shutdown();
-
-    return result;
+    return executeCommand(couchDbClientSupplier.get());
   }
 }
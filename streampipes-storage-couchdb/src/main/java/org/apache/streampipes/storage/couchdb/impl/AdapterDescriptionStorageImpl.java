@@ -20,18 +20,15 @@ package org.apache.streampipes.storage.couchdb.impl;
 
 import org.apache.streampipes.model.connect.adapter.AdapterDescription;
 import org.apache.streampipes.storage.api.IAdapterStorage;
-import org.apache.streampipes.storage.couchdb.dao.AbstractDao;
-import org.apache.streampipes.storage.couchdb.dao.DbCommand;
-import org.apache.streampipes.storage.couchdb.dao.FindCommand;
+import org.apache.streampipes.storage.couchdb.dao.CachedDao;
 import org.apache.streampipes.storage.couchdb.utils.Utils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.Optional;
 
-public class AdapterDescriptionStorageImpl extends AbstractDao<AdapterDescription> implements IAdapterStorage {
+public class AdapterDescriptionStorageImpl extends CachedDao<AdapterDescription> implements IAdapterStorage {
 
   private static final String SYSTEM_USER = "system";
   Logger logger = LoggerFactory.getLogger(AdapterDescriptionStorageImpl.class);
@@ -53,13 +50,12 @@ public class AdapterDescriptionStorageImpl extends AbstractDao<AdapterDescriptio
   @Override
   public void updateAdapter(AdapterDescription adapter) {
     couchDbClientSupplier.get().update(adapter);
+    invalidateCache();
   }
 
   @Override
   public AdapterDescription getAdapter(String adapterId) {
-    DbCommand<Optional<AdapterDescription>, AdapterDescription> cmd =
-        new FindCommand<>(couchDbClientSupplier, adapterId, AdapterDescription.class);
-    return cmd.execute().get();
+    return find(adapterId).get();
   }
 
   @Override
@@ -67,6 +63,7 @@ public class AdapterDescriptionStorageImpl extends AbstractDao<AdapterDescriptio
 
     AdapterDescription adapterDescription = getAdapter(adapterId);
     couchDbClientSupplier.get().remove(adapterDescription.getElementId(), adapterDescription.getRev());
+    invalidateCache();
 
   }
 }
@@ -19,12 +19,12 @@ package org.apache.streampipes.storage.couchdb.impl;
 
 import org.apache.streampipes.model.graph.DataSinkDescription;
 import org.apache.streampipes.storage.api.IDataSinkStorage;
-import org.apache.streampipes.storage.couchdb.dao.AbstractDao;
+import org.apache.streampipes.storage.couchdb.dao.CachedDao;
 import org.apache.streampipes.storage.couchdb.utils.Utils;
 
 import java.util.List;
 
-public class DataSinkStorageImpl extends AbstractDao<DataSinkDescription> implements IDataSinkStorage {
+public class DataSinkStorageImpl extends CachedDao<DataSinkDescription> implements IDataSinkStorage {
 
 
   public DataSinkStorageImpl() {
@@ -20,12 +20,12 @@ package org.apache.streampipes.storage.couchdb.impl;
 
 import org.apache.streampipes.model.extensions.svcdiscovery.SpServiceRegistration;
 import org.apache.streampipes.storage.api.CRUDStorage;
-import org.apache.streampipes.storage.couchdb.dao.AbstractDao;
+import org.apache.streampipes.storage.couchdb.dao.CachedDao;
 import org.apache.streampipes.storage.couchdb.utils.Utils;
 
 import java.util.List;
 
-public class ExtensionsServiceStorageImpl extends AbstractDao<SpServiceRegistration>
+public class ExtensionsServiceStorageImpl extends CachedDao<SpServiceRegistration>
     implements CRUDStorage<String, SpServiceRegistration> {
 
   public ExtensionsServiceStorageImpl() {
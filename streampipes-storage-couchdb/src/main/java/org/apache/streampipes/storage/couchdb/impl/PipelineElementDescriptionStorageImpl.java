@@ -22,9 +22,6 @@ import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
 import org.apache.streampipes.model.graph.DataProcessorDescription;
 import org.apache.streampipes.model.graph.DataSinkDescription;
 import org.apache.streampipes.model.staticproperty.StaticProperty;
-import org.apache.streampipes.storage.api.IDataProcessorStorage;
-import org.apache.streampipes.storage.api.IDataSinkStorage;
-import org.apache.streampipes.storage.api.IDataStreamStorage;
 import org.apache.streampipes.storage.api.IPipelineElementDescriptionStorageCache;
 
 import java.net.URI;
@@ -33,9 +30,9 @@ import java.util.NoSuchElementException;
 
 public class PipelineElementDescriptionStorageImpl implements IPipelineElementDescriptionStorageCache {
 
-  private IDataProcessorStorage dataProcessorStorage;
-  private IDataStreamStorage dataStreamStorage;
-  private IDataSinkStorage dataSinkStorage;
+  private DataProcessorStorageImpl dataProcessorStorage;
+  private DataStreamStorageImpl dataStreamStorage;
+  private DataSinkStorageImpl dataSinkStorage;
 
   public PipelineElementDescriptionStorageImpl() {
     this.dataProcessorStorage = new DataProcessorStorageImpl();
@@ -89,7 +86,7 @@ public class PipelineElementDescriptionStorageImpl implements IPipelineElementDe
 
   @Override
   public DataProcessorDescription getDataProcessorById(String rdfId) {
-    return new DataProcessorStorageImpl().getElementById(rdfId);
+    return this.dataProcessorStorage.getElementById(rdfId);
   }
 
   @Override
@@ -252,16 +249,16 @@ public class PipelineElementDescriptionStorageImpl implements IPipelineElementDe
 
   @Override
   public void refreshDataProcessorCache() {
-    // TODO no longer needed
+    this.dataProcessorStorage.invalidateCache();
   }
 
   @Override
   public void refreshDataSinkCache() {
-    // TODO no longer needed
+    this.dataSinkStorage.invalidateCache();
   }
 
   @Override
   public void refreshDataSourceCache() {
-    // TODO no longer needed
+    this.dataStreamStorage.invalidateCache();
   }
 }
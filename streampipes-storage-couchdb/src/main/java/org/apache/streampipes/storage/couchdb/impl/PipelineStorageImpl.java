@@ -21,17 +21,16 @@ package org.apache.streampipes.storage.couchdb.impl;
 import org.apache.streampipes.model.VirtualSensor;
 import org.apache.streampipes.model.pipeline.Pipeline;
 import org.apache.streampipes.storage.api.IPipelineStorage;
-import org.apache.streampipes.storage.couchdb.dao.AbstractDao;
+import org.apache.streampipes.storage.couchdb.dao.CachedDao;
 import org.apache.streampipes.storage.couchdb.utils.Utils;
 
 import com.google.gson.JsonObject;
-import org.lightcouch.CouchDbClient;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class PipelineStorageImpl extends AbstractDao<Pipeline> implements IPipelineStorage {
+public class PipelineStorageImpl extends CachedDao<Pipeline> implements IPipelineStorage {
 
   private static final String SYSTEM_USER = "system";
   private static final String ADAPTER_VIEW = "adapters/used-adapters";
@@ -101,19 +100,15 @@ public class PipelineStorageImpl extends AbstractDao<Pipeline> implements IPipel
 
   @Override
   public void storeVirtualSensor(String username, VirtualSensor virtualSensor) {
-    CouchDbClient couchDbClient = couchDbClientSupplier.get();
-    couchDbClient.save(virtualSensor);
-    couchDbClient.shutdown();
+    couchDbClientSupplier.get().save(virtualSensor);
+    invalidateCache();
   }
 
   @Override
   public List<VirtualSensor> getVirtualSensors(String username) {
-    CouchDbClient couchDbClient = couchDbClientSupplier.get();
-    List<VirtualSensor> virtualSensors = couchDbClient.view("_all_docs")
+    return couchDbClientSupplier.get().view("_all_docs")
         .includeDocs(true)
         .query(VirtualSensor.class);
-    couchDbClient.shutdown();
-    return virtualSensors;
   }
 
 }
@@ -55,8 +55,6 @@ public class VisualizationStorageImpl extends AbstractDao<RunningVisualization>
   public void storeVisualization(RunningVisualization visualization) {
     CouchDbClient couchDbClient = couchDbClientSupplier.get();
     couchDbClient.save(visualization);
-    couchDbClient.shutdown();
-
   }
 
   @Override
@@ -71,7 +69,6 @@ public class VisualizationStorageImpl extends AbstractDao<RunningVisualization>
           }
         }
       }
-      couchDbClient.shutdown();
     } catch (NoDocumentException e) {
       e.printStackTrace();
     }
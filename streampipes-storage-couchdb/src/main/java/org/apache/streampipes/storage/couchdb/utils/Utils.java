@@ -30,8 +30,17 @@ import org.apache.http.entity.ContentType;
 import org.lightcouch.CouchDbClient;
 import org.lightcouch.CouchDbProperties;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
 public class Utils {
 
+  private static final int MAX_CONNECTIONS_PER_DATABASE = 20;
+
+  // CouchDbClient is thread-safe, so a single pooled client is shared per database and serializer
+  private static final Map<String, CouchDbClient> CLIENTS = new ConcurrentHashMap<>();
+
   public static CouchDbClient getCouchDbDataProcessorDescriptionClient() {
     return getCouchDbGsonClient("data-processor");
   }
@@ -93,7 +102,7 @@ public class Utils {
   }
 
   public static CouchDbClient getCouchDbAdapterInstanceBackupClient() {
-    return new CouchDbClient(props("adapterinstance_backup"));
+    return getCouchDbStandardSerializerClient("adapterinstance_backup");
   }
 
   public static CouchDbClient getCouchDbAdapterDescriptionClient() {
@@ -114,8 +123,7 @@ public class Utils {
 
   //TODO: Remove??
   public static CouchDbClient getCouchDbRdfEndpointClient() {
-    CouchDbClient dbClient = new CouchDbClient(props("rdfendpoint"));
-    return dbClient;
+    return getCouchDbStandardSerializerClient("rdfendpoint");
   }
 
   public static CouchDbClient getCouchDbDataExplorerDashboardClient() {
@@ -167,31 +175,47 @@ public class Utils {
   }
 
   private static CouchDbClient getCouchDbGsonClient(String dbname) {
-    CouchDbClient dbClient = new CouchDbClient(props(dbname));
-    dbClient.setGsonBuilder(GsonSerializer.getGsonBuilder());
-    return dbClient;
+    return getSharedClient("gson", dbname, dbClient -> dbClient.setGsonBuilder(GsonSerializer.getGsonBuilder()));
   }
 
   private static CouchDbClient getCouchDbPrincipalClient(String dbname) {
-    CouchDbClient dbClient = new CouchDbClient(props(dbname));
-    dbClient.setGsonBuilder(GsonSerializer.getPrincipalGsonBuilder());
-    return dbClient;
+    return getSharedClient("principal", dbname,
+        dbClient -> dbClient.setGsonBuilder(GsonSerializer.getPrincipalGsonBuilder()));
   }
 
   private static CouchDbClient getCouchDbAdapterClient(String dbname) {
-    CouchDbClient dbClient = new CouchDbClient(props(dbname));
-    dbClient.setGsonBuilder(GsonSerializer.getAdapterGsonBuilder());
-    return dbClient;
+    return getSharedClient("adapter", dbname,
+        dbClient -> dbClient.setGsonBuilder(GsonSerializer.getAdapterGsonBuilder()));
   }
 
   private static CouchDbClient getCouchDbStandardSerializerClient(String dbname) {
-    return new CouchDbClient(props(dbname));
+    return getSharedClient("standard", dbname, dbClient -> {
+    });
   }
 
   public static CouchDbClient getCouchDbClient(String database) {
+    return getCouchDbStandardSerializerClient(database);
+  }
+
+  /**
+   * Creates a dedicated client which is not shared, e.g., for long-running requests such as
+   * a continuous changes feed which would otherwise block a pooled connection.
+   * The caller is responsible for shutting down the client.
+   */
+  public static CouchDbClient makeDedicatedCouchDbClient(String database) {
     return new CouchDbClient(props(database));
   }
 
+  private static CouchDbClient getSharedClient(String serializer,
+                                               String dbname,
+                                               Consumer<CouchDbClient> customizer) {
+    return CLIENTS.computeIfAbsent(serializer + ":" + dbname, key -> {
+      CouchDbClient dbClient = new CouchDbClient(props(dbname).setMaxConnections(MAX_CONNECTIONS_PER_DATABASE));
+      customizer.accept(dbClient);
+      return dbClient;
+    });
+  }
+
   private static CouchDbProperties props(String dbname) {
     var env = getEnvironment();
     return new CouchDbProperties(
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.storage.couchdb.cache;
+
+import com.google.gson.JsonObject;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestDocumentCache {
+
+  private DocumentCache cache;
+  private AtomicInteger loads;
+
+  @Before
+  public void setUp() {
+    cache = new DocumentCache("test");
+    loads = new AtomicInteger(0);
+  }
+
+  @Test
+  public void testInactiveCacheIsBypassed() {
+    cache.getDocument("a", () -> load("a"));
+    cache.getDocument("a", () -> load("a"));
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testDocumentIsLoadedOnce() {
+    cache.activate();
+    cache.getDocument("a", () -> load("a"));
+    Optional<JsonObject> document = cache.getDocument("a", () -> load("a"));
+
+    assertEquals(1, loads.get());
+    assertEquals("a", document.get().get("_id").getAsString());
+  }
+
+  @Test
+  public void testMissingDocumentIsNotCached() {
+    cache.activate();
+    cache.getDocument("a", this::loadNothing);
+    cache.getDocument("a", this::loadNothing);
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testChangeInvalidatesDocumentAndViews() {
+    cache.activate();
+    cache.getDocument("a", () -> load("a"));
+    cache.getDocument("b", () -> load("b"));
+    cache.getView("_all_docs", () -> List.of(load("a").get()));
+    assertEquals(3, cache.size());
+
+    cache.invalidate("a");
+
+    assertEquals(1, cache.size());
+    cache.getDocument("b", () -> load("b"));
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  public void testResultLoadedDuringChangeIsNotCached() {
+    cache.activate();
+    cache.getDocument("a", () -> {
+      Optional<JsonObject> document = load("a");
+      cache.invalidate("a");
+      return document;
+    });
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testDeactivateClearsCache() {
+    cache.activate();
+    cache.getDocument("a", () -> load("a"));
+    assertTrue(cache.isActive());
+
+    cache.deactivate();
+
+    assertFalse(cache.isActive());
+    assertEquals(0, cache.size());
+  }
+
+  private Optional<JsonObject> load(String id) {
+    loads.incrementAndGet();
+    JsonObject document = new JsonObject();
+    document.addProperty("_id", id);
+    return Optional.of(document);
+  }
+
+  private Optional<JsonObject> loadNothing() {
+    loads.incrementAndGet();
+    return Optional.empty();
+  }
+}
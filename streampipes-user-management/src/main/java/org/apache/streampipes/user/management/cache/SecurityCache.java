@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.user.management.cache;
+
+import org.apache.streampipes.model.client.user.Principal;
+import org.apache.streampipes.user.management.model.PrincipalUserDetails;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache for the lookups performed when authenticating REST requests: principals, their
+ * user details (authorities and object permissions), JWT signing keys and validated API keys.
+ *
+ * <p>Entries expire after 30 seconds, so changes are picked up even if an invalidation is missed.
+ * Code that changes users, groups, permissions or the authentication config should invalidate the cache.</p>
+ */
+public enum SecurityCache {
+
+  INSTANCE;
+
+  private static final long EXPIRATION_SECONDS = 30;
+  private static final long MAX_ENTRIES = 10000;
+
+  private final Cache<String, Principal> principals;
+  private final Cache<String, PrincipalUserDetails<?>> userDetails;
+  private final Cache<String, Key> signingKeys;
+  private final Cache<String, Boolean> validApiKeys;
+
+  SecurityCache() {
+    this.principals = makeCache();
+    this.userDetails = makeCache();
+    this.signingKeys = makeCache();
+    this.validApiKeys = makeCache();
+  }
+
+  public Principal getPrincipal(String username,
+                                Supplier<Principal> loader) {
+    return getOrLoad(principals, username, loader);
+  }
+
+  public PrincipalUserDetails<?> getUserDetails(String username,
+                                                Supplier<PrincipalUserDetails<?>> loader) {
+    return getOrLoad(userDetails, username, loader);
+  }
+
+  public Key getSigningKey(String username,
+                           String algorithm,
+                           Supplier<Key> loader) {
+    return getOrLoad(signingKeys, username + ":" + algorithm, loader);
+  }
+
+  /**
+   * Only successful validations are cached, so newly created API keys are accepted immediately.
+   */
+  public boolean isValidApiKey(String username,
+                               String hashedToken,
+                               BooleanSupplier validator) {
+    String cacheKey = username + ":" + hashedToken;
+    if (validApiKeys.getIfPresent(cacheKey) != null) {
+      return true;
+    }
+    boolean valid = validator.getAsBoolean();
+    if (valid) {
+      validApiKeys.put(cacheKey, Boolean.TRUE);
+    }
+    return valid;
+  }
+
+  /**
+   * Invalidates the cached user details after object permissions have changed.
+   */
+  public void invalidateUserDetails() {
+    userDetails.invalidateAll();
+  }
+
+  /**
+   * Invalidates all entries after users, service accounts, groups or the authentication config have changed.
+   */
+  public void invalidateAll() {
+    principals.invalidateAll();
+    userDetails.invalidateAll();
+    signingKeys.invalidateAll();
+    validApiKeys.invalidateAll();
+  }
+
+  private <V> V getOrLoad(Cache<String, V> cache,
+                          String key,
+                          Supplier<? extends V> loader) {
+    V value = cache.getIfPresent(key);
+    if (value == null) {
+      value = loader.get();
+      if (value != null) {
+        cache.put(key, value);
+      }
+    }
+    return value;
+  }
+
+  private static <V> Cache<String, V> makeCache() {
+    return CacheBuilder.newBuilder()
+        .maximumSize(MAX_ENTRIES)
+        .expireAfterWrite(EXPIRATION_SECONDS, TimeUnit.SECONDS)
+        .build();
+  }
+}
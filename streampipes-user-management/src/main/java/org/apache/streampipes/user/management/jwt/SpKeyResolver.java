@@ -23,6 +23,7 @@ import org.apache.streampipes.model.client.user.UserAccount;
 import org.apache.streampipes.security.jwt.KeyGenerator;
 import org.apache.streampipes.storage.api.IUserStorage;
 import org.apache.streampipes.storage.management.StorageDispatcher;
+import org.apache.streampipes.user.management.cache.SecurityCache;
 import org.apache.streampipes.user.management.encryption.SecretEncryptionManager;
 
 import io.jsonwebtoken.Claims;
@@ -47,7 +48,16 @@ public class SpKeyResolver implements SigningKeyResolver {
     Principal principal = getPrincipal(subject);
     if (principal == null) {
       return null;
-    } else if (isRealUser(principal)) {
+    }
+    return SecurityCache.INSTANCE.getSigningKey(
+        subject,
+        jwsHeader.getAlgorithm(),
+        () -> makeSigningKey(jwsHeader, principal));
+  }
+
+  private Key makeSigningKey(JwsHeader jwsHeader,
+                             Principal principal) {
+    if (isRealUser(principal)) {
       return new KeyGenerator().makeKeyForSecret(jwsHeader.getAlgorithm(), this.tokenSecret, getPublicKeyFromConfig());
     } else {
       String decryptedSecret = SecretEncryptionManager.decrypt(((ServiceAccount) principal).getClientSecret());
@@ -61,7 +71,7 @@ public class SpKeyResolver implements SigningKeyResolver {
   }
 
   private Principal getPrincipal(String username) {
-    return userStorage.getUser(username);
+    return SecurityCache.INSTANCE.getPrincipal(username, () -> userStorage.getUser(username));
   }
 
   private boolean isRealUser(Principal principal) {
@@ -21,6 +21,7 @@ import org.apache.streampipes.model.client.user.Principal;
 import org.apache.streampipes.storage.management.StorageDispatcher;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Set;
 
 public class GrantedPermissionsBuilder {
@@ -42,9 +43,10 @@ public class GrantedPermissionsBuilder {
   }
 
   private Set<String> extractSids() {
-    Set<String> groupSids = principal.getGroups();
-    groupSids.add(principal.getPrincipalId());
+    // copy the groups, the principal might be shared through the security cache
+    Set<String> sids = new HashSet<>(principal.getGroups());
+    sids.add(principal.getPrincipalId());
 
-    return groupSids;
+    return sids;
   }
 }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.user.management.cache;
+
+import org.apache.streampipes.model.client.user.Principal;
+import org.apache.streampipes.model.client.user.UserAccount;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TestSecurityCache {
+
+  private final SecurityCache cache = SecurityCache.INSTANCE;
+
+  @Before
+  public void setUp() {
+    cache.invalidateAll();
+  }
+
+  @Test
+  public void testPrincipalIsLoadedOnce() {
+    AtomicInteger loads = new AtomicInteger();
+    UserAccount user = new UserAccount();
+
+    Principal first = cache.getPrincipal("user", () -> {
+      loads.incrementAndGet();
+      return user;
+    });
+    Principal second = cache.getPrincipal("user", () -> {
+      loads.incrementAndGet();
+      return user;
+    });
+
+    assertSame(user, first);
+    assertSame(user, second);
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void testUnknownPrincipalIsNotCached() {
+    AtomicInteger loads = new AtomicInteger();
+
+    assertNull(cache.getPrincipal("unknown", () -> {
+      loads.incrementAndGet();
+      return null;
+    }));
+    assertNull(cache.getPrincipal("unknown", () -> {
+      loads.incrementAndGet();
+      return null;
+    }));
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testOnlyValidApiKeysAreCached() {
+    AtomicInteger validations = new AtomicInteger();
+
+    assertFalse(cache.isValidApiKey("user", "hash", () -> validations.incrementAndGet() < 0));
+    assertTrue(cache.isValidApiKey("user", "hash", () -> validations.incrementAndGet() > 0));
+    assertTrue(cache.isValidApiKey("user", "hash", () -> validations.incrementAndGet() < 0));
+
+    assertEquals(2, validations.get());
+  }
+
+  @Test
+  public void testInvalidateAll() {
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.getPrincipal("user", () -> {
+      loads.incrementAndGet();
+      return new UserAccount();
+    });
+    cache.isValidApiKey("user", "hash", () -> true);
+    cache.invalidateAll();
+    cache.getPrincipal("user", () -> {
+      loads.incrementAndGet();
+      return new UserAccount();
+    });
+
+    assertEquals(2, loads.get());
+    assertFalse(cache.isValidApiKey("user", "hash", () -> false));
+  }
+}
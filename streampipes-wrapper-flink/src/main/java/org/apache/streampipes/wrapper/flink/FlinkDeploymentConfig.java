@@ -19,6 +19,7 @@
 package org.apache.streampipes.wrapper.flink;
 
 import java.io.Serializable;
+import java.time.Duration;
 
 public class FlinkDeploymentConfig implements Serializable {
 
@@ -29,6 +30,12 @@ public class FlinkDeploymentConfig implements Serializable {
   private int port;
   private boolean miniClusterMode;
 
+  private int parallelism;
+  private String[] keySelectors = new String[0];
+  private String timestampSelector;
+  private Duration maxOutOfOrderness = Duration.ZERO;
+  private Duration idleTimeout;
+
   public FlinkDeploymentConfig(String jarFile,
                                String host,
                                int port) {
@@ -62,4 +69,81 @@ public class FlinkDeploymentConfig implements Serializable {
     return miniClusterMode;
   }
 
+  /**
+   * Sets the parallelism of the job. If not set, the default parallelism of the Flink cluster is used.
+   *
+   * @param parallelism the number of parallel instances of each operator
+   * @return this config
+   */
+  public FlinkDeploymentConfig withParallelism(int parallelism) {
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * Partitions the input streams by the given fields, so that events with the same key are processed
+   * by the same parallel instance.
+   *
+   * @param keySelectors the selectors (e.g., s0::sensorId) of the key fields
+   * @return this config
+   */
+  public FlinkDeploymentConfig withKeyBy(String... keySelectors) {
+    this.keySelectors = keySelectors;
+    return this;
+  }
+
+  /**
+   * Uses event time with watermarks derived from the given timestamp field instead of processing time.
+   *
+   * @param timestampSelector the selector of the timestamp field (milliseconds since epoch)
+   * @param maxOutOfOrderness the maximum time an event may arrive late
+   * @return this config
+   */
+  public FlinkDeploymentConfig withEventTime(String timestampSelector,
+                                             Duration maxOutOfOrderness) {
+    this.timestampSelector = timestampSelector;
+    this.maxOutOfOrderness = maxOutOfOrderness;
+    return this;
+  }
+
+  /**
+   * Marks a source as idle if no events arrive within the given timeout, so that watermarks of
+   * idle partitions do not hold back the overall event time progress.
+   *
+   * @param idleTimeout the idle timeout
+   * @return this config
+   */
+  public FlinkDeploymentConfig withIdleTimeout(Duration idleTimeout) {
+    this.idleTimeout = idleTimeout;
+    return this;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public String[] getKeySelectors() {
+    return keySelectors;
+  }
+
+  public boolean isKeyed() {
+    return keySelectors != null && keySelectors.length > 0;
+  }
+
+  public String getTimestampSelector() {
+    return timestampSelector;
+  }
+
+  public boolean isEventTime() {
+    return timestampSelector != null;
+  }
+
+  public Duration getMaxOutOfOrderness() {
+    return maxOutOfOrderness;
+  }
+
+  public Duration getIdleTimeout() {
+    return idleTimeout;
+  }
+
 }
@@ -41,10 +41,13 @@ import org.apache.streampipes.wrapper.distributed.runtime.DistributedRuntime;
 import org.apache.streampipes.wrapper.flink.consumer.JmsFlinkConsumer;
 import org.apache.streampipes.wrapper.flink.consumer.MqttFlinkConsumer;
 import org.apache.streampipes.wrapper.flink.converter.MapToEventConverter;
+import org.apache.streampipes.wrapper.flink.function.EventKeySelector;
+import org.apache.streampipes.wrapper.flink.function.EventTimestampAssigner;
 import org.apache.streampipes.wrapper.flink.logger.StatisticLogger;
 import org.apache.streampipes.wrapper.flink.serializer.ByteArrayDeserializer;
 import org.apache.streampipes.wrapper.params.InternalRuntimeParameters;
 
+import org.apache.flink.api.common.eventtime.WatermarkStrategy;
 import org.apache.flink.client.program.ClusterClient;
 import org.apache.flink.client.program.MiniClusterClient;
 import org.apache.flink.client.program.rest.RestClusterClient;
@@ -59,6 +62,7 @@ import org.apache.flink.streaming.api.functions.source.SourceFunction;
 import org.apache.flink.streaming.connectors.kafka.FlinkKafkaConsumer;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -187,6 +191,7 @@ public abstract class FlinkRuntime<
     }
 
     appendEnvironmentConfig(this.env);
+    flinkProgram.appendEnvironmentConfig(this.env);
     // Add the first source to the topology
     DataStream<Event> messageStream1;
     SourceFunction<Map<String, Object>> source1 = getStream1Source();
@@ -205,14 +210,39 @@ public abstract class FlinkRuntime<
     }
   }
 
-  // TODO
   private DataStream<Event> addSource(SourceFunction<Map<String, Object>> sourceFunction,
                                       Integer sourceIndex) {
-    return env
+    DataStream<Event> stream = env
         .addSource(sourceFunction)
         .flatMap(new MapToEventConverter<>(runtimeParameters.getInputSourceInfo(sourceIndex).getSourceId(),
             runtimeParameters))
         .flatMap(new StatisticLogger(null));
+
+    if (config.isEventTime()) {
+      stream = stream.assignTimestampsAndWatermarks(makeWatermarkStrategy());
+    }
+
+    if (config.isKeyed()) {
+      String selectorPrefix = runtimeParameters.getInputSourceInfo(sourceIndex).getSelectorPrefix();
+      String[] keySelectors = Arrays.stream(config.getKeySelectors())
+          .filter(selector -> selector.startsWith(selectorPrefix))
+          .toArray(String[]::new);
+      if (keySelectors.length > 0) {
+        stream = stream.keyBy(new EventKeySelector(keySelectors));
+      }
+    }
+
+    return stream;
+  }
+
+  private WatermarkStrategy<Event> makeWatermarkStrategy() {
+    WatermarkStrategy<Event> strategy = WatermarkStrategy
+        .<Event>forBoundedOutOfOrderness(config.getMaxOutOfOrderness())
+        .withTimestampAssigner(new EventTimestampAssigner(config.getTimestampSelector()));
+    if (config.getIdleTimeout() != null) {
+      strategy = strategy.withIdleness(config.getIdleTimeout());
+    }
+    return strategy;
   }
 
   public void bindRuntime() throws SpRuntimeException {
@@ -258,6 +288,7 @@ public abstract class FlinkRuntime<
 
   /**
    * This method can be called in case additional environment settings should be applied to the runtime.
+   * Programs can apply further settings by overriding {@link IFlinkProgram#appendEnvironmentConfig}.
    *
    * @param env The Stream Execution environment
    */
@@ -266,7 +297,12 @@ public abstract class FlinkRuntime<
     //The default value is TimeCharacteristic.ProcessingTime
     if (this.streamTimeCharacteristic != null) {
       env.setStreamTimeCharacteristic(this.streamTimeCharacteristic);
-      env.setParallelism(1);
+    }
+    if (config.isEventTime()) {
+      env.setStreamTimeCharacteristic(TimeCharacteristic.EventTime);
+    }
+    if (config.getParallelism() > 0) {
+      env.setParallelism(config.getParallelism());
     }
   }
 
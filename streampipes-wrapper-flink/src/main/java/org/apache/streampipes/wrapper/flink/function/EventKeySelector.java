@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.flink.function;
+
+import org.apache.streampipes.model.runtime.Event;
+
+import org.apache.flink.api.java.functions.KeySelector;
+
+/**
+ * Extracts the key of an event from one or more (primitive) fields, joined to a single string.
+ */
+public class EventKeySelector implements KeySelector<Event, String> {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final String KEY_DELIMITER = "|";
+
+  private final String[] keySelectors;
+
+  public EventKeySelector(String[] keySelectors) {
+    this.keySelectors = keySelectors;
+  }
+
+  @Override
+  public String getKey(Event event) {
+    if (keySelectors.length == 1) {
+      return extractValue(event, keySelectors[0]);
+    }
+    StringBuilder key = new StringBuilder();
+    for (int i = 0; i < keySelectors.length; i++) {
+      if (i > 0) {
+        key.append(KEY_DELIMITER);
+      }
+      key.append(extractValue(event, keySelectors[i]));
+    }
+    return key.toString();
+  }
+
+  private String extractValue(Event event, String selector) {
+    try {
+      return String.valueOf(event.getFieldBySelector(selector).getRawValue());
+    } catch (IllegalArgumentException e) {
+      // events without the key field are grouped together
+      return "";
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.flink.function;
+
+import org.apache.streampipes.model.runtime.Event;
+
+import org.apache.flink.api.common.eventtime.SerializableTimestampAssigner;
+
+/**
+ * Assigns the event time from a timestamp field (milliseconds since epoch) of an event.
+ */
+public class EventTimestampAssigner implements SerializableTimestampAssigner<Event> {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String timestampSelector;
+
+  public EventTimestampAssigner(String timestampSelector) {
+    this.timestampSelector = timestampSelector;
+  }
+
+  @Override
+  public long extractTimestamp(Event event, long recordTimestamp) {
+    Object value = event.getFieldBySelector(timestampSelector).getRawValue();
+    if (value instanceof Number) {
+      return ((Number) value).longValue();
+    } else if (value != null) {
+      return Long.parseLong(value.toString());
+    } else {
+      return recordTimestamp;
+    }
+  }
+}
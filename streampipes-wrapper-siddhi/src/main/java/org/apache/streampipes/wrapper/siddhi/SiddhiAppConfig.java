@@ -30,9 +30,16 @@ public class SiddhiAppConfig {
   private final List<String> definitions;
   private SiddhiOutputConfig outputConfig;
 
+  private int maxInputBatchSize;
+  private long inputBatchLingerMs;
+  private int asyncInputBufferSize;
+
   public SiddhiAppConfig() {
     this.queries = new ArrayList<>();
     this.definitions = new ArrayList<>();
+    this.maxInputBatchSize = 1;
+    this.inputBatchLingerMs = 0;
+    this.asyncInputBufferSize = 0;
   }
 
   public void addDefinition(SiddhiDefinition definition) {
@@ -67,4 +74,41 @@ public class SiddhiAppConfig {
     this.outputConfig = outputConfig;
   }
 
+  public int getMaxInputBatchSize() {
+    return maxInputBatchSize;
+  }
+
+  public void setMaxInputBatchSize(int maxInputBatchSize) {
+    this.maxInputBatchSize = maxInputBatchSize;
+  }
+
+  public long getInputBatchLingerMs() {
+    return inputBatchLingerMs;
+  }
+
+  public void setInputBatchLingerMs(long inputBatchLingerMs) {
+    this.inputBatchLingerMs = inputBatchLingerMs;
+  }
+
+  public int getAsyncInputBufferSize() {
+    return asyncInputBufferSize;
+  }
+
+  public void setAsyncInputBufferSize(int asyncInputBufferSize) {
+    this.asyncInputBufferSize = asyncInputBufferSize;
+  }
+
+  /**
+   * Disables input batching and asynchronous input, so that all results of an event are
+   * produced before sending it returns.
+   */
+  public void disableInputBuffering() {
+    this.maxInputBatchSize = 1;
+    this.inputBatchLingerMs = 0;
+    this.asyncInputBufferSize = 0;
+  }
+
+  public boolean isAsyncInput() {
+    return asyncInputBufferSize > 0;
+  }
 }
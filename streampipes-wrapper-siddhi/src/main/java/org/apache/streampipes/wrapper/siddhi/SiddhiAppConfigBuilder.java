@@ -54,6 +54,31 @@ public class SiddhiAppConfigBuilder {
     return this;
   }
 
+  /**
+   * Sends input events in batches to Siddhi instead of one by one.
+   *
+   * @param maxBatchSize the maximum number of events per batch
+   * @param lingerMs     the maximum time an event waits for its batch to be completed
+   */
+  public SiddhiAppConfigBuilder withInputBatching(int maxBatchSize,
+                                                  long lingerMs) {
+    this.siddhiAppConfig.setMaxInputBatchSize(maxBatchSize);
+    this.siddhiAppConfig.setInputBatchLingerMs(lingerMs);
+    return this;
+  }
+
+  /**
+   * Decouples the input streams from query processing by an asynchronous buffer (the @async
+   * annotation of Siddhi). Events of different input streams are not processed in arrival order
+   * anymore, so this should only be used for processors with a single input stream.
+   *
+   * @param bufferSize the size of the buffer, must be a power of two
+   */
+  public SiddhiAppConfigBuilder withAsyncInput(int bufferSize) {
+    this.siddhiAppConfig.setAsyncInputBufferSize(bufferSize);
+    return this;
+  }
+
   public SiddhiAppConfig build() {
     return this.siddhiAppConfig;
   }
@@ -52,4 +52,8 @@ public class SiddhiConstants {
   public static final String SIDDHI_BOOLEAN_TYPE = "BOOL";
   public static final String SIDDHI_STRING_TYPE = "STRING";
   public static final String SIDDHI_OBJECT_TYPE = "OBJECT";
+
+  public static final int DEFAULT_INPUT_BATCH_SIZE = 64;
+  public static final long DEFAULT_INPUT_BATCH_LINGER_MS = 10;
+  public static final int DEFAULT_ASYNC_INPUT_BUFFER_SIZE = 1024;
 }
@@ -39,21 +39,27 @@ import org.slf4j.LoggerFactory;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class SiddhiEngine {
 
   private static final Logger LOG = LoggerFactory.getLogger(SiddhiEngine.class);
 
   private SiddhiAppRuntime siddhiAppRuntime;
-  private final Map<String, InputHandler> siddhiInputHandlers;
-  private Map<String, List<EventPropertyDef>> typeInfo;
+  private final Map<String, SiddhiEventInjector> siddhiInjectors;
+
+  private SiddhiEventInjector pendingInjector;
+  private long pendingSince;
+  private long batchLingerMs;
+  private ScheduledExecutorService batchFlusher;
 
   private Boolean debugMode;
   private SiddhiDebugCallback debugCallback;
 
   public SiddhiEngine() {
-    this.siddhiInputHandlers = new HashMap<>();
+    this.siddhiInjectors = new HashMap<>();
     this.debugMode = false;
   }
 
@@ -68,15 +74,18 @@ public class SiddhiEngine {
                                IDataProcessorParameters runtimeParameters) {
 
     IDataProcessorParameters params = settings.getSiddhiProcessorParams().getParams();
-    this.typeInfo = settings.getSiddhiProcessorParams().getEventTypeInfo();
+    Map<String, List<EventPropertyDef>> typeInfo = settings.getSiddhiProcessorParams().getEventTypeInfo();
     SiddhiManager siddhiManager = SpSiddhiManager.INSTANCE.getSiddhiManager();
+    int maxBatchSize = settings.getSiddhiAppConfig().getMaxInputBatchSize();
+    this.batchLingerMs = settings.getSiddhiAppConfig().getInputBatchLingerMs();
 
     siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(settings.getSiddhiAppString());
     settings.getSiddhiProcessorParams().getParams()
         .getInEventTypes()
         .forEach((key, value) -> {
           String preparedKey = SiddhiUtils.prepareName(key);
-          siddhiInputHandlers.put(key, siddhiAppRuntime.getInputHandler(preparedKey));
+          InputHandler inputHandler = siddhiAppRuntime.getInputHandler(preparedKey);
+          siddhiInjectors.put(key, new SiddhiEventInjector(inputHandler, typeInfo.get(key), maxBatchSize));
         });
 
     StreamCallback callback;
@@ -94,25 +103,60 @@ public class SiddhiEngine {
     LOG.info(SiddhiUtils.getPreparedOutputTopicName(params));
     siddhiAppRuntime.addCallback(SiddhiUtils.getPreparedOutputTopicName(params), callback);
     siddhiAppRuntime.start();
+
+    if (maxBatchSize > 1) {
+      long flushInterval = Math.max(1, batchLingerMs);
+      batchFlusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "sp-siddhi-batch-flusher");
+        thread.setDaemon(true);
+        return thread;
+      });
+      batchFlusher.scheduleAtFixedRate(this::flushIfLingering, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public synchronized void processEvent(org.apache.streampipes.model.runtime.Event event) {
+    try {
+      SiddhiEventInjector injector = siddhiInjectors.get(event.getSourceInfo().getSourceId());
+      if (pendingInjector != null && pendingInjector != injector) {
+        // keep the arrival order of events from different input streams
+        pendingInjector.flush();
+      }
+      if (!injector.hasPendingEvents()) {
+        pendingSince = System.currentTimeMillis();
+      }
+      pendingInjector = injector.add(event) ? null : injector;
+    } catch (InterruptedException e) {
+      LOG.warn("Interrupted while sending event to Siddhi", e);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private synchronized void flushIfLingering() {
+    if (pendingInjector != null && System.currentTimeMillis() - pendingSince >= batchLingerMs) {
+      flushPendingEvents();
+    }
   }
 
-  public void processEvent(org.apache.streampipes.model.runtime.Event event) {
+  private synchronized void flushPendingEvents() {
     try {
-      String sourceId = event.getSourceInfo().getSourceId();
-      InputHandler inputHandler = siddhiInputHandlers.get(sourceId);
-      List<String> eventKeys = this.typeInfo
-          .get(sourceId)
-          .stream()
-          .map(EventPropertyDef::getFieldName)
-          .collect(Collectors.toList());
-
-      inputHandler.send(SiddhiUtils.toObjArr(eventKeys, event.getRaw()));
+      if (pendingInjector != null) {
+        pendingInjector.flush();
+        pendingInjector = null;
+      }
     } catch (InterruptedException e) {
-      e.printStackTrace();
+      LOG.warn("Interrupted while sending batch of events to Siddhi", e);
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      LOG.error("Could not send batch of events to Siddhi", e);
     }
   }
 
   public void shutdownEngine() {
+    if (batchFlusher != null) {
+      batchFlusher.shutdownNow();
+      flushPendingEvents();
+    }
     this.siddhiAppRuntime.shutdown();
   }
 
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.siddhi.engine;
+
+import org.apache.streampipes.model.constants.PropertySelectorConstants;
+import org.apache.streampipes.model.runtime.field.AbstractField;
+import org.apache.streampipes.model.runtime.field.PrimitiveField;
+import org.apache.streampipes.wrapper.siddhi.model.EventPropertyDef;
+
+import io.siddhi.core.event.Event;
+import io.siddhi.core.stream.input.InputHandler;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Injects the events of a single input stream into the Siddhi engine. The attribute order of the
+ * input stream definition is resolved once, and the Siddhi events of a batch are reused, as Siddhi
+ * copies the event data on send.
+ */
+public class SiddhiEventInjector {
+
+  private final InputHandler inputHandler;
+  private final String[] fieldNames;
+  private final Event[] batch;
+
+  private String[] fieldSelectors;
+  private int batchCount;
+
+  public SiddhiEventInjector(InputHandler inputHandler,
+                             List<EventPropertyDef> eventTypeInfo,
+                             int maxBatchSize) {
+    this.inputHandler = inputHandler;
+    this.fieldNames = eventTypeInfo
+        .stream()
+        .map(EventPropertyDef::getFieldName)
+        .toArray(String[]::new);
+    this.batch = new Event[Math.max(1, maxBatchSize)];
+    for (int i = 0; i < batch.length; i++) {
+      batch[i] = new Event(fieldNames.length);
+    }
+  }
+
+  /**
+   * Adds an event to the current batch, which is sent to Siddhi once it is full.
+   *
+   * @param event the event to inject
+   * @return true if the batch was sent
+   */
+  public boolean add(org.apache.streampipes.model.runtime.Event event) throws InterruptedException {
+    Event siddhiEvent = batch[batchCount++];
+    siddhiEvent.setTimestamp(System.currentTimeMillis());
+    fillData(event, siddhiEvent.getData());
+
+    if (batchCount == batch.length) {
+      flush();
+      return true;
+    }
+    return false;
+  }
+
+  public void flush() throws InterruptedException {
+    if (batchCount == 1) {
+      inputHandler.send(batch[0]);
+    } else if (batchCount > 1) {
+      inputHandler.send(batchCount == batch.length ? batch : Arrays.copyOf(batch, batchCount));
+    }
+    batchCount = 0;
+  }
+
+  public boolean hasPendingEvents() {
+    return batchCount > 0;
+  }
+
+  private void fillData(org.apache.streampipes.model.runtime.Event event,
+                        Object[] data) {
+    if (fieldSelectors == null) {
+      fieldSelectors = makeFieldSelectors(event.getSourceInfo().getSelectorPrefix());
+    }
+
+    Map<String, AbstractField> fields = event.getFields();
+    Map<String, Object> rawEvent = null;
+    for (int i = 0; i < fieldSelectors.length; i++) {
+      AbstractField field = fields.get(fieldSelectors[i]);
+      if (field == null) {
+        Optional<AbstractField> fieldOpt = event.getOptionalFieldByRuntimeName(fieldNames[i]);
+        field = fieldOpt.orElse(null);
+      }
+      if (field == null || field instanceof PrimitiveField) {
+        data[i] = field != null ? field.getRawValue() : null;
+      } else {
+        // nested and list fields are passed in their map and list representation
+        if (rawEvent == null) {
+          rawEvent = event.getRaw();
+        }
+        data[i] = rawEvent.get(fieldNames[i]);
+      }
+    }
+  }
+
+  private String[] makeFieldSelectors(String selectorPrefix) {
+    return Arrays
+        .stream(fieldNames)
+        .map(name -> selectorPrefix != null
+            ? selectorPrefix + PropertySelectorConstants.PROPERTY_DELIMITER + name
+            : name)
+        .toArray(String[]::new);
+  }
+}
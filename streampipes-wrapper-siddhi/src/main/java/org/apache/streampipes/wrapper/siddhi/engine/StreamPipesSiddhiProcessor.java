@@ -26,20 +26,25 @@ import org.apache.streampipes.extensions.api.pe.routing.SpOutputCollector;
 import org.apache.streampipes.model.graph.DataProcessorDescription;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.sdk.builder.processor.DataProcessorConfiguration;
+import org.apache.streampipes.wrapper.siddhi.SiddhiAppConfig;
 import org.apache.streampipes.wrapper.siddhi.engine.callback.SiddhiDebugCallback;
 import org.apache.streampipes.wrapper.siddhi.engine.generator.SiddhiInvocationConfigGenerator;
+import org.apache.streampipes.wrapper.siddhi.model.SiddhiProcessorParams;
 
 public abstract class StreamPipesSiddhiProcessor
     implements IStreamPipesDataProcessor, SiddhiStatementGenerator {
 
   private final SiddhiEngine siddhiEngine;
+  private final boolean debugMode;
 
   public StreamPipesSiddhiProcessor() {
     this.siddhiEngine = new SiddhiEngine();
+    this.debugMode = false;
   }
 
   public StreamPipesSiddhiProcessor(SiddhiDebugCallback debugCallback) {
     this.siddhiEngine = new SiddhiEngine(debugCallback);
+    this.debugMode = true;
   }
 
   @Override
@@ -48,7 +53,7 @@ public abstract class StreamPipesSiddhiProcessor
                                 EventProcessorRuntimeContext runtimeContext) {
     SiddhiInvocationConfigGenerator siddhiConfigGenerator =
         new SiddhiInvocationConfigGenerator(params,
-            this::makeStatements);
+            this::makeAppConfig);
     this.siddhiEngine.initializeEngine(siddhiConfigGenerator, collector, params);
   }
 
@@ -62,6 +67,16 @@ public abstract class StreamPipesSiddhiProcessor
     this.siddhiEngine.shutdownEngine();
   }
 
+  private SiddhiAppConfig makeAppConfig(SiddhiProcessorParams siddhiParams,
+                                        String finalInsertIntoStreamName) {
+    SiddhiAppConfig appConfig = makeStatements(siddhiParams, finalInsertIntoStreamName);
+    if (debugMode) {
+      // results must be available once onEvent returns
+      appConfig.disableInputBuffering();
+    }
+    return appConfig;
+  }
+
   @Override
   public IDataProcessorConfiguration declareConfig() {
     return DataProcessorConfiguration.create(
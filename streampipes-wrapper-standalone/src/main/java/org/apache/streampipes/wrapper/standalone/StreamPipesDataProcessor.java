@@ -26,6 +26,8 @@ import org.apache.streampipes.extensions.api.pe.routing.SpOutputCollector;
 import org.apache.streampipes.model.graph.DataProcessorDescription;
 import org.apache.streampipes.sdk.builder.processor.DataProcessorConfiguration;
 import org.apache.streampipes.wrapper.params.compat.ProcessorParams;
+import org.apache.streampipes.wrapper.standalone.state.StateStore;
+import org.apache.streampipes.wrapper.standalone.state.StateStoreManager;
 
 public abstract class StreamPipesDataProcessor
     implements IStreamPipesDataProcessor {
@@ -59,6 +61,19 @@ public abstract class StreamPipesDataProcessor
     this.onDetach();
   }
 
+  /**
+   * Returns the state store of this processor instance. The store is restored from its latest
+   * snapshot when first requested, so it should be obtained in {@link #onInvocation}. Snapshots
+   * only exist if the extensions service was restarted while the instance was running; the state
+   * of a stopped instance is discarded.
+   *
+   * @param parameters the processor parameters
+   * @return the state store of this instance
+   */
+  protected StateStore getStateStore(ProcessorParams parameters) {
+    return StateStoreManager.INSTANCE.getStateStore(parameters.getModel().getElementId());
+  }
+
   public abstract DataProcessorDescription declareModel();
 
   public abstract void onInvocation(ProcessorParams parameters,
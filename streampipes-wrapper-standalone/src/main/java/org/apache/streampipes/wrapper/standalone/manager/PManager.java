@@ -25,6 +25,7 @@ import org.apache.streampipes.messaging.SpProtocolDefinition;
 import org.apache.streampipes.messaging.SpProtocolManager;
 import org.apache.streampipes.model.grounding.TransportFormat;
 import org.apache.streampipes.model.grounding.TransportProtocol;
+import org.apache.streampipes.model.schema.EventSchema;
 
 import java.util.Optional;
 
@@ -37,4 +38,9 @@ public class PManager {
   public static Optional<SpDataFormatDefinition> getDataFormat(TransportFormat format) throws SpRuntimeException {
     return SpDataFormatManager.INSTANCE.findDefinition(format);
   }
+
+  public static Optional<SpDataFormatDefinition> getDataFormat(TransportFormat format,
+                                                               EventSchema eventSchema) throws SpRuntimeException {
+    return SpDataFormatManager.INSTANCE.findDefinition(format, eventSchema);
+  }
 }
@@ -21,6 +21,7 @@ package org.apache.streampipes.wrapper.standalone.manager;
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
 import org.apache.streampipes.model.grounding.TransportFormat;
 import org.apache.streampipes.model.grounding.TransportProtocol;
+import org.apache.streampipes.model.schema.EventSchema;
 import org.apache.streampipes.wrapper.standalone.routing.StandaloneSpInputCollector;
 import org.apache.streampipes.wrapper.standalone.routing.StandaloneSpOutputCollector;
 
@@ -59,11 +60,19 @@ public class ProtocolManager {
                                                                                               TransportFormat format,
                                                                                               String resourceId)
       throws SpRuntimeException {
+    return findOutputCollector(protocol, format, null, resourceId);
+  }
+
+  public static <T extends TransportProtocol> StandaloneSpOutputCollector findOutputCollector(T protocol,
+                                                                                              TransportFormat format,
+                                                                                              EventSchema eventSchema,
+                                                                                              String resourceId)
+      throws SpRuntimeException {
 
     if (producers.containsKey(topicName(protocol))) {
       return producers.get(topicName(protocol));
     } else {
-      producers.put(topicName(protocol), makeOutputCollector(protocol, format, resourceId));
+      producers.put(topicName(protocol), makeOutputCollector(protocol, format, eventSchema, resourceId));
       LOG.info("Adding new producer to producer map (size=" + producers.size() + "): " + topicName
           (protocol));
       return producers.get(topicName(protocol));
@@ -82,7 +91,15 @@ public class ProtocolManager {
                                                                                                  TransportFormat format,
                                                                                                  String resourceId)
       throws SpRuntimeException {
-    return new StandaloneSpOutputCollector<>(protocol, format, resourceId);
+    return makeOutputCollector(protocol, format, null, resourceId);
+  }
+
+  public static <T extends TransportProtocol> StandaloneSpOutputCollector<T> makeOutputCollector(
+      T protocol,
+      TransportFormat format,
+      EventSchema eventSchema,
+      String resourceId) throws SpRuntimeException {
+    return new StandaloneSpOutputCollector<>(protocol, format, eventSchema, resourceId);
   }
 
   private static String topicName(TransportProtocol protocol) {
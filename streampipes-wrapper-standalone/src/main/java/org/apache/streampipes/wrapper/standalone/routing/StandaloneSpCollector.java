@@ -24,6 +24,7 @@ import org.apache.streampipes.extensions.api.pe.routing.PipelineElementCollector
 import org.apache.streampipes.messaging.SpProtocolDefinition;
 import org.apache.streampipes.model.grounding.TransportFormat;
 import org.apache.streampipes.model.grounding.TransportProtocol;
+import org.apache.streampipes.model.schema.EventSchema;
 import org.apache.streampipes.wrapper.standalone.manager.PManager;
 
 import java.util.Map;
@@ -43,11 +44,17 @@ public abstract class StandaloneSpCollector<T extends TransportProtocol, W> impl
 
 
   public StandaloneSpCollector(T protocol, TransportFormat format) throws SpRuntimeException {
+    this(protocol, format, null);
+  }
+
+  public StandaloneSpCollector(T protocol,
+                               TransportFormat format,
+                               EventSchema eventSchema) throws SpRuntimeException {
     this.transportProtocol = protocol;
     this.protocolDefinition = PManager.getProtocolDefinition(protocol).orElseThrow(() -> new
         SpRuntimeException("Could not find protocol"));
     this.transportFormat = format;
-    this.dataFormatDefinition = PManager.getDataFormat(format).orElseThrow(() -> new
+    this.dataFormatDefinition = PManager.getDataFormat(format, eventSchema).orElseThrow(() -> new
         SpRuntimeException("Could not find format"));
     this.consumers = new ConcurrentHashMap<>();
     this.topic = transportProtocol.getTopicDefinition().getActualTopicName();
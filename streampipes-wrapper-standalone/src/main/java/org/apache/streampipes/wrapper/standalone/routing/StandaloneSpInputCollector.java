@@ -19,6 +19,7 @@
 package org.apache.streampipes.wrapper.standalone.routing;
 
 import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+import org.apache.streampipes.extensions.api.monitoring.SpMonitoringManager;
 import org.apache.streampipes.extensions.api.pe.routing.RawDataProcessor;
 import org.apache.streampipes.extensions.api.pe.routing.SpInputCollector;
 import org.apache.streampipes.messaging.EventConsumer;
@@ -26,6 +27,7 @@ import org.apache.streampipes.messaging.InternalEventProcessor;
 import org.apache.streampipes.model.grounding.TransportFormat;
 import org.apache.streampipes.model.grounding.TransportProtocol;
 import org.apache.streampipes.wrapper.standalone.manager.ProtocolManager;
+import org.apache.streampipes.wrapper.standalone.runtime.StandalonePipelineElementRuntime;
 
 public class StandaloneSpInputCollector<T extends TransportProtocol> extends
     StandaloneSpCollector<T, RawDataProcessor>
@@ -46,13 +48,18 @@ public class StandaloneSpInputCollector<T extends TransportProtocol> extends
   @Override
   public void onEvent(byte[] event) {
     if (singletonEngine) {
-      send(consumers.get(consumers.keySet().toArray()[0]), event);
+      String routeId = consumers.keySet().iterator().next();
+      send(routeId, consumers.get(routeId), event);
     } else {
-      consumers.forEach((key, value) -> send(value, event));
+      consumers.forEach((key, value) -> send(key, value, event));
     }
   }
 
-  private void send(RawDataProcessor rawDataProcessor, byte[] event) {
+  private void send(String routeId, RawDataProcessor rawDataProcessor, byte[] event) {
+    // pipeline elements are registered with their instance id, which is also used for monitoring
+    if (rawDataProcessor instanceof StandalonePipelineElementRuntime) {
+      SpMonitoringManager.INSTANCE.increaseInBytes(routeId, topic, event.length);
+    }
     rawDataProcessor.process(dataFormatDefinition.toMap(event), topic);
   }
 
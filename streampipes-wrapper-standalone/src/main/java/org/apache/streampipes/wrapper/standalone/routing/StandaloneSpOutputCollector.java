@@ -28,6 +28,7 @@ import org.apache.streampipes.model.grounding.TransportFormat;
 import org.apache.streampipes.model.grounding.TransportProtocol;
 import org.apache.streampipes.model.runtime.Event;
 import org.apache.streampipes.model.runtime.EventConverter;
+import org.apache.streampipes.model.schema.EventSchema;
 import org.apache.streampipes.wrapper.standalone.manager.ProtocolManager;
 
 import org.slf4j.Logger;
@@ -48,7 +49,14 @@ public class StandaloneSpOutputCollector<T extends TransportProtocol> extends
   public StandaloneSpOutputCollector(T protocol,
                                      TransportFormat format,
                                      String resourceId) throws SpRuntimeException {
-    super(protocol, format);
+    this(protocol, format, null, resourceId);
+  }
+
+  public StandaloneSpOutputCollector(T protocol,
+                                     TransportFormat format,
+                                     EventSchema eventSchema,
+                                     String resourceId) throws SpRuntimeException {
+    super(protocol, format, eventSchema);
     this.producer = protocolDefinition.getProducer(protocol);
     this.resourceId = resourceId;
     this.extensionsLogger = new ExtensionsLogger(resourceId);
@@ -57,8 +65,9 @@ public class StandaloneSpOutputCollector<T extends TransportProtocol> extends
   public void collect(Event event) {
     Map<String, Object> outEvent = new EventConverter(event).toMap();
     try {
-      producer.publish(dataFormatDefinition.fromMap(outEvent));
-      SpMonitoringManager.INSTANCE.increaseOutCounter(resourceId, System.currentTimeMillis());
+      byte[] payload = dataFormatDefinition.fromMap(outEvent);
+      producer.publish(payload);
+      SpMonitoringManager.INSTANCE.increaseOutCounter(resourceId, System.currentTimeMillis(), payload.length);
     } catch (SpRuntimeException e) {
       extensionsLogger.error(e);
       LOG.error("Could not publish event", e);
@@ -64,6 +64,10 @@ public class StandaloneEventProcessorRuntime extends StandalonePipelineElementRu
             .getEventGrounding()
             .getTransportFormats()
             .get(0),
+        runtimeParameters
+            .getModel()
+            .getOutputStream()
+            .getEventSchema(),
         this.instanceId);
   }
 
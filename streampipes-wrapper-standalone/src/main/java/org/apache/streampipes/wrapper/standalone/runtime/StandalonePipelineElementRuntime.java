@@ -35,6 +35,7 @@ import org.apache.streampipes.model.base.InvocableStreamPipesEntity;
 import org.apache.streampipes.wrapper.params.InternalRuntimeParameters;
 import org.apache.streampipes.wrapper.runtime.PipelineElementRuntime;
 import org.apache.streampipes.wrapper.standalone.manager.ProtocolManager;
+import org.apache.streampipes.wrapper.standalone.state.StateStoreManager;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -83,6 +84,7 @@ public abstract class StandalonePipelineElementRuntime<
     this.inputCollectors.forEach(is -> is.unregisterConsumer(instanceId));
     resetCounter(instanceId);
     afterStop();
+    StateStoreManager.INSTANCE.discard(instanceId);
   }
 
   protected void resetCounter(String resourceId) throws SpRuntimeException {
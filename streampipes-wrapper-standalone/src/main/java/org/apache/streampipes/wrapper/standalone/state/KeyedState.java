@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.standalone.state;
+
+import java.util.Set;
+
+/**
+ * Base class of named state which is partitioned by a key (e.g., the value of an event field).
+ * Processors which do not partition their state can use the methods without a key, which refer
+ * to {@link #DEFAULT_KEY}.
+ */
+public abstract class KeyedState {
+
+  public static final String DEFAULT_KEY = "";
+
+  protected static final char SEPARATOR = '\u0000';
+  protected static final char RANGE_END = '\u0001';
+
+  protected final String name;
+  protected final StateBackend backend;
+
+  protected KeyedState(String name, StateBackend backend) {
+    this.name = name;
+    this.backend = backend;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns all keys for which this state currently holds a value.
+   */
+  public abstract Set<String> keys();
+
+  public abstract void clear(String key);
+
+  public void clear() {
+    clear(DEFAULT_KEY);
+  }
+
+  protected String prefix(String key) {
+    return key + SEPARATOR;
+  }
+
+  protected String rangeEnd(String key) {
+    return key + RANGE_END;
+  }
+}
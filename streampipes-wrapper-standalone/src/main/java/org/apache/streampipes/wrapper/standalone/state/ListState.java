@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.standalone.state;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keyed list state. Each element is stored as a separate entry, so that appending an element does
+ * not require to read and rewrite the whole list.
+ */
+public class ListState<T> extends KeyedState {
+
+  private final Class<T> elementType;
+  private final String sizeNamespace;
+
+  ListState(String name, Class<T> elementType, StateBackend backend) {
+    super(name, backend);
+    this.elementType = elementType;
+    this.sizeNamespace = name + "#size";
+  }
+
+  public List<T> get(String key) {
+    int size = size(key);
+    List<T> elements = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      byte[] bytes = backend.get(name, elementKey(key, i));
+      if (bytes != null) {
+        elements.add(StateSerializer.deserialize(bytes, elementType));
+      }
+    }
+    return elements;
+  }
+
+  public List<T> get() {
+    return get(DEFAULT_KEY);
+  }
+
+  public void add(String key, T value) {
+    int size = size(key);
+    backend.put(name, elementKey(key, size), StateSerializer.serialize(value));
+    backend.put(sizeNamespace, key, StateSerializer.serializeInt(size + 1));
+  }
+
+  public void add(T value) {
+    add(DEFAULT_KEY, value);
+  }
+
+  public void update(String key, List<T> values) {
+    clear(key);
+    for (int i = 0; i < values.size(); i++) {
+      backend.put(name, elementKey(key, i), StateSerializer.serialize(values.get(i)));
+    }
+    if (!values.isEmpty()) {
+      backend.put(sizeNamespace, key, StateSerializer.serializeInt(values.size()));
+    }
+  }
+
+  public void update(List<T> values) {
+    update(DEFAULT_KEY, values);
+  }
+
+  public int size(String key) {
+    return StateSerializer.deserializeInt(backend.get(sizeNamespace, key));
+  }
+
+  @Override
+  public Set<String> keys() {
+    return backend.keys(sizeNamespace);
+  }
+
+  @Override
+  public void clear(String key) {
+    int size = size(key);
+    for (int i = 0; i < size; i++) {
+      backend.remove(name, elementKey(key, i));
+    }
+    backend.remove(sizeNamespace, key);
+  }
+
+  private String elementKey(String key, int index) {
+    return prefix(key) + index;
+  }
+}
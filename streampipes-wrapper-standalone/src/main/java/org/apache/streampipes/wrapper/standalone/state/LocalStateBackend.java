@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.standalone.state;
+
+import org.apache.streampipes.commons.exceptions.SpRuntimeException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Embedded state backend which keeps entries as serialized byte arrays and persists them to a
+ * changelog file on the local file system.
+ *
+ * <p>Snapshots are incremental: only entries changed since the previous snapshot are appended to
+ * the changelog. Once the changelog grows much larger than the live state, it is compacted by
+ * writing a full snapshot. On restore, the changelog is memory-mapped and replayed; a record
+ * which was only partially written (e.g., due to a crash) is ignored.</p>
+ */
+public class LocalStateBackend implements StateBackend {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LocalStateBackend.class);
+
+  private static final String CHANGELOG_FILE = "state.log";
+  private static final String COMPACTION_FILE = "state.log.tmp";
+
+  private static final byte OP_PUT = 1;
+  private static final byte OP_REMOVE = 2;
+
+  private static final long MIN_COMPACTION_SIZE = 4 * 1024 * 1024;
+  private static final int COMPACTION_RATIO = 2;
+
+  private final Path dir;
+  private final Path changelog;
+  private final long minCompactionSize;
+
+  private final Map<String, ConcurrentSkipListMap<String, byte[]>> namespaces;
+  private final Map<String, Set<String>> changedKeys;
+  private final Object snapshotLock = new Object();
+
+  private long liveBytes;
+  private long changelogBytes;
+
+  public LocalStateBackend(Path dir) {
+    this(dir, MIN_COMPACTION_SIZE);
+  }
+
+  LocalStateBackend(Path dir,
+                    long minCompactionSize) {
+    this.dir = dir;
+    this.changelog = dir.resolve(CHANGELOG_FILE);
+    this.minCompactionSize = minCompactionSize;
+    this.namespaces = new ConcurrentHashMap<>();
+    this.changedKeys = new HashMap<>();
+  }
+
+  @Override
+  public byte[] get(String namespace, String key) {
+    Map<String, byte[]> entries = namespaces.get(namespace);
+    return entries != null ? entries.get(key) : null;
+  }
+
+  @Override
+  public synchronized void put(String namespace, String key, byte[] value) {
+    byte[] previous = namespaces
+        .computeIfAbsent(namespace, ns -> new ConcurrentSkipListMap<>())
+        .put(key, value);
+    liveBytes += entrySize(key, value) - (previous != null ? entrySize(key, previous) : 0);
+    markChanged(namespace, key);
+  }
+
+  @Override
+  public synchronized void remove(String namespace, String key) {
+    Map<String, byte[]> entries = namespaces.get(namespace);
+    if (entries != null) {
+      byte[] previous = entries.remove(key);
+      if (previous != null) {
+        liveBytes -= entrySize(key, previous);
+        markChanged(namespace, key);
+      }
+    }
+  }
+
+  @Override
+  public NavigableMap<String, byte[]> range(String namespace, String fromKey, String toKey) {
+    ConcurrentSkipListMap<String, byte[]> entries = namespaces.get(namespace);
+    if (entries == null) {
+      return Collections.emptyNavigableMap();
+    }
+    return Collections.unmodifiableNavigableMap(entries.subMap(fromKey, true, toKey, false));
+  }
+
+  @Override
+  public Set<String> keys(String namespace) {
+    ConcurrentSkipListMap<String, byte[]> entries = namespaces.get(namespace);
+    return entries != null ? Collections.unmodifiableSet(entries.keySet()) : Collections.emptySet();
+  }
+
+  @Override
+  public void restore() {
+    synchronized (snapshotLock) {
+      if (!Files.exists(changelog)) {
+        return;
+      }
+      try (FileChannel channel = FileChannel.open(changelog, StandardOpenOption.READ)) {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        long validBytes = replay(buffer);
+        synchronized (this) {
+          changedKeys.clear();
+        }
+        changelogBytes = validBytes;
+        if (validBytes < channel.size()) {
+          LOG.warn("Ignoring incomplete record at the end of state changelog {}", changelog);
+        }
+      } catch (IOException e) {
+        throw new SpRuntimeException("Could not restore state from " + changelog, e);
+      }
+      if (changelogBytes < sizeOf(changelog)) {
+        // drop the incomplete record, so that further changes are appended to a valid log
+        writeFullSnapshot();
+      }
+    }
+  }
+
+  @Override
+  public void snapshot() {
+    synchronized (snapshotLock) {
+      List<Change> changes = new ArrayList<>();
+      boolean compact;
+      synchronized (this) {
+        if (changedKeys.isEmpty()) {
+          return;
+        }
+        compact = changelogBytes > Math.max(minCompactionSize, COMPACTION_RATIO * liveBytes);
+        if (!compact) {
+          changedKeys.forEach((namespace, keys) -> keys.forEach(key ->
+              changes.add(new Change(namespace, key, get(namespace, key)))));
+        }
+        changedKeys.clear();
+      }
+      if (compact) {
+        writeFullSnapshot();
+      } else {
+        appendChanges(changes);
+      }
+    }
+  }
+
+  @Override
+  public void clear() {
+    synchronized (snapshotLock) {
+      synchronized (this) {
+        namespaces.clear();
+        changedKeys.clear();
+        liveBytes = 0;
+      }
+      try {
+        Files.deleteIfExists(changelog);
+        Files.deleteIfExists(dir.resolve(COMPACTION_FILE));
+        changelogBytes = 0;
+        Files.deleteIfExists(dir);
+      } catch (DirectoryNotEmptyException e) {
+        LOG.warn("State directory {} contains unknown files and is not deleted", dir);
+      } catch (IOException e) {
+        throw new SpRuntimeException("Could not delete state changelog " + changelog, e);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    snapshot();
+  }
+
+  long getChangelogSize() {
+    return sizeOf(changelog);
+  }
+
+  private void markChanged(String namespace, String key) {
+    changedKeys.computeIfAbsent(namespace, ns -> new HashSet<>()).add(key);
+  }
+
+  private long replay(ByteBuffer buffer) {
+    long validBytes = 0;
+    while (buffer.remaining() >= Integer.BYTES) {
+      int length = buffer.getInt();
+      if (length <= 0 || buffer.remaining() < length) {
+        break;
+      }
+      byte op = buffer.get();
+      String namespace = readString(buffer);
+      String key = readString(buffer);
+      if (op == OP_PUT) {
+        byte[] value = new byte[buffer.getInt()];
+        buffer.get(value);
+        put(namespace, key, value);
+      } else {
+        remove(namespace, key);
+      }
+      validBytes += Integer.BYTES + length;
+    }
+    return validBytes;
+  }
+
+  private void appendChanges(List<Change> changes) {
+    try {
+      Files.createDirectories(dir);
+      try (FileOutputStream fos = new FileOutputStream(changelog.toFile(), true);
+           DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+        for (Change change : changes) {
+          changelogBytes += writeRecord(out, change.namespace, change.key, change.value);
+        }
+        out.flush();
+        fos.getChannel().force(false);
+      }
+    } catch (IOException e) {
+      throw new SpRuntimeException("Could not write state snapshot to " + changelog, e);
+    }
+  }
+
+  private void writeFullSnapshot() {
+    Path tmp = dir.resolve(COMPACTION_FILE);
+    try {
+      Files.createDirectories(dir);
+      long bytes = 0;
+      try (FileOutputStream fos = new FileOutputStream(tmp.toFile());
+           DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+        for (Map.Entry<String, ConcurrentSkipListMap<String, byte[]>> namespace : namespaces.entrySet()) {
+          for (Map.Entry<String, byte[]> entry : namespace.getValue().entrySet()) {
+            bytes += writeRecord(out, namespace.getKey(), entry.getKey(), entry.getValue());
+          }
+        }
+        out.flush();
+        fos.getChannel().force(false);
+      }
+      Files.move(tmp, changelog, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      changelogBytes = bytes;
+    } catch (IOException e) {
+      throw new SpRuntimeException("Could not write state snapshot to " + changelog, e);
+    }
+  }
+
+  private long writeRecord(DataOutputStream out,
+                           String namespace,
+                           String key,
+                           byte[] value) throws IOException {
+    byte[] namespaceBytes = namespace.getBytes(StandardCharsets.UTF_8);
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    int length = 1 + Integer.BYTES + namespaceBytes.length + Integer.BYTES + keyBytes.length
+        + (value != null ? Integer.BYTES + value.length : 0);
+
+    out.writeInt(length);
+    out.writeByte(value != null ? OP_PUT : OP_REMOVE);
+    out.writeInt(namespaceBytes.length);
+    out.write(namespaceBytes);
+    out.writeInt(keyBytes.length);
+    out.write(keyBytes);
+    if (value != null) {
+      out.writeInt(value.length);
+      out.write(value);
+    }
+    return Integer.BYTES + length;
+  }
+
+  private String readString(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private long entrySize(String key, byte[] value) {
+    return key.length() + value.length;
+  }
+
+  private long sizeOf(Path path) {
+    try {
+      return Files.size(path);
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  private static class Change {
+
+    private final String namespace;
+    private final String key;
+    private final byte[] value;
+
+    Change(String namespace, String key, byte[] value) {
+      this.namespace = namespace;
+      this.key = key;
+      this.value = value;
+    }
+  }
+}
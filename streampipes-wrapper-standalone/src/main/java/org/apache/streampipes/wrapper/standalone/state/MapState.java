@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.standalone.state;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keyed map state. Each map entry is stored separately, so that single entries can be read and
+ * updated without deserializing the whole map.
+ */
+public class MapState<V> extends KeyedState {
+
+  private final Class<V> valueType;
+  private final String sizeNamespace;
+
+  MapState(String name, Class<V> valueType, StateBackend backend) {
+    super(name, backend);
+    this.valueType = valueType;
+    this.sizeNamespace = name + "#size";
+  }
+
+  public V get(String key, String mapKey) {
+    byte[] bytes = backend.get(name, prefix(key) + mapKey);
+    return bytes != null ? StateSerializer.deserialize(bytes, valueType) : null;
+  }
+
+  public void put(String key, String mapKey, V value) {
+    String entryKey = prefix(key) + mapKey;
+    boolean isNew = backend.get(name, entryKey) == null;
+    backend.put(name, entryKey, StateSerializer.serialize(value));
+    if (isNew) {
+      backend.put(sizeNamespace, key, StateSerializer.serializeInt(size(key) + 1));
+    }
+  }
+
+  public void remove(String key, String mapKey) {
+    String entryKey = prefix(key) + mapKey;
+    if (backend.get(name, entryKey) != null) {
+      backend.remove(name, entryKey);
+      int size = size(key) - 1;
+      if (size > 0) {
+        backend.put(sizeNamespace, key, StateSerializer.serializeInt(size));
+      } else {
+        backend.remove(sizeNamespace, key);
+      }
+    }
+  }
+
+  /**
+   * Returns all entries of the map of the given key, sorted by their map key.
+   */
+  public Map<String, V> entries(String key) {
+    String prefix = prefix(key);
+    Map<String, V> entries = new LinkedHashMap<>();
+    backend.range(name, prefix, rangeEnd(key)).forEach((entryKey, bytes) ->
+        entries.put(entryKey.substring(prefix.length()), StateSerializer.deserialize(bytes, valueType)));
+    return entries;
+  }
+
+  public int size(String key) {
+    return StateSerializer.deserializeInt(backend.get(sizeNamespace, key));
+  }
+
+  @Override
+  public Set<String> keys() {
+    return backend.keys(sizeNamespace);
+  }
+
+  @Override
+  public void clear(String key) {
+    new ArrayList<>(backend.range(name, prefix(key), rangeEnd(key)).keySet())
+        .forEach(entryKey -> backend.remove(name, entryKey));
+    backend.remove(sizeNamespace, key);
+  }
+}
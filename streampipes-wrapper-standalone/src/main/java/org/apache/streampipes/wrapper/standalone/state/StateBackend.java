@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.standalone.state;
+
+import java.util.NavigableMap;
+import java.util.Set;
+
+/**
+ * Storage of serialized state entries, organized in namespaces of sorted keys.
+ * Implementations must be thread-safe, as snapshots are taken in the background.
+ */
+public interface StateBackend {
+
+  byte[] get(String namespace, String key);
+
+  void put(String namespace, String key, byte[] value);
+
+  void remove(String namespace, String key);
+
+  /**
+   * Returns a read-only view of all entries of a namespace with fromKey <= key < toKey.
+   */
+  NavigableMap<String, byte[]> range(String namespace, String fromKey, String toKey);
+
+  Set<String> keys(String namespace);
+
+  /**
+   * Loads the latest snapshot, if any.
+   */
+  void restore();
+
+  /**
+   * Persists all changes since the last snapshot.
+   */
+  void snapshot();
+
+  /**
+   * Removes all entries, including persisted snapshots and their directory.
+   */
+  void clear();
+
+  void close();
+}
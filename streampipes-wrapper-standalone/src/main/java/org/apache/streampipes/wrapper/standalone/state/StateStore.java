@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.standalone.state;
+
+/**
+ * State of a single pipeline element instance. The state is restored when the store is opened and
+ * snapshotted periodically by the {@link StateStoreManager}, so that a processor can resume from its
+ * previous state after the extensions service was restarted.
+ *
+ * <p>Entries are kept in serialized form, so large state does not consist of many small objects
+ * the garbage collector needs to trace. Values must be serializable with Jackson.</p>
+ */
+public class StateStore {
+
+  private final StateBackend backend;
+
+  public StateStore(StateBackend backend) {
+    this.backend = backend;
+    this.backend.restore();
+  }
+
+  public <T> ValueState<T> getValueState(String name, Class<T> type) {
+    return new ValueState<>(name, type, backend);
+  }
+
+  public <T> ListState<T> getListState(String name, Class<T> elementType) {
+    return new ListState<>(name, elementType, backend);
+  }
+
+  public <V> MapState<V> getMapState(String name, Class<V> valueType) {
+    return new MapState<>(name, valueType, backend);
+  }
+
+  public void snapshot() {
+    backend.snapshot();
+  }
+
+  /**
+   * Discards all state of this instance, e.g., if a processor should not resume from a previous run.
+   */
+  public void clear() {
+    backend.clear();
+  }
+
+  public void close() {
+    backend.close();
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.standalone.state;
+
+import org.apache.streampipes.commons.environment.Environment;
+import org.apache.streampipes.commons.environment.Environments;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manages the state stores of the pipeline element instances running in this service.
+ * Stores are opened (and restored) on first access, usually in onInvocation. State only survives
+ * a crash or restart of the extensions service: once an instance is stopped, its state is
+ * discarded, so that a pipeline which is started again begins with empty state.
+ */
+public enum StateStoreManager {
+
+  INSTANCE;
+
+  private static final Logger LOG = LoggerFactory.getLogger(StateStoreManager.class);
+
+  private final Map<String, StateStore> stores;
+  private final Path baseDir;
+  private final ScheduledExecutorService scheduler;
+
+  StateStoreManager() {
+    Environment env = Environments.getEnvironment();
+    this.stores = new ConcurrentHashMap<>();
+    this.baseDir = Paths.get(env.getStateStoreDir().getValueOrDefault());
+    long snapshotIntervalMs = env.getStateSnapshotIntervalMs().getValueOrDefault();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "sp-state-snapshot");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.scheduler.scheduleWithFixedDelay(
+        this::snapshotAll,
+        snapshotIntervalMs,
+        snapshotIntervalMs,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Returns the state store of a pipeline element instance, restoring its latest snapshot
+   * if the store is not yet open.
+   *
+   * @param instanceId the element id of the pipeline element invocation
+   * @return the state store
+   */
+  public StateStore getStateStore(String instanceId) {
+    return stores.computeIfAbsent(instanceId, id ->
+        new StateStore(new LocalStateBackend(directoryOf(id))));
+  }
+
+  /**
+   * Closes the state store of an instance with a final snapshot, keeping its state on disk.
+   *
+   * @param instanceId the element id of the pipeline element invocation
+   */
+  public void close(String instanceId) {
+    StateStore store = stores.remove(instanceId);
+    if (store != null) {
+      store.close();
+    }
+  }
+
+  /**
+   * Deletes all state of an instance, including its state directory. Called once the instance is
+   * stopped; also removes state left behind by a previous run which did not open the store.
+   *
+   * @param instanceId the element id of the pipeline element invocation
+   */
+  public void discard(String instanceId) {
+    StateStore store = stores.remove(instanceId);
+    if (store != null) {
+      store.clear();
+    } else {
+      new LocalStateBackend(directoryOf(instanceId)).clear();
+    }
+  }
+
+  Path directoryOf(String instanceId) {
+    return baseDir.resolve(DigestUtils.sha256Hex(instanceId));
+  }
+
+  private void snapshotAll() {
+    stores.forEach((instanceId, store) -> {
+      try {
+        store.snapshot();
+      } catch (RuntimeException e) {
+        LOG.error("Could not snapshot state of {}", instanceId, e);
+      }
+    });
+  }
+}
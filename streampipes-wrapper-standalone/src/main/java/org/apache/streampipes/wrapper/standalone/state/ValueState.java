@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.standalone.state;
+
+import java.util.Set;
+
+public class ValueState<T> extends KeyedState {
+
+  private final Class<T> type;
+
+  ValueState(String name, Class<T> type, StateBackend backend) {
+    super(name, backend);
+    this.type = type;
+  }
+
+  public T value(String key) {
+    byte[] bytes = backend.get(name, key);
+    return bytes != null ? StateSerializer.deserialize(bytes, type) : null;
+  }
+
+  public T value() {
+    return value(DEFAULT_KEY);
+  }
+
+  public void update(String key, T value) {
+    if (value == null) {
+      clear(key);
+    } else {
+      backend.put(name, key, StateSerializer.serialize(value));
+    }
+  }
+
+  public void update(T value) {
+    update(DEFAULT_KEY, value);
+  }
+
+  @Override
+  public Set<String> keys() {
+    return backend.keys(name);
+  }
+
+  @Override
+  public void clear(String key) {
+    backend.remove(name, key);
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.standalone.state;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestLocalStateBackend {
+
+  private Path dir;
+
+  @Before
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("sp-state-test").resolve("instance");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(dir.getParent())) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Test
+  public void testSnapshotIsRestored() {
+    LocalStateBackend backend = new LocalStateBackend(dir);
+    backend.put("ns", "a", bytes("1"));
+    backend.put("ns", "b", bytes("2"));
+    backend.snapshot();
+    backend.remove("ns", "a");
+    backend.put("ns", "b", bytes("3"));
+    backend.close();
+
+    LocalStateBackend restored = restore();
+    assertNull(restored.get("ns", "a"));
+    assertArrayEquals(bytes("3"), restored.get("ns", "b"));
+    assertEquals(1, restored.keys("ns").size());
+  }
+
+  @Test
+  public void testChangesAfterLastSnapshotAreLostOnCrash() {
+    LocalStateBackend backend = new LocalStateBackend(dir);
+    backend.put("ns", "a", bytes("1"));
+    backend.snapshot();
+    // no snapshot before the crash
+    backend.put("ns", "b", bytes("2"));
+
+    LocalStateBackend restored = restore();
+    assertArrayEquals(bytes("1"), restored.get("ns", "a"));
+    assertNull(restored.get("ns", "b"));
+  }
+
+  @Test
+  public void testIncompleteRecordIsIgnored() throws IOException {
+    LocalStateBackend backend = new LocalStateBackend(dir);
+    backend.put("ns", "a", bytes("1"));
+    backend.snapshot();
+    backend.put("ns", "b", bytes("2"));
+    backend.snapshot();
+
+    // simulate a crash while the last record was written
+    Path changelog = dir.resolve("state.log");
+    try (FileChannel channel = FileChannel.open(changelog, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 1);
+    }
+
+    LocalStateBackend restored = restore();
+    assertArrayEquals(bytes("1"), restored.get("ns", "a"));
+    assertNull(restored.get("ns", "b"));
+
+    // further changes are appended to a valid changelog
+    restored.put("ns", "c", bytes("3"));
+    restored.close();
+    LocalStateBackend restoredAgain = restore();
+    assertArrayEquals(bytes("1"), restoredAgain.get("ns", "a"));
+    assertArrayEquals(bytes("3"), restoredAgain.get("ns", "c"));
+  }
+
+  @Test
+  public void testChangelogIsCompacted() {
+    LocalStateBackend backend = new LocalStateBackend(dir, 1024);
+    for (int i = 0; i < 200; i++) {
+      backend.put("ns", "key", bytes("value-" + i));
+      backend.snapshot();
+    }
+    // each snapshot appends a record, compaction keeps the changelog close to the live state
+    assertTrue(backend.getChangelogSize() < 2048);
+
+    LocalStateBackend restored = restore();
+    assertArrayEquals(bytes("value-199"), restored.get("ns", "key"));
+    assertEquals(1, restored.keys("ns").size());
+  }
+
+  @Test
+  public void testRangeReturnsEntriesOfKey() {
+    LocalStateBackend backend = new LocalStateBackend(dir);
+    backend.put("ns", "a\u00000", bytes("1"));
+    backend.put("ns", "a\u00001", bytes("2"));
+    backend.put("ns", "b\u00000", bytes("3"));
+
+    assertEquals(2, backend.range("ns", "a\u0000", "a\u0001").size());
+  }
+
+  @Test
+  public void testClearDeletesDirectory() {
+    LocalStateBackend backend = new LocalStateBackend(dir);
+    backend.put("ns", "a", bytes("1"));
+    backend.snapshot();
+    assertTrue(Files.exists(dir));
+
+    backend.clear();
+
+    assertFalse(Files.exists(dir));
+    assertNull(backend.get("ns", "a"));
+    assertNull(restore().get("ns", "a"));
+  }
+
+  private LocalStateBackend restore() {
+    LocalStateBackend backend = new LocalStateBackend(dir);
+    backend.restore();
+    return backend;
+  }
+
+  private byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.apache.streampipes.wrapper.standalone.state;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestStateStore {
+
+  private Path dir;
+
+  @Before
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("sp-state-test").resolve("instance");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(dir.getParent())) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Test
+  public void testValueStateRoundTrip() {
+    StateStore store = open();
+    ValueState<Double> state = store.getValueState("value", Double.class);
+    state.update(1.5);
+    state.update("sensor-1", 2.5);
+    store.close();
+
+    ValueState<Double> restored = open().getValueState("value", Double.class);
+    assertEquals(1.5, restored.value(), 0.0);
+    assertEquals(2.5, restored.value("sensor-1"), 0.0);
+    assertNull(restored.value("sensor-2"));
+  }
+
+  @Test
+  public void testListStateRoundTrip() {
+    StateStore store = open();
+    ListState<Double> state = store.getListState("buffer", Double.class);
+    state.add("on", 1.0);
+    state.add("on", 2.0);
+    state.add("off", 3.0);
+    store.close();
+
+    ListState<Double> restored = open().getListState("buffer", Double.class);
+    assertEquals(List.of(1.0, 2.0), restored.get("on"));
+    assertEquals(List.of(3.0), restored.get("off"));
+    assertEquals(Set.of("on", "off"), restored.keys());
+
+    restored.update("on", List.of(5.0));
+    assertEquals(List.of(5.0), restored.get("on"));
+    assertEquals(1, restored.size("on"));
+  }
+
+  @Test
+  public void testClearingKeyRemovesOnlyThisKey() {
+    ListState<String> state = open().getListState("buffer", String.class);
+    state.add("a", "x");
+    state.add("ab", "y");
+
+    state.clear("a");
+
+    assertEquals(List.of(), state.get("a"));
+    assertEquals(0, state.size("a"));
+    assertEquals(List.of("y"), state.get("ab"));
+    assertEquals(Set.of("ab"), state.keys());
+  }
+
+  @Test
+  public void testMapStateRoundTrip() {
+    StateStore store = open();
+    MapState<Integer> state = store.getMapState("counts", Integer.class);
+    state.put("sensor-1", "ok", 3);
+    state.put("sensor-1", "error", 1);
+    state.remove("sensor-1", "error");
+    store.close();
+
+    MapState<Integer> restored = open().getMapState("counts", Integer.class);
+    assertEquals(Map.of("ok", 3), restored.entries("sensor-1"));
+    assertEquals(Integer.valueOf(3), restored.get("sensor-1", "ok"));
+    assertEquals(1, restored.size("sensor-1"));
+  }
+
+  @Test
+  public void testStatesWithDifferentNamesAreIndependent() {
+    StateStore store = open();
+    store.getListState("first", Integer.class).add(1);
+    store.getListState("second", Integer.class).add(2);
+
+    store.getListState("first", Integer.class).clear();
+
+    assertEquals(List.of(), store.getListState("first", Integer.class).get());
+    assertEquals(List.of(2), store.getListState("second", Integer.class).get());
+  }
+
+  @Test
+  public void testDiscardDeletesStateDirectory() {
+    String instanceId = "test-instance-" + UUID.randomUUID();
+    StateStore store = StateStoreManager.INSTANCE.getStateStore(instanceId);
+    store.getValueState("value", Integer.class).update(42);
+    store.snapshot();
+    Path instanceDir = StateStoreManager.INSTANCE.directoryOf(instanceId);
+    assertTrue(Files.exists(instanceDir));
+
+    StateStoreManager.INSTANCE.discard(instanceId);
+
+    assertFalse(Files.exists(instanceDir));
+    assertNull(StateStoreManager.INSTANCE.getStateStore(instanceId).getValueState("value", Integer.class).value());
+    StateStoreManager.INSTANCE.discard(instanceId);
+  }
+
+  private StateStore open() {
+    return new StateStore(new LocalStateBackend(dir));
+  }
+}
@@ -1773,6 +1773,7 @@ export class FieldStatusInfo {
 export class FileMetadata {
     createdAt: number;
     createdByUser: string;
+    fileHash: string;
     fileId: string;
     filetype: string;
     internalFilename: string;
@@ -1787,6 +1788,7 @@ export class FileMetadata {
         const instance = target || new FileMetadata();
         instance.createdAt = data.createdAt;
         instance.createdByUser = data.createdByUser;
+        instance.fileHash = data.fileHash;
         instance.fileId = data.fileId;
         instance.filetype = data.filetype;
         instance.internalFilename = data.internalFilename;
@@ -2006,6 +2008,7 @@ export class KafkaTransportProtocol extends TransportProtocol {
     '@class': 'org.apache.streampipes.model.grounding.KafkaTransportProtocol';
     'acks': string;
     'batchSize': string;
+    'compressionType': string;
     'groupId': string;
     'kafkaPort': number;
     'lingerMs': number;
@@ -2026,6 +2029,7 @@ export class KafkaTransportProtocol extends TransportProtocol {
         super.fromData(data, instance);
         instance.acks = data.acks;
         instance.batchSize = data.batchSize;
+        instance.compressionType = data.compressionType;
         instance.groupId = data.groupId;
         instance.kafkaPort = data.kafkaPort;
         instance.lingerMs = data.lingerMs;
@@ -2197,6 +2201,7 @@ export class MatchingStaticProperty extends StaticProperty {
 }
 
 export class MessageCounter {
+    bytes: number;
     counter: number;
     lastTimestamp: number;
 
@@ -2208,6 +2213,7 @@ export class MessageCounter {
             return data;
         }
         const instance = target || new MessageCounter();
+        instance.bytes = data.bytes;
         instance.counter = data.counter;
         instance.lastTimestamp = data.lastTimestamp;
         return instance;
@@ -2217,6 +2223,7 @@ export class MessageCounter {
 export class MessagingSettings {
     acks: number;
     batchSize: number;
+    compression: SpCompression;
     jmsHost: string;
     jmsPort: number;
     kafkaHost: string;
@@ -2244,6 +2251,7 @@ export class MessagingSettings {
         const instance = target || new MessagingSettings();
         instance.acks = data.acks;
         instance.batchSize = data.batchSize;
+        instance.compression = data.compression;
         instance.jmsHost = data.jmsHost;
         instance.jmsPort = data.jmsPort;
         instance.kafkaHost = data.kafkaHost;
@@ -3439,6 +3447,30 @@ export class SpLogMessage {
     }
 }
 
+export class SpMetricsDataPoint {
+    bytesIn: number;
+    bytesOut: number;
+    messagesIn: number;
+    messagesOut: number;
+    timestamp: number;
+
+    static fromData(
+        data: SpMetricsDataPoint,
+        target?: SpMetricsDataPoint,
+    ): SpMetricsDataPoint {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new SpMetricsDataPoint();
+        instance.bytesIn = data.bytesIn;
+        instance.bytesOut = data.bytesOut;
+        instance.messagesIn = data.messagesIn;
+        instance.messagesOut = data.messagesOut;
+        instance.timestamp = data.timestamp;
+        return instance;
+    }
+}
+
 export class SpMetricsEntry {
     lastTimestamp: number;
     messagesIn: { [index: string]: MessageCounter };
@@ -4002,7 +4034,9 @@ export type SelectionStaticPropertyUnion =
     | AnyStaticProperty
     | OneOfStaticProperty;
 
-export type SpDataFormat = 'CBOR' | 'JSON' | 'FST' | 'SMILE';
+export type SpCompression = 'NONE' | 'LZ4' | 'ZSTD' | 'SNAPPY';
+
+export type SpDataFormat = 'CBOR' | 'JSON' | 'FST' | 'SMILE' | 'POSITIONAL';
 
 export type SpLogLevel = 'INFO' | 'WARN' | 'ERROR';
 